@@ -40,6 +40,7 @@ import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.system.Hostname;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
@@ -66,6 +67,9 @@ public class CoreServicesExtension implements ServiceExtension {
     @Inject
     private EventExecutorServiceContainer eventExecutorServiceContainer;
 
+    @Inject
+    private MetricsRecorder metrics;
+
     @Inject(required = false)
     private TypeManager typeManager;
 
@@ -137,7 +141,7 @@ public class CoreServicesExtension implements ServiceExtension {
 
     @Provider
     public EventRouter eventRouter(ServiceExtensionContext context) {
-        return new EventRouterImpl(context.getMonitor(), eventExecutorServiceContainer.getExecutorService());
+        return new EventRouterImpl(context.getMonitor(), eventExecutorServiceContainer.getExecutorService(), metrics);
     }
 
     @Provider
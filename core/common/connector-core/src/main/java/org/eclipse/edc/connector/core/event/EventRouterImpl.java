@@ -20,29 +20,43 @@ import org.eclipse.edc.spi.event.EventEnvelope;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.event.EventSubscriber;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.util.concurrent.CompletableFuture.runAsync;
 
+/**
+ * Routes events to the subscribers. The number of asynchronous deliveries that have not completed yet is exposed as the
+ * {@link #QUEUE_DEPTH_METRIC} gauge.
+ */
 public class EventRouterImpl implements EventRouter {
 
+    public static final String QUEUE_DEPTH_METRIC = "edc.event.router.queue.depth";
+
     private final Map<Class<?>, List<EventSubscriber>> subscribers = new ConcurrentHashMap<>();
     private final Map<Class<?>, List<EventSubscriber>> syncSubscribers = new ConcurrentHashMap<>();
 
     private final Monitor monitor;
     private final ExecutorService executor;
+    private final AtomicInteger pendingDeliveries = new AtomicInteger();
 
     public EventRouterImpl(Monitor monitor, ExecutorService executor) {
+        this(monitor, executor, MetricsRecorder.noop());
+    }
+
+    public EventRouterImpl(Monitor monitor, ExecutorService executor, MetricsRecorder metrics) {
         this.monitor = monitor;
         this.executor = executor;
+        metrics.gauge(QUEUE_DEPTH_METRIC, pendingDeliveries::get);
     }
 
     @Override
@@ -59,15 +73,17 @@ public class EventRouterImpl implements EventRouter {
     public <E extends Event> void publish(EventEnvelope<E> event) {
         subscriberFor(event, this::getSyncSubscribers).forEach(subscriber -> subscriber.on(event));
 
-        subscriberFor(event, this::getSubscribers)
-                .map(subscriber -> runAsync(() -> subscriber.on(event), executor).thenApply(v -> subscriber))
-                .forEach(future -> future.whenComplete((subscriber, throwable) -> {
-                    if (throwable != null) {
-                        var subscriberName = subscriber.getClass().getSimpleName();
-                        var eventName = event.getClass().getSimpleName();
-                        monitor.severe(format("Subscriber %s failed to handle event %s", subscriberName, eventName), throwable);
-                    }
-                }));
+        subscriberFor(event, this::getSubscribers).forEach(subscriber -> {
+            pendingDeliveries.incrementAndGet();
+            runAsync(() -> subscriber.on(event), executor).whenComplete((v, throwable) -> {
+                pendingDeliveries.decrementAndGet();
+                if (throwable != null) {
+                    var subscriberName = subscriber.getClass().getSimpleName();
+                    var eventName = event.getClass().getSimpleName();
+                    monitor.severe(format("Subscriber %s failed to handle event %s", subscriberName, eventName), throwable);
+                }
+            });
+        });
     }
 
     private Map<Class<?>, List<EventSubscriber>> getSubscribers() {
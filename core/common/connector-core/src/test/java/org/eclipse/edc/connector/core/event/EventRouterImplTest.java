@@ -18,16 +18,23 @@ import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventEnvelope;
 import org.eclipse.edc.spi.event.EventSubscriber;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.time.Clock;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
+import static org.eclipse.edc.connector.core.event.EventRouterImpl.QUEUE_DEPTH_METRIC;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -149,6 +156,29 @@ class EventRouterImplTest {
         verifyNoInteractions(subscriberB);
     }
 
+    @Test
+    void shouldExposeQueueDepth() {
+        var metrics = mock(MetricsRecorder.class);
+        var eventRouter = new EventRouterImpl(monitor, Executors.newSingleThreadExecutor(), metrics);
+        ArgumentCaptor<Supplier<Number>> queueDepth = ArgumentCaptor.forClass(Supplier.class);
+        verify(metrics).gauge(eq(QUEUE_DEPTH_METRIC), queueDepth.capture());
+        var latch = new CountDownLatch(1);
+        var subscriber = mock(EventSubscriber.class);
+        doAnswer(i -> latch.await(1, TimeUnit.SECONDS)).when(subscriber).on(any());
+        eventRouter.register(TestEvent.class, subscriber);
+
+        var event = EventEnvelope.Builder.newInstance()
+                .at(clock.millis())
+                .payload(TestEvent.Builder.newInstance().build())
+                .build();
+        eventRouter.publish(event);
+        eventRouter.publish(event);
+
+        assertThat(queueDepth.getValue().get()).isEqualTo(2);
+        latch.countDown();
+        await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> assertThat(queueDepth.getValue().get()).isEqualTo(0));
+    }
+
     private abstract static class TestEventBase extends Event {
     }
 
@@ -0,0 +1,230 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.boot.vault;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.security.Vault;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link Vault} decorator that caches the resolved secrets for a given time-to-live, so that remote vaults are not hit
+ * on every resolution:
+ * <ul>
+ *     <li>secrets that are not found are cached as well, for a (usually shorter) negative time-to-live</li>
+ *     <li>when a secret is resolved in the last part of its time-to-live, it gets refreshed in background while the
+ *     cached value is returned</li>
+ *     <li>{@link #storeSecret(String, String)} and {@link #deleteSecret(String)} invalidate the cached entry</li>
+ * </ul>
+ * Note that secrets changed in the underlying vault by someone else are seen only after the cached entry expired.
+ */
+public class CachingVault implements Vault {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    // incremented on every invalidation, so that a value loaded before it doesn't get cached after it
+    private final AtomicLong generation = new AtomicLong();
+    private Vault delegate;
+    private Clock clock = Clock.systemUTC();
+    private Duration ttl = Duration.ofMinutes(5);
+    private Duration negativeTtl = Duration.ofSeconds(10);
+    private Duration refreshAhead = Duration.ZERO;
+    private Executor refreshExecutor;
+    private Monitor monitor;
+
+    private CachingVault() {
+    }
+
+    @Override
+    public @Nullable String resolveSecret(String key) {
+        if (key == null) {
+            return delegate.resolveSecret(null);
+        }
+
+        var now = clock.millis();
+        var entry = entries.get(key);
+        if (entry == null || entry.isExpired(now)) {
+            return load(key).value();
+        }
+
+        if (entry.shouldRefresh(now) && entry.refreshing().compareAndSet(false, true)) {
+            refresh(key, entry);
+        }
+        return entry.value();
+    }
+
+    @Override
+    public Result<Void> storeSecret(String key, String value) {
+        try {
+            return delegate.storeSecret(key, value);
+        } finally {
+            invalidate(key);
+        }
+    }
+
+    @Override
+    public Result<Void> deleteSecret(String key) {
+        try {
+            return delegate.deleteSecret(key);
+        } finally {
+            invalidate(key);
+        }
+    }
+
+    /**
+     * Remove the cached entry for the key, e.g. after the secret got rotated in the underlying vault.
+     *
+     * @param key the secret key.
+     */
+    public void invalidate(String key) {
+        if (key != null) {
+            generation.incrementAndGet();
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * Remove all the cached entries.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    private Entry load(String key) {
+        var loadedAt = generation.get();
+        var value = delegate.resolveSecret(key);
+        var entry = entry(value);
+        entries.compute(key, (k, existing) -> generation.get() == loadedAt ? entry : existing);
+        return entry;
+    }
+
+    private void refresh(String key, Entry current) {
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    var value = delegate.resolveSecret(key);
+                    // a failed refresh keeps the current value until it expires
+                    if (value != null) {
+                        entries.replace(key, current, entry(value));
+                    }
+                } catch (Exception e) {
+                    monitor.warning("Failed to refresh secret %s in background".formatted(key), e);
+                } finally {
+                    current.refreshing().set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            current.refreshing().set(false);
+        }
+    }
+
+    private Entry entry(@Nullable String value) {
+        var now = clock.millis();
+        if (value == null) {
+            var expiresAt = now + negativeTtl.toMillis();
+            return new Entry(null, expiresAt, expiresAt, new AtomicBoolean());
+        }
+        var expiresAt = now + ttl.toMillis();
+        return new Entry(value, expiresAt, expiresAt - refreshAhead.toMillis(), new AtomicBoolean());
+    }
+
+    private record Entry(@Nullable String value, long expiresAt, long refreshAt, AtomicBoolean refreshing) {
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+
+        boolean shouldRefresh(long now) {
+            return now >= refreshAt;
+        }
+    }
+
+    public static class Builder {
+
+        private final CachingVault vault;
+
+        private Builder(Vault delegate) {
+            vault = new CachingVault();
+            vault.delegate = delegate;
+        }
+
+        public static Builder newInstance(Vault delegate) {
+            return new Builder(delegate);
+        }
+
+        public Builder clock(Clock clock) {
+            vault.clock = clock;
+            return this;
+        }
+
+        /**
+         * Time-to-live of the secrets that have been found.
+         */
+        public Builder ttl(Duration ttl) {
+            vault.ttl = ttl;
+            return this;
+        }
+
+        /**
+         * Time-to-live of the secrets that have not been found.
+         */
+        public Builder negativeTtl(Duration negativeTtl) {
+            vault.negativeTtl = negativeTtl;
+            return this;
+        }
+
+        /**
+         * Time before the expiration in which a resolution triggers a background refresh of the secret. Zero disables
+         * the refresh-ahead.
+         */
+        public Builder refreshAhead(Duration refreshAhead) {
+            vault.refreshAhead = refreshAhead;
+            return this;
+        }
+
+        public Builder refreshExecutor(Executor refreshExecutor) {
+            vault.refreshExecutor = refreshExecutor;
+            return this;
+        }
+
+        public Builder monitor(Monitor monitor) {
+            vault.monitor = monitor;
+            return this;
+        }
+
+        public CachingVault build() {
+            Objects.requireNonNull(vault.delegate, "delegate");
+            Objects.requireNonNull(vault.clock, "clock");
+            Objects.requireNonNull(vault.monitor, "monitor");
+            if (!vault.refreshAhead.isZero() && vault.refreshAhead.compareTo(vault.ttl) >= 0) {
+                throw new IllegalArgumentException("Refresh-ahead (%s) must be shorter than the ttl (%s)".formatted(vault.refreshAhead, vault.ttl));
+            }
+            if (!vault.refreshAhead.isZero()) {
+                Objects.requireNonNull(vault.refreshExecutor, "refreshExecutor is required when refresh-ahead is enabled");
+            }
+            return vault;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.boot.vault;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.security.Vault;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingVaultTest {
+
+    private final Vault delegate = mock();
+    private final Clock clock = mock();
+
+    @Test
+    void resolveSecret_shouldCacheValue() {
+        when(clock.millis()).thenReturn(0L, 1000L);
+        when(delegate.resolveSecret("key")).thenReturn("secret");
+        var vault = builder().build();
+
+        assertThat(vault.resolveSecret("key")).isEqualTo("secret");
+        assertThat(vault.resolveSecret("key")).isEqualTo("secret");
+        verify(delegate).resolveSecret("key");
+    }
+
+    @Test
+    void resolveSecret_shouldReload_whenExpired() {
+        when(clock.millis()).thenReturn(0L, 0L, 61_000L, 61_000L);
+        when(delegate.resolveSecret("key")).thenReturn("secret", "rotated");
+        var vault = builder().build();
+
+        assertThat(vault.resolveSecret("key")).isEqualTo("secret");
+        assertThat(vault.resolveSecret("key")).isEqualTo("rotated");
+        verify(delegate, times(2)).resolveSecret("key");
+    }
+
+    @Test
+    void resolveSecret_shouldCacheMissingSecret_forNegativeTtl() {
+        when(clock.millis()).thenReturn(0L, 0L, 1000L, 11_000L, 11_000L);
+        when(delegate.resolveSecret("key")).thenReturn(null, "secret");
+        var vault = builder().build();
+
+        assertThat(vault.resolveSecret("key")).isNull();
+        assertThat(vault.resolveSecret("key")).isNull();
+        assertThat(vault.resolveSecret("key")).isEqualTo("secret");
+        verify(delegate, times(2)).resolveSecret("key");
+    }
+
+    @Test
+    void resolveSecret_shouldRefreshInBackground_whenCloseToExpiration() {
+        when(clock.millis()).thenReturn(0L, 0L, 55_000L, 55_000L, 56_000L);
+        when(delegate.resolveSecret("key")).thenReturn("secret", "rotated");
+        var vault = builder().refreshAhead(Duration.ofSeconds(10)).refreshExecutor(Runnable::run).build();
+
+        assertThat(vault.resolveSecret("key")).isEqualTo("secret");
+        assertThat(vault.resolveSecret("key")).isEqualTo("secret");
+        assertThat(vault.resolveSecret("key")).isEqualTo("rotated");
+        verify(delegate, times(2)).resolveSecret("key");
+    }
+
+    @Test
+    void storeSecret_shouldInvalidateEntry() {
+        when(clock.millis()).thenReturn(0L);
+        when(delegate.resolveSecret("key")).thenReturn("secret", "updated");
+        when(delegate.storeSecret("key", "updated")).thenReturn(Result.success());
+        var vault = builder().build();
+
+        vault.resolveSecret("key");
+        var result = vault.storeSecret("key", "updated");
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(vault.resolveSecret("key")).isEqualTo("updated");
+    }
+
+    @Test
+    void deleteSecret_shouldInvalidateEntry() {
+        when(clock.millis()).thenReturn(0L);
+        when(delegate.resolveSecret("key")).thenReturn("secret", (String) null);
+        when(delegate.deleteSecret("key")).thenReturn(Result.success());
+        var vault = builder().build();
+
+        vault.resolveSecret("key");
+        vault.deleteSecret("key");
+
+        assertThat(vault.resolveSecret("key")).isNull();
+    }
+
+    @Test
+    void resolveSecret_shouldNotCacheValue_whenInvalidatedWhileLoading() {
+        when(clock.millis()).thenReturn(0L);
+        var vault = builder().build();
+        when(delegate.resolveSecret("key")).thenAnswer(invocation -> {
+            vault.invalidate("key");
+            return "stale";
+        }).thenReturn("updated");
+
+        assertThat(vault.resolveSecret("key")).isEqualTo("stale");
+        assertThat(vault.resolveSecret("key")).isEqualTo("updated");
+        verify(delegate, times(2)).resolveSecret("key");
+    }
+
+    @Test
+    void build_shouldFail_whenRefreshAheadNotShorterThanTtl() {
+        assertThatThrownBy(() -> builder().refreshAhead(Duration.ofMinutes(1)).refreshExecutor(Runnable::run).build())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private CachingVault.Builder builder() {
+        return CachingVault.Builder.newInstance(delegate)
+                .clock(clock)
+                .ttl(Duration.ofMinutes(1))
+                .negativeTtl(Duration.ofSeconds(10))
+                .monitor(mock(Monitor.class));
+    }
+}
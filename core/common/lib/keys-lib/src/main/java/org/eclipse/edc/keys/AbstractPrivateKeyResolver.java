@@ -23,12 +23,18 @@ import org.eclipse.edc.spi.system.configuration.Config;
 import org.jetbrains.annotations.NotNull;
 
 import java.security.PrivateKey;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Base class for private key resolvers, that handles the parsing of the key, but still leaves the actual resolution (e.g.
  * from a {@link Vault}) up to the inheritor.
+ * <p>
+ * Parsed keys are cached by ID together with their encoded form, so the key material is parsed again only when it
+ * changes, and the same {@link PrivateKey} instance is returned otherwise.
  */
 public abstract class AbstractPrivateKeyResolver implements PrivateKeyResolver {
+    private final Map<String, ParsedKey> parsedKeys = new ConcurrentHashMap<>();
     private final KeyParserRegistry registry;
     private final Config config;
     private final Monitor monitor;
@@ -48,15 +54,23 @@ public abstract class AbstractPrivateKeyResolver implements PrivateKeyResolver {
                     monitor.debug("Public key not found, fallback to config. Error: %s".formatted(failure.getFailureDetail()));
                     return resolveFromConfig(id);
                 })
-                .compose(encodedKey -> registry.parse(encodedKey).compose(pk -> {
-                    if (pk instanceof PrivateKey privateKey) {
-                        return Result.success(privateKey);
-                    } else {
-                        var msg = "The specified resource did not contain private key material.";
-                        monitor.warning(msg);
-                        return Result.failure(msg);
-                    }
-                }));
+                .compose(encodedKey -> parse(id, encodedKey));
+    }
+
+    /**
+     * Discard the parsed key for the ID, e.g. after it has been rotated.
+     *
+     * @param id the key ID.
+     */
+    public void invalidate(String id) {
+        parsedKeys.remove(id);
+    }
+
+    /**
+     * Discard all the parsed keys.
+     */
+    public void invalidateAll() {
+        parsedKeys.clear();
     }
 
     /**
@@ -68,10 +82,31 @@ public abstract class AbstractPrivateKeyResolver implements PrivateKeyResolver {
     @NotNull
     protected abstract Result<String> resolveInternal(String keyId);
 
+    private Result<PrivateKey> parse(String id, String encodedKey) {
+        var cached = parsedKeys.get(id);
+        if (cached != null && cached.encodedKey().equals(encodedKey)) {
+            return Result.success(cached.privateKey());
+        }
+
+        return registry.parse(encodedKey).compose(pk -> {
+            if (pk instanceof PrivateKey privateKey) {
+                parsedKeys.put(id, new ParsedKey(encodedKey, privateKey));
+                return Result.success(privateKey);
+            } else {
+                var msg = "The specified resource did not contain private key material.";
+                monitor.warning(msg);
+                return Result.failure(msg);
+            }
+        });
+    }
+
     private Result<String> resolveFromConfig(String keyId) {
         var value = config.getString(keyId, null);
         return value == null ?
                 Result.failure("Private key with ID '%s' not found in Config".formatted(keyId)) :
                 Result.success(value);
     }
+
+    private record ParsedKey(String encodedKey, PrivateKey privateKey) {
+    }
 }
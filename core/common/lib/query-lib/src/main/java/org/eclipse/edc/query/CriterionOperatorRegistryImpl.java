@@ -23,7 +23,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.function.Predicate;
 
 import static java.lang.String.format;
@@ -43,6 +42,7 @@ public class CriterionOperatorRegistryImpl implements CriterionOperatorRegistry
         registry.registerOperatorPredicate(IN, new InOperatorPredicate());
         registry.registerOperatorPredicate(LIKE, new LikeOperatorPredicate());
         registry.registerOperatorPredicate(CONTAINS, new ContainsOperatorPredicate());
+        registry.registerOperatorPredicate(LESS_THAN, new LessThanOperatorPredicate());
         return registry;
     }
 
@@ -73,21 +73,19 @@ public class CriterionOperatorRegistryImpl implements CriterionOperatorRegistry
             throw new IllegalArgumentException(format("Operator [%s] is not supported.", criterion.getOperator()));
         }
 
-        return t -> {
-
-            var operandLeft = (String) criterion.getOperandLeft();
-
-            var property = propertyLookups.stream()
-                    .map(it -> it.getProperty(operandLeft, t))
-                    .filter(Objects::nonNull)
-                    .findFirst()
-                    .orElse(null);
+        // property lookups are compiled once, so that the property path doesn't get parsed on every evaluation
+        var operandLeft = (String) criterion.getOperandLeft();
+        var operandRight = criterion.getOperandRight();
+        var lookups = propertyLookups.stream().map(lookup -> lookup.compile(operandLeft)).toList();
 
-            if (property == null) {
-                return false;
+        return t -> {
+            for (var lookup : lookups) {
+                var property = lookup.apply(t);
+                if (property != null) {
+                    return predicate.test(property, operandRight);
+                }
             }
-
-            return predicate.test(property, criterion.getOperandRight());
+            return false;
         };
 
     }
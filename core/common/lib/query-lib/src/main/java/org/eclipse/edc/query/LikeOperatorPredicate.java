@@ -16,22 +16,42 @@ package org.eclipse.edc.query;
 
 import org.eclipse.edc.spi.query.OperatorPredicate;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 public class LikeOperatorPredicate implements OperatorPredicate {
 
+    private static final int MAX_CACHED_PATTERNS = 1000;
+    private final Map<String, Pattern> patterns = new ConcurrentHashMap<>();
+
     @Override
     public boolean test(Object property, Object operandRight) {
         if (operandRight instanceof String stringOperand) {
-            var regexPattern = Pattern.quote(stringOperand)
-                    .replace("%", "\\E.*\\Q")
-                    .replace("_", "\\E.\\Q");
+            return pattern(stringOperand).matcher(property.toString()).matches();
+        }
 
-            regexPattern = "^" + regexPattern + "$";
+        return false;
+    }
 
-            return Pattern.compile(regexPattern).matcher(property.toString()).matches();
+    private Pattern pattern(String operand) {
+        var pattern = patterns.get(operand);
+        if (pattern == null) {
+            pattern = toPattern(operand);
+            // operands come from queries, the cache is bounded to not grow indefinitely
+            if (patterns.size() >= MAX_CACHED_PATTERNS) {
+                patterns.clear();
+            }
+            patterns.put(operand, pattern);
         }
+        return pattern;
+    }
 
-        return false;
+    private Pattern toPattern(String operand) {
+        var regexPattern = Pattern.quote(operand)
+                .replace("%", "\\E.*\\Q")
+                .replace("_", "\\E.\\Q");
+
+        return Pattern.compile("^" + regexPattern + "$");
     }
 }
@@ -15,9 +15,12 @@
 package org.eclipse.edc.query;
 
 import org.eclipse.edc.spi.query.PropertyLookup;
+import org.eclipse.edc.util.reflection.PropertyAccessor;
 import org.eclipse.edc.util.reflection.ReflectionException;
 import org.eclipse.edc.util.reflection.ReflectionUtil;
 
+import java.util.function.Function;
+
 public class ReflectionPropertyLookup implements PropertyLookup {
     @Override
     public Object getProperty(String key, Object object) {
@@ -27,4 +30,16 @@ public class ReflectionPropertyLookup implements PropertyLookup {
             return null;
         }
     }
+
+    @Override
+    public Function<Object, Object> compile(String key) {
+        var accessor = PropertyAccessor.compile(key);
+        return object -> {
+            try {
+                return accessor.get(object);
+            } catch (ReflectionException e) {
+                return null;
+            }
+        };
+    }
 }
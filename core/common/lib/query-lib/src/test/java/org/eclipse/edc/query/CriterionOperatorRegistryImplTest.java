@@ -15,6 +15,7 @@
 package org.eclipse.edc.query;
 
 import org.eclipse.edc.spi.query.OperatorPredicate;
+import org.eclipse.edc.spi.query.PropertyLookup;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -23,6 +24,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eclipse.edc.spi.query.Criterion.criterion;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -147,6 +149,22 @@ class CriterionOperatorRegistryImplTest {
 
             verify(operatorPredicate).test("firstOne", "value");
         }
+
+        @Test
+        void shouldCompilePropertyLookupOncePerPredicate() {
+            PropertyLookup propertyLookup = mock();
+            when(propertyLookup.compile(any())).thenReturn(object -> "value");
+            registry.registerPropertyLookup(propertyLookup);
+            OperatorPredicate operatorPredicate = mock();
+            registry.registerOperatorPredicate("=", operatorPredicate);
+
+            var predicate = registry.toPredicate(criterion("any", "=", "value"));
+            predicate.test("first");
+            predicate.test("second");
+
+            verify(propertyLookup, times(1)).compile("any");
+            verify(operatorPredicate, times(2)).test("value", "value");
+        }
     }
 
 }
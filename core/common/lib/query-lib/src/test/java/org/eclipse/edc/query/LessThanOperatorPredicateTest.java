@@ -0,0 +1,39 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.query;
+
+import org.eclipse.edc.spi.query.OperatorPredicate;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LessThanOperatorPredicateTest {
+
+    private final OperatorPredicate predicate = new LessThanOperatorPredicate();
+
+    @Test
+    void shouldReturnTrue_whenPropertyIsLessThanOperand() {
+        assertThat(predicate.test(41, 42)).isTrue();
+        assertThat(predicate.test(41L, 42.5)).isTrue();
+        assertThat(predicate.test(42, 42)).isFalse();
+        assertThat(predicate.test(43L, 42)).isFalse();
+    }
+
+    @Test
+    void shouldReturnFalse_whenOperandsAreNotNumbers() {
+        assertThat(predicate.test("41", 42)).isFalse();
+        assertThat(predicate.test(41, "42")).isFalse();
+    }
+}
@@ -21,6 +21,7 @@ import org.eclipse.edc.spi.persistence.StateEntityStore;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
 import org.eclipse.edc.spi.retry.WaitStrategy;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessFactory;
@@ -44,8 +45,10 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
 
     protected Monitor monitor;
     protected int batchSize = DEFAULT_BATCH_SIZE;
+    protected int maxBackoffFactor = StateMachineManager.DEFAULT_MAX_BACKOFF_FACTOR;
     protected WaitStrategy waitStrategy = () -> DEFAULT_ITERATION_WAIT;
     protected ExecutorInstrumentation executorInstrumentation = ExecutorInstrumentation.noop();
+    protected MetricsRecorder metrics = MetricsRecorder.noop();
     protected Telemetry telemetry = new Telemetry();
     protected EntityRetryProcessConfiguration entityRetryProcessConfiguration = defaultEntityRetryProcessConfiguration();
     protected EntityRetryProcessFactory entityRetryProcessFactory;
@@ -57,7 +60,9 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
     public void start() {
         entityRetryProcessFactory = new EntityRetryProcessFactory(monitor, clock, entityRetryProcessConfiguration);
         var stateMachineManagerBuilder = StateMachineManager.Builder
-                .newInstance(getClass().getSimpleName(), monitor, executorInstrumentation, waitStrategy);
+                .newInstance(getClass().getSimpleName(), monitor, executorInstrumentation, waitStrategy)
+                .metrics(metrics)
+                .maxBackoffFactor(maxBackoffFactor);
         stateMachineManager = configureStateMachineManager(stateMachineManagerBuilder).build();
 
         stateMachineManager.start();
@@ -114,6 +119,14 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
             return self();
         }
 
+        /**
+         * Limit of the backoff of the idle state processors, as a multiple of the wait strategy time.
+         */
+        public B maxBackoffFactor(int maxBackoffFactor) {
+            manager.maxBackoffFactor = maxBackoffFactor;
+            return self();
+        }
+
         public B waitStrategy(WaitStrategy waitStrategy) {
             manager.waitStrategy = waitStrategy;
             return self();
@@ -134,6 +147,11 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
             return self();
         }
 
+        public B metrics(MetricsRecorder metrics) {
+            manager.metrics = metrics;
+            return self();
+        }
+
         public B entityRetryProcessConfiguration(EntityRetryProcessConfiguration entityRetryProcessConfiguration) {
             manager.entityRetryProcessConfiguration = entityRetryProcessConfiguration;
             return self();
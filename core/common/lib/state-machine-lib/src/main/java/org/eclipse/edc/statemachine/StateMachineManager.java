@@ -17,8 +17,10 @@ package org.eclipse.edc.statemachine;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.retry.WaitStrategy;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 import org.jetbrains.annotations.NotNull;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -33,18 +35,33 @@ import static java.util.concurrent.TimeUnit.SECONDS;
 
 /**
  * Handles a loop that processes entities continuously.
- * On every iteration it runs all the set processors sequentially,
- * applying a wait strategy in the case no entities are processed on the iteration.
+ * Every processor is scheduled independently: a processor that processed some entities is run again on the next
+ * iteration, while a processor that did not process any entity backs off for the time given by the wait strategy,
+ * doubled on every consecutive empty poll up to {@code maxBackoffFactor} times that time. On every iteration only the
+ * processors that are due are run, and the loop waits until the next one is due.
+ * <p>
+ * For every processor run it records the duration, the polls, the number of processed entities and the empty polls
+ * (runs that did not process any entity) on the {@link MetricsRecorder}, tagged with the manager and the processor
+ * name. The current backoff of every processor is exposed as a gauge.
  */
 public class StateMachineManager {
 
-    private final List<Processor> processors = new ArrayList<>();
+    public static final String PROCESSOR_DURATION_METRIC = "edc.statemachine.processor.duration";
+    public static final String PROCESSOR_ENTITIES_METRIC = "edc.statemachine.processor.entities";
+    public static final String PROCESSOR_EMPTY_POLLS_METRIC = "edc.statemachine.processor.empty.polls";
+    public static final String PROCESSOR_POLLS_METRIC = "edc.statemachine.processor.polls";
+    public static final String PROCESSOR_BACKOFF_METRIC = "edc.statemachine.processor.backoff";
+    public static final int DEFAULT_MAX_BACKOFF_FACTOR = 1;
+
+    private final List<ScheduledProcessor> processors = new ArrayList<>();
     private final ScheduledExecutorService executor;
     private final AtomicBoolean active = new AtomicBoolean();
     private final WaitStrategy waitStrategy;
     private final Monitor monitor;
     private final String name;
+    private MetricsRecorder metrics = MetricsRecorder.noop();
     private int shutdownTimeout = 10;
+    private int maxBackoffFactor = DEFAULT_MAX_BACKOFF_FACTOR;
 
     private StateMachineManager(String name, Monitor monitor, ExecutorInstrumentation instrumentation, WaitStrategy waitStrategy) {
         this.name = name;
@@ -105,15 +122,16 @@ public class StateMachineManager {
 
     private void performLogic() {
         try {
-            var processed = processors.stream()
-                    .mapToLong(Processor::process)
-                    .sum();
+            var now = System.nanoTime();
+            for (var processor : processors) {
+                if (processor.isDue(now)) {
+                    process(processor);
+                }
+            }
 
             waitStrategy.success();
 
-            var delay = processed == 0 ? waitStrategy.waitForMillis() : 0;
-
-            scheduleNextIterationIn(delay);
+            scheduleNextIterationIn(nextDueInMillis());
         } catch (Error e) {
             active.set(false);
             monitor.severe(format("StateMachineManager [%s] unrecoverable error", name), e);
@@ -123,6 +141,35 @@ public class StateMachineManager {
         }
     }
 
+    private void process(ScheduledProcessor processor) {
+        var start = System.nanoTime();
+        var processed = processor.processor().process();
+        var end = System.nanoTime();
+        metrics.recordTime(PROCESSOR_DURATION_METRIC, Duration.ofNanos(end - start), processor.tags());
+        metrics.increment(PROCESSOR_POLLS_METRIC, 1, processor.tags());
+        if (processed > 0) {
+            metrics.increment(PROCESSOR_ENTITIES_METRIC, processed, processor.tags());
+            processor.busy(end);
+        } else {
+            metrics.increment(PROCESSOR_EMPTY_POLLS_METRIC, 1, processor.tags());
+            processor.idle(end, waitStrategy.waitForMillis(), maxBackoffFactor);
+        }
+    }
+
+    private long nextDueInMillis() {
+        var now = System.nanoTime();
+        var nextDue = processors.stream()
+                .mapToLong(processor -> processor.nextRunAt() - now)
+                .min();
+
+        if (nextDue.isEmpty()) {
+            return waitStrategy.waitForMillis();
+        }
+
+        var nanos = Math.max(0, nextDue.getAsLong());
+        return (nanos + MILLISECONDS.toNanos(1) - 1) / MILLISECONDS.toNanos(1);
+    }
+
     @NotNull
     private Future<?> scheduleNextIterationIn(long delayMillis) {
         return executor.schedule(loop(), delayMillis, MILLISECONDS);
@@ -141,7 +188,38 @@ public class StateMachineManager {
         }
 
         public Builder processor(Processor processor) {
-            loop.processors.add(processor);
+            return processor("processor-" + loop.processors.size(), processor);
+        }
+
+        /**
+         * Add a processor, the name is used to tag its metrics.
+         *
+         * @param name      the processor name.
+         * @param processor the processor.
+         * @return the builder.
+         */
+        public Builder processor(String name, Processor processor) {
+            loop.processors.add(new ScheduledProcessor(processor, new String[]{ "manager", loop.name, "processor", name }));
+            return this;
+        }
+
+        /**
+         * Limit of the backoff of an idle processor, as a multiple of the wait strategy time. The default, 1, means
+         * that idle processors are polled at every wait strategy interval without growing backoff.
+         *
+         * @param maxBackoffFactor the maximum backoff factor, must be at least 1.
+         * @return the builder.
+         */
+        public Builder maxBackoffFactor(int maxBackoffFactor) {
+            if (maxBackoffFactor < 1) {
+                throw new IllegalArgumentException("maxBackoffFactor must be at least 1, was " + maxBackoffFactor);
+            }
+            loop.maxBackoffFactor = maxBackoffFactor;
+            return this;
+        }
+
+        public Builder metrics(MetricsRecorder metrics) {
+            loop.metrics = metrics;
             return this;
         }
 
@@ -151,7 +229,60 @@ public class StateMachineManager {
         }
 
         public StateMachineManager build() {
+            loop.processors.forEach(processor -> loop.metrics.gauge(PROCESSOR_BACKOFF_METRIC, processor::backoffMillis, processor.tags()));
             return loop;
         }
     }
+
+    /**
+     * Scheduling state of a processor. It's accessed only by the state machine thread, apart from the backoff that is
+     * read by the metrics gauge.
+     */
+    private static class ScheduledProcessor {
+
+        private final Processor processor;
+        private final String[] tags;
+        private int emptyPolls;
+        private long nextRunAt;
+        private volatile long backoffMillis;
+
+        ScheduledProcessor(Processor processor, String[] tags) {
+            this.processor = processor;
+            this.tags = tags;
+            nextRunAt = System.nanoTime();
+        }
+
+        Processor processor() {
+            return processor;
+        }
+
+        String[] tags() {
+            return tags;
+        }
+
+        long nextRunAt() {
+            return nextRunAt;
+        }
+
+        long backoffMillis() {
+            return backoffMillis;
+        }
+
+        boolean isDue(long now) {
+            return nextRunAt - now <= 0;
+        }
+
+        void busy(long now) {
+            emptyPolls = 0;
+            backoffMillis = 0;
+            nextRunAt = now;
+        }
+
+        void idle(long now, long waitMillis, int maxBackoffFactor) {
+            var factor = Math.min(1L << Math.min(emptyPolls, 30), maxBackoffFactor);
+            emptyPolls++;
+            backoffMillis = waitMillis * factor;
+            nextRunAt = now + MILLISECONDS.toNanos(backoffMillis);
+        }
+    }
 }
@@ -18,12 +18,26 @@ import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.retry.WaitStrategy;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
+import static org.eclipse.edc.statemachine.StateMachineManager.PROCESSOR_BACKOFF_METRIC;
+import static org.eclipse.edc.statemachine.StateMachineManager.PROCESSOR_DURATION_METRIC;
+import static org.eclipse.edc.statemachine.StateMachineManager.PROCESSOR_EMPTY_POLLS_METRIC;
+import static org.eclipse.edc.statemachine.StateMachineManager.PROCESSOR_ENTITIES_METRIC;
+import static org.eclipse.edc.statemachine.StateMachineManager.PROCESSOR_POLLS_METRIC;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
@@ -105,6 +119,80 @@ class StateMachineManagerTest {
         });
     }
 
+    @Test
+    void shouldRecordProcessorMetrics() {
+        var processing = mock(Processor.class);
+        when(processing.process()).thenReturn(2L);
+        var idle = mock(Processor.class);
+        when(idle.process()).thenReturn(0L);
+        var metrics = mock(MetricsRecorder.class);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor("processing", processing)
+                .processor("idle", idle)
+                .metrics(metrics)
+                .build();
+
+        stateMachine.start();
+
+        await().untilAsserted(() -> {
+            verify(metrics, atLeastOnce()).recordTime(eq(PROCESSOR_DURATION_METRIC), any(), eq("manager"), eq("test"), eq("processor"), eq("processing"));
+            verify(metrics, atLeastOnce()).increment(PROCESSOR_ENTITIES_METRIC, 2, "manager", "test", "processor", "processing");
+            verify(metrics, atLeastOnce()).increment(PROCESSOR_EMPTY_POLLS_METRIC, 1, "manager", "test", "processor", "idle");
+        });
+        stateMachine.stop();
+    }
+
+    @Test
+    void shouldNotPollIdleProcessorEagerly_whenAnotherProcessorIsBusy() {
+        when(waitStrategy.waitForMillis()).thenReturn(10_000L);
+        var busy = mock(Processor.class);
+        var busyPolls = new AtomicInteger();
+        when(busy.process()).thenAnswer(i -> busyPolls.incrementAndGet() < 10 ? 1L : 0L);
+        var idle = mock(Processor.class);
+        when(idle.process()).thenReturn(0L);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(busy)
+                .processor(idle)
+                .build();
+
+        stateMachine.start();
+
+        await().untilAsserted(() -> assertThat(busyPolls.get()).isEqualTo(10));
+        verify(idle).process();
+        stateMachine.stop();
+    }
+
+    @Test
+    void shouldBackOffIdleProcessorExponentially_upToMaxBackoffFactor() {
+        var idle = mock(Processor.class);
+        when(idle.process()).thenReturn(0L);
+        var metrics = mock(MetricsRecorder.class);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor("idle", idle)
+                .metrics(metrics)
+                .maxBackoffFactor(4)
+                .build();
+        var captor = ArgumentCaptor.forClass(Supplier.class);
+        verify(metrics).gauge(eq(PROCESSOR_BACKOFF_METRIC), captor.capture(), eq("manager"), eq("test"), eq("processor"), eq("idle"));
+        var backoff = captor.getValue();
+
+        stateMachine.start();
+
+        await().untilAsserted(() -> {
+            verify(idle, atLeast(5)).process();
+            assertThat(backoff.get()).isEqualTo(4L);
+        });
+        verify(metrics, atLeast(5)).increment(PROCESSOR_POLLS_METRIC, 1, "manager", "test", "processor", "idle");
+        stateMachine.stop();
+    }
+
+    @Test
+    void shouldFail_whenMaxBackoffFactorIsLowerThanOne() {
+        var builder = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy);
+
+        assertThatThrownBy(() -> builder.maxBackoffFactor(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     void shouldExitWithAnExceptionIfProcessorExitsWithAnUnrecoverableError() {
         var processor = mock(Processor.class);
@@ -22,37 +22,56 @@ import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.query.QueryResolver;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
-import org.eclipse.edc.util.concurrency.LockManager;
+import org.eclipse.edc.util.concurrency.StripedLock;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.util.Comparator.comparingLong;
-import static java.util.stream.Collectors.toList;
 
 /**
- * An in-memory, threadsafe entity store for a {@link StatefulEntity}. This implementation is intended for testing
- * purposes only.
+ * An in-memory, threadsafe entity store for a {@link StatefulEntity}.
+ * <p>
+ * Entities are indexed by state, ordered by state timestamp, so that {@link #nextNotLeased(int, Criterion...)} with a
+ * state criterion only visits entities in that state, oldest first, and stops as soon as enough of them have been leased.
+ * Subclasses can register additional equality indexes on string fields with {@link #index(String, Function)}, that are
+ * used by {@link #findAll(QuerySpec)} when the filter contains an {@code =} or {@code in} criterion on that field.
+ * <p>
+ * Writes are serialized per entity id with a {@link StripedLock}, leases are acquired atomically, so there's no global
+ * lock.
  */
 public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements StateEntityStore<T> {
     private static final Duration DEFAULT_LEASE_TIME = Duration.ofSeconds(60);
+    private static final String STATE_FIELD = "state";
+    private static final String EQUAL = "=";
+    private static final String IN = "in";
     private final Map<String, T> entitiesById = new ConcurrentHashMap<>();
+    private final Map<Integer, NavigableSet<StateKey>> entitiesByState = new ConcurrentHashMap<>();
+    private final Map<String, SecondaryIndex<T>> indexes = new HashMap<>();
+    private final Map<String, IndexedValues> indexedValues = new ConcurrentHashMap<>();
     private final QueryResolver<T> queryResolver;
-    private final LockManager lockManager = new LockManager(new ReentrantReadWriteLock());
+    private final StripedLock stripedLock = new StripedLock();
     private final String lockId;
     private final Clock clock;
-    private final Map<String, Lease> leases = new HashMap<>();
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
     protected final CriterionOperatorRegistry criterionOperatorRegistry;
 
     public InMemoryStatefulEntityStore(Class<T> clazz, String lockId, Clock clock, CriterionOperatorRegistry criterionOperatorRegistry) {
@@ -73,52 +92,66 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
 
     @Override
     public @NotNull List<T> nextNotLeased(int max, Criterion... criteria) {
-        return lockManager.writeLock(() -> {
-            var filterPredicate = Arrays.stream(criteria).map(criterionOperatorRegistry::toPredicate).reduce(x -> true, Predicate::and);
-            var entities = entitiesById.values().stream()
-                    .filter(filterPredicate)
-                    .filter(e -> !isLeased(e.getId()))
-                    .sorted(comparingLong(StatefulEntity::getStateTimestamp)) //order by state timestamp, oldest first
-                    .limit(max)
-                    .toList();
-            entities.forEach(i -> acquireLease(i.getId()));
-            return entities.stream().map(StatefulEntity::copy).collect(toList());
-        });
+        var filterPredicate = Arrays.stream(criteria).map(criterionOperatorRegistry::<T>toPredicate).reduce(x -> true, Predicate::and);
+        var result = new ArrayList<T>();
+        var candidates = candidatesByStateTimestamp(criteria).iterator();
+        while (result.size() < max && candidates.hasNext()) {
+            var candidate = candidates.next();
+            if (!filterPredicate.test(candidate) || !tryAcquireLease(candidate.getId(), lockId, DEFAULT_LEASE_TIME, false)) {
+                continue;
+            }
+            // the entity could have been updated before the lease was acquired
+            var leased = entitiesById.get(candidate.getId());
+            if (leased != null && filterPredicate.test(leased)) {
+                result.add(leased.copy());
+            } else {
+                freeLease(candidate.getId());
+            }
+        }
+        return result;
     }
 
     @Override
     public StoreResult<T> findByIdAndLease(String id) {
-        return lockManager.writeLock(() -> {
-            var entity = entitiesById.get(id);
-            if (entity == null) {
-                return StoreResult.notFound(format("Entity %s not found", id));
-            }
+        var entity = entitiesById.get(id);
+        if (entity == null) {
+            return StoreResult.notFound(format("Entity %s not found", id));
+        }
 
-            try {
-                acquireLease(id);
-                return StoreResult.success(entity);
-            } catch (IllegalStateException e) {
-                return StoreResult.alreadyLeased(format("Entity %s is already leased: %s", id, e.getMessage()));
-            }
-        });
+        try {
+            acquireLease(id);
+            return StoreResult.success(entity);
+        } catch (IllegalStateException e) {
+            return StoreResult.alreadyLeased(format("Entity %s is already leased: %s", id, e.getMessage()));
+        }
     }
 
     @Override
     public void save(T entity) {
-        acquireLease(entity.getId());
-        entitiesById.put(entity.getId(), entity.copy());
-        freeLease(entity.getId());
+        var id = entity.getId();
+        stripedLock.withLock(id, () -> {
+            acquireLease(id);
+            var copy = entity.copy();
+            entitiesById.put(id, copy);
+            reindex(id, copy);
+            freeLease(id);
+            return null;
+        });
     }
 
     public void delete(String id) {
-        if (isLeased(id)) {
-            throw new IllegalStateException("Entity is leased and cannot be deleted!");
-        }
-        entitiesById.remove(id);
+        stripedLock.withLock(id, () -> {
+            if (isLeased(id)) {
+                throw new IllegalStateException("Entity is leased and cannot be deleted!");
+            }
+            entitiesById.remove(id);
+            reindex(id, null);
+            return null;
+        });
     }
 
     public Stream<T> findAll(QuerySpec querySpec) {
-        return queryResolver.query(findAll(), querySpec);
+        return queryResolver.query(candidates(querySpec.getFilterExpression()), querySpec);
     }
 
     public Stream<T> findAll() {
@@ -126,15 +159,127 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
     }
 
     public void acquireLease(String id, String lockId, Duration leaseTime) {
-        if (!isLeased(id) || isLeasedBy(id, lockId)) {
-            leases.put(id, new Lease(lockId, clock.millis(), leaseTime.toMillis()));
-        } else {
+        if (!tryAcquireLease(id, lockId, leaseTime, true)) {
             throw new IllegalStateException("Cannot acquire lease, is already leased by someone else!");
         }
     }
 
     public boolean isLeasedBy(String id, String lockId) {
-        return isLeased(id) && leases.get(id).getLeasedBy().equals(lockId);
+        var lease = leases.get(id);
+        return lease != null && !lease.isExpired(clock.millis()) && lease.getLeasedBy().equals(lockId);
+    }
+
+    /**
+     * Register an equality index on a string field. Must be called in the constructor of the subclass, before any entity
+     * gets saved.
+     *
+     * @param field     the field name, as used in the {@link Criterion#getOperandLeft()}.
+     * @param extractor extracts the field value from the entity.
+     */
+    protected void index(String field, Function<T, String> extractor) {
+        indexes.put(field, new SecondaryIndex<>(extractor, new ConcurrentHashMap<>()));
+    }
+
+    private Stream<T> candidatesByStateTimestamp(Criterion... criteria) {
+        var state = Arrays.stream(criteria)
+                .filter(criterion -> STATE_FIELD.equals(criterion.getOperandLeft()) && EQUAL.equals(criterion.getOperator()))
+                .map(Criterion::getOperandRight)
+                .filter(Number.class::isInstance)
+                .map(number -> ((Number) number).intValue())
+                .findFirst();
+
+        if (state.isPresent()) {
+            var keys = entitiesByState.get(state.get());
+            if (keys == null) {
+                return Stream.empty();
+            }
+            return keys.stream().map(key -> entitiesById.get(key.id())).filter(Objects::nonNull);
+        }
+
+        return entitiesById.values().stream().sorted(comparingLong(StatefulEntity::getStateTimestamp)); //order by state timestamp, oldest first
+    }
+
+    private Stream<T> candidates(List<Criterion> criteria) {
+        for (var criterion : criteria) {
+            var index = criterion.getOperandLeft() instanceof String field ? indexes.get(field) : null;
+            if (index == null) {
+                continue;
+            }
+            var values = indexableValues(criterion);
+            if (values != null) {
+                return values.stream()
+                        .map(value -> index.entries().getOrDefault(value, Set.of()))
+                        .flatMap(Collection::stream)
+                        .distinct()
+                        .map(entitiesById::get)
+                        .filter(Objects::nonNull);
+            }
+        }
+        return findAll();
+    }
+
+    private @Nullable List<String> indexableValues(Criterion criterion) {
+        var operandRight = criterion.getOperandRight();
+        if (EQUAL.equals(criterion.getOperator()) && operandRight instanceof String value) {
+            return List.of(value);
+        }
+        if (IN.equalsIgnoreCase(criterion.getOperator()) && operandRight instanceof Collection<?> collection &&
+                collection.stream().allMatch(String.class::isInstance)) {
+            return collection.stream().map(String.class::cast).toList();
+        }
+        return null;
+    }
+
+    /**
+     * Replace the index entries of the entity. Must be called holding the lock for the id.
+     */
+    private void reindex(String id, @Nullable T entity) {
+        var current = entity == null ? null : indexedValues(entity);
+        var previous = current == null ? indexedValues.remove(id) : indexedValues.put(id, current);
+
+        if (previous != null) {
+            var keys = entitiesByState.get(previous.state());
+            if (keys != null) {
+                keys.remove(new StateKey(previous.stateTimestamp(), id));
+            }
+            previous.fields().forEach((field, value) -> indexes.get(field).entries().computeIfPresent(value, (v, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            }));
+        }
+
+        if (current != null) {
+            entitiesByState.computeIfAbsent(current.state(), state -> new ConcurrentSkipListSet<>())
+                    .add(new StateKey(current.stateTimestamp(), id));
+            current.fields().forEach((field, value) -> indexes.get(field).entries().compute(value, (v, ids) -> {
+                var entries = ids == null ? ConcurrentHashMap.<String>newKeySet() : ids;
+                entries.add(id);
+                return entries;
+            }));
+        }
+    }
+
+    private IndexedValues indexedValues(T entity) {
+        var fields = new HashMap<String, String>();
+        indexes.forEach((field, index) -> {
+            var value = index.extractor().apply(entity);
+            if (value != null) {
+                fields.put(field, value);
+            }
+        });
+        return new IndexedValues(entity.getState(), entity.getStateTimestamp(), fields);
+    }
+
+    private boolean tryAcquireLease(String id, String leaseHolder, Duration leaseTime, boolean reentrant) {
+        var now = clock.millis();
+        var lease = new Lease(leaseHolder, now, leaseTime.toMillis());
+        var current = leases.compute(id, (key, existing) -> {
+            if (existing == null || existing.isExpired(now) || (reentrant && existing.getLeasedBy().equals(leaseHolder))) {
+                return lease;
+            }
+            return existing;
+        });
+        return current == lease;
     }
 
     private void freeLease(String id) {
@@ -146,7 +291,23 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
     }
 
     private boolean isLeased(String id) {
-        return leases.containsKey(id) && !leases.get(id).isExpired(clock.millis());
+        var lease = leases.get(id);
+        return lease != null && !lease.isExpired(clock.millis());
     }
 
+    private record StateKey(long stateTimestamp, String id) implements Comparable<StateKey> {
+
+        private static final Comparator<StateKey> COMPARATOR = comparingLong(StateKey::stateTimestamp).thenComparing(StateKey::id);
+
+        @Override
+        public int compareTo(@NotNull StateKey other) {
+            return COMPARATOR.compare(this, other);
+        }
+    }
+
+    private record SecondaryIndex<T>(Function<T, String> extractor, Map<String, Set<String>> entries) {
+    }
+
+    private record IndexedValues(int state, long stateTimestamp, Map<String, String> fields) {
+    }
 }
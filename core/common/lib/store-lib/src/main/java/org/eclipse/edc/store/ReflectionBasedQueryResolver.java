@@ -76,8 +76,12 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
             if (ReflectionUtil.getFieldRecursive(typeParameterClass, sortField) == null) {
                 throw new IllegalArgumentException(format("Cannot sort by %s, the field does not exist in %s", sortField, typeParameterClass));
             }
+            // the sort key is extracted once per element, not on every comparison
             var comparator = propertyComparator(spec.getSortOrder() == SortOrder.ASC, sortField);
-            filteredStream = filteredStream.sorted(comparator);
+            filteredStream = filteredStream
+                    .map(element -> new SortableElement<T>(ReflectionUtil.getFieldValue(sortField, element), element))
+                    .sorted(comparator)
+                    .map(SortableElement::element);
         }
 
         // limit
@@ -85,10 +89,10 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
     }
 
     @NotNull
-    private Comparator<T> propertyComparator(boolean isAscending, String property) {
-        return (obj1, obj2) -> {
-            var o1 = ReflectionUtil.getFieldValue(property, obj1);
-            var o2 = ReflectionUtil.getFieldValue(property, obj2);
+    private Comparator<SortableElement<T>> propertyComparator(boolean isAscending, String property) {
+        return (element1, element2) -> {
+            var o1 = element1.key();
+            var o2 = element2.key();
 
             if (o1 == null || o2 == null) {
                 return 0;
@@ -102,4 +106,6 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
         };
     }
 
+    private record SortableElement<T>(Object key, T element) {
+    }
 }
@@ -0,0 +1,173 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.store;
+
+import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
+import org.eclipse.edc.spi.entity.StatefulEntity;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+class InMemoryStatefulEntityStoreTest {
+
+    private final TestEntityStore store = new TestEntityStore();
+
+    @Test
+    void nextNotLeased_shouldReturnEntitiesInStateOrderedByStateTimestamp() {
+        store.save(entity("third", 100, 3000L));
+        store.save(entity("first", 100, 1000L));
+        store.save(entity("other-state", 200, 500L));
+        store.save(entity("second", 100, 2000L));
+
+        var leased = store.nextNotLeased(2, hasState(100));
+
+        assertThat(leased).extracting(StatefulEntity::getId).containsExactly("first", "second");
+        assertThat(store.nextNotLeased(5, hasState(100))).extracting(StatefulEntity::getId).containsExactly("third");
+    }
+
+    @Test
+    void nextNotLeased_shouldNotReturnEntity_whenStateChanged() {
+        var entity = entity("id", 100, 1000L);
+        store.save(entity);
+        store.save(entity("id", 200, 2000L));
+
+        assertThat(store.nextNotLeased(5, hasState(100))).isEmpty();
+        assertThat(store.nextNotLeased(5, hasState(200))).extracting(StatefulEntity::getId).containsExactly("id");
+    }
+
+    @Test
+    void nextNotLeased_shouldApplyAllCriteria() {
+        store.save(entity("id1", "group-a", 100));
+        store.save(entity("id2", "group-b", 100));
+
+        var leased = store.nextNotLeased(5, hasState(100), criterion("group", "=", "group-b"));
+
+        assertThat(leased).extracting(StatefulEntity::getId).containsExactly("id2");
+    }
+
+    @Test
+    void nextNotLeased_shouldNotLeaseSameEntityTwice_whenCalledConcurrently() {
+        IntStream.range(0, 200).forEach(i -> store.save(entity("id-" + i, 100, i)));
+        var leased = Collections.synchronizedList(new ArrayList<String>());
+        var executor = Executors.newFixedThreadPool(8);
+
+        var futures = IntStream.range(0, 8)
+                .mapToObj(i -> CompletableFuture.runAsync(() -> store.nextNotLeased(50, hasState(100))
+                        .forEach(entity -> leased.add(entity.getId())), executor))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).join();
+        executor.shutdownNow();
+
+        assertThat(leased).hasSize(200).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void findAll_shouldUseIndex_whenFilteringOnIndexedField() {
+        store.save(entity("id1", "group-a", 100));
+        store.save(entity("id2", "group-b", 100));
+        store.save(entity("id3", "group-a", 200));
+
+        var byEqual = store.findAll(QuerySpec.Builder.newInstance().filter(criterion("group", "=", "group-a")).build());
+        var byIn = store.findAll(QuerySpec.Builder.newInstance().filter(criterion("group", "in", List.of("group-a", "group-b"))).build());
+
+        assertThat(byEqual).extracting(StatefulEntity::getId).containsExactlyInAnyOrder("id1", "id3");
+        assertThat(byIn).extracting(StatefulEntity::getId).containsExactlyInAnyOrder("id1", "id2", "id3");
+    }
+
+    @Test
+    void findAll_shouldReflectIndexedFieldUpdatesAndDeletions() {
+        store.save(entity("id1", "group-a", 100));
+        store.save(entity("id1", "group-b", 100));
+        store.save(entity("id2", "group-b", 100));
+        store.delete("id2");
+
+        var result = store.findAll(QuerySpec.Builder.newInstance().filter(criterion("group", "=", "group-b")).build());
+
+        assertThat(result).extracting(StatefulEntity::getId).containsExactly("id1");
+        assertThat(store.findAll(QuerySpec.Builder.newInstance().filter(criterion("group", "=", "group-a")).build())).isEmpty();
+    }
+
+    private TestEntity entity(String id, int state, long stateTimestamp) {
+        return TestEntity.Builder.newInstance().id(id).group("group").state(state).stateTimestamp(stateTimestamp).build();
+    }
+
+    private TestEntity entity(String id, String group, int state) {
+        return TestEntity.Builder.newInstance().id(id).group(group).state(state).build();
+    }
+
+    private static class TestEntityStore extends InMemoryStatefulEntityStore<TestEntity> {
+
+        TestEntityStore() {
+            super(TestEntity.class, "owner", Clock.systemUTC(), CriterionOperatorRegistryImpl.ofDefaults());
+            index("group", TestEntity::getGroup);
+        }
+    }
+
+    private static class TestEntity extends StatefulEntity<TestEntity> {
+
+        private String group;
+
+        public String getGroup() {
+            return group;
+        }
+
+        @Override
+        public TestEntity copy() {
+            return copy(Builder.newInstance().group(group));
+        }
+
+        @Override
+        public String stateAsString() {
+            return String.valueOf(getState());
+        }
+
+        private static class Builder extends StatefulEntity.Builder<TestEntity, Builder> {
+
+            private Builder(TestEntity entity) {
+                super(entity);
+            }
+
+            static Builder newInstance() {
+                return new Builder(new TestEntity());
+            }
+
+            Builder group(String group) {
+                entity.group = group;
+                return this;
+            }
+
+            @Override
+            public Builder self() {
+                return this;
+            }
+
+            @Override
+            public TestEntity build() {
+                return super.build();
+            }
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled form of a property path, with the same semantics of {@link ReflectionUtil#getFieldValue(String, Object)}:
+ * the path is parsed once and every field is read through a {@link MethodHandle} that is resolved once per class, so
+ * that the accessor can be evaluated repeatedly without re-parsing the path or scanning the class hierarchy.
+ */
+public class PropertyAccessor {
+
+    private static final Pattern ARRAY_INDEXER = Pattern.compile("(.*)\\[([0-9]+)]");
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final ClassValue<Map<String, Optional<FieldReader>>> FIELD_READERS = new ClassValue<>() {
+        @Override
+        protected Map<String, Optional<FieldReader>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final List<Segment> segments;
+
+    private PropertyAccessor(List<Segment> segments) {
+        this.segments = segments;
+    }
+
+    /**
+     * Compile the property path, e.g. {@code someObject.someValue} or {@code someObject[2].someValue}.
+     *
+     * @param propertyName the property path.
+     * @return the accessor.
+     */
+    public static PropertyAccessor compile(String propertyName) {
+        Objects.requireNonNull(propertyName, "propertyName");
+        var segments = PathItem.parse(propertyName).stream()
+                .map(PathItem::toString)
+                .map(PropertyAccessor::segment)
+                .toList();
+        return new PropertyAccessor(segments);
+    }
+
+    /**
+     * Get the property value from the object.
+     *
+     * @param object the object.
+     * @return the property value, null if any of the intermediate values is null.
+     * @throws ReflectionException if a field does not exist or is not accessible
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object object) {
+        Objects.requireNonNull(object, "object");
+        var current = object;
+        for (var segment : segments) {
+            current = segment.get(current);
+            if (current == null) {
+                return null;
+            }
+        }
+        return (T) current;
+    }
+
+    private static Segment segment(String item) {
+        var matcher = ARRAY_INDEXER.matcher(item);
+        if (matcher.matches()) {
+            var name = matcher.group(1);
+            var list = new NamedSegment(name);
+            var index = Integer.parseInt(matcher.group(2));
+            return object -> {
+                var value = list.get(object);
+                if (value == null) {
+                    throw new NullPointerException("Cannot index null property " + name);
+                }
+                return ((List<?>) value).get(index);
+            };
+        }
+        return new NamedSegment(item);
+    }
+
+    private static FieldReader reader(Class<?> type, String name) {
+        return FIELD_READERS.get(type)
+                .computeIfAbsent(name, n -> Optional.ofNullable(ReflectionUtil.getFieldRecursive(type, n)).map(PropertyAccessor::reader))
+                .orElseThrow(() -> new ReflectionException(name));
+    }
+
+    private static FieldReader reader(Field field) {
+        try {
+            var lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+            var getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+            return object -> {
+                try {
+                    return (Object) getter.invokeExact(object);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new ReflectionException(e);
+                }
+            };
+        } catch (IllegalAccessException | SecurityException e) {
+            // the class is not open to this module, fall back to plain reflection
+            field.setAccessible(true);
+            return object -> {
+                try {
+                    return field.get(object);
+                } catch (IllegalAccessException ex) {
+                    throw new ReflectionException(ex);
+                }
+            };
+        }
+    }
+
+    @FunctionalInterface
+    private interface Segment {
+        Object get(Object object);
+    }
+
+    @FunctionalInterface
+    private interface FieldReader {
+        Object read(Object object);
+    }
+
+    /**
+     * Reads a named property from a {@link Map}, from every element of a {@link List} or from a field. Caches the reader
+     * of the last seen class, as usually the same path is evaluated on objects of the same type.
+     */
+    private static class NamedSegment implements Segment {
+
+        private final String name;
+        private volatile CachedReader cached;
+
+        NamedSegment(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Object get(Object object) {
+            if (object instanceof Map<?, ?> map) {
+                return map.get(name);
+            } else if (object instanceof List<?> list) {
+                return list.stream().filter(Objects::nonNull).map(this::read).toList();
+            } else {
+                return read(object);
+            }
+        }
+
+        private Object read(Object object) {
+            var type = object.getClass();
+            var current = cached;
+            if (current == null || current.type() != type) {
+                current = new CachedReader(type, reader(type, name));
+                cached = current;
+            }
+            return current.reader().read(object);
+        }
+    }
+
+    private record CachedReader(Class<?> type, FieldReader reader) {
+    }
+}
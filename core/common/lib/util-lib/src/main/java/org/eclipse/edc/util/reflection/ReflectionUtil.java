@@ -23,10 +23,20 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 public class ReflectionUtil {
 
-    private static final String ARRAY_INDEXER_REGEX = ".*\\[([0-9])+\\]";
+    private static final Pattern ARRAY_INDEXER = Pattern.compile(".*\\[([0-9])+\\]");
+    // fields resolved and made accessible once per class and name, instead of scanning the class hierarchy on every access
+    private static final ClassValue<Map<String, Optional<Field>>> ACCESSIBLE_FIELDS = new ClassValue<>() {
+        @Override
+        protected Map<String, Optional<Field>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
     private static final String OPENING_BRACKET = "[";
     private static final String CLOSING_BRACKET = "]";
 
@@ -61,7 +71,7 @@ public class ReflectionUtil {
             }
             var rest = path.stream().skip(1).toList();
             return getFieldValue(rest, nested);
-        } else if (first.toString().matches(ARRAY_INDEXER_REGEX)) { //array indexer
+        } else if (ARRAY_INDEXER.matcher(first.toString()).matches()) { //array indexer
             var openingBracketIx = first.toString().indexOf(OPENING_BRACKET);
             var closingBracketIx = first.toString().indexOf(CLOSING_BRACKET);
             var propName = first.toString().substring(0, openingBracketIx);
@@ -109,11 +119,9 @@ public class ReflectionUtil {
     }
 
     private static <T> T getRecursiveValue(String propertyName, Object object) {
-        var field = getFieldRecursive(object.getClass(), propertyName);
-        if (field == null) {
-            throw new ReflectionException(propertyName);
-        }
-        field.setAccessible(true);
+        var field = ACCESSIBLE_FIELDS.get(object.getClass())
+                .computeIfAbsent(propertyName, name -> Optional.ofNullable(getFieldRecursive(object.getClass(), name)).map(ReflectionUtil::accessible))
+                .orElseThrow(() -> new ReflectionException(propertyName));
         try {
             return (T) field.get(object);
         } catch (IllegalAccessException e) {
@@ -121,6 +129,11 @@ public class ReflectionUtil {
         }
     }
 
+    private static Field accessible(Field field) {
+        field.setAccessible(true);
+        return field;
+    }
+
     /**
      * Get the first type argument for the given target from the given clazz.
      * It goes through the hierarchy starting from class and looking for target
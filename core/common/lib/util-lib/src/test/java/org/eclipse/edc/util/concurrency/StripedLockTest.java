@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StripedLockTest {
+
+    @Test
+    void withLock_shouldReturnWorkResult() {
+        var lock = new StripedLock();
+
+        var result = lock.withLock("key", () -> "result");
+
+        assertThat(result).isEqualTo("result");
+    }
+
+    @Test
+    void withLock_shouldSerializeWorkOnSameKey() throws InterruptedException {
+        var lock = new StripedLock(4);
+        var concurrent = new AtomicInteger();
+        var maxConcurrent = new AtomicInteger();
+        var executor = Executors.newFixedThreadPool(8);
+        var latch = new CountDownLatch(100);
+
+        for (var i = 0; i < 100; i++) {
+            executor.submit(() -> lock.withLock("same-key", () -> {
+                maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+                concurrent.decrementAndGet();
+                latch.countDown();
+                return null;
+            }));
+        }
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(maxConcurrent.get()).isEqualTo(1);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldFail_whenStripesAreNotPositive() {
+        assertThatThrownBy(() -> new StripedLock(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
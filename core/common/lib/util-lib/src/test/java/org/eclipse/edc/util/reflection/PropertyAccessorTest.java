@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.reflection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PropertyAccessorTest {
+
+    @Test
+    void shouldGetFieldValue() {
+        var accessor = PropertyAccessor.compile("priority");
+
+        assertThat((Integer) accessor.get(new TestObject("test-desc", 1))).isEqualTo(1);
+        assertThat((Integer) accessor.get(new TestObject("test-desc", 2))).isEqualTo(2);
+    }
+
+    @Test
+    void shouldGetFieldValue_whenTypeChangesBetweenEvaluations() {
+        var accessor = PropertyAccessor.compile("description");
+
+        assertThat((String) accessor.get(new TestObject("test-desc", 1))).isEqualTo("test-desc");
+        assertThat((String) accessor.get(new TestObjectWithList("sub-desc", 1, List.of()))).isEqualTo("sub-desc");
+        assertThat((String) accessor.get(Map.of("description", "from-map"))).isEqualTo("from-map");
+    }
+
+    @Test
+    void shouldGetFieldFromSuperclass() {
+        var to = new TestObjectSubSubclass("test-desc", 1, "foobar");
+        to.setAnotherObject(new AnotherObject("another-desc"));
+
+        assertThat((String) PropertyAccessor.compile("anotherObject.anotherDescription").get(to)).isEqualTo("another-desc");
+        assertThat((Object) PropertyAccessor.compile("description").get(to))
+                .isEqualTo(ReflectionUtil.getFieldValue("description", to));
+    }
+
+    @Test
+    void shouldReturnNull_whenIntermediateValueIsNull() {
+        var to = new TestObjectSubSubclass("test-desc", 1, "foobar");
+
+        assertThat((Object) PropertyAccessor.compile("anotherObject.anotherDescription").get(to)).isNull();
+    }
+
+    @Test
+    void shouldThrowException_whenFieldDoesNotExist() {
+        var accessor = PropertyAccessor.compile("notExist");
+
+        assertThatThrownBy(() -> accessor.get(new TestObject("test-desc", 1))).isInstanceOf(ReflectionException.class);
+    }
+
+    @Test
+    void shouldGetValueWithArrayIndex() {
+        var to1 = new TestObject("to1", 420);
+        var o = new TestObjectWithList("test-desc", 0, List.of(to1, new TestObject("to2", 69)));
+
+        assertThat((TestObject) PropertyAccessor.compile("nestedObjects[0]").get(o)).isEqualTo(to1);
+        assertThat((Integer) PropertyAccessor.compile("nestedObjects[1].priority").get(o)).isEqualTo(69);
+        assertThatThrownBy(() -> PropertyAccessor.compile("nestedObjects[3]").get(o)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void shouldMapValuesFromList() {
+        var object = new TestObjectWithList("test-desc", 0, List.of(new TestObject("to1", 420), new TestObject("to2", 69)));
+
+        var result = PropertyAccessor.compile("nestedObjects.description").get(object);
+
+        assertThat(result).isEqualTo(List.of("to1", "to2"));
+    }
+
+    @Test
+    void shouldGetNestedValue_whenKeyContainsDot() {
+        var object = Map.of("http://namespace.domain/property", List.of(Map.of("@value", "value")));
+
+        var value = PropertyAccessor.compile("'http://namespace.domain/property'[0].@value").get(object);
+
+        assertThat(value).isEqualTo("value");
+    }
+}
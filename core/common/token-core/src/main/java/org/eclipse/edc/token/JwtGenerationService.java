@@ -18,6 +18,7 @@ package org.eclipse.edc.token;
 import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.JWSAlgorithm;
 import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 import org.eclipse.edc.security.token.jwt.CryptoConverter;
@@ -34,10 +35,17 @@ import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 public class JwtGenerationService implements TokenGenerationService {
 
+    private static final int MAX_CACHED_SIGNERS = 100;
+    /**
+     * Signers are thread-safe and depend only on the key, so they are shared between all the instances. The cache is
+     * bounded, so that signers of rotated keys do not pile up.
+     */
+    private static final Map<PrivateKey, JWSSigner> SIGNERS = new ConcurrentHashMap<>();
 
     @Override
     public Result<TokenRepresentation> generate(Supplier<PrivateKey> privateKeySupplier, @NotNull TokenDecorator... decorators) {
@@ -47,7 +55,7 @@ public class JwtGenerationService implements TokenGenerationService {
             return Result.failure("PrivateKey cannot be resolved.");
         }
 
-        var tokenSigner = CryptoConverter.createSignerFor(privateKey);
+        var tokenSigner = signerFor(privateKey);
         var jwsAlgorithm = CryptoConverter.getRecommendedAlgorithm(tokenSigner);
 
         var bldr = TokenParameters.Builder.newInstance();
@@ -68,6 +76,18 @@ public class JwtGenerationService implements TokenGenerationService {
         return Result.success(TokenRepresentation.Builder.newInstance().token(token.serialize()).build());
     }
 
+    private JWSSigner signerFor(PrivateKey privateKey) {
+        var signer = SIGNERS.get(privateKey);
+        if (signer == null) {
+            signer = CryptoConverter.createSignerFor(privateKey);
+            if (SIGNERS.size() >= MAX_CACHED_SIGNERS) {
+                SIGNERS.clear();
+            }
+            SIGNERS.put(privateKey, signer);
+        }
+        return signer;
+    }
+
     private JWSHeader createHeader(Map<String, Object> headers) {
         try {
             return JWSHeader.parse(headers);
@@ -82,7 +102,6 @@ public class JwtGenerationService implements TokenGenerationService {
         return builder.build();
     }
 
-
     /**
      * Base JwtDecorator that provides the algorithm header value
      */
@@ -45,6 +45,7 @@ import org.eclipse.edc.validator.spi.DataAddressValidatorRegistry;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -134,6 +135,40 @@ public class TransferProcessServiceImpl implements TransferProcessService {
         });
     }
 
+    /**
+     * The valid requests are initiated in a single transaction, so that the new transfer processes are persisted
+     * together.
+     */
+    @Override
+    public @NotNull List<ServiceResult<TransferProcess>> initiateTransfers(List<TransferRequest> requests) {
+        var results = new ArrayList<ServiceResult<TransferProcess>>(requests.size());
+        var validRequests = new ArrayList<TransferRequest>();
+        for (var request : requests) {
+            var validDestination = dataAddressValidator.validateDestination(request.getDataDestination());
+            if (validDestination.failed()) {
+                results.add(ServiceResult.badRequest(validDestination.getFailureMessages()));
+            } else {
+                results.add(null);
+                validRequests.add(request);
+            }
+        }
+
+        if (validRequests.isEmpty()) {
+            return results;
+        }
+
+        var initiated = transactionContext.execute(() -> manager.initiateConsumerRequests(validRequests)).iterator();
+        for (var i = 0; i < results.size(); i++) {
+            if (results.get(i) == null) {
+                var result = initiated.next();
+                results.set(i, result.succeeded()
+                        ? ServiceResult.success(result.getContent())
+                        : ServiceResult.conflict("Request couldn't be initialised."));
+            }
+        }
+        return results;
+    }
+
     @Override
     public ServiceResult<Void> completeDeprovision(String transferProcessId, DeprovisionedResource resource) {
         return execute(new DeprovisionCompleteCommand(transferProcessId, resource));
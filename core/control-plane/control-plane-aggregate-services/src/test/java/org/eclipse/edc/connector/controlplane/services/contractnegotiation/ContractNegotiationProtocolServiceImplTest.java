@@ -55,10 +55,18 @@ import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 import org.mockito.ArgumentCaptor;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -90,6 +98,7 @@ import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -805,4 +814,132 @@ class ContractNegotiationProtocolServiceImplTest {
             verifyNoInteractions(listener);
         }
     }
+
+    @Nested
+    class TwoPhaseProcessing {
+
+        private final PooledTransactionContext pooledTransactionContext = new PooledTransactionContext(2, Duration.ofSeconds(1));
+        private final ContractNegotiationProtocolService pooledService = new ContractNegotiationProtocolServiceImpl(store,
+                pooledTransactionContext, validationService, consumerOfferResolver, protocolTokenValidator,
+                new ContractNegotiationObservableImpl(), mock(), mock());
+
+        @ParameterizedTest
+        @ArgumentsSource(NotifyArguments.class)
+        <M extends ProcessRemoteMessage> void notify_shouldVerifyTokenOutsideOfTransaction(MethodCall<M> methodCall, M message,
+                                                                                           ContractNegotiation.Type type,
+                                                                                           ContractNegotiationStates currentState) {
+            var offer = contractOffer();
+            var negotiation = contractNegotiationBuilder().state(currentState.code()).type(type).contractOffer(offer).build();
+            var validatableOffer = mock(ValidatableConsumerOffer.class);
+            var verifiedInTransaction = new AtomicBoolean();
+
+            when(validatableOffer.getContractPolicy()).thenReturn(createPolicy());
+            when(consumerOfferResolver.resolveOffer(any())).thenReturn(ServiceResult.success(validatableOffer));
+            when(protocolTokenValidator.verify(any(), eq(CONTRACT_NEGOTIATION_REQUEST_SCOPE), any(), eq(message))).thenAnswer(i -> {
+                verifiedInTransaction.set(pooledTransactionContext.isActive());
+                return ServiceResult.success(participantAgent());
+            });
+            when(store.findById(any())).thenReturn(negotiation);
+            when(store.findByIdAndLease(any())).thenReturn(StoreResult.success(negotiation));
+            when(validationService.validateRequest(any(ParticipantAgent.class), any(ContractNegotiation.class))).thenReturn(Result.success());
+            when(validationService.validateInitialOffer(any(ParticipantAgent.class), isA(ValidatableConsumerOffer.class)))
+                    .thenAnswer(i -> Result.success(new ValidatedConsumerOffer("any", offer)));
+            when(validationService.validateConfirmed(any(ParticipantAgent.class), any(), any())).thenAnswer(i -> Result.success(negotiation));
+
+            var result = methodCall.call(pooledService, message, tokenRepresentation());
+
+            assertThat(result).isSucceeded();
+            assertThat(verifiedInTransaction).isFalse();
+            verify(store).save(any());
+        }
+
+        @Test
+        void notifyRequested_shouldNotExhaustConnectionPool_whenManyConcurrentNegotiations() {
+            var requests = 20;
+            var offer = contractOffer();
+            var validatableOffer = mock(ValidatableConsumerOffer.class);
+            when(validatableOffer.getContractPolicy()).thenReturn(createPolicy());
+            when(consumerOfferResolver.resolveOffer(any())).thenReturn(ServiceResult.success(validatableOffer));
+            when(protocolTokenValidator.verify(any(), eq(CONTRACT_NEGOTIATION_REQUEST_SCOPE), any(), any())).thenAnswer(i -> {
+                Thread.sleep(200); // simulates the remote presentation fetching and verification
+                return ServiceResult.success(participantAgent());
+            });
+            when(validationService.validateInitialOffer(any(ParticipantAgent.class), isA(ValidatableConsumerOffer.class)))
+                    .thenAnswer(i -> Result.success(new ValidatedConsumerOffer(CONSUMER_ID, offer)));
+            var executor = Executors.newFixedThreadPool(requests);
+
+            try {
+                var futures = IntStream.range(0, requests)
+                        .mapToObj(i -> ContractRequestMessage.Builder.newInstance()
+                                .callbackAddress("callbackAddress")
+                                .protocol("protocol")
+                                .contractOffer(offer)
+                                .consumerPid("consumerPid-" + i)
+                                .build())
+                        .map(message -> CompletableFuture.supplyAsync(() -> pooledService.notifyRequested(message, tokenRepresentation()), executor))
+                        .toList();
+
+                assertThat(futures).allSatisfy(future -> assertThat(future).succeedsWithin(Duration.ofSeconds(10))
+                        .satisfies(result -> assertThat(result).isSucceeded()));
+                assertThat(pooledTransactionContext.getPeakConnections()).isLessThanOrEqualTo(2);
+                verify(store, times(requests)).save(any());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Transaction context backed by a bounded "connection pool": a transaction holds a connection for its whole
+     * duration, and fails if a connection cannot be obtained within the given timeout, as a pooled data source would.
+     */
+    private static class PooledTransactionContext extends NoopTransactionContext {
+
+        private final Semaphore connections;
+        private final Duration acquisitionTimeout;
+        private final ThreadLocal<Boolean> active = ThreadLocal.withInitial(() -> false);
+        private final AtomicInteger inUse = new AtomicInteger();
+        private final AtomicInteger peak = new AtomicInteger();
+
+        PooledTransactionContext(int poolSize, Duration acquisitionTimeout) {
+            this.connections = new Semaphore(poolSize);
+            this.acquisitionTimeout = acquisitionTimeout;
+        }
+
+        @Override
+        public <T> T execute(ResultTransactionBlock<T> block) {
+            if (active.get()) {
+                return block.execute();
+            }
+            acquire();
+            active.set(true);
+            try {
+                return super.execute(block);
+            } finally {
+                active.set(false);
+                inUse.decrementAndGet();
+                connections.release();
+            }
+        }
+
+        boolean isActive() {
+            return active.get();
+        }
+
+        int getPeakConnections() {
+            return peak.get();
+        }
+
+        private void acquire() {
+            try {
+                if (!connections.tryAcquire(acquisitionTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                    throw new IllegalStateException("Cannot get a connection, pool exhausted");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            peak.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+        }
+    }
 }
@@ -60,6 +60,7 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 import org.mockito.ArgumentCaptor;
 
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
 import static java.util.Collections.emptyMap;
@@ -506,7 +507,7 @@ class TransferProcessProtocolServiceImplTest {
 
         assertThat(result).matches(ServiceResult::failed);
         verify(store, never()).save(any());
-        verify(transactionContext, atLeastOnce()).execute(any(TransactionContext.ResultTransactionBlock.class));
+        verify(transactionContext, never()).execute(any(TransactionContext.ResultTransactionBlock.class));
     }
 
     @ParameterizedTest
@@ -980,4 +981,83 @@ class TransferProcessProtocolServiceImplTest {
             verifyNoInteractions(listener);
         }
     }
+
+    @Nested
+    class TwoPhaseProcessing {
+
+        private final TrackingTransactionContext trackingTransactionContext = new TrackingTransactionContext();
+        private final TransferProcessProtocolService trackingService = new TransferProcessProtocolServiceImpl(store,
+                trackingTransactionContext, negotiationStore, validationService, protocolTokenValidator, dataAddressValidator,
+                new TransferProcessObservableImpl(), mock(), mock(), mock(), dataFlowManager);
+
+        @Test
+        void notifyRequested_shouldVerifyTokenOutsideOfTransaction() {
+            var verifiedInTransaction = new AtomicBoolean();
+            var message = TransferRequestMessage.Builder.newInstance()
+                    .consumerPid("consumerPid")
+                    .processId("consumerPid")
+                    .protocol("protocol")
+                    .contractId("agreementId")
+                    .callbackAddress("http://any")
+                    .dataDestination(DataAddress.Builder.newInstance().type("any").build())
+                    .build();
+            when(negotiationStore.findContractAgreement(any())).thenReturn(contractAgreement());
+            when(protocolTokenValidator.verify(any(), eq(TRANSFER_PROCESS_REQUEST_SCOPE), any(), eq(message))).thenAnswer(i -> {
+                verifiedInTransaction.set(trackingTransactionContext.isActive());
+                return ServiceResult.success(participantAgent());
+            });
+            when(dataAddressValidator.validateDestination(any())).thenReturn(ValidationResult.success());
+            when(validationService.validateAgreement(any(ParticipantAgent.class), any())).thenAnswer(i -> Result.success(i.getArgument(1)));
+
+            var result = trackingService.notifyRequested(message, tokenRepresentation());
+
+            assertThat(result).isSucceeded();
+            assertThat(verifiedInTransaction).isFalse();
+            verify(store).save(any());
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(NotifyArguments.class)
+        <M extends ProcessRemoteMessage> void notify_shouldVerifyTokenOutsideOfTransaction(MethodCall<M> methodCall, M message,
+                                                                                           TransferProcess.Type type,
+                                                                                           TransferProcessStates currentState) {
+            var verifiedInTransaction = new AtomicBoolean();
+            var transferProcess = transferProcessBuilder().state(currentState.code()).type(type).build();
+            when(protocolTokenValidator.verify(any(), eq(TRANSFER_PROCESS_REQUEST_SCOPE), any(), eq(message))).thenAnswer(i -> {
+                verifiedInTransaction.set(trackingTransactionContext.isActive());
+                return ServiceResult.success(participantAgent());
+            });
+            when(store.findById(any())).thenReturn(transferProcess);
+            when(store.findByIdAndLease(any())).thenReturn(StoreResult.success(transferProcess));
+            when(negotiationStore.findContractAgreement(any())).thenReturn(contractAgreement());
+            when(validationService.validateRequest(any(ParticipantAgent.class), isA(ContractAgreement.class))).thenReturn(Result.success());
+            when(dataFlowManager.suspend(any())).thenReturn(StatusResult.success());
+
+            var result = methodCall.call(trackingService, message, tokenRepresentation());
+
+            assertThat(result).isSucceeded();
+            assertThat(verifiedInTransaction).isFalse();
+            verify(store).save(any());
+        }
+    }
+
+    private static class TrackingTransactionContext extends NoopTransactionContext {
+
+        private final ThreadLocal<Boolean> active = ThreadLocal.withInitial(() -> false);
+
+        @Override
+        public <T> T execute(ResultTransactionBlock<T> block) {
+            var outer = active.get();
+            active.set(true);
+            try {
+                return super.execute(block);
+            } finally {
+                active.set(outer);
+            }
+        }
+
+        boolean isActive() {
+            return active.get();
+        }
+    }
 }
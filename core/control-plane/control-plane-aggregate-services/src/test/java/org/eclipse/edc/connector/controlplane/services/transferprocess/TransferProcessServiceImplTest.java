@@ -46,6 +46,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Stream;
@@ -163,6 +164,38 @@ class TransferProcessServiceImplTest {
         verifyNoInteractions(manager);
     }
 
+    @Test
+    void initiateTransfers_shouldInitiateValidRequestsInSingleTransaction() {
+        var invalidDestination = DataAddress.Builder.newInstance().type("invalid").build();
+        var valid1 = transferRequest();
+        var invalid = TransferRequest.Builder.newInstance().dataDestination(invalidDestination).build();
+        var valid2 = transferRequest();
+        var process1 = transferProcess();
+        var process2 = transferProcess();
+        when(dataAddressValidator.validateDestination(any())).thenReturn(ValidationResult.success());
+        when(dataAddressValidator.validateDestination(invalidDestination)).thenReturn(ValidationResult.failure(violation("invalid data address", "path")));
+        when(manager.initiateConsumerRequests(List.of(valid1, valid2)))
+                .thenReturn(List.of(StatusResult.success(process1), StatusResult.success(process2)));
+
+        var results = service.initiateTransfers(List.of(valid1, invalid, valid2));
+
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0)).isSucceeded().isEqualTo(process1);
+        assertThat(results.get(1)).isFailed().extracting(ServiceFailure::getReason).isEqualTo(BAD_REQUEST);
+        assertThat(results.get(2)).isSucceeded().isEqualTo(process2);
+        verify(transactionContext).execute(any(TransactionContext.ResultTransactionBlock.class));
+    }
+
+    @Test
+    void initiateTransfers_shouldNotInitiate_whenAllRequestsAreInvalid() {
+        when(dataAddressValidator.validateDestination(any())).thenReturn(ValidationResult.failure(violation("invalid data address", "path")));
+
+        var results = service.initiateTransfers(List.of(transferRequest(), transferRequest()));
+
+        assertThat(results).hasSize(2).allMatch(ServiceResult::failed);
+        verifyNoInteractions(manager);
+    }
+
     @Test
     void terminate_shouldExecuteCommandAndReturnResult() {
         when(commandHandlerRegistry.execute(any())).thenReturn(CommandResult.success());
@@ -47,6 +47,7 @@ import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.protocol.ProtocolWebhook;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
@@ -63,6 +64,7 @@ import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_BA
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_SEND_RETRY_BASE_DELAY;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_SEND_RETRY_LIMIT;
+import static org.eclipse.edc.statemachine.StateMachineManager.DEFAULT_MAX_BACKOFF_FACTOR;
 
 @Provides({
         ContractValidationService.class, ConsumerContractNegotiationManager.class,
@@ -83,6 +85,9 @@ public class ContractCoreExtension implements ServiceExtension {
     @Setting(value = "the batch size in the provider negotiation state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String NEGOTIATION_PROVIDER_STATE_MACHINE_BATCH_SIZE = "edc.negotiation.provider.state-machine.batch-size";
 
+    @Setting(value = "the maximum backoff of an idle state in the negotiation state machines, as a multiple of the iteration wait time", type = "int", defaultValue = DEFAULT_MAX_BACKOFF_FACTOR + "")
+    private static final String NEGOTIATION_STATE_MACHINE_MAX_BACKOFF_FACTOR = "edc.negotiation.state-machine.max-backoff-factor";
+
     @Setting(value = "how many times a specific operation must be tried before terminating the consumer negotiation with error", type = "int", defaultValue = DEFAULT_SEND_RETRY_LIMIT + "")
     private static final String NEGOTIATION_CONSUMER_SEND_RETRY_LIMIT = "edc.negotiation.consumer.send.retry.limit";
 
@@ -144,6 +149,9 @@ public class ContractCoreExtension implements ServiceExtension {
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
 
+    @Inject
+    private MetricsRecorder metrics;
+
     @Override
     public String name() {
         return NAME;
@@ -199,9 +207,11 @@ public class ContractCoreExtension implements ServiceExtension {
                 .clock(clock)
                 .telemetry(telemetry)
                 .executorInstrumentation(executorInstrumentation)
+                .metrics(metrics)
                 .store(store)
                 .policyStore(policyStore)
                 .batchSize(context.getSetting(NEGOTIATION_CONSUMER_STATE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .maxBackoffFactor(context.getSetting(NEGOTIATION_STATE_MACHINE_MAX_BACKOFF_FACTOR, DEFAULT_MAX_BACKOFF_FACTOR))
                 .entityRetryProcessConfiguration(consumerEntityRetryProcessConfiguration(context))
                 .protocolWebhook(protocolWebhook)
                 .pendingGuard(pendingGuard)
@@ -216,9 +226,11 @@ public class ContractCoreExtension implements ServiceExtension {
                 .clock(clock)
                 .telemetry(telemetry)
                 .executorInstrumentation(executorInstrumentation)
+                .metrics(metrics)
                 .store(store)
                 .policyStore(policyStore)
                 .batchSize(context.getSetting(NEGOTIATION_PROVIDER_STATE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .maxBackoffFactor(context.getSetting(NEGOTIATION_STATE_MACHINE_MAX_BACKOFF_FACTOR, DEFAULT_MAX_BACKOFF_FACTOR))
                 .entityRetryProcessConfiguration(providerEntityRetryProcessConfiguration(context))
                 .protocolWebhook(protocolWebhook)
                 .pendingGuard(pendingGuard)
@@ -52,12 +52,12 @@ public class ConsumerContractNegotiationManagerImpl extends AbstractContractNego
     @Override
     protected StateMachineManager.Builder configureStateMachineManager(StateMachineManager.Builder builder) {
         return builder
-                .processor(processNegotiationsInState(INITIAL, this::processInitial))
-                .processor(processNegotiationsInState(REQUESTING, this::processRequesting))
-                .processor(processNegotiationsInState(ACCEPTING, this::processAccepting))
-                .processor(processNegotiationsInState(AGREED, this::processAgreed))
-                .processor(processNegotiationsInState(VERIFYING, this::processVerifying))
-                .processor(processNegotiationsInState(TERMINATING, this::processTerminating));
+                .processor(INITIAL.name(), processNegotiationsInState(INITIAL, this::processInitial))
+                .processor(REQUESTING.name(), processNegotiationsInState(REQUESTING, this::processRequesting))
+                .processor(ACCEPTING.name(), processNegotiationsInState(ACCEPTING, this::processAccepting))
+                .processor(AGREED.name(), processNegotiationsInState(AGREED, this::processAgreed))
+                .processor(VERIFYING.name(), processNegotiationsInState(VERIFYING, this::processVerifying))
+                .processor(TERMINATING.name(), processNegotiationsInState(TERMINATING, this::processTerminating));
     }
 
     /**
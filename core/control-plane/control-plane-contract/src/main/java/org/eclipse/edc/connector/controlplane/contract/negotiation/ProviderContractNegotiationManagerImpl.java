@@ -52,13 +52,13 @@ public class ProviderContractNegotiationManagerImpl extends AbstractContractNego
     @Override
     protected StateMachineManager.Builder configureStateMachineManager(StateMachineManager.Builder builder) {
         return builder
-                .processor(processNegotiationsInState(OFFERING, this::processOffering))
-                .processor(processNegotiationsInState(REQUESTED, this::processRequested))
-                .processor(processNegotiationsInState(ACCEPTED, this::processAccepted))
-                .processor(processNegotiationsInState(AGREEING, this::processAgreeing))
-                .processor(processNegotiationsInState(VERIFIED, this::processVerified))
-                .processor(processNegotiationsInState(FINALIZING, this::processFinalizing))
-                .processor(processNegotiationsInState(TERMINATING, this::processTerminating));
+                .processor(OFFERING.name(), processNegotiationsInState(OFFERING, this::processOffering))
+                .processor(REQUESTED.name(), processNegotiationsInState(REQUESTED, this::processRequested))
+                .processor(ACCEPTED.name(), processNegotiationsInState(ACCEPTED, this::processAccepted))
+                .processor(AGREEING.name(), processNegotiationsInState(AGREEING, this::processAgreeing))
+                .processor(VERIFIED.name(), processNegotiationsInState(VERIFIED, this::processVerified))
+                .processor(FINALIZING.name(), processNegotiationsInState(FINALIZING, this::processFinalizing))
+                .processor(TERMINATING.name(), processNegotiationsInState(TERMINATING, this::processTerminating));
     }
 
     @Override
@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane;
+
+import org.eclipse.edc.connector.controlplane.archive.EntityArchiver;
+import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.ContractNegotiationStore;
+import org.eclipse.edc.connector.controlplane.transfer.spi.store.TransferProcessStore;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically moves transfer processes and contract negotiations in a final state to the archive of their stores.
+ * Disabled unless an archival age is configured.
+ */
+@Extension(value = ControlPlaneArchivalExtension.NAME)
+public class ControlPlaneArchivalExtension implements ServiceExtension {
+
+    public static final String NAME = "Control Plane Archival";
+
+    private static final long DEFAULT_ARCHIVE_AGE_MILLIS = 0;
+    private static final long DEFAULT_ARCHIVE_PERIOD_MILLIS = 60_000;
+    private static final int DEFAULT_ARCHIVE_BATCH_SIZE = 500;
+
+    @Setting(value = "how long, in milliseconds, a transfer process or negotiation must be in a final state without updates before being archived. 0 disables archival", type = "long", defaultValue = DEFAULT_ARCHIVE_AGE_MILLIS + "")
+    private static final String ARCHIVE_AGE_MILLIS = "edc.controlplane.archive.age-millis";
+
+    @Setting(value = "the period in milliseconds between two archival runs", type = "long", defaultValue = DEFAULT_ARCHIVE_PERIOD_MILLIS + "")
+    private static final String ARCHIVE_PERIOD_MILLIS = "edc.controlplane.archive.period-millis";
+
+    @Setting(value = "the max number of entities archived in a single transaction", type = "int", defaultValue = DEFAULT_ARCHIVE_BATCH_SIZE + "")
+    private static final String ARCHIVE_BATCH_SIZE = "edc.controlplane.archive.batch-size";
+
+    @Inject
+    private TransferProcessStore transferProcessStore;
+
+    @Inject
+    private ContractNegotiationStore contractNegotiationStore;
+
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    @Inject
+    private Clock clock;
+
+    private EntityArchiver archiver;
+    private long periodMillis;
+    private ScheduledExecutorService executor;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var ageMillis = context.getSetting(ARCHIVE_AGE_MILLIS, DEFAULT_ARCHIVE_AGE_MILLIS);
+        if (ageMillis <= 0) {
+            return;
+        }
+
+        periodMillis = context.getSetting(ARCHIVE_PERIOD_MILLIS, DEFAULT_ARCHIVE_PERIOD_MILLIS);
+        var batchSize = context.getSetting(ARCHIVE_BATCH_SIZE, DEFAULT_ARCHIVE_BATCH_SIZE);
+        archiver = new EntityArchiver(context.getMonitor().withPrefix("Archival"), clock, Duration.ofMillis(ageMillis), batchSize);
+        archiver.register("TransferProcess", transferProcessStore::archive);
+        archiver.register("ContractNegotiation", contractNegotiationStore::archive);
+    }
+
+    @Override
+    public void start() {
+        if (archiver != null) {
+            executor = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(), NAME);
+            executor.scheduleWithFixedDelay(archiver, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.archive;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Moves entities in a final state that have not been updated for longer than the configured age to the archive of
+ * their store, in batches, so that the state machines and the management queries only work on active entities.
+ * Every registered store gets drained until it returns a batch smaller than the batch size.
+ */
+public class EntityArchiver implements Runnable {
+
+    private final Map<String, ArchivableStore> stores = new LinkedHashMap<>();
+    private final Monitor monitor;
+    private final Clock clock;
+    private final Duration age;
+    private final int batchSize;
+
+    public EntityArchiver(Monitor monitor, Clock clock, Duration age, int batchSize) {
+        this.monitor = monitor;
+        this.clock = clock;
+        this.age = age;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Register a store to be archived.
+     *
+     * @param entityName the name of the stored entity, used for logging.
+     * @param store      the store.
+     */
+    public void register(String entityName, ArchivableStore store) {
+        stores.put(entityName, store);
+    }
+
+    @Override
+    public void run() {
+        var updatedBefore = clock.millis() - age.toMillis();
+        stores.forEach((entityName, store) -> {
+            try {
+                var total = 0;
+                int archived;
+                do {
+                    archived = store.archive(updatedBefore, batchSize);
+                    total += archived;
+                } while (archived >= batchSize);
+
+                if (total > 0) {
+                    monitor.debug("Archived %d %s entities".formatted(total, entityName));
+                }
+            } catch (Exception e) {
+                monitor.warning("Error archiving %s entities".formatted(entityName), e);
+            }
+        });
+    }
+
+    /**
+     * Store that supports archival.
+     */
+    @FunctionalInterface
+    public interface ArchivableStore {
+
+        /**
+         * Archive up to {@code batchSize} entities in a final state not updated since {@code updatedBefore}.
+         *
+         * @return the number of archived entities.
+         */
+        int archive(long updatedBefore, int batchSize);
+    }
+}
@@ -24,11 +24,13 @@ import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Predicate;
@@ -40,6 +42,7 @@ import static java.lang.String.format;
  * An ephemeral asset index, that is also a DataAddressResolver
  */
 public class InMemoryAssetIndex implements AssetIndex {
+    private static final Set<Object> ID_OPERANDS = Set.of("id", Asset.PROPERTY_ID);
     private final Map<String, Asset> cache = new ConcurrentHashMap<>();
     private final Map<String, DataAddress> dataAddresses = new ConcurrentHashMap<>();
     private final CriterionOperatorRegistry criterionOperatorRegistry;
@@ -72,10 +75,7 @@ public class InMemoryAssetIndex implements AssetIndex {
     public Asset findById(String assetId) {
         lock.readLock().lock();
         try {
-            return cache.values().stream()
-                    .filter(asset -> asset.getId().equals(assetId))
-                    .findFirst()
-                    .orElse(null);
+            return cache.get(assetId);
         } finally {
             lock.readLock().unlock();
         }
@@ -146,8 +146,33 @@ public class InMemoryAssetIndex implements AssetIndex {
                 .map(criterionOperatorRegistry::toPredicate)
                 .reduce(x -> true, Predicate::and);
 
-        return cache.values().stream()
-                .filter(predicate);
+        return candidates(criteria).filter(predicate);
+    }
+
+    /**
+     * Assets are stored by id, so when the id is constrained with {@code =} or {@code in} the candidates can be fetched
+     * directly instead of scanning all the assets. The full filter is applied on them anyway.
+     */
+    private Stream<Asset> candidates(List<Criterion> criteria) {
+        return criteria.stream()
+                .filter(criterion -> ID_OPERANDS.contains(criterion.getOperandLeft()))
+                .map(this::constrainedIds)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .map(ids -> ids.stream().distinct().map(cache::get).filter(Objects::nonNull))
+                .orElseGet(() -> cache.values().stream());
+    }
+
+    private @Nullable List<String> constrainedIds(Criterion criterion) {
+        var operandRight = criterion.getOperandRight();
+        if ("=".equals(criterion.getOperator()) && operandRight instanceof String id) {
+            return List.of(id);
+        }
+        if ("in".equalsIgnoreCase(criterion.getOperator()) && operandRight instanceof Collection<?> ids &&
+                ids.stream().allMatch(String.class::isInstance)) {
+            return ids.stream().map(String.class::cast).toList();
+        }
+        return null;
     }
 
     private Asset delete(String assetId) {
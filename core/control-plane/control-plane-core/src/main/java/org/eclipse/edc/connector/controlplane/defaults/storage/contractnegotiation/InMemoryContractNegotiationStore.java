@@ -33,13 +33,13 @@ import java.util.UUID;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
 
 /**
  * An in-memory, threadsafe process store. This implementation is intended for testing purposes only.
  */
 public class InMemoryContractNegotiationStore extends InMemoryStatefulEntityStore<ContractNegotiation> implements ContractNegotiationStore {
 
-    private final QueryResolver<ContractNegotiation> negotiationQueryResolver;
     private final QueryResolver<ContractAgreement> agreementQueryResolver;
 
     public InMemoryContractNegotiationStore(Clock clock, CriterionOperatorRegistry criterionOperatorRegistry) {
@@ -49,12 +49,14 @@ public class InMemoryContractNegotiationStore extends InMemoryStatefulEntityStor
     public InMemoryContractNegotiationStore(String leaseHolder, Clock clock, CriterionOperatorRegistry criterionOperatorRegistry) {
         super(ContractNegotiation.class, leaseHolder, clock, criterionOperatorRegistry);
         agreementQueryResolver = new ReflectionBasedQueryResolver<>(ContractAgreement.class, criterionOperatorRegistry);
-        negotiationQueryResolver = new ReflectionBasedQueryResolver<>(ContractNegotiation.class, criterionOperatorRegistry);
+        index("correlationId", ContractNegotiation::getCorrelationId);
     }
 
     @Override
     public @Nullable ContractNegotiation findForCorrelationId(String correlationId) {
-        return super.findAll().filter(p -> correlationId.equals(p.getCorrelationId())).findFirst().orElse(null);
+        var querySpec = QuerySpec.Builder.newInstance().filter(criterion("correlationId", "=", correlationId)).build();
+
+        return super.findAll(querySpec).findFirst().orElse(null);
     }
 
     @Override
@@ -78,7 +80,7 @@ public class InMemoryContractNegotiationStore extends InMemoryStatefulEntityStor
 
     @Override
     public @NotNull Stream<ContractNegotiation> queryNegotiations(QuerySpec querySpec) {
-        return negotiationQueryResolver.query(super.findAll(), querySpec);
+        return super.findAll(querySpec);
     }
 
     @Override
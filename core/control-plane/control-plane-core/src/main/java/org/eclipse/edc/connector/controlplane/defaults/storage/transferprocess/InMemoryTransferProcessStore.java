@@ -40,6 +40,9 @@ public class InMemoryTransferProcessStore extends InMemoryStatefulEntityStore<Tr
 
     public InMemoryTransferProcessStore(String leaserId, Clock clock, CriterionOperatorRegistry criterionOperatorRegistry) {
         super(TransferProcess.class, leaserId, clock, criterionOperatorRegistry);
+        index("correlationId", TransferProcess::getCorrelationId);
+        index("assetId", TransferProcess::getAssetId);
+        index("contractId", TransferProcess::getContractId);
     }
 
     @Override
@@ -21,6 +21,7 @@ import org.eclipse.edc.spi.query.PropertyLookup;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static java.util.Map.entry;
@@ -47,4 +48,26 @@ public class AssetPropertyLookup implements PropertyLookup {
 
         return null;
     }
+
+    @Override
+    public Function<Object, Object> compile(String key) {
+        var plain = fallbackPropertyLookup.compile(key);
+        var quoted = fallbackPropertyLookup.compile("'%s'".formatted(key));
+
+        return object -> {
+            if (object instanceof Asset asset) {
+                return Stream.<Supplier<Object>>of(
+                                () -> plain.apply(asset.getProperties()),
+                                () -> quoted.apply(asset.getProperties()),
+                                () -> plain.apply(asset.getPrivateProperties()),
+                                () -> quoted.apply(asset.getPrivateProperties()),
+                                () -> plain.apply(asset))
+                        .map(Supplier::get)
+                        .filter(Objects::nonNull)
+                        .findFirst()
+                        .orElse(null);
+            }
+            return null;
+        };
+    }
 }
@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.archive;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EntityArchiverTest {
+
+    private final Monitor monitor = mock();
+    private final Clock clock = Clock.fixed(Instant.ofEpochMilli(10_000), ZoneOffset.UTC);
+    private final EntityArchiver archiver = new EntityArchiver(monitor, clock, Duration.ofMillis(3_000), 10);
+
+    @Test
+    void run_shouldArchiveEntitiesOlderThanAge() {
+        var store = mock(EntityArchiver.ArchivableStore.class);
+        archiver.register("entity", store);
+
+        archiver.run();
+
+        verify(store).archive(7_000, 10);
+    }
+
+    @Test
+    void run_shouldDrainStore_whenBatchIsFull() {
+        var store = mock(EntityArchiver.ArchivableStore.class);
+        when(store.archive(anyLong(), anyInt())).thenReturn(10, 10, 3);
+        archiver.register("entity", store);
+
+        archiver.run();
+
+        verify(store, times(3)).archive(7_000, 10);
+    }
+
+    @Test
+    void run_shouldArchiveOtherStores_whenOneFails() {
+        var failing = mock(EntityArchiver.ArchivableStore.class);
+        when(failing.archive(anyLong(), anyInt())).thenThrow(new RuntimeException("error"));
+        var store = mock(EntityArchiver.ArchivableStore.class);
+        archiver.register("failing", failing);
+        archiver.register("entity", store);
+
+        archiver.run();
+
+        verify(store).archive(7_000, 10);
+        verify(monitor).warning(any(), any(Throwable.class));
+    }
+}
@@ -49,6 +49,7 @@ import org.eclipse.edc.spi.protocol.ProtocolWebhook;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
 import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
@@ -63,6 +64,7 @@ import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_BA
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_SEND_RETRY_BASE_DELAY;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_SEND_RETRY_LIMIT;
+import static org.eclipse.edc.statemachine.StateMachineManager.DEFAULT_MAX_BACKOFF_FACTOR;
 
 /**
  * Provides core data transfer services to the system.
@@ -80,12 +82,18 @@ public class TransferCoreExtension implements ServiceExtension {
     @Setting(value = "the batch size in the transfer process state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String TRANSFER_STATE_MACHINE_BATCH_SIZE = "edc.transfer.state-machine.batch-size";
 
+    @Setting(value = "the maximum backoff of an idle state in the transfer process state machine, as a multiple of the iteration wait time", type = "int", defaultValue = DEFAULT_MAX_BACKOFF_FACTOR + "")
+    private static final String TRANSFER_STATE_MACHINE_MAX_BACKOFF_FACTOR = "edc.transfer.state-machine.max-backoff-factor";
+
     @Setting(value = "how many times a specific operation must be tried before terminating the transfer with error", type = "int", defaultValue = DEFAULT_SEND_RETRY_LIMIT + "")
     private static final String TRANSFER_SEND_RETRY_LIMIT = "edc.transfer.send.retry.limit";
 
     @Setting(value = "The base delay for the transfer retry mechanism in millisecond", type = "long", defaultValue = DEFAULT_SEND_RETRY_BASE_DELAY + "")
     private static final String TRANSFER_SEND_RETRY_BASE_DELAY_MS = "edc.transfer.send.retry.base-delay.ms";
 
+    @Setting(value = "if true, the data flows are started asynchronously, without blocking the state machine while waiting for the data plane", type = "boolean", defaultValue = "false")
+    private static final String TRANSFER_DATAFLOW_ASYNC_ENABLED = "edc.transfer.dataflow.async.enabled";
+
     @Inject
     private TransferProcessStore transferProcessStore;
 
@@ -140,6 +148,9 @@ public class TransferCoreExtension implements ServiceExtension {
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
 
+    @Inject
+    private MetricsRecorder metrics;
+
     private TransferProcessManagerImpl processManager;
 
     @Override
@@ -178,18 +189,21 @@ public class TransferCoreExtension implements ServiceExtension {
                 .monitor(monitor)
                 .telemetry(telemetry)
                 .executorInstrumentation(executorInstrumentation)
+                .metrics(metrics)
                 .vault(vault)
                 .clock(clock)
                 .observable(observable)
                 .store(transferProcessStore)
                 .policyArchive(policyArchive)
                 .batchSize(context.getSetting(TRANSFER_STATE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .maxBackoffFactor(context.getSetting(TRANSFER_STATE_MACHINE_MAX_BACKOFF_FACTOR, DEFAULT_MAX_BACKOFF_FACTOR))
                 .addressResolver(addressResolver)
                 .entityRetryProcessConfiguration(entityRetryProcessConfiguration)
                 .protocolWebhook(protocolWebhook)
                 .provisionResponsesHandler(provisionResponsesHandler)
                 .deprovisionResponsesHandler(deprovisionResponsesHandler)
                 .pendingGuard(pendingGuard)
+                .asyncDataFlow(context.getSetting(TRANSFER_DATAFLOW_ASYNC_ENABLED, false))
                 .build();
 
         context.registerService(TransferProcessManager.class, processManager);
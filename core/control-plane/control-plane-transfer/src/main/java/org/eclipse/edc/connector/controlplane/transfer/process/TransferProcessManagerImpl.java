@@ -47,6 +47,7 @@ import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.protocol.ProtocolWebhook;
 import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.retry.WaitStrategy;
 import org.eclipse.edc.spi.security.Vault;
@@ -56,10 +57,12 @@ import org.eclipse.edc.statemachine.Processor;
 import org.eclipse.edc.statemachine.ProcessorImpl;
 import org.eclipse.edc.statemachine.StateMachineManager;
 import org.eclipse.edc.statemachine.retry.AsyncStatusResultRetryProcess;
-import org.eclipse.edc.statemachine.retry.StatusResultRetryProcess;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
@@ -67,6 +70,8 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 
 import static java.lang.String.format;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess.Type.CONSUMER;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess.Type.PROVIDER;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.COMPLETING;
@@ -82,6 +87,7 @@ import static org.eclipse.edc.connector.controlplane.transfer.spi.types.Transfer
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.TERMINATING;
 import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
 import static org.eclipse.edc.spi.persistence.StateEntityStore.isNotPending;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
 import static org.eclipse.edc.spi.types.domain.DataAddress.EDC_DATA_ADDRESS_SECRET;
 
 /**
@@ -119,6 +125,7 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
     private ProvisionResponsesHandler provisionResponsesHandler;
     private DeprovisionResponsesHandler deprovisionResponsesHandler;
     private TransferProcessPendingGuard pendingGuard = tp -> false;
+    private boolean asyncDataFlow = false;
 
     private TransferProcessManagerImpl() {
     }
@@ -136,7 +143,73 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
             return StatusResult.success(existingTransferProcess);
         }
 
-        var process = TransferProcess.Builder.newInstance()
+        var process = createConsumerProcess(id, transferRequest);
+
+        observable.invokeForEach(l -> l.preCreated(process));
+        update(process);
+        observable.invokeForEach(l -> l.initiated(process));
+        monitor.debug("Process " + process.getId() + " is now " + TransferProcessStates.from(process.getState()));
+
+        return StatusResult.success(process);
+    }
+
+    @Override
+    public List<StatusResult<TransferProcess>> initiateConsumerRequests(List<TransferRequest> transferRequests) {
+        if (transferRequests.isEmpty()) {
+            return List.of();
+        }
+
+        var ids = transferRequests.stream()
+                .map(request -> Optional.ofNullable(request.getId()).orElseGet(() -> UUID.randomUUID().toString()))
+                .toList();
+
+        // make the requests idempotent: the existing processes are fetched with a single query
+        var query = QuerySpec.Builder.newInstance().filter(criterion("correlationId", "in", ids)).limit(ids.size()).build();
+        Map<String, TransferProcess> processes;
+        try (var existing = store.findAll(query)) {
+            processes = existing.collect(toMap(TransferProcess::getCorrelationId, identity(), (first, second) -> first, HashMap::new));
+        }
+
+        var created = new ArrayList<TransferProcess>();
+        var results = new ArrayList<StatusResult<TransferProcess>>(transferRequests.size());
+        for (var i = 0; i < transferRequests.size(); i++) {
+            var request = transferRequests.get(i);
+            var process = processes.computeIfAbsent(ids.get(i), id -> {
+                var newProcess = createConsumerProcess(id, request);
+                created.add(newProcess);
+                return newProcess;
+            });
+            results.add(StatusResult.success(process));
+        }
+
+        created.forEach(process -> observable.invokeForEach(l -> l.preCreated(process)));
+        store.saveAll(created);
+        created.forEach(process -> {
+            observable.invokeForEach(l -> l.initiated(process));
+            monitor.debug("Process " + process.getId() + " is now " + TransferProcessStates.from(process.getState()));
+        });
+
+        return results;
+    }
+
+    @Override
+    protected StateMachineManager.Builder configureStateMachineManager(StateMachineManager.Builder builder) {
+        return builder
+                .processor(INITIAL.name(), processTransfersInState(INITIAL, this::processInitial))
+                .processor(PROVISIONING.name(), processTransfersInState(PROVISIONING, this::processProvisioning))
+                .processor(PROVISIONED.name(), processTransfersInState(PROVISIONED, this::processProvisioned))
+                .processor(REQUESTING.name(), processConsumerTransfersInState(REQUESTING, this::processRequesting))
+                .processor(STARTING.name(), processProviderTransfersInState(STARTING, this::processStarting))
+                .processor(SUSPENDING.name(), processTransfersInState(SUSPENDING, this::processSuspending))
+                .processor("provider-" + RESUMING.name(), processProviderTransfersInState(RESUMING, this::processProviderResuming))
+                .processor("consumer-" + RESUMING.name(), processConsumerTransfersInState(RESUMING, this::processConsumerResuming))
+                .processor(COMPLETING.name(), processTransfersInState(COMPLETING, this::processCompleting))
+                .processor(TERMINATING.name(), processTransfersInState(TERMINATING, this::processTerminating))
+                .processor(DEPROVISIONING.name(), processTransfersInState(DEPROVISIONING, this::processDeprovisioning));
+    }
+
+    private TransferProcess createConsumerProcess(String id, TransferRequest transferRequest) {
+        return TransferProcess.Builder.newInstance()
                 .id(id)
                 .assetId(transferRequest.getAssetId())
                 .dataDestination(transferRequest.getDataDestination())
@@ -151,29 +224,6 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
                 .callbackAddresses(transferRequest.getCallbackAddresses())
                 .traceContext(telemetry.getCurrentTraceContext())
                 .build();
-
-        observable.invokeForEach(l -> l.preCreated(process));
-        update(process);
-        observable.invokeForEach(l -> l.initiated(process));
-        monitor.debug("Process " + process.getId() + " is now " + TransferProcessStates.from(process.getState()));
-
-        return StatusResult.success(process);
-    }
-
-    @Override
-    protected StateMachineManager.Builder configureStateMachineManager(StateMachineManager.Builder builder) {
-        return builder
-                .processor(processTransfersInState(INITIAL, this::processInitial))
-                .processor(processTransfersInState(PROVISIONING, this::processProvisioning))
-                .processor(processTransfersInState(PROVISIONED, this::processProvisioned))
-                .processor(processConsumerTransfersInState(REQUESTING, this::processRequesting))
-                .processor(processProviderTransfersInState(STARTING, this::processStarting))
-                .processor(processTransfersInState(SUSPENDING, this::processSuspending))
-                .processor(processProviderTransfersInState(RESUMING, this::processProviderResuming))
-                .processor(processConsumerTransfersInState(RESUMING, this::processConsumerResuming))
-                .processor(processTransfersInState(COMPLETING, this::processCompleting))
-                .processor(processTransfersInState(TERMINATING, this::processTerminating))
-                .processor(processTransfersInState(DEPROVISIONING, this::processDeprovisioning));
     }
 
     /**
@@ -307,8 +357,7 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
      */
     @WithSpan
     private boolean processStarting(TransferProcess process) {
-        return startTransferFlow(process, this::transitionToStarting)
-                .execute("Initiate data flow");
+        return startTransferFlow(process, this::transitionToStarting, "Initiate data flow");
     }
 
     /**
@@ -319,18 +368,27 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
      */
     @WithSpan
     private boolean processProviderResuming(TransferProcess process) {
-        return startTransferFlow(process, this::transitionToResuming)
-                .execute("Resume data flow");
+        return startTransferFlow(process, this::transitionToResuming, "Resume data flow");
     }
 
-    private StatusResultRetryProcess<TransferProcess, DataFlowResponse> startTransferFlow(TransferProcess process, Consumer<TransferProcess> onFailure) {
+    private boolean startTransferFlow(TransferProcess process, Consumer<TransferProcess> onFailure, String description) {
         var policy = policyArchive.findPolicyForContract(process.getContractId());
 
+        if (asyncDataFlow) {
+            return entityRetryProcessFactory.doAsyncStatusResultProcess(process, () -> dataFlowManager.startAsync(process, policy))
+                    .onSuccessResult((p, dataFlowResponse) -> sendTransferStartMessage(p, dataFlowResponse, policy, onFailure))
+                    .onFatalError((p, failure) -> transitionToTerminating(p, failure.getFailureDetail()))
+                    .onFailure((t, throwable) -> onFailure.accept(t))
+                    .onRetryExhausted((p, throwable) -> transitionToTerminating(p, throwable.getMessage(), throwable))
+                    .execute(description);
+        }
+
         return entityRetryProcessFactory.doSyncProcess(process, () -> dataFlowManager.start(process, policy))
                 .onSuccess((p, dataFlowResponse) -> sendTransferStartMessage(p, dataFlowResponse, policy, onFailure))
                 .onFatalError((p, failure) -> transitionToTerminating(p, failure.getFailureDetail()))
                 .onFailure((t, failure) -> onFailure.accept(t))
-                .onRetryExhausted((p, failure) -> transitionToTerminating(p, failure.getFailureDetail()));
+                .onRetryExhausted((p, failure) -> transitionToTerminating(p, failure.getFailureDetail()))
+                .execute(description);
     }
 
     /**
@@ -755,6 +813,14 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
             manager.pendingGuard = pendingGuard;
             return this;
         }
+
+        /**
+         * Start the data flows without blocking the state machine thread while waiting for the data plane response.
+         */
+        public Builder asyncDataFlow(boolean asyncDataFlow) {
+            manager.asyncDataFlow = asyncDataFlow;
+            return this;
+        }
     }
 
 }
@@ -20,13 +20,16 @@ import org.eclipse.edc.connector.controlplane.transfer.spi.types.DataFlowRespons
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.response.ResponseFailure;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
@@ -118,6 +121,50 @@ class DataFlowManagerImplTest {
         }
     }
 
+    @Nested
+    class InitiateAsync {
+        @Test
+        void shouldInitiateFlowOnCorrectController() {
+            var controller = mock(DataFlowController.class);
+            var transferProcess = TransferProcess.Builder.newInstance().build();
+            var policy = Policy.Builder.newInstance().build();
+
+            when(controller.canHandle(any())).thenReturn(true);
+            when(controller.startAsync(any(), any())).thenReturn(CompletableFuture.completedFuture(StatusResult.success(DataFlowResponse.Builder.newInstance().build())));
+            manager.register(controller);
+
+            var future = manager.startAsync(transferProcess, policy);
+
+            assertThat(future).succeedsWithin(1, SECONDS).satisfies(result -> assertThat(result).isSucceeded());
+            verify(controller).startAsync(transferProcess, policy);
+        }
+
+        @Test
+        void shouldReturnFatalError_whenNoControllerCanHandleTheRequest() {
+            var controller = mock(DataFlowController.class);
+            when(controller.canHandle(any())).thenReturn(false);
+            manager.register(controller);
+
+            var future = manager.startAsync(TransferProcess.Builder.newInstance().build(), Policy.Builder.newInstance().build());
+
+            assertThat(future).succeedsWithin(1, SECONDS).satisfies(result -> assertThat(result).isFailed()
+                    .extracting(ResponseFailure::status).isEqualTo(FATAL_ERROR));
+        }
+
+        @Test
+        void shouldReturnFatalError_whenFutureCompletesExceptionally() {
+            var controller = mock(DataFlowController.class);
+            when(controller.canHandle(any())).thenReturn(true);
+            when(controller.startAsync(any(), any())).thenReturn(CompletableFuture.failedFuture(new EdcException("error")));
+            manager.register(controller);
+
+            var future = manager.startAsync(TransferProcess.Builder.newInstance().build(), Policy.Builder.newInstance().build());
+
+            assertThat(future).succeedsWithin(1, SECONDS).satisfies(result -> assertThat(result).isFailed()
+                    .extracting(ResponseFailure::status).isEqualTo(FATAL_ERROR));
+        }
+    }
+
     @Nested
     class Suspend {
         @Test
@@ -50,6 +50,7 @@ import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.protocol.ProtocolWebhook;
 import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
@@ -153,10 +154,14 @@ class TransferProcessManagerImplTest {
         when(protocolWebhook.url()).thenReturn(protocolWebhookUrl);
         when(dataFlowManager.start(any(), any())).thenReturn(StatusResult.success(createDataFlowResponse()));
         when(policyArchive.findPolicyForContract(any())).thenReturn(Policy.Builder.newInstance().build());
+        manager = managerBuilder().build();
+    }
+
+    private TransferProcessManagerImpl.Builder managerBuilder() {
         var observable = new TransferProcessObservableImpl();
         observable.registerListener(listener);
         var entityRetryProcessConfiguration = new EntityRetryProcessConfiguration(RETRY_LIMIT, () -> new ExponentialWaitStrategy(0L));
-        manager = TransferProcessManagerImpl.Builder.newInstance()
+        return TransferProcessManagerImpl.Builder.newInstance()
                 .provisionManager(provisionManager)
                 .dataFlowManager(dataFlowManager)
                 .waitStrategy(() -> 50L)
@@ -174,8 +179,7 @@ class TransferProcessManagerImplTest {
                 .protocolWebhook(protocolWebhook)
                 .provisionResponsesHandler(provisionResponsesHandler)
                 .deprovisionResponsesHandler(deprovisionResponsesHandler)
-                .pendingGuard(pendingGuard)
-                .build();
+                .pendingGuard(pendingGuard);
     }
 
     @Test
@@ -201,6 +205,23 @@ class TransferProcessManagerImplTest {
         verify(listener).initiated(any());
     }
 
+    @Test
+    void initiateConsumerRequests_shouldSaveNewProcessesInBatch() {
+        var existing = createTransferProcessBuilder(INITIAL).id("existing-process").correlationId("2").build();
+        when(transferProcessStore.findAll(any(QuerySpec.class))).thenReturn(Stream.of(existing));
+        var requests = Stream.of("1", "2", "3")
+                .map(id -> TransferRequest.Builder.newInstance().id(id).dataDestination(DataAddress.Builder.newInstance().type("test").build()).build())
+                .toList();
+
+        var results = manager.initiateConsumerRequests(requests);
+
+        assertThat(results).hasSize(3).allMatch(StatusResult::succeeded);
+        assertThat(results).extracting(result -> result.getContent().getId()).containsExactly("1", "existing-process", "3");
+        verify(transferProcessStore).saveAll(argThat(processes -> processes.stream().map(TransferProcess::getId).toList().equals(List.of("1", "3"))));
+        verify(transferProcessStore, never()).save(any());
+        verify(listener, times(2)).initiated(any());
+    }
+
     @Test
     void initial_consumer_shouldTransitionToProvisioning() {
         var transferProcess = createTransferProcess(INITIAL);
@@ -523,6 +544,26 @@ class TransferProcessManagerImplTest {
                 assertThat(message.getDataAddress()).usingRecursiveComparison().isEqualTo(dataFlowResponse.getDataAddress());
             });
         }
+
+        @Test
+        void shouldStartDataFlowAsynchronously_whenEnabled() {
+            manager = managerBuilder().asyncDataFlow(true).build();
+            var process = createTransferProcess(STARTING).toBuilder().type(PROVIDER).build();
+            var dataFlowResponse = createDataFlowResponse();
+            when(transferProcessStore.nextNotLeased(anyInt(), providerStateIs(STARTING.code()))).thenReturn(List.of(process)).thenReturn(emptyList());
+            when(transferProcessStore.findById(process.getId())).thenReturn(process);
+            when(dataFlowManager.startAsync(any(), any())).thenReturn(completedFuture(StatusResult.success(dataFlowResponse)));
+            when(dispatcherRegistry.dispatch(any(), isA(TransferStartMessage.class))).thenReturn(completedFuture(StatusResult.success("any")));
+
+            manager.start();
+
+            await().untilAsserted(() -> {
+                verify(dataFlowManager).startAsync(any(), any());
+                verify(dataFlowManager, never()).start(any(), any());
+                verify(dispatcherRegistry).dispatch(any(), isA(TransferStartMessage.class));
+                verify(transferProcessStore).save(argThat(p -> p.getState() == STARTED.code()));
+            });
+        }
     }
 
     @Nested
@@ -17,6 +17,7 @@ package org.eclipse.edc.connector.controlplane.policy.contract;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.ContractAgreement;
 import org.eclipse.edc.policy.engine.spi.AtomicConstraintFunction;
 import org.eclipse.edc.policy.engine.spi.PolicyContext;
+import org.eclipse.edc.policy.engine.spi.PolicyEvaluationSchedule;
 import org.eclipse.edc.policy.model.Operator;
 import org.eclipse.edc.policy.model.Permission;
 import org.eclipse.edc.spi.EdcException;
@@ -61,6 +62,9 @@ import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
  *     <li>contractAgreement+-5m (means "5 minutes before the signing of the contract")</li>
  * </ul>
  * Please note that all {@link Operator}s except {@link Operator#IN} are supported.
+ * <p>
+ * If a {@link PolicyEvaluationSchedule} is available in the context, the instant at which the outcome of the evaluation
+ * can change is reported to it.
  */
 public class ContractExpiryCheckFunction implements AtomicConstraintFunction<Permission> {
 
@@ -83,14 +87,14 @@ public class ContractExpiryCheckFunction implements AtomicConstraintFunction<Per
             var rightValueStr = (String) rightValue;
             var bound = asInstant(rightValueStr);
             if (bound != null) {
-                return checkFixedPeriod(now, operator, bound);
+                return checkFixedPeriod(now, operator, bound, context);
             }
 
             var duration = asDuration(rightValueStr);
             if (duration != null) {
                 var agreement = getContextData(ContractAgreement.class, context);
                 var signingDate = Instant.ofEpochSecond(agreement.getContractSigningDate());
-                return checkFixedPeriod(now, operator, signingDate.plus(duration));
+                return checkFixedPeriod(now, operator, signingDate.plus(duration), context);
             }
 
             context.reportProblem(format("Unsupported right-value, expected either an ISO-8061 String or a expression matching '%s', but got '%s'",
@@ -136,8 +140,9 @@ public class ContractExpiryCheckFunction implements AtomicConstraintFunction<Per
         };
     }
 
-    private boolean checkFixedPeriod(Instant now, Operator operator, Instant bound) {
+    private boolean checkFixedPeriod(Instant now, Operator operator, Instant bound, PolicyContext context) {
         var comparison = now.compareTo(bound);
+        reportChange(comparison, bound, context);
 
         return switch (operator) {
             case EQ -> comparison == 0;
@@ -150,6 +155,18 @@ public class ContractExpiryCheckFunction implements AtomicConstraintFunction<Per
         };
     }
 
+    /**
+     * Reports the next instant at which the comparison with the bound changes: the bound itself while it is in the future,
+     * the instant right after it when it is reached. Once the bound has passed the outcome cannot change anymore.
+     */
+    private void reportChange(int comparison, Instant bound, PolicyContext context) {
+        var schedule = context.getContextData(PolicyEvaluationSchedule.class);
+        if (schedule == null || comparison > 0) {
+            return;
+        }
+        schedule.reportChangeAt(comparison < 0 ? bound : bound.plusMillis(1));
+    }
+
     private Instant asInstant(String isoString) {
         try {
             return Instant.parse(isoString);
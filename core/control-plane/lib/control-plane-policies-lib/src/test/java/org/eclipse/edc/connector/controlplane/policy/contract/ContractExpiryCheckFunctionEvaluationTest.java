@@ -22,6 +22,7 @@ import org.eclipse.edc.policy.engine.RuleBindingRegistryImpl;
 import org.eclipse.edc.policy.engine.ScopeFilter;
 import org.eclipse.edc.policy.engine.spi.PolicyContextImpl;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
+import org.eclipse.edc.policy.engine.spi.PolicyEvaluationSchedule;
 import org.eclipse.edc.policy.engine.spi.RuleBindingRegistry;
 import org.eclipse.edc.policy.model.Action;
 import org.eclipse.edc.policy.model.AndConstraint;
@@ -45,6 +46,7 @@ import java.util.stream.Stream;
 import static java.time.Duration.ofDays;
 import static java.time.Duration.ofSeconds;
 import static java.time.Instant.now;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.connector.controlplane.policy.contract.ContractExpiryCheckFunction.CONTRACT_EXPIRY_EVALUATION_KEY;
 import static org.eclipse.edc.policy.model.Operator.EQ;
 import static org.eclipse.edc.policy.model.Operator.GEQ;
@@ -138,6 +140,38 @@ class ContractExpiryCheckFunctionEvaluationTest {
         AbstractResultAssert.assertThat(result).isFailed();
     }
 
+    @ParameterizedTest
+    @ArgumentsSource(ValidTimeProvider.class)
+    void evaluate_shouldReportNextChange_whenScheduleIsAvailable(Operator startOp, Instant start, Operator endOp, Instant end) {
+        var policy = createInForcePolicy(startOp, start, endOp, end);
+        var schedule = new PolicyEvaluationSchedule();
+        var context = PolicyContextImpl.Builder.newInstance()
+                .additional(Instant.class, NOW)
+                .additional(PolicyEvaluationSchedule.class, schedule)
+                .build();
+
+        policyEngine.evaluate(TRANSFER_SCOPE, policy, context);
+
+        assertThat(schedule.getNextEvaluation()).isNotNull().isAfter(NOW);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "100d", "25h", "2m", "67s" })
+    void evaluate_shouldReportUpperBound_whenDurationAsEnd(String numeric) {
+        var policy = createInForcePolicy(GEQ, NOW.minusSeconds(60), LEQ, "contractAgreement+" + numeric);
+        var agreement = createAgreement("test-agreement", NOW);
+        var schedule = new PolicyEvaluationSchedule();
+        var context = PolicyContextImpl.Builder.newInstance()
+                .additional(Instant.class, NOW)
+                .additional(ContractAgreement.class, agreement)
+                .additional(PolicyEvaluationSchedule.class, schedule)
+                .build();
+
+        policyEngine.evaluate(TRANSFER_SCOPE, policy, context);
+
+        assertThat(schedule.getNextEvaluation()).isAfter(Instant.ofEpochSecond(agreement.getContractSigningDate()));
+    }
+
     private Policy createInForcePolicy(Operator operatorStart, Object startDate, Operator operatorEnd, Object endDate) {
         var fixedInForceTimeConstraint = AndConstraint.Builder.newInstance()
                 .constraint(AtomicConstraint.Builder.newInstance()
@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.dataplane.framework;
 
 import org.eclipse.edc.connector.dataplane.framework.pipeline.PipelineServiceImpl;
+import org.eclipse.edc.connector.dataplane.framework.pipeline.TransferAdmissionController;
 import org.eclipse.edc.connector.dataplane.framework.registry.TransferServiceSelectionStrategy;
 import org.eclipse.edc.connector.dataplane.framework.store.InMemoryAccessTokenDataStore;
 import org.eclipse.edc.connector.dataplane.framework.store.InMemoryDataPlaneStore;
@@ -25,20 +26,43 @@ import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
 import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 
 @Extension(value = DataPlaneDefaultServicesExtension.NAME)
 public class DataPlaneDefaultServicesExtension implements ServiceExtension {
 
     public static final String NAME = "Data Plane Framework Default Services";
+
+    private static final int DEFAULT_MAX_CONCURRENT_TRANSFERS = TransferAdmissionController.UNLIMITED;
+    private static final int DEFAULT_MAX_QUEUED_TRANSFERS = 1000;
+
+    @Setting(value = "Maximum number of transfers that can run concurrently on this data plane, 0 means unlimited", type = "int", defaultValue = DEFAULT_MAX_CONCURRENT_TRANSFERS + "")
+    private static final String MAX_CONCURRENT_TRANSFERS = "edc.dataplane.transfer.max-concurrent";
+
+    @Setting(value = "Maximum number of transfers that can wait for a free slot, further transfers get rejected. 0 means unlimited", type = "int", defaultValue = DEFAULT_MAX_QUEUED_TRANSFERS + "")
+    private static final String MAX_QUEUED_TRANSFERS = "edc.dataplane.transfer.max-queued";
+
+    @Setting(value = "Maximum number of concurrent transfers per source type, e.g. 'edc.dataplane.transfer.source-type-limits.HttpData=10'")
+    private static final String SOURCE_TYPE_LIMITS = "edc.dataplane.transfer.source-type-limits";
+
     @Inject
     private Clock clock;
     @Inject
     private CriterionOperatorRegistry criterionOperatorRegistry;
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+    @Inject
+    private MetricsRecorder metrics;
 
     @Override
     public String name() {
@@ -62,7 +86,19 @@ public class DataPlaneDefaultServicesExtension implements ServiceExtension {
 
     @Provider(isDefault = true)
     public PipelineService pipelineService(ServiceExtensionContext context) {
-        return new PipelineServiceImpl(context.getMonitor());
+        var sourceTypeLimits = context.getConfig(SOURCE_TYPE_LIMITS).getRelativeEntries().entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> Integer.parseInt(entry.getValue())));
+        // starting a transfer can block until it completes, the number of threads is bounded by the admission limits
+        var executor = executorInstrumentation.instrument(Executors.newCachedThreadPool(), "Data plane queued transfers");
+        var admissionController = new TransferAdmissionController(
+                context.getSetting(MAX_CONCURRENT_TRANSFERS, DEFAULT_MAX_CONCURRENT_TRANSFERS),
+                sourceTypeLimits,
+                context.getSetting(MAX_QUEUED_TRANSFERS, DEFAULT_MAX_QUEUED_TRANSFERS),
+                executor);
+        metrics.gauge(TransferAdmissionController.ACTIVE_TRANSFERS_METRIC, admissionController::getActiveTransfers);
+        metrics.gauge(TransferAdmissionController.QUEUED_TRANSFERS_METRIC, admissionController::getQueuedTransfers);
+        metrics.gauge(TransferAdmissionController.REJECTED_TRANSFERS_METRIC, admissionController::getRejectedTransfers);
+        return new PipelineServiceImpl(context.getMonitor(), admissionController);
     }
 
     // todo: should this be a default service?
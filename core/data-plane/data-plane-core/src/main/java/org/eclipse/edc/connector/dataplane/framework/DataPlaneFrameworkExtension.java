@@ -35,6 +35,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Provides;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
@@ -44,6 +45,8 @@ import org.jetbrains.annotations.NotNull;
 import java.time.Clock;
 import java.util.concurrent.Executors;
 
+import static org.eclipse.edc.connector.dataplane.framework.manager.DataPlaneManagerImpl.DEFAULT_CHECKPOINT_INTERVAL;
+import static org.eclipse.edc.connector.dataplane.framework.manager.DataPlaneManagerImpl.DEFAULT_RESUME_TIMEOUT;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_BATCH_SIZE;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_SEND_RETRY_BASE_DELAY;
@@ -69,6 +72,12 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
     @Setting(value = "The base delay for the dataplane retry mechanism in millisecond", type = "long", defaultValue = DEFAULT_SEND_RETRY_BASE_DELAY + "")
     private static final String DATAPLANE_SEND_RETRY_BASE_DELAY_MS = "edc.dataplane.send.retry.base-delay.ms";
 
+    @Setting(value = "the interval in milliseconds at which the progress of the running transfers gets persisted", type = "long", defaultValue = DEFAULT_CHECKPOINT_INTERVAL + "")
+    private static final String DATAPLANE_CHECKPOINT_INTERVAL_MILLIS = "edc.dataplane.state-machine.checkpoint-interval-millis";
+
+    @Setting(value = "the time in milliseconds after which a started transfer that did not persist any progress is considered interrupted and gets resumed", type = "long", defaultValue = DEFAULT_RESUME_TIMEOUT + "")
+    private static final String DATAPLANE_RESUME_TIMEOUT_MILLIS = "edc.dataplane.state-machine.resume-timeout-millis";
+
     @Setting
     private static final String TRANSFER_THREADS = "edc.dataplane.transfer.threads";
     private static final int DEFAULT_TRANSFER_THREADS = 10;
@@ -86,6 +95,9 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
 
+    @Inject
+    private MetricsRecorder metrics;
+
     @Inject
     private Telemetry telemetry;
 
@@ -131,10 +143,13 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
                 .clock(clock)
                 .entityRetryProcessConfiguration(getEntityRetryProcessConfiguration(context))
                 .executorInstrumentation(executorInstrumentation)
+                .metrics(metrics)
                 .transferServiceRegistry(transferServiceRegistry)
                 .store(store)
                 .transferProcessClient(transferProcessApiClient)
                 .authorizationService(authorizationService(context))
+                .checkpointInterval(context.getSetting(DATAPLANE_CHECKPOINT_INTERVAL_MILLIS, DEFAULT_CHECKPOINT_INTERVAL))
+                .resumeTimeout(context.getSetting(DATAPLANE_RESUME_TIMEOUT_MILLIS, DEFAULT_RESUME_TIMEOUT))
                 .monitor(monitor)
                 .telemetry(telemetry)
                 .build();
@@ -14,18 +14,22 @@
 
 package org.eclipse.edc.connector.dataplane.framework.manager;
 
+import org.eclipse.edc.connector.controlplane.api.client.spi.transferprocess.DataFlowResult;
 import org.eclipse.edc.connector.controlplane.api.client.spi.transferprocess.TransferProcessApiClient;
 import org.eclipse.edc.connector.dataplane.spi.DataFlow;
 import org.eclipse.edc.connector.dataplane.spi.DataFlowStates;
 import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAuthorizationService;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.CheckpointListener;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferCheckpoint;
 import org.eclipse.edc.connector.dataplane.spi.registry.TransferServiceRegistry;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
 import org.eclipse.edc.spi.entity.StatefulEntity;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.result.StoreFailure;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowResponseMessage;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
@@ -36,9 +40,14 @@ import org.eclipse.edc.statemachine.ProcessorImpl;
 import org.eclipse.edc.statemachine.StateMachineManager;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static java.lang.String.format;
 import static org.eclipse.edc.connector.dataplane.spi.DataFlowStates.COMPLETED;
@@ -46,6 +55,7 @@ import static org.eclipse.edc.connector.dataplane.spi.DataFlowStates.FAILED;
 import static org.eclipse.edc.connector.dataplane.spi.DataFlowStates.RECEIVED;
 import static org.eclipse.edc.connector.dataplane.spi.DataFlowStates.STARTED;
 import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
 import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
 
 /**
@@ -53,9 +63,15 @@ import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
  */
 public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, DataPlaneStore> implements DataPlaneManager {
 
+    public static final long DEFAULT_CHECKPOINT_INTERVAL = 30_000L;
+    public static final long DEFAULT_RESUME_TIMEOUT = 300_000L;
+
+    private final Map<String, RunningTransfer> runningTransfers = new ConcurrentHashMap<>();
     private DataPlaneAuthorizationService authorizationService;
     private TransferServiceRegistry transferServiceRegistry;
     private TransferProcessApiClient transferProcessClient;
+    private long checkpointInterval = DEFAULT_CHECKPOINT_INTERVAL;
+    private long resumeTimeout = DEFAULT_RESUME_TIMEOUT;
 
     private DataPlaneManagerImpl() {
 
@@ -127,9 +143,11 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
     @Override
     protected StateMachineManager.Builder configureStateMachineManager(StateMachineManager.Builder builder) {
         return builder
-                .processor(processDataFlowInState(RECEIVED, this::processReceived))
-                .processor(processDataFlowInState(COMPLETED, this::processCompleted))
-                .processor(processDataFlowInState(FAILED, this::processFailed));
+                .processor(RECEIVED.name(), processDataFlowInState(RECEIVED, this::processReceived))
+                .processor(COMPLETED.name(), notifyDataFlowsInState(COMPLETED))
+                .processor(FAILED.name(), notifyDataFlowsInState(FAILED))
+                .processor("checkpoints", processRunningTransfersCheckpoints())
+                .processor("stale-started", processDataFlows(this::staleStartedFilter, this::processStaleStarted));
     }
 
     private StatusResult<DataFlow> stop(String dataFlowId) {
@@ -209,13 +227,18 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
         dataFlow.transitionToStarted();
         store.save(dataFlow);
 
-        return entityRetryProcessFactory.doAsyncProcess(dataFlow, () -> transferService.transfer(request))
+        var checkpoint = dataFlow.getCheckpoint();
+        return entityRetryProcessFactory.doAsyncProcess(dataFlow, () -> transferService.transfer(request, checkpoint, trackCheckpoints(dataFlow)))
                 .entityRetrieve(id -> store.findById(id))
                 .onSuccess((f, r) -> {
+                    var runningTransfer = runningTransfers.remove(f.getId());
                     if (f.getState() != STARTED.code()) {
                         return;
                     }
 
+                    if (runningTransfer != null) {
+                        f.updateCheckpoint(runningTransfer.checkpoint);
+                    }
                     if (r.succeeded()) {
                         f.transitToCompleted();
                     } else {
@@ -224,48 +247,177 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
                     update(f);
                 })
                 .onFailure((f, t) -> {
+                    var runningTransfer = runningTransfers.remove(f.getId());
+                    if (runningTransfer != null) {
+                        f.updateCheckpoint(runningTransfer.checkpoint);
+                    }
                     f.transitToReceived();
                     update(f);
                 })
                 .onRetryExhausted((f, t) -> {
+                    runningTransfers.remove(f.getId());
                     f.transitToFailed(t.getMessage());
                     update(f);
                 })
                 .execute("start data flow");
     }
 
-    private boolean processCompleted(DataFlow dataFlow) {
-        var response = transferProcessClient.completed(dataFlow.toRequest());
-        if (response.succeeded()) {
-            dataFlow.transitToNotified();
-            update(dataFlow);
-        } else {
-            dataFlow.transitToCompleted();
-            update(dataFlow);
+    private CheckpointListener trackCheckpoints(DataFlow dataFlow) {
+        var checkpoint = Optional.ofNullable(dataFlow.getCheckpoint()).orElseGet(TransferCheckpoint::initial);
+        var runningTransfer = new RunningTransfer(checkpoint, clock.millis());
+        runningTransfers.put(dataFlow.getId(), runningTransfer);
+        return c -> runningTransfer.checkpoint = c;
+    }
+
+    /**
+     * Persists the checkpoint of the transfers running on this runtime. Since it updates the {@link DataFlow}, it also
+     * acts as an heartbeat that prevents other runtimes to consider the transfer as stale.
+     */
+    private boolean processCheckpoint(DataFlow dataFlow) {
+        var runningTransfer = runningTransfers.get(dataFlow.getId());
+        if (runningTransfer == null || dataFlow.getState() != STARTED.code()) {
+            runningTransfers.remove(dataFlow.getId());
+            return false;
         }
+
+        runningTransfer.persistedAt = clock.millis();
+        dataFlow.updateCheckpoint(runningTransfer.checkpoint);
+        store.save(dataFlow);
         return true;
     }
 
-    private boolean processFailed(DataFlow dataFlow) {
-        var response = transferProcessClient.failed(dataFlow.toRequest(), dataFlow.getErrorDetail());
-        if (response.succeeded()) {
+    /**
+     * A push {@link DataFlow} that's STARTED but that hasn't been updated for longer than the resume timeout has been
+     * started by a runtime that's not available anymore, so it gets transitioned back to RECEIVED, this way the
+     * transfer will be resumed from the last persisted checkpoint.
+     */
+    private boolean processStaleStarted(DataFlow dataFlow) {
+        if (runningTransfers.containsKey(dataFlow.getId())) {
+            return processCheckpoint(dataFlow);
+        }
+
+        var checkpoint = Optional.ofNullable(dataFlow.getCheckpoint()).orElseGet(TransferCheckpoint::initial);
+        monitor.warning("DataFlow %s has not been updated in the last %s ms, it will be resumed after %s transferred bytes"
+                .formatted(dataFlow.getId(), resumeTimeout, checkpoint.bytesTransferred()));
+        dataFlow.transitToReceived();
+        update(dataFlow);
+        return true;
+    }
+
+    /**
+     * Notifies the results of a batch of {@link DataFlow}s in the given state to the control planes with a single call,
+     * so that the client can group them by control plane, and persists the resulting states together. The ones that
+     * could not be notified are put back in the same state, to be retried. If the notification or the persistence
+     * fails, the leases of the whole batch are broken.
+     */
+    private Processor notifyDataFlowsInState(DataFlowStates state) {
+        return () -> {
+            var dataFlows = store.nextNotLeased(batchSize, hasState(state.code()));
+            if (dataFlows.isEmpty()) {
+                return 0L;
+            }
+
+            try {
+                var results = dataFlows.stream()
+                        .map(dataFlow -> state == FAILED
+                                ? DataFlowResult.failed(dataFlow.toRequest(), dataFlow.getErrorDetail())
+                                : DataFlowResult.completed(dataFlow.toRequest()))
+                        .toList();
+                var responses = transferProcessClient.signal(results);
+                // responses are matched to the data flows by position, if they don't match none of them is considered notified
+                var matching = responses.size() == dataFlows.size();
+                if (!matching) {
+                    monitor.severe("[%s] Received %d responses for %d notified data flows, they will be notified again"
+                            .formatted(getClass().getSimpleName(), responses.size(), dataFlows.size()));
+                }
+
+                for (var i = 0; i < dataFlows.size(); i++) {
+                    var notified = matching && responses.get(i).succeeded();
+                    telemetry.contextPropagationMiddleware((DataFlow dataFlow) -> afterNotification(dataFlow, state, notified))
+                            .accept(dataFlows.get(i));
+                }
+                store.saveAll(dataFlows);
+                return (long) dataFlows.size();
+            } catch (Exception e) {
+                monitor.severe("[%s] Cannot notify or persist %d data flows in state %s, their leases will be broken"
+                        .formatted(getClass().getSimpleName(), dataFlows.size(), state), e);
+                dataFlows.forEach(this::breakLease);
+                return 0L;
+            }
+        };
+    }
+
+    private void afterNotification(DataFlow dataFlow, DataFlowStates state, boolean notified) {
+        if (notified) {
             dataFlow.transitToNotified();
-            update(dataFlow);
-        } else {
+        } else if (state == FAILED) {
             dataFlow.transitToFailed(dataFlow.getErrorDetail());
-            update(dataFlow);
+        } else {
+            dataFlow.transitToCompleted();
         }
-        return true;
+        monitor.debug(() -> "[%s] %s %s is now in state %s"
+                .formatted(getClass().getSimpleName(), dataFlow.getClass().getSimpleName(), dataFlow.getId(), dataFlow.stateAsString()));
     }
 
     private Processor processDataFlowInState(DataFlowStates state, Function<DataFlow, Boolean> function) {
         var filter = new Criterion[]{ hasState(state.code()) };
-        return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, filter))
+        return processDataFlows(() -> filter, function);
+    }
+
+    private Processor processDataFlows(Supplier<Criterion[]> filter, Function<DataFlow, Boolean> function) {
+        return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, filter.get()))
                 .process(telemetry.contextPropagationMiddleware(function))
                 .onNotProcessed(this::breakLease)
                 .build();
     }
 
+    private Processor processRunningTransfersCheckpoints() {
+        return ProcessorImpl.Builder.newInstance(this::runningTransfersDueForCheckpoint)
+                .process(telemetry.contextPropagationMiddleware(this::processCheckpoint))
+                .onNotProcessed(this::breakLease)
+                .build();
+    }
+
+    private Criterion[] staleStartedFilter() {
+        return new Criterion[]{
+                hasState(STARTED.code()),
+                criterion("flowType", "=", FlowType.PUSH.name()),
+                criterion("updatedAt", "<", clock.millis() - resumeTimeout)
+        };
+    }
+
+    private Collection<DataFlow> runningTransfersDueForCheckpoint() {
+        var threshold = clock.millis() - checkpointInterval;
+        var dataFlows = new ArrayList<DataFlow>();
+        for (var entry : runningTransfers.entrySet()) {
+            if (dataFlows.size() >= batchSize) {
+                break;
+            }
+            if (entry.getValue().persistedAt < threshold) {
+                var result = store.findByIdAndLease(entry.getKey());
+                if (result.succeeded()) {
+                    dataFlows.add(result.getContent());
+                } else if (result.reason() == StoreFailure.Reason.NOT_FOUND) {
+                    runningTransfers.remove(entry.getKey());
+                }
+            }
+        }
+        return dataFlows;
+    }
+
+    /**
+     * The progress of a transfer running on this runtime.
+     */
+    private static class RunningTransfer {
+        private volatile TransferCheckpoint checkpoint;
+        private volatile long persistedAt;
+
+        RunningTransfer(TransferCheckpoint checkpoint, long persistedAt) {
+            this.checkpoint = checkpoint;
+            this.persistedAt = persistedAt;
+        }
+    }
+
     public static class Builder extends AbstractStateEntityManager.Builder<DataFlow, DataPlaneStore, DataPlaneManagerImpl, Builder> {
 
         private Builder() {
@@ -300,6 +452,16 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
             manager.authorizationService = authorizationService;
             return this;
         }
+
+        public Builder checkpointInterval(long checkpointInterval) {
+            manager.checkpointInterval = checkpointInterval;
+            return this;
+        }
+
+        public Builder resumeTimeout(long resumeTimeout) {
+            manager.resumeTimeout = resumeTimeout;
+            return this;
+        }
     }
 
 }
@@ -0,0 +1,151 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.framework.pipeline;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.CheckpointListener;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.ResumableDataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferCheckpoint;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Decorates a {@link DataSource} counting the parts and the bytes transferred, notifying a {@link CheckpointListener}
+ * every time a part has been transferred.
+ * <p>
+ * A part counts as transferred, with all the bytes read from it, only once the sink closes it: sinks close the parts
+ * they delivered, e.g. the {@code ParallelSink}s once their transfer succeeded and the Kafka sink once the broker
+ * acknowledged all of the records of the part. The bytes read from a part that has not been closed yet are not part of
+ * the checkpoint, so a checkpoint never covers data that might have been lost by the sink.
+ */
+class CheckpointingDataSource implements DataSource {
+
+    private final DataSource source;
+    private final CheckpointListener listener;
+    private final AtomicLong parts;
+    private final AtomicLong bytes;
+
+    CheckpointingDataSource(DataSource source, TransferCheckpoint start, CheckpointListener listener) {
+        this.source = source;
+        this.listener = listener;
+        this.parts = new AtomicLong(start.partsTransferred());
+        this.bytes = new AtomicLong(start.bytesTransferred());
+    }
+
+    @Override
+    public StreamResult<Stream<Part>> openPartStream() {
+        var result = source.openPartStream();
+        if (result.failed()) {
+            return result;
+        }
+        return StreamResult.success(result.getContent().map(CheckpointingPart::new));
+    }
+
+    @Override
+    public void close() throws Exception {
+        source.close();
+    }
+
+    private void onPartTransferred(long partBytes) {
+        parts.incrementAndGet();
+        bytes.addAndGet(partBytes);
+        notifyCheckpoint();
+    }
+
+    private void notifyCheckpoint() {
+        var checkpoint = new TransferCheckpoint(parts.get(), bytes.get(), null);
+        if (source instanceof ResumableDataSource resumableDataSource) {
+            checkpoint = resumableDataSource.checkpoint(checkpoint);
+        }
+        listener.onCheckpoint(checkpoint);
+    }
+
+    private class CheckpointingPart implements Part {
+
+        private final Part part;
+        private final AtomicLong bytesRead = new AtomicLong();
+        private final AtomicBoolean transferred = new AtomicBoolean();
+
+        CheckpointingPart(Part part) {
+            this.part = part;
+        }
+
+        @Override
+        public String name() {
+            return part.name();
+        }
+
+        @Override
+        public long size() {
+            return part.size();
+        }
+
+        @Override
+        public InputStream openStream() {
+            return new CountingInputStream(part.openStream());
+        }
+
+        @Override
+        public String mediaType() {
+            return part.mediaType();
+        }
+
+        @Override
+        public void close() throws Exception {
+            part.close();
+            if (transferred.compareAndSet(false, true)) {
+                onPartTransferred(bytesRead.get());
+            }
+        }
+
+        private class CountingInputStream extends FilterInputStream {
+
+            CountingInputStream(InputStream in) {
+                super(in);
+            }
+
+            @Override
+            public int read() throws IOException {
+                var read = super.read();
+                if (read != -1) {
+                    bytesRead.incrementAndGet();
+                }
+                return read;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                var read = super.read(b, off, len);
+                if (read != -1) {
+                    bytesRead.addAndGet(read);
+                }
+                return read;
+            }
+
+            @Override
+            public long skip(long n) throws IOException {
+                var skipped = super.skip(n);
+                bytesRead.addAndGet(skipped);
+                return skipped;
+            }
+        }
+    }
+}
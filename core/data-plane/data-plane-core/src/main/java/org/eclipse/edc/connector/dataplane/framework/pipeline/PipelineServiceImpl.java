@@ -16,38 +16,52 @@ package org.eclipse.edc.connector.dataplane.framework.pipeline;
 
 import io.opentelemetry.instrumentation.annotations.WithSpan;
 import org.eclipse.edc.connector.dataplane.spi.DataFlow;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.CheckpointListener;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSinkFactory;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSourceFactory;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.ResumableDataSink;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.ResumableDataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferCheckpoint;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
 
 import static java.lang.String.format;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 
 /**
  * Default pipeline service implementation.
+ * <p>
+ * Running transfers are tracked until their sink completes, and they are started through the
+ * {@link TransferAdmissionController}, that bounds how many of them can run at the same time.
  */
 public class PipelineServiceImpl implements PipelineService {
-    private final List<DataSourceFactory> sourceFactories = new ArrayList<>();
-    private final List<DataSinkFactory> sinkFactories = new ArrayList<>();
-    private final Map<String, DataSource> sources = new HashMap<>();
+    private final List<DataSourceFactory> sourceFactories = new CopyOnWriteArrayList<>();
+    private final List<DataSinkFactory> sinkFactories = new CopyOnWriteArrayList<>();
+    private final Map<String, DataSource> sources = new ConcurrentHashMap<>();
     private final Monitor monitor;
+    private final TransferAdmissionController admissionController;
 
     public PipelineServiceImpl(Monitor monitor) {
+        this(monitor, TransferAdmissionController.unlimited());
+    }
+
+    public PipelineServiceImpl(Monitor monitor, TransferAdmissionController admissionController) {
         this.monitor = monitor;
+        this.admissionController = admissionController;
     }
 
     @Override
@@ -93,12 +107,11 @@ public class PipelineServiceImpl implements PipelineService {
         if (sinkFactory == null) {
             return noSinkFactory(request);
         }
-        var source = sourceFactory.createSource(request);
-        sources.put(request.getProcessId(), source);
-
-        var sink = sinkFactory.createSink(request);
-        monitor.debug(() -> format("Transferring from %s to %s.", request.getSourceDataAddress().getType(), request.getDestinationDataAddress().getType()));
-        return sink.transfer(source);
+        return admit(request, () -> {
+            var source = sourceFactory.createSource(request);
+            var sink = sinkFactory.createSink(request);
+            return run(request, source, sink);
+        });
     }
 
     @Override
@@ -107,21 +120,52 @@ public class PipelineServiceImpl implements PipelineService {
         if (sourceFactory == null) {
             return noSourceFactory(request);
         }
-        var source = sourceFactory.createSource(request);
-        sources.put(request.getProcessId(), source);
-        monitor.debug(() -> format("Transferring from %s to %s.", request.getSourceDataAddress().getType(), request.getDestinationDataAddress().getType()));
-        return sink.transfer(source);
+        return admit(request, () -> run(request, sourceFactory.createSource(request), sink));
+    }
+
+    @WithSpan
+    @Override
+    public CompletableFuture<StreamResult<Object>> transfer(DataFlowStartMessage request, @Nullable TransferCheckpoint checkpoint, CheckpointListener listener) {
+        var sourceFactory = getSourceFactory(request);
+        if (sourceFactory == null) {
+            return noSourceFactory(request);
+        }
+        var sinkFactory = getSinkFactory(request);
+        if (sinkFactory == null) {
+            return noSinkFactory(request);
+        }
+        return admit(request, () -> {
+            var source = sourceFactory.createSource(request);
+            var sink = sinkFactory.createSink(request);
+            var start = TransferCheckpoint.initial();
+
+            if (checkpoint != null && !checkpoint.isInitial()) {
+                var resumeResult = resume(source, sink, checkpoint);
+                if (resumeResult.succeeded()) {
+                    monitor.debug(() -> format("Resuming DataFlow %s after %s bytes.", request.getProcessId(), checkpoint.bytesTransferred()));
+                    start = checkpoint;
+                } else {
+                    monitor.info(format("DataFlow %s cannot be resumed, restarting it from the beginning: %s", request.getProcessId(), resumeResult.getFailureDetail()));
+                    close(source);
+                    source = sourceFactory.createSource(request);
+                    sink = sinkFactory.createSink(request);
+                }
+            }
+
+            var checkpointingSource = new CheckpointingDataSource(source, start, listener);
+            return run(request, checkpointingSource, sink);
+        });
     }
 
     @Override
     public StreamResult<Void> terminate(DataFlow dataFlow) {
         var source = sources.get(dataFlow.getId());
         if (source == null) {
-            return StreamResult.notFound();
+            return admissionController.cancel(dataFlow.getId()) ? StreamResult.success() : StreamResult.notFound();
         } else {
             try {
                 source.close();
-                sources.remove(dataFlow.getId());
+                sources.remove(dataFlow.getId(), source);
                 return StreamResult.success();
             } catch (Exception e) {
                 return StreamResult.error("Cannot terminate DataFlow %s: %s".formatted(dataFlow.getId(), e.getMessage()));
@@ -139,6 +183,44 @@ public class PipelineServiceImpl implements PipelineService {
         sinkFactories.add(factory);
     }
 
+    private CompletableFuture<StreamResult<Object>> admit(DataFlowStartMessage request, Supplier<CompletableFuture<StreamResult<Object>>> transfer) {
+        return admissionController.submit(request.getProcessId(), request.getSourceDataAddress().getType(), transfer);
+    }
+
+    private CompletableFuture<StreamResult<Object>> run(DataFlowStartMessage request, DataSource source, DataSink sink) {
+        var processId = request.getProcessId();
+        sources.put(processId, source);
+        monitor.debug(() -> format("Transferring from %s to %s.", request.getSourceDataAddress().getType(), request.getDestinationDataAddress().getType()));
+        try {
+            return sink.transfer(source).whenComplete((result, throwable) -> sources.remove(processId, source));
+        } catch (RuntimeException e) {
+            sources.remove(processId, source);
+            throw e;
+        }
+    }
+
+    private StreamResult<Void> resume(DataSource source, DataSink sink, TransferCheckpoint checkpoint) {
+        if (!(source instanceof ResumableDataSource resumableSource)) {
+            return StreamResult.error("the data source does not support resumption");
+        }
+        if (!(sink instanceof ResumableDataSink resumableSink)) {
+            return StreamResult.error("the data sink does not support resumption");
+        }
+        var sinkResult = resumableSink.resumeFrom(checkpoint);
+        if (sinkResult.failed()) {
+            return sinkResult;
+        }
+        return resumableSource.seek(checkpoint);
+    }
+
+    private void close(DataSource source) {
+        try {
+            source.close();
+        } catch (Exception e) {
+            monitor.warning("Error closing data source", e);
+        }
+    }
+
     @Nullable
     private DataSourceFactory getSourceFactory(DataFlowStartMessage request) {
         return sourceFactories.stream().filter(s -> s.canHandle(request)).findFirst().orElse(null);
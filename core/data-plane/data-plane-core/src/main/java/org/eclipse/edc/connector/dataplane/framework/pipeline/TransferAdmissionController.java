@@ -0,0 +1,236 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.framework.pipeline;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * Limits the number of transfers that run concurrently on this data plane, both globally and per source type.
+ * Transfers that cannot be admitted straight away are queued and started in FIFO order as soon as capacity frees up;
+ * when the queue is full, the transfer is rejected with a failed {@link StreamResult}. Queued transfers are started on
+ * the given executor, not in the thread that completed the transfer that freed up the capacity.
+ * <p>
+ * A limit lower or equal to 0 means "unlimited". Source types are matched case-insensitively, so that limits can also be
+ * configured through environment variables.
+ */
+public class TransferAdmissionController {
+
+    public static final int UNLIMITED = 0;
+    public static final String ACTIVE_TRANSFERS_METRIC = "edc.dataplane.transfers.active";
+    public static final String QUEUED_TRANSFERS_METRIC = "edc.dataplane.transfers.queued";
+    public static final String REJECTED_TRANSFERS_METRIC = "edc.dataplane.transfers.rejected";
+
+    private final int maxConcurrentTransfers;
+    private final Map<String, Integer> sourceTypeLimits;
+    private final int maxQueuedTransfers;
+    private final Executor executor;
+
+    private final Object lock = new Object();
+    private final Map<String, Integer> activeBySourceType = new HashMap<>();
+    private final Deque<PendingTransfer> queue = new ArrayDeque<>();
+    private final AtomicLong rejected = new AtomicLong();
+    private int active;
+
+    public TransferAdmissionController(int maxConcurrentTransfers, Map<String, Integer> sourceTypeLimits, int maxQueuedTransfers, Executor executor) {
+        this.maxConcurrentTransfers = maxConcurrentTransfers;
+        this.sourceTypeLimits = sourceTypeLimits.entrySet().stream()
+                .collect(toMap(entry -> normalize(entry.getKey()), Map.Entry::getValue));
+        this.maxQueuedTransfers = maxQueuedTransfers;
+        this.executor = executor;
+    }
+
+    /**
+     * Controller that admits every transfer immediately.
+     *
+     * @return the controller.
+     */
+    public static TransferAdmissionController unlimited() {
+        // nothing ever gets queued, so the executor is never used
+        return new TransferAdmissionController(UNLIMITED, Map.of(), UNLIMITED, Runnable::run);
+    }
+
+    /**
+     * Run the transfer as soon as there is capacity for it.
+     *
+     * @param processId  the id of the data flow.
+     * @param sourceType the type of the source data address.
+     * @param transfer   starts the transfer, invoked only once it has been admitted.
+     * @return a future that completes when the transfer completes.
+     */
+    public CompletableFuture<StreamResult<Object>> submit(String processId, String sourceType, Supplier<CompletableFuture<StreamResult<Object>>> transfer) {
+        var type = normalize(sourceType);
+        PendingTransfer pending;
+        synchronized (lock) {
+            if (canAdmit(type)) {
+                acquire(type);
+                pending = null;
+            } else if (maxQueuedTransfers > 0 && queue.size() >= maxQueuedTransfers) {
+                rejected.incrementAndGet();
+                return completedFuture(StreamResult.error("Transfer %s rejected: the data plane is at full capacity".formatted(processId)));
+            } else {
+                pending = new PendingTransfer(processId, type, transfer, new CompletableFuture<>());
+                queue.add(pending);
+            }
+        }
+
+        if (pending != null) {
+            return pending.result();
+        }
+        return start(type, transfer);
+    }
+
+    /**
+     * Remove a transfer that is still waiting for admission, completing it with a failed result.
+     *
+     * @param processId the id of the data flow.
+     * @return true if the transfer was queued, false otherwise.
+     */
+    public boolean cancel(String processId) {
+        PendingTransfer cancelled = null;
+        synchronized (lock) {
+            var iterator = queue.iterator();
+            while (iterator.hasNext()) {
+                var pending = iterator.next();
+                if (pending.processId().equals(processId)) {
+                    iterator.remove();
+                    cancelled = pending;
+                    break;
+                }
+            }
+        }
+
+        if (cancelled == null) {
+            return false;
+        }
+        cancelled.result().complete(StreamResult.error("Transfer %s has been terminated before being started".formatted(processId)));
+        return true;
+    }
+
+    /**
+     * Number of transfers currently running.
+     */
+    public int getActiveTransfers() {
+        synchronized (lock) {
+            return active;
+        }
+    }
+
+    /**
+     * Number of transfers currently running for the given source type.
+     */
+    public int getActiveTransfers(String sourceType) {
+        synchronized (lock) {
+            return activeBySourceType.getOrDefault(normalize(sourceType), 0);
+        }
+    }
+
+    /**
+     * Number of transfers waiting for admission.
+     */
+    public int getQueuedTransfers() {
+        synchronized (lock) {
+            return queue.size();
+        }
+    }
+
+    /**
+     * Number of transfers rejected since startup because the queue was full.
+     */
+    public long getRejectedTransfers() {
+        return rejected.get();
+    }
+
+    private CompletableFuture<StreamResult<Object>> start(String sourceType, Supplier<CompletableFuture<StreamResult<Object>>> transfer) {
+        CompletableFuture<StreamResult<Object>> future;
+        try {
+            future = transfer.get();
+        } catch (Exception e) {
+            future = completedFuture(StreamResult.error("Error starting transfer: " + e.getMessage()));
+        }
+        return future.whenComplete((result, throwable) -> release(sourceType));
+    }
+
+    private void release(String sourceType) {
+        var admitted = new ArrayDeque<PendingTransfer>();
+        synchronized (lock) {
+            active--;
+            activeBySourceType.computeIfPresent(sourceType, (type, count) -> count > 1 ? count - 1 : null);
+
+            var iterator = queue.iterator();
+            while (iterator.hasNext() && (maxConcurrentTransfers <= 0 || active < maxConcurrentTransfers)) {
+                var pending = iterator.next();
+                if (canAdmit(pending.sourceType())) {
+                    iterator.remove();
+                    acquire(pending.sourceType());
+                    admitted.add(pending);
+                }
+            }
+        }
+
+        admitted.forEach(this::startQueued);
+    }
+
+    private void startQueued(PendingTransfer pending) {
+        try {
+            executor.execute(() -> start(pending.sourceType(), pending.transfer())
+                    .whenComplete((result, throwable) -> {
+                        if (throwable != null) {
+                            pending.result().completeExceptionally(throwable);
+                        } else {
+                            pending.result().complete(result);
+                        }
+                    }));
+        } catch (RejectedExecutionException e) {
+            release(pending.sourceType());
+            pending.result().complete(StreamResult.error("Transfer %s cannot be started: %s".formatted(pending.processId(), e.getMessage())));
+        }
+    }
+
+    private boolean canAdmit(String sourceType) {
+        if (maxConcurrentTransfers > 0 && active >= maxConcurrentTransfers) {
+            return false;
+        }
+        var sourceTypeLimit = sourceTypeLimits.getOrDefault(sourceType, UNLIMITED);
+        return sourceTypeLimit <= 0 || activeBySourceType.getOrDefault(sourceType, 0) < sourceTypeLimit;
+    }
+
+    private static String normalize(String sourceType) {
+        return sourceType == null ? "" : sourceType.toLowerCase(Locale.ROOT);
+    }
+
+    private void acquire(String sourceType) {
+        active++;
+        activeBySourceType.merge(sourceType, 1, Integer::sum);
+    }
+
+    private record PendingTransfer(String processId, String sourceType,
+                                   Supplier<CompletableFuture<StreamResult<Object>>> transfer,
+                                   CompletableFuture<StreamResult<Object>> result) {
+    }
+}
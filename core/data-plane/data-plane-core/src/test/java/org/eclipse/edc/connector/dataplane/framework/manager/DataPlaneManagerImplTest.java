@@ -17,10 +17,13 @@ package org.eclipse.edc.connector.dataplane.framework.manager;
 import org.eclipse.edc.connector.controlplane.api.client.spi.transferprocess.TransferProcessApiClient;
 import org.eclipse.edc.connector.dataplane.spi.DataFlow;
 import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAuthorizationService;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.CheckpointListener;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferCheckpoint;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferService;
 import org.eclipse.edc.connector.dataplane.spi.registry.TransferServiceRegistry;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.response.ResponseFailure;
 import org.eclipse.edc.spi.result.Result;
@@ -36,10 +39,13 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
 import java.net.URI;
+import java.time.Clock;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
+import static java.time.ZoneOffset.UTC;
 import static java.util.Collections.emptyList;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.CompletableFuture.failedFuture;
@@ -55,6 +61,7 @@ import static org.eclipse.edc.connector.dataplane.spi.DataFlowStates.SUSPENDED;
 import static org.eclipse.edc.connector.dataplane.spi.DataFlowStates.TERMINATED;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
 import static org.eclipse.edc.spi.response.ResponseStatus.ERROR_RETRY;
 import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
 import static org.mockito.AdditionalMatchers.aryEq;
@@ -297,12 +304,12 @@ class DataPlaneManagerImplTest {
             when(store.findById(any())).thenReturn(dataFlow);
             when(registry.resolveTransferService(any())).thenReturn(transferService);
             when(transferService.canHandle(any())).thenReturn(true);
-            when(transferService.transfer(any())).thenReturn(new CompletableFuture<>());
+            when(transferService.transfer(any(), any(), any())).thenReturn(new CompletableFuture<>());
 
             manager.start();
 
             await().untilAsserted(() -> {
-                verify(transferService).transfer(isA(DataFlowStartMessage.class));
+                verify(transferService).transfer(isA(DataFlowStartMessage.class), any(), any());
                 verify(store).save(argThat(it -> it.getState() == STARTED.code()));
             });
         }
@@ -314,12 +321,12 @@ class DataPlaneManagerImplTest {
             when(store.findById(any())).thenReturn(dataFlow);
             when(registry.resolveTransferService(any())).thenReturn(transferService);
             when(transferService.canHandle(any())).thenReturn(true);
-            when(transferService.transfer(any())).thenReturn(completedFuture(StreamResult.success()));
+            when(transferService.transfer(any(), any(), any())).thenReturn(completedFuture(StreamResult.success()));
 
             manager.start();
 
             await().untilAsserted(() -> {
-                verify(transferService).transfer(isA(DataFlowStartMessage.class));
+                verify(transferService).transfer(isA(DataFlowStartMessage.class), any(), any());
                 verify(store, atLeastOnce()).save(argThat(it -> it.getState() == COMPLETED.code()));
             });
         }
@@ -332,12 +339,12 @@ class DataPlaneManagerImplTest {
             when(store.findById(any())).thenReturn(terminatedDataFlow);
             when(registry.resolveTransferService(any())).thenReturn(transferService);
             when(transferService.canHandle(any())).thenReturn(true);
-            when(transferService.transfer(any())).thenReturn(completedFuture(StreamResult.success()));
+            when(transferService.transfer(any(), any(), any())).thenReturn(completedFuture(StreamResult.success()));
 
             manager.start();
 
             await().untilAsserted(() -> {
-                verify(transferService).transfer(isA(DataFlowStartMessage.class));
+                verify(transferService).transfer(isA(DataFlowStartMessage.class), any(), any());
                 verify(store, never()).save(argThat(it -> it.getState() == COMPLETED.code()));
             });
         }
@@ -350,12 +357,12 @@ class DataPlaneManagerImplTest {
             when(store.findById(any())).thenReturn(terminatedDataFlow);
             when(registry.resolveTransferService(any())).thenReturn(transferService);
             when(transferService.canHandle(any())).thenReturn(true);
-            when(transferService.transfer(any())).thenReturn(completedFuture(StreamResult.success()));
+            when(transferService.transfer(any(), any(), any())).thenReturn(completedFuture(StreamResult.success()));
 
             manager.start();
 
             await().untilAsserted(() -> {
-                verify(transferService).transfer(isA(DataFlowStartMessage.class));
+                verify(transferService).transfer(isA(DataFlowStartMessage.class), any(), any());
                 verify(store, never()).save(argThat(it -> it.getState() == COMPLETED.code()));
             });
         }
@@ -367,12 +374,12 @@ class DataPlaneManagerImplTest {
             when(store.findById(any())).thenReturn(dataFlow);
             when(registry.resolveTransferService(any())).thenReturn(transferService);
             when(transferService.canHandle(any())).thenReturn(true);
-            when(transferService.transfer(any())).thenReturn(completedFuture(StreamResult.error("an error")));
+            when(transferService.transfer(any(), any(), any())).thenReturn(completedFuture(StreamResult.error("an error")));
 
             manager.start();
 
             await().untilAsserted(() -> {
-                verify(transferService).transfer(isA(DataFlowStartMessage.class));
+                verify(transferService).transfer(isA(DataFlowStartMessage.class), any(), any());
                 verify(store, atLeastOnce()).save(argThat(it -> it.getState() == FAILED.code() && it.getErrorDetail().equals("an error")));
             });
         }
@@ -384,16 +391,32 @@ class DataPlaneManagerImplTest {
             when(store.findById(any())).thenReturn(dataFlow);
             when(registry.resolveTransferService(any())).thenReturn(transferService);
             when(transferService.canHandle(any())).thenReturn(true);
-            when(transferService.transfer(any())).thenReturn(failedFuture(new RuntimeException("an error")));
+            when(transferService.transfer(any(), any(), any())).thenReturn(failedFuture(new RuntimeException("an error")));
 
             manager.start();
 
             await().untilAsserted(() -> {
-                verify(transferService).transfer(isA(DataFlowStartMessage.class));
+                verify(transferService).transfer(isA(DataFlowStartMessage.class), any(), any());
                 verify(store, atLeastOnce()).save(argThat(it -> it.getState() == RECEIVED.code()));
             });
         }
 
+        @Test
+        void shouldResumeTransferFromCheckpoint() {
+            var checkpoint = new TransferCheckpoint(1, 1024, Map.of());
+            var dataFlow = dataFlowBuilder().state(RECEIVED.code()).checkpoint(checkpoint).build();
+            when(store.nextNotLeased(anyInt(), stateIs(RECEIVED.code()))).thenReturn(List.of(dataFlow)).thenReturn(emptyList());
+            when(store.findById(any())).thenReturn(dataFlow);
+            when(registry.resolveTransferService(any())).thenReturn(transferService);
+            when(transferService.transfer(any(), any(), any())).thenReturn(new CompletableFuture<>());
+
+            manager.start();
+
+            await().untilAsserted(() -> {
+                verify(transferService).transfer(isA(DataFlowStartMessage.class), eq(checkpoint), any());
+            });
+        }
+
         @Test
         void shouldTransitToFailedIfNoTransferServiceCanHandleStarted() {
             var dataFlow = dataFlowBuilder().state(RECEIVED.code()).build();
@@ -410,17 +433,79 @@ class DataPlaneManagerImplTest {
         }
     }
 
+    @Nested
+    class Started {
+
+        @Test
+        void shouldTransitionToReceived_whenDataFlowIsStale() {
+            var clock = Clock.fixed(Instant.now(), UTC);
+            var manager = DataPlaneManagerImpl.Builder.newInstance()
+                    .executorInstrumentation(ExecutorInstrumentation.noop())
+                    .transferServiceRegistry(registry)
+                    .store(store)
+                    .transferProcessClient(transferProcessApiClient)
+                    .authorizationService(authorizationService)
+                    .resumeTimeout(1000)
+                    .clock(clock)
+                    .monitor(mock())
+                    .build();
+            var dataFlow = dataFlowBuilder().state(STARTED.code()).checkpoint(new TransferCheckpoint(0, 1024, Map.of())).build();
+            var staleFilter = new Criterion[]{
+                    hasState(STARTED.code()),
+                    criterion("flowType", "=", "PUSH"),
+                    criterion("updatedAt", "<", clock.millis() - 1000)
+            };
+            when(store.nextNotLeased(anyInt(), aryEq(staleFilter))).thenReturn(List.of(dataFlow)).thenReturn(emptyList());
+
+            manager.start();
+
+            await().untilAsserted(() -> {
+                verify(store).save(argThat(it -> it.getState() == RECEIVED.code() && it.getCheckpoint().bytesTransferred() == 1024));
+            });
+        }
+
+        @Test
+        void shouldPersistCheckpointOfRunningTransfers() {
+            var manager = DataPlaneManagerImpl.Builder.newInstance()
+                    .executorInstrumentation(ExecutorInstrumentation.noop())
+                    .transferServiceRegistry(registry)
+                    .store(store)
+                    .transferProcessClient(transferProcessApiClient)
+                    .authorizationService(authorizationService)
+                    .checkpointInterval(0)
+                    .monitor(mock())
+                    .build();
+            var dataFlow = dataFlowBuilder().id("dataFlowId").state(RECEIVED.code()).build();
+            var startedDataFlow = dataFlowBuilder().id("dataFlowId").state(STARTED.code()).build();
+            var checkpoint = new TransferCheckpoint(0, 2048, Map.of());
+            when(store.nextNotLeased(anyInt(), stateIs(RECEIVED.code()))).thenReturn(List.of(dataFlow)).thenReturn(emptyList());
+            when(store.findById(any())).thenReturn(dataFlow);
+            when(store.findByIdAndLease("dataFlowId")).thenReturn(StoreResult.success(startedDataFlow));
+            when(registry.resolveTransferService(any())).thenReturn(transferService);
+            when(transferService.transfer(any(), any(), any())).thenAnswer(i -> {
+                i.getArgument(2, CheckpointListener.class).onCheckpoint(checkpoint);
+                return new CompletableFuture<>();
+            });
+
+            manager.start();
+
+            await().untilAsserted(() -> {
+                verify(store, atLeastOnce()).save(argThat(it -> it.getState() == STARTED.code() && checkpoint.equals(it.getCheckpoint())));
+            });
+        }
+    }
+
     @Test
     void completed_shouldNotifyResultToControlPlane() {
         var dataFlow = dataFlowBuilder().state(COMPLETED.code()).build();
         when(store.nextNotLeased(anyInt(), stateIs(COMPLETED.code()))).thenReturn(List.of(dataFlow)).thenReturn(emptyList());
-        when(transferProcessApiClient.completed(any())).thenReturn(Result.success());
+        when(transferProcessApiClient.signal(any())).thenReturn(List.of(Result.success()));
 
         manager.start();
 
         await().untilAsserted(() -> {
-            verify(transferProcessApiClient).completed(any());
-            verify(store).save(argThat(it -> it.getState() == NOTIFIED.code()));
+            verify(transferProcessApiClient).signal(argThat(results -> results.size() == 1 && !results.get(0).failed()));
+            verify(store).saveAll(argThat(it -> it.get(0).getState() == NOTIFIED.code()));
         });
     }
 
@@ -428,13 +513,59 @@ class DataPlaneManagerImplTest {
     void completed_shouldNotTransitionToNotified() {
         var dataFlow = dataFlowBuilder().state(COMPLETED.code()).build();
         when(store.nextNotLeased(anyInt(), stateIs(COMPLETED.code()))).thenReturn(List.of(dataFlow)).thenReturn(emptyList());
-        when(transferProcessApiClient.completed(any())).thenReturn(Result.failure(""));
+        when(transferProcessApiClient.signal(any())).thenReturn(List.of(Result.failure("")));
+
+        manager.start();
+
+        await().untilAsserted(() -> {
+            verify(transferProcessApiClient).signal(any());
+            verify(store).saveAll(argThat(it -> it.get(0).getState() == COMPLETED.code()));
+        });
+    }
+
+    @Test
+    void completed_shouldNotifyResultsInBatch() {
+        var notified = dataFlowBuilder().id("notified").state(COMPLETED.code()).build();
+        var notNotified = dataFlowBuilder().id("notNotified").state(COMPLETED.code()).build();
+        when(store.nextNotLeased(anyInt(), stateIs(COMPLETED.code()))).thenReturn(List.of(notified, notNotified)).thenReturn(emptyList());
+        when(transferProcessApiClient.signal(any())).thenReturn(List.of(Result.success(), Result.failure("")));
+
+        manager.start();
+
+        await().untilAsserted(() -> {
+            verify(transferProcessApiClient).signal(argThat(results -> results.size() == 2));
+            verify(store).saveAll(argThat(it -> it.get(0).getState() == NOTIFIED.code() && it.get(1).getState() == COMPLETED.code()));
+        });
+    }
+
+    @Test
+    void completed_shouldNotTransitionToNotified_whenResponsesDoNotMatchDataFlows() {
+        var first = dataFlowBuilder().id("first").state(COMPLETED.code()).build();
+        var second = dataFlowBuilder().id("second").state(COMPLETED.code()).build();
+        when(store.nextNotLeased(anyInt(), stateIs(COMPLETED.code()))).thenReturn(List.of(first, second)).thenReturn(emptyList());
+        when(transferProcessApiClient.signal(any())).thenReturn(List.of(Result.success()));
 
         manager.start();
 
         await().untilAsserted(() -> {
-            verify(transferProcessApiClient).completed(any());
-            verify(store).save(argThat(it -> it.getState() == COMPLETED.code()));
+            verify(transferProcessApiClient).signal(argThat(results -> results.size() == 2));
+            verify(store).saveAll(argThat(it -> it.stream().allMatch(dataFlow -> dataFlow.getState() == COMPLETED.code())));
+        });
+    }
+
+    @Test
+    void completed_shouldBreakLeases_whenNotificationThrows() {
+        var first = dataFlowBuilder().id("first").state(COMPLETED.code()).build();
+        var second = dataFlowBuilder().id("second").state(COMPLETED.code()).build();
+        when(store.nextNotLeased(anyInt(), stateIs(COMPLETED.code()))).thenReturn(List.of(first, second)).thenReturn(emptyList());
+        when(transferProcessApiClient.signal(any())).thenThrow(new EdcException("cannot connect"));
+
+        manager.start();
+
+        await().untilAsserted(() -> {
+            verify(store).save(argThat(it -> it.getId().equals("first") && it.getState() == COMPLETED.code()));
+            verify(store).save(argThat(it -> it.getId().equals("second") && it.getState() == COMPLETED.code()));
+            verify(store, never()).saveAll(any());
         });
     }
 
@@ -442,15 +573,13 @@ class DataPlaneManagerImplTest {
     void failed_shouldNotifyResultToControlPlane() {
         var dataFlow = dataFlowBuilder().state(FAILED.code()).errorDetail("an error").build();
         when(store.nextNotLeased(anyInt(), stateIs(FAILED.code()))).thenReturn(List.of(dataFlow)).thenReturn(emptyList());
-        when(store.findById(any())).thenReturn(dataFlow);
-
-        when(transferProcessApiClient.failed(any(), eq("an error"))).thenReturn(Result.success());
+        when(transferProcessApiClient.signal(any())).thenReturn(List.of(Result.success()));
 
         manager.start();
 
         await().untilAsserted(() -> {
-            verify(transferProcessApiClient).failed(any(), eq("an error"));
-            verify(store).save(argThat(it -> it.getState() == NOTIFIED.code()));
+            verify(transferProcessApiClient).signal(argThat(results -> results.get(0).failed() && "an error".equals(results.get(0).reason())));
+            verify(store).saveAll(argThat(it -> it.get(0).getState() == NOTIFIED.code()));
         });
     }
 
@@ -458,15 +587,13 @@ class DataPlaneManagerImplTest {
     void failed_shouldNotTransitionToNotified() {
         var dataFlow = dataFlowBuilder().state(FAILED.code()).errorDetail("an error").build();
         when(store.nextNotLeased(anyInt(), stateIs(FAILED.code()))).thenReturn(List.of(dataFlow)).thenReturn(emptyList());
-        when(store.findById(any())).thenReturn(dataFlow);
-
-        when(transferProcessApiClient.failed(any(), eq("an error"))).thenReturn(Result.failure("an error"));
+        when(transferProcessApiClient.signal(any())).thenReturn(List.of(Result.failure("an error")));
 
         manager.start();
 
         await().untilAsserted(() -> {
-            verify(transferProcessApiClient).failed(any(), eq("an error"));
-            verify(store).save(argThat(it -> it.getState() == FAILED.code()));
+            verify(transferProcessApiClient).signal(any());
+            verify(store).saveAll(argThat(it -> it.get(0).getState() == FAILED.code() && "an error".equals(it.get(0).getErrorDetail())));
         });
     }
 
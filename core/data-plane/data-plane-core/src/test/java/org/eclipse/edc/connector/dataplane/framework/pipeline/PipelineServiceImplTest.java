@@ -15,12 +15,17 @@
 package org.eclipse.edc.connector.dataplane.framework.pipeline;
 
 import org.eclipse.edc.connector.dataplane.spi.DataFlow;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.CheckpointListener;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSinkFactory;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSourceFactory;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.InputStreamDataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.ResumableDataSink;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.ResumableDataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferCheckpoint;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
@@ -32,9 +37,13 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
@@ -48,6 +57,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -112,6 +123,74 @@ class PipelineServiceImplTest {
         verifyNoInteractions(sinkFactory);
     }
 
+    @Test
+    void transfer_shouldResumeFromCheckpoint_whenSourceAndSinkAreResumable() {
+        ResumableDataSource resumableSource = mock();
+        ResumableDataSink resumableSink = mock();
+        var checkpoint = new TransferCheckpoint(0, 1024, Map.of());
+        when(sourceFactory.canHandle(request)).thenReturn(true);
+        when(sourceFactory.createSource(request)).thenReturn(resumableSource);
+        when(sinkFactory.canHandle(request)).thenReturn(true);
+        when(sinkFactory.createSink(request)).thenReturn(resumableSink);
+        when(resumableSink.resumeFrom(any())).thenReturn(StreamResult.success());
+        when(resumableSource.seek(any())).thenReturn(StreamResult.success());
+        when(resumableSink.transfer(any())).thenReturn(completedFuture(StreamResult.success()));
+
+        service.transfer(request, checkpoint, CheckpointListener.noop());
+
+        verify(resumableSink).resumeFrom(checkpoint);
+        verify(resumableSource).seek(checkpoint);
+        verify(resumableSink).transfer(any());
+    }
+
+    @Test
+    void transfer_shouldRestartFromTheBeginning_whenSourceIsNotResumable() throws Exception {
+        ResumableDataSink resumableSink = mock();
+        var checkpoint = new TransferCheckpoint(0, 1024, Map.of());
+        when(sourceFactory.canHandle(request)).thenReturn(true);
+        when(sourceFactory.createSource(request)).thenReturn(source);
+        when(sinkFactory.canHandle(request)).thenReturn(true);
+        when(sinkFactory.createSink(request)).thenReturn(resumableSink);
+        when(resumableSink.transfer(any())).thenReturn(completedFuture(StreamResult.success()));
+
+        service.transfer(request, checkpoint, CheckpointListener.noop());
+
+        verify(resumableSink, never()).resumeFrom(any());
+        verify(source).close();
+        verify(sourceFactory, times(2)).createSource(request);
+        verify(resumableSink).transfer(any());
+    }
+
+    @Test
+    void transfer_shouldNotifyCheckpoints() {
+        var checkpoints = new ArrayList<TransferCheckpoint>();
+        var data = "data".getBytes();
+        when(sourceFactory.canHandle(request)).thenReturn(true);
+        when(sourceFactory.createSource(request)).thenReturn(new InputStreamDataSource("part", new ByteArrayInputStream(data)));
+        when(sinkFactory.canHandle(request)).thenReturn(true);
+        when(sinkFactory.createSink(request)).thenReturn(readingSink(true));
+
+        service.transfer(request, null, checkpoints::add);
+
+        assertThat(checkpoints).last().satisfies(checkpoint -> {
+            assertThat(checkpoint.partsTransferred()).isEqualTo(1);
+            assertThat(checkpoint.bytesTransferred()).isEqualTo(data.length);
+        });
+    }
+
+    @Test
+    void transfer_shouldNotCountParts_untilSinkClosesThem() {
+        var checkpoints = new ArrayList<TransferCheckpoint>();
+        when(sourceFactory.canHandle(request)).thenReturn(true);
+        when(sourceFactory.createSource(request)).thenReturn(new InputStreamDataSource("part", new ByteArrayInputStream("data".getBytes())));
+        when(sinkFactory.canHandle(request)).thenReturn(true);
+        when(sinkFactory.createSink(request)).thenReturn(readingSink(false));
+
+        service.transfer(request, null, checkpoints::add).join();
+
+        assertThat(checkpoints).isEmpty();
+    }
+
     @Test
     void terminate_shouldCloseDataSource() throws Exception {
         var dataFlow = DataFlow.Builder.newInstance().id("dPIataFlowId")
@@ -122,13 +201,12 @@ class PipelineServiceImplTest {
         when(sourceFactory.createSource(any())).thenReturn(source);
         when(sinkFactory.canHandle(any())).thenReturn(true);
         when(sinkFactory.createSink(any())).thenReturn(sink);
-        when(sink.transfer(any())).thenReturn(completedFuture(StreamResult.success()));
+        when(sink.transfer(any())).thenReturn(new CompletableFuture<>());
 
-        var future = service.transfer(dataFlow.toRequest()).thenApply(result -> service.terminate(dataFlow));
+        service.transfer(dataFlow.toRequest());
+        var result = service.terminate(dataFlow);
 
-        assertThat(future).succeedsWithin(5, TimeUnit.SECONDS).satisfies(result -> {
-            assertThat(result).isSucceeded();
-        });
+        assertThat(result).isSucceeded();
         verify(source).close();
     }
 
@@ -142,16 +220,90 @@ class PipelineServiceImplTest {
         when(sourceFactory.createSource(any())).thenReturn(source);
         when(sinkFactory.canHandle(any())).thenReturn(true);
         when(sinkFactory.createSink(any())).thenReturn(sink);
-        when(sink.transfer(any())).thenReturn(completedFuture(StreamResult.success()));
+        when(sink.transfer(any())).thenReturn(new CompletableFuture<>());
         doThrow(IOException.class).when(source).close();
 
+        service.transfer(dataFlow.toRequest());
+        var result = service.terminate(dataFlow);
+
+        assertThat(result).isFailed().extracting(StreamFailure::getReason).isEqualTo(GENERAL_ERROR);
+    }
+
+    @Test
+    void terminate_shouldReturnNotFound_whenTransferIsCompleted() {
+        var dataFlow = DataFlow.Builder.newInstance().id("dataFlowId")
+                .source(DataAddress.Builder.newInstance().type("source").build())
+                .destination(DataAddress.Builder.newInstance().type("destination").build())
+                .build();
+        when(sourceFactory.canHandle(any())).thenReturn(true);
+        when(sourceFactory.createSource(any())).thenReturn(source);
+        when(sinkFactory.canHandle(any())).thenReturn(true);
+        when(sinkFactory.createSink(any())).thenReturn(sink);
+        when(sink.transfer(any())).thenReturn(completedFuture(StreamResult.success()));
+
         var future = service.transfer(dataFlow.toRequest()).thenApply(result -> service.terminate(dataFlow));
 
         assertThat(future).succeedsWithin(5, TimeUnit.SECONDS).satisfies(result -> {
-            assertThat(result).isFailed().extracting(StreamFailure::getReason).isEqualTo(GENERAL_ERROR);
+            assertThat(result).isFailed().extracting(StreamFailure::getReason).isEqualTo(NOT_FOUND);
         });
     }
 
+    @Test
+    void transfer_shouldQueueTransfer_whenLimitIsReached() {
+        var service = new PipelineServiceImpl(monitor, new TransferAdmissionController(1, Map.of(), 10, Executors.newSingleThreadExecutor()));
+        service.registerFactory(sourceFactory);
+        service.registerFactory(sinkFactory);
+        var firstTransfer = new CompletableFuture<StreamResult<Object>>();
+        var secondRequest = DataFlowStartMessage.Builder.newInstance()
+                .id("2")
+                .processId("2")
+                .sourceDataAddress(DataAddress.Builder.newInstance().type("test").build())
+                .destinationDataAddress(DataAddress.Builder.newInstance().type("test").build())
+                .build();
+        when(sourceFactory.canHandle(any())).thenReturn(true);
+        when(sourceFactory.createSource(any())).thenReturn(source);
+        when(sinkFactory.canHandle(any())).thenReturn(true);
+        when(sinkFactory.createSink(any())).thenReturn(sink);
+        when(sink.transfer(any())).thenReturn(firstTransfer).thenReturn(completedFuture(StreamResult.success()));
+
+        service.transfer(request);
+        var second = service.transfer(secondRequest);
+
+        assertThat(second).isNotDone();
+        verify(sourceFactory, never()).createSource(secondRequest);
+
+        firstTransfer.complete(StreamResult.success());
+
+        assertThat(second).succeedsWithin(5, TimeUnit.SECONDS);
+        verify(sourceFactory).createSource(secondRequest);
+    }
+
+    @Test
+    void terminate_shouldCancelQueuedTransfer() {
+        var service = new PipelineServiceImpl(monitor, new TransferAdmissionController(1, Map.of(), 10, Executors.newSingleThreadExecutor()));
+        service.registerFactory(sourceFactory);
+        service.registerFactory(sinkFactory);
+        var dataFlow = DataFlow.Builder.newInstance().id("queued")
+                .source(DataAddress.Builder.newInstance().type("source").build())
+                .destination(DataAddress.Builder.newInstance().type("destination").build())
+                .build();
+        when(sourceFactory.canHandle(any())).thenReturn(true);
+        when(sourceFactory.createSource(any())).thenReturn(source);
+        when(sinkFactory.canHandle(any())).thenReturn(true);
+        when(sinkFactory.createSink(any())).thenReturn(sink);
+        when(sink.transfer(any())).thenReturn(new CompletableFuture<>());
+
+        var queuedRequest = dataFlow.toRequest();
+
+        service.transfer(request);
+        var queued = service.transfer(queuedRequest);
+        var result = service.terminate(dataFlow);
+
+        assertThat(result).isSucceeded();
+        assertThat(queued).succeedsWithin(5, TimeUnit.SECONDS).satisfies(transferResult -> assertThat(transferResult).isFailed());
+        verify(sourceFactory, never()).createSource(queuedRequest);
+    }
+
     @Test
     void terminate_shouldFail_whenTransferDoesNotExist() {
         var dataFlow = DataFlow.Builder.newInstance().id("dataFlowId")
@@ -179,6 +331,25 @@ class PipelineServiceImplTest {
                 .isEqualTo(expectedResult);
     }
 
+    /**
+     * Sink that reads all the parts, closing them only if requested, like sinks do with the parts they delivered.
+     */
+    private DataSink readingSink(boolean closeParts) {
+        return dataSource -> {
+            dataSource.openPartStream().getContent().forEach(part -> {
+                try (var stream = part.openStream()) {
+                    stream.readAllBytes();
+                    if (closeParts) {
+                        part.close();
+                    }
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            return completedFuture(StreamResult.success());
+        };
+    }
+
     private static class CanHandleArguments implements ArgumentsProvider {
 
         @Override
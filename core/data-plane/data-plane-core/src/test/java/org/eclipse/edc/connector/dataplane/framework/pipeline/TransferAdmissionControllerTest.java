@@ -0,0 +1,148 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.framework.pipeline;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+
+class TransferAdmissionControllerTest {
+
+    private final Executor executor = Executors.newSingleThreadExecutor();
+
+    @Test
+    void submit_shouldStartTransfer_whenCapacityIsAvailable() {
+        var controller = new TransferAdmissionController(1, Map.of(), 1, executor);
+        var running = new CompletableFuture<StreamResult<Object>>();
+
+        var result = controller.submit("1", "type", () -> running);
+
+        assertThat(result).isNotDone();
+        assertThat(controller.getActiveTransfers()).isEqualTo(1);
+        assertThat(controller.getActiveTransfers("type")).isEqualTo(1);
+
+        running.complete(StreamResult.success());
+
+        assertThat(result).succeedsWithin(Duration.ofSeconds(1));
+        assertThat(controller.getActiveTransfers()).isZero();
+    }
+
+    @Test
+    void submit_shouldQueueTransfer_whenNodeLimitIsReached() {
+        var controller = new TransferAdmissionController(1, Map.of(), 1, executor);
+        var running = new CompletableFuture<StreamResult<Object>>();
+        controller.submit("1", "type", () -> running);
+
+        var queued = controller.submit("2", "other-type", () -> completedFuture(StreamResult.success("queued")));
+
+        assertThat(queued).isNotDone();
+        assertThat(controller.getQueuedTransfers()).isEqualTo(1);
+
+        running.complete(StreamResult.success());
+
+        assertThat(queued).succeedsWithin(Duration.ofSeconds(1))
+                .satisfies(result -> assertThat(result).isSucceeded().isEqualTo("queued"));
+        assertThat(controller.getQueuedTransfers()).isZero();
+        assertThat(controller.getActiveTransfers()).isZero();
+    }
+
+    @Test
+    void submit_shouldStartQueuedTransferOnExecutor() {
+        var tasks = new ArrayList<Runnable>();
+        var controller = new TransferAdmissionController(1, Map.of(), 1, tasks::add);
+        var running = new CompletableFuture<StreamResult<Object>>();
+        controller.submit("1", "type", () -> running);
+        var queued = controller.submit("2", "type", () -> completedFuture(StreamResult.success()));
+
+        running.complete(StreamResult.success());
+
+        assertThat(queued).isNotDone();
+        assertThat(tasks).hasSize(1);
+
+        tasks.get(0).run();
+
+        assertThat(queued).isDone();
+        assertThat(controller.getActiveTransfers()).isZero();
+    }
+
+    @Test
+    void submit_shouldQueueOnlyTransfersOfLimitedSourceType() {
+        var controller = new TransferAdmissionController(TransferAdmissionController.UNLIMITED, Map.of("Limited", 1), 10, executor);
+        controller.submit("1", "limited", CompletableFuture::new);
+
+        var sameType = controller.submit("2", "LIMITED", CompletableFuture::new);
+        var otherType = controller.submit("3", "other", CompletableFuture::new);
+
+        assertThat(sameType).isNotDone();
+        assertThat(controller.getQueuedTransfers()).isEqualTo(1);
+        assertThat(controller.getActiveTransfers()).isEqualTo(2);
+        assertThat(controller.getActiveTransfers("other")).isEqualTo(1);
+        assertThat(otherType).isNotDone();
+    }
+
+    @Test
+    void submit_shouldReject_whenQueueIsFull() {
+        var controller = new TransferAdmissionController(1, Map.of(), 1, executor);
+        controller.submit("1", "type", CompletableFuture::new);
+        controller.submit("2", "type", CompletableFuture::new);
+
+        var rejected = controller.submit("3", "type", CompletableFuture::new);
+
+        assertThat(rejected).succeedsWithin(Duration.ofSeconds(1)).satisfies(result -> assertThat(result).isFailed());
+        assertThat(controller.getRejectedTransfers()).isEqualTo(1);
+    }
+
+    @Test
+    void submit_shouldReleaseCapacity_whenTransferCannotBeStarted() {
+        var controller = new TransferAdmissionController(1, Map.of(), 1, executor);
+
+        var result = controller.submit("1", "type", () -> {
+            throw new RuntimeException("error");
+        });
+
+        assertThat(result).succeedsWithin(Duration.ofSeconds(1)).satisfies(it -> assertThat(it).isFailed());
+        assertThat(controller.getActiveTransfers()).isZero();
+    }
+
+    @Test
+    void cancel_shouldRemoveQueuedTransfer() {
+        var controller = new TransferAdmissionController(1, Map.of(), 1, executor);
+        controller.submit("1", "type", CompletableFuture::new);
+        var queued = controller.submit("2", "type", CompletableFuture::new);
+
+        var cancelled = controller.cancel("2");
+
+        assertThat(cancelled).isTrue();
+        assertThat(queued).succeedsWithin(Duration.ofSeconds(1)).satisfies(result -> assertThat(result).isFailed());
+        assertThat(controller.getQueuedTransfers()).isZero();
+    }
+
+    @Test
+    void cancel_shouldReturnFalse_whenTransferIsNotQueued() {
+        var controller = new TransferAdmissionController(1, Map.of(), 1, executor);
+
+        assertThat(controller.cancel("unknown")).isFalse();
+    }
+}
@@ -79,7 +79,33 @@ public abstract class ParallelSink implements DataSink {
     }
 
     private Supplier<StreamResult<Object>> transfer(List<DataSource.Part> parts) {
-        return telemetry.contextPropagationMiddleware(() -> transferParts(parts), telemetry.getTraceCarrierWithCurrentContext());
+        return telemetry.contextPropagationMiddleware(() -> {
+            var result = transferParts(parts);
+            if (result.succeeded()) {
+                parts.forEach(this::partTransferred);
+            }
+            return result;
+        }, telemetry.getTraceCarrierWithCurrentContext());
+    }
+
+    /**
+     * Called for every part of a successful {@link #transferParts(List)}, closes the part so that the source can
+     * acknowledge it. Implementations that deliver the parts asynchronously may override it and close the part with
+     * {@link #close(DataSource.Part)} once it has actually been delivered.
+     */
+    protected void partTransferred(DataSource.Part part) {
+        close(part);
+    }
+
+    /**
+     * Closes a part that has been successfully transferred, so that the source can acknowledge it.
+     */
+    protected void close(DataSource.Part part) {
+        try {
+            part.close();
+        } catch (Exception e) {
+            monitor.warning(format("Error closing part %s - Request ID: %s", part.name(), requestId), e);
+        }
     }
 
     protected abstract StreamResult<Object> transferParts(List<DataSource.Part> parts);
@@ -17,11 +17,14 @@ package org.eclipse.edc.connector.policy.monitor;
 import org.eclipse.edc.connector.controlplane.policy.contract.ContractExpiryCheckFunction;
 import org.eclipse.edc.connector.controlplane.services.spi.contractagreement.ContractAgreementService;
 import org.eclipse.edc.connector.controlplane.services.spi.transferprocess.TransferProcessService;
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessCompleted;
 import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessStarted;
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessTerminated;
 import org.eclipse.edc.connector.policy.monitor.manager.PolicyMonitorManagerImpl;
 import org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorManager;
 import org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorStore;
 import org.eclipse.edc.connector.policy.monitor.subscriber.StartMonitoring;
+import org.eclipse.edc.connector.policy.monitor.subscriber.StopMonitoring;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
 import org.eclipse.edc.policy.engine.spi.PolicyScope;
 import org.eclipse.edc.policy.engine.spi.RuleBindingRegistry;
@@ -33,6 +36,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
@@ -41,6 +45,7 @@ import java.time.Clock;
 
 import static org.eclipse.edc.connector.controlplane.policy.contract.ContractExpiryCheckFunction.CONTRACT_EXPIRY_EVALUATION_KEY;
 import static org.eclipse.edc.connector.policy.monitor.PolicyMonitorExtension.NAME;
+import static org.eclipse.edc.connector.policy.monitor.manager.PolicyMonitorManagerImpl.DEFAULT_MAX_CHECK_INTERVAL;
 import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.ODRL_USE_ACTION_ATTRIBUTE;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_BATCH_SIZE;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
@@ -57,12 +62,18 @@ public class PolicyMonitorExtension implements ServiceExtension {
     @Setting(value = "the batch size in the policy monitor state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String POLICY_MONITOR_BATCH_SIZE = "edc.policy.monitor.state-machine.batch-size";
 
+    @Setting(value = "the max time in milliseconds between two evaluations of the policy of a monitored transfer process, also when no constraint reported a change. Default value " + DEFAULT_MAX_CHECK_INTERVAL, type = "long")
+    private static final String POLICY_MONITOR_MAX_CHECK_INTERVAL_MILLIS = "edc.policy.monitor.max-check-interval-millis";
+
     @PolicyScope
     public static final String POLICY_MONITOR_SCOPE = "policy.monitor";
 
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
 
+    @Inject
+    private MetricsRecorder metrics;
+
     @Inject
     private Telemetry telemetry;
 
@@ -103,17 +114,22 @@ public class PolicyMonitorExtension implements ServiceExtension {
                 .batchSize(context.getSetting(POLICY_MONITOR_BATCH_SIZE, DEFAULT_BATCH_SIZE))
                 .waitStrategy(waitStrategy)
                 .executorInstrumentation(executorInstrumentation)
+                .metrics(metrics)
                 .monitor(context.getMonitor())
                 .telemetry(telemetry)
                 .contractAgreementService(contractAgreementService)
                 .policyEngine(policyEngine)
                 .transferProcessService(transferProcessService)
+                .maxCheckInterval(context.getSetting(POLICY_MONITOR_MAX_CHECK_INTERVAL_MILLIS, DEFAULT_MAX_CHECK_INTERVAL))
                 .store(policyMonitorStore)
                 .build();
 
         context.registerService(PolicyMonitorManager.class, manager);
 
         eventRouter.registerSync(TransferProcessStarted.class, new StartMonitoring(manager));
+        var stopMonitoring = new StopMonitoring(manager);
+        eventRouter.register(TransferProcessCompleted.class, stopMonitoring);
+        eventRouter.register(TransferProcessTerminated.class, stopMonitoring);
     }
 
     @Override
@@ -25,6 +25,7 @@ import org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorManager;
 import org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorStore;
 import org.eclipse.edc.policy.engine.spi.PolicyContextImpl;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
+import org.eclipse.edc.policy.engine.spi.PolicyEvaluationSchedule;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.statemachine.AbstractStateEntityManager;
 import org.eclipse.edc.statemachine.Processor;
@@ -37,16 +38,25 @@ import java.util.function.Function;
 import static org.eclipse.edc.connector.policy.monitor.PolicyMonitorExtension.POLICY_MONITOR_SCOPE;
 import static org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorEntryStates.STARTED;
 import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
 
 /**
- * Implementation of the {@link PolicyMonitorManager}
+ * Implementation of the {@link PolicyMonitorManager}.
+ * <p>
+ * Entries are evaluated only once their {@link PolicyMonitorEntry#getNextCheckAt()} has passed. After a successful
+ * evaluation it is set to the earliest instant at which the outcome could change, as reported by the constraint functions
+ * through the {@link PolicyEvaluationSchedule}, capped by the max check interval, because not every constraint function
+ * is able to report it.
  */
 public class PolicyMonitorManagerImpl extends AbstractStateEntityManager<PolicyMonitorEntry, PolicyMonitorStore>
         implements PolicyMonitorManager {
 
+    public static final long DEFAULT_MAX_CHECK_INTERVAL = 60_000L;
+
     private PolicyEngine policyEngine;
     private TransferProcessService transferProcessService;
     private ContractAgreementService contractAgreementService;
+    private long maxCheckInterval = DEFAULT_MAX_CHECK_INTERVAL;
 
     private PolicyMonitorManagerImpl() {
 
@@ -55,7 +65,7 @@ public class PolicyMonitorManagerImpl extends AbstractStateEntityManager<PolicyM
     @Override
     protected StateMachineManager.Builder configureStateMachineManager(StateMachineManager.Builder builder) {
         return builder
-                .processor(processEntriesInState(STARTED, this::processMonitoring));
+                .processor(STARTED.name(), processEntriesInState(STARTED, this::processMonitoring));
     }
 
     @Override
@@ -71,6 +81,23 @@ public class PolicyMonitorManagerImpl extends AbstractStateEntityManager<PolicyM
         update(entry);
     }
 
+    @Override
+    public void stopMonitoring(String transferProcessId) {
+        var result = store.findByIdAndLease(transferProcessId);
+        if (result.failed()) {
+            monitor.debug(() -> "[policy-monitor] Cannot stop monitoring TP %s: %s".formatted(transferProcessId, result.getFailureDetail()));
+            return;
+        }
+
+        var entry = result.getContent();
+        if (entry.getState() == STARTED.code()) {
+            entry.transitionToCompleted();
+            update(entry);
+        } else {
+            breakLease(entry);
+        }
+    }
+
     private boolean processMonitoring(PolicyMonitorEntry entry) {
         var transferProcess = transferProcessService.findById(entry.getId());
         if (transferProcess == null) {
@@ -93,9 +120,11 @@ public class PolicyMonitorManagerImpl extends AbstractStateEntityManager<PolicyM
         }
 
         var policy = contractAgreement.getPolicy();
+        var schedule = new PolicyEvaluationSchedule();
         var policyContext = PolicyContextImpl.Builder.newInstance()
                 .additional(Instant.class, Instant.now(clock))
                 .additional(ContractAgreement.class, contractAgreement)
+                .additional(PolicyEvaluationSchedule.class, schedule)
                 .build();
 
         var result = policyEngine.evaluate(POLICY_MONITOR_SCOPE, policy, policyContext);
@@ -108,20 +137,31 @@ public class PolicyMonitorManagerImpl extends AbstractStateEntityManager<PolicyM
                 update(entry);
                 return true;
             }
+        } else {
+            entry.setNextCheckAt(nextCheckAt(schedule));
         }
 
         breakLease(entry);
         return true;
     }
 
+    private long nextCheckAt(PolicyEvaluationSchedule schedule) {
+        var latest = clock.millis() + maxCheckInterval;
+        var nextEvaluation = schedule.getNextEvaluation();
+        return nextEvaluation == null ? latest : Math.min(nextEvaluation.toEpochMilli(), latest);
+    }
+
     private Processor processEntriesInState(PolicyMonitorEntryStates state, Function<PolicyMonitorEntry, Boolean> function) {
-        var filter = new Criterion[]{ hasState(state.code()) };
-        return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, filter))
+        return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, hasState(state.code()), isDue()))
                 .process(telemetry.contextPropagationMiddleware(function))
                 .onNotProcessed(this::breakLease)
                 .build();
     }
 
+    private Criterion isDue() {
+        return criterion("nextCheckAt", "<", clock.millis());
+    }
+
     public static class Builder
             extends AbstractStateEntityManager.Builder<PolicyMonitorEntry, PolicyMonitorStore, PolicyMonitorManagerImpl, Builder> {
 
@@ -148,6 +188,11 @@ public class PolicyMonitorManagerImpl extends AbstractStateEntityManager<PolicyM
             return this;
         }
 
+        public Builder maxCheckInterval(long maxCheckInterval) {
+            manager.maxCheckInterval = maxCheckInterval;
+            return this;
+        }
+
         @Override
         public Builder self() {
             return this;
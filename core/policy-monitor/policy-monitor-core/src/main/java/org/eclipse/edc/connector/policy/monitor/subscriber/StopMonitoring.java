@@ -0,0 +1,46 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.policy.monitor.subscriber;
+
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessCompleted;
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessTerminated;
+import org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorManager;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess.Type.PROVIDER;
+
+/**
+ * Event subscriber that will stop monitoring a transfer process whenever it gets completed or terminated and it's a
+ * PROVIDER one.
+ */
+public class StopMonitoring implements EventSubscriber {
+
+    private final PolicyMonitorManager manager;
+
+    public StopMonitoring(PolicyMonitorManager manager) {
+        this.manager = manager;
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        if (event.getPayload() instanceof TransferProcessCompleted completed && PROVIDER.name().equals(completed.getType())) {
+            manager.stopMonitoring(completed.getTransferProcessId());
+        } else if (event.getPayload() instanceof TransferProcessTerminated terminated && PROVIDER.name().equals(terminated.getType())) {
+            manager.stopMonitoring(terminated.getTransferProcessId());
+        }
+    }
+}
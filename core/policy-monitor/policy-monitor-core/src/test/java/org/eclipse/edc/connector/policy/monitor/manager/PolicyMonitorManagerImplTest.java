@@ -25,15 +25,20 @@ import org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorStore;
 import org.eclipse.edc.policy.engine.spi.PolicyContext;
 import org.eclipse.edc.policy.engine.spi.PolicyContextImpl;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
+import org.eclipse.edc.policy.engine.spi.PolicyEvaluationSchedule;
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.result.ServiceResult;
+import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.List;
 
 import static java.util.Collections.emptyList;
@@ -44,7 +49,7 @@ import static org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorEntrySta
 import static org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorEntryStates.FAILED;
 import static org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorEntryStates.STARTED;
 import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
-import static org.mockito.AdditionalMatchers.aryEq;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.argThat;
@@ -63,6 +68,7 @@ class PolicyMonitorManagerImplTest {
     private final ContractAgreementService contractAgreementService = mock();
     private final TransferProcessService transferProcessService = mock();
     private final PolicyEngine policyEngine = mock();
+    private final Clock clock = Clock.fixed(Instant.ofEpochMilli(1000L), ZoneOffset.UTC);
     private PolicyMonitorManager manager;
 
     @BeforeEach
@@ -70,10 +76,11 @@ class PolicyMonitorManagerImplTest {
         manager = PolicyMonitorManagerImpl.Builder.newInstance()
                 .executorInstrumentation(ExecutorInstrumentation.noop())
                 .monitor(mock())
-                .clock(mock())
+                .clock(clock)
                 .contractAgreementService(contractAgreementService)
                 .policyEngine(policyEngine)
                 .transferProcessService(transferProcessService)
+                .maxCheckInterval(60_000L)
                 .store(store)
                 .build();
     }
@@ -99,7 +106,7 @@ class PolicyMonitorManagerImplTest {
                 .build();
         var policy = Policy.Builder.newInstance().build();
         var contractAgreement = createContractAgreement(policy);
-        when(store.nextNotLeased(anyInt(), stateIs(STARTED.code()))).thenReturn(List.of(entry)).thenReturn(emptyList());
+        when(store.nextNotLeased(anyInt(), eq(hasState(STARTED.code())), isDue())).thenReturn(List.of(entry)).thenReturn(emptyList());
         when(transferProcessService.findById(entry.getId()))
                 .thenReturn(TransferProcess.Builder.newInstance().state(TransferProcessStates.STARTED.code()).build());
         when(contractAgreementService.findById(any())).thenReturn(contractAgreement);
@@ -127,7 +134,7 @@ class PolicyMonitorManagerImplTest {
                 .state(STARTED.code())
                 .build();
         var policy = Policy.Builder.newInstance().build();
-        when(store.nextNotLeased(anyInt(), stateIs(STARTED.code()))).thenReturn(List.of(entry)).thenReturn(emptyList());
+        when(store.nextNotLeased(anyInt(), eq(hasState(STARTED.code())), isDue())).thenReturn(List.of(entry)).thenReturn(emptyList());
         when(transferProcessService.findById(entry.getId()))
                 .thenReturn(TransferProcess.Builder.newInstance().state(TransferProcessStates.STARTED.code()).build());
         when(contractAgreementService.findById(any())).thenReturn(createContractAgreement(policy));
@@ -149,7 +156,7 @@ class PolicyMonitorManagerImplTest {
                 .state(STARTED.code())
                 .build();
         var policy = Policy.Builder.newInstance().build();
-        when(store.nextNotLeased(anyInt(), stateIs(STARTED.code()))).thenReturn(List.of(entry)).thenReturn(emptyList());
+        when(store.nextNotLeased(anyInt(), eq(hasState(STARTED.code())), isDue())).thenReturn(List.of(entry)).thenReturn(emptyList());
         when(transferProcessService.findById(entry.getId()))
                 .thenReturn(TransferProcess.Builder.newInstance().state(TransferProcessStates.STARTED.code()).build());
         when(contractAgreementService.findById(any())).thenReturn(createContractAgreement(policy));
@@ -159,7 +166,32 @@ class PolicyMonitorManagerImplTest {
 
         await().untilAsserted(() -> {
             verify(transferProcessService, never()).terminate(any());
-            verify(store).save(argThat(it -> it.getState() == STARTED.code()));
+            verify(store).save(argThat(it -> it.getState() == STARTED.code() && it.getNextCheckAt() == clock.millis() + 60_000L));
+        });
+    }
+
+    @Test
+    void started_shouldScheduleNextCheck_whenPolicyEvaluationReportsChange() {
+        var entry = PolicyMonitorEntry.Builder.newInstance()
+                .id("transferProcessId")
+                .contractId("contractId")
+                .state(STARTED.code())
+                .build();
+        var policy = Policy.Builder.newInstance().build();
+        when(store.nextNotLeased(anyInt(), eq(hasState(STARTED.code())), isDue())).thenReturn(List.of(entry)).thenReturn(emptyList());
+        when(transferProcessService.findById(entry.getId()))
+                .thenReturn(TransferProcess.Builder.newInstance().state(TransferProcessStates.STARTED.code()).build());
+        when(contractAgreementService.findById(any())).thenReturn(createContractAgreement(policy));
+        when(policyEngine.evaluate(any(), any(), isA(PolicyContext.class))).thenAnswer(invocation -> {
+            PolicyContext context = invocation.getArgument(2);
+            context.getContextData(PolicyEvaluationSchedule.class).reportChangeAt(Instant.ofEpochMilli(5000L));
+            return Result.success();
+        });
+
+        manager.start();
+
+        await().untilAsserted(() -> {
+            verify(store).save(argThat(it -> it.getState() == STARTED.code() && it.getNextCheckAt() == 5000L));
         });
     }
 
@@ -170,7 +202,7 @@ class PolicyMonitorManagerImplTest {
                 .contractId("contractId")
                 .state(STARTED.code())
                 .build();
-        when(store.nextNotLeased(anyInt(), stateIs(STARTED.code()))).thenReturn(List.of(entry)).thenReturn(emptyList());
+        when(store.nextNotLeased(anyInt(), eq(hasState(STARTED.code())), isDue())).thenReturn(List.of(entry)).thenReturn(emptyList());
         when(transferProcessService.findById(entry.getId()))
                 .thenReturn(TransferProcess.Builder.newInstance().state(TransferProcessStates.COMPLETED.code()).build());
 
@@ -189,7 +221,7 @@ class PolicyMonitorManagerImplTest {
                 .contractId("contractId")
                 .state(STARTED.code())
                 .build();
-        when(store.nextNotLeased(anyInt(), stateIs(STARTED.code()))).thenReturn(List.of(entry)).thenReturn(emptyList());
+        when(store.nextNotLeased(anyInt(), eq(hasState(STARTED.code())), isDue())).thenReturn(List.of(entry)).thenReturn(emptyList());
         when(transferProcessService.findById(any())).thenReturn(null);
 
         manager.start();
@@ -207,7 +239,7 @@ class PolicyMonitorManagerImplTest {
                 .contractId("contractId")
                 .state(STARTED.code())
                 .build();
-        when(store.nextNotLeased(anyInt(), stateIs(STARTED.code()))).thenReturn(List.of(entry)).thenReturn(emptyList());
+        when(store.nextNotLeased(anyInt(), eq(hasState(STARTED.code())), isDue())).thenReturn(List.of(entry)).thenReturn(emptyList());
         when(contractAgreementService.findById(any())).thenReturn(null);
 
         manager.start();
@@ -218,6 +250,29 @@ class PolicyMonitorManagerImplTest {
         });
     }
 
+    @Test
+    void stopMonitoring_shouldTransitionToCompleted() {
+        var entry = PolicyMonitorEntry.Builder.newInstance()
+                .id("transferProcessId")
+                .contractId("contractId")
+                .state(STARTED.code())
+                .build();
+        when(store.findByIdAndLease("transferProcessId")).thenReturn(StoreResult.success(entry));
+
+        manager.stopMonitoring("transferProcessId");
+
+        verify(store).save(argThat(it -> it.getState() == COMPLETED.code()));
+    }
+
+    @Test
+    void stopMonitoring_shouldDoNothing_whenEntryCannotBeLeased() {
+        when(store.findByIdAndLease("transferProcessId")).thenReturn(StoreResult.notFound("not found"));
+
+        manager.stopMonitoring("transferProcessId");
+
+        verify(store, never()).save(any());
+    }
+
     private ContractAgreement createContractAgreement(Policy policy) {
         return ContractAgreement.Builder.newInstance()
                 .providerId("providerId")
@@ -227,7 +282,7 @@ class PolicyMonitorManagerImplTest {
                 .build();
     }
 
-    private Criterion[] stateIs(int state) {
-        return aryEq(new Criterion[]{ hasState(state) });
+    private Criterion isDue() {
+        return eq(criterion("nextCheckAt", "<", clock.millis()));
     }
 }
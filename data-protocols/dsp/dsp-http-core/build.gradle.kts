@@ -26,6 +26,10 @@ dependencies {
     api(project(":extensions:common:json-ld"))
     api(project(":data-protocols:dsp:dsp-spi"))
     api(project(":data-protocols:dsp:dsp-http-spi"))
+    api(project(":spi:common:identity-did-spi"))
+    api(project(":spi:common:web-spi"))
+
+    implementation(libs.nimbus.jwt)
 
     testImplementation(project(":core:common:junit"))
     testImplementation(project(":core:common:lib:json-ld-lib"))
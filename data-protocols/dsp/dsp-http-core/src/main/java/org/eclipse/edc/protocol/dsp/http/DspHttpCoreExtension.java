@@ -29,28 +29,41 @@ import org.eclipse.edc.connector.controlplane.transfer.spi.types.protocol.Transf
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.protocol.TransferSuspensionMessage;
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.protocol.TransferTerminationMessage;
 import org.eclipse.edc.http.spi.EdcHttpClient;
+import org.eclipse.edc.iam.did.spi.resolution.DidPublicKeyResolver;
 import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.keys.spi.PublicKeyResolver;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
 import org.eclipse.edc.policy.engine.spi.PolicyScope;
+import org.eclipse.edc.protocol.dsp.http.authentication.CachingPublicKeyResolver;
+import org.eclipse.edc.protocol.dsp.http.authentication.DspPreAuthenticationFilter;
+import org.eclipse.edc.protocol.dsp.http.authentication.IssuerRateLimiter;
 import org.eclipse.edc.protocol.dsp.http.dispatcher.DspHttpRemoteMessageDispatcherImpl;
 import org.eclipse.edc.protocol.dsp.http.message.DspRequestHandlerImpl;
 import org.eclipse.edc.protocol.dsp.http.serialization.JsonLdRemoteMessageSerializerImpl;
+import org.eclipse.edc.protocol.dsp.http.spi.configuration.DspApiConfiguration;
 import org.eclipse.edc.protocol.dsp.http.spi.dispatcher.DspHttpRemoteMessageDispatcher;
 import org.eclipse.edc.protocol.dsp.http.spi.message.DspRequestHandler;
 import org.eclipse.edc.protocol.dsp.http.spi.serialization.JsonLdRemoteMessageSerializer;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.iam.AudienceResolver;
 import org.eclipse.edc.spi.iam.IdentityService;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.token.spi.TokenDecorator;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
+import org.eclipse.edc.web.spi.WebService;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
 
 import static org.eclipse.edc.protocol.dsp.spi.type.DspConstants.DSP_SCOPE;
 import static org.eclipse.edc.spi.constants.CoreConstants.JSON_LD;
@@ -104,15 +117,61 @@ public class DspHttpCoreExtension implements ServiceExtension {
     private AudienceResolver audienceResolver;
     @Inject
     private Monitor monitor;
+    @Inject
+    private MetricsRecorder metrics;
+
+    private static final long DEFAULT_PREAUTH_LEEWAY_SECONDS = 5;
+    private static final long DEFAULT_PREAUTH_KEY_CACHE_TTL_SECONDS = 300;
+    private static final long DEFAULT_PREAUTH_KEY_CACHE_FAILURE_TTL_SECONDS = 30;
+
+    @Setting(value = "Whether tokens of incoming protocol requests are pre-checked (structure, expiry, signature and issuer rate) before the request body is processed", type = "boolean", defaultValue = "false")
+    private static final String PREAUTH_ENABLED = "edc.dsp.preauth.enabled";
+
+    @Setting(value = "Clock skew tolerated, in seconds, when pre-checking token expiration", type = "long", defaultValue = DEFAULT_PREAUTH_LEEWAY_SECONDS + "")
+    private static final String PREAUTH_LEEWAY_SECONDS = "edc.dsp.preauth.leeway-seconds";
+
+    @Setting(value = "Whether token signatures are pre-checked using DID public keys. Requires DID key resolution, e.g. DCP", type = "boolean", defaultValue = "false")
+    private static final String PREAUTH_VERIFY_SIGNATURE = "edc.dsp.preauth.verify-signature";
+
+    @Setting(value = "How long, in seconds, resolved public keys are cached for the signature pre-check", type = "long", defaultValue = DEFAULT_PREAUTH_KEY_CACHE_TTL_SECONDS + "")
+    private static final String PREAUTH_KEY_CACHE_TTL_SECONDS = "edc.dsp.preauth.key-cache-ttl-seconds";
+
+    @Setting(value = "How long, in seconds, failed public key resolutions are cached for the signature pre-check", type = "long", defaultValue = DEFAULT_PREAUTH_KEY_CACHE_FAILURE_TTL_SECONDS + "")
+    private static final String PREAUTH_KEY_CACHE_FAILURE_TTL_SECONDS = "edc.dsp.preauth.key-cache-failure-ttl-seconds";
+
+    @Setting(value = "Max requests per second accepted from a single token issuer. 0 means unlimited", type = "int", defaultValue = "0")
+    private static final String PREAUTH_ISSUER_RATE_LIMIT = "edc.dsp.preauth.issuer.rate-limit";
+
+    @Setting(value = "Max requests accepted at once from a single token issuer. Defaults to the rate limit", type = "int")
+    private static final String PREAUTH_ISSUER_BURST = "edc.dsp.preauth.issuer.burst";
 
     @Inject
     private JsonObjectValidatorRegistry validatorRegistry;
 
+    @Inject
+    private WebService webService;
+
+    @Inject
+    private DspApiConfiguration apiConfiguration;
+
+    @Inject
+    private Clock clock;
+
+    @Inject(required = false)
+    private DidPublicKeyResolver didPublicKeyResolver;
+
     @Override
     public String name() {
         return NAME;
     }
 
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        if (context.getSetting(PREAUTH_ENABLED, false)) {
+            webService.registerResource(apiConfiguration.getContextAlias(), preAuthenticationFilter(context));
+        }
+    }
+
     @Provider
     public DspHttpRemoteMessageDispatcher dspHttpRemoteMessageDispatcher(ServiceExtensionContext context) {
         TokenDecorator td; // either a decorator, or noop
@@ -123,7 +182,7 @@ public class DspHttpCoreExtension implements ServiceExtension {
             td = bldr -> bldr;
         }
 
-        var dispatcher = new DspHttpRemoteMessageDispatcherImpl(httpClient, identityService, td, policyEngine, audienceResolver);
+        var dispatcher = new DspHttpRemoteMessageDispatcherImpl(httpClient, identityService, td, policyEngine, audienceResolver, metrics);
         registerNegotiationPolicyScopes(dispatcher);
         registerTransferProcessPolicyScopes(dispatcher);
         registerCatalogPolicyScopes(dispatcher);
@@ -141,6 +200,29 @@ public class DspHttpCoreExtension implements ServiceExtension {
         return new JsonLdRemoteMessageSerializerImpl(transformerRegistry.forContext("dsp-api"), typeManager.getMapper(JSON_LD), jsonLdService, DSP_SCOPE);
     }
 
+    private DspPreAuthenticationFilter preAuthenticationFilter(ServiceExtensionContext context) {
+        var rateLimit = context.getSetting(PREAUTH_ISSUER_RATE_LIMIT, 0);
+        var burst = context.getSetting(PREAUTH_ISSUER_BURST, rateLimit);
+        var rateLimiter = new IssuerRateLimiter(rateLimit, burst, clock);
+
+        PublicKeyResolver keyResolver = null;
+        if (context.getSetting(PREAUTH_VERIFY_SIGNATURE, false)) {
+            if (didPublicKeyResolver != null) {
+                var ttl = Duration.ofSeconds(context.getSetting(PREAUTH_KEY_CACHE_TTL_SECONDS, DEFAULT_PREAUTH_KEY_CACHE_TTL_SECONDS));
+                var failureTtl = Duration.ofSeconds(context.getSetting(PREAUTH_KEY_CACHE_FAILURE_TTL_SECONDS, DEFAULT_PREAUTH_KEY_CACHE_FAILURE_TTL_SECONDS));
+                keyResolver = new CachingPublicKeyResolver(didPublicKeyResolver, clock, ttl, failureTtl);
+            } else {
+                monitor.warning("No DidPublicKeyResolver was registered. Signatures of incoming protocol tokens won't be pre-checked");
+            }
+        }
+
+        var leeway = Duration.ofSeconds(context.getSetting(PREAUTH_LEEWAY_SECONDS, DEFAULT_PREAUTH_LEEWAY_SECONDS));
+        var filter = new DspPreAuthenticationFilter(clock, monitor, leeway, rateLimiter, keyResolver);
+        Arrays.stream(DspPreAuthenticationFilter.Rejection.values())
+                .forEach(rejection -> metrics.gauge("edc.dsp.preauthentication.rejected", () -> filter.getRejectedRequests(rejection), "reason", rejection.name()));
+        return filter;
+    }
+
     private void registerNegotiationPolicyScopes(DspHttpRemoteMessageDispatcher dispatcher) {
         dispatcher.registerPolicyScope(ContractAgreementMessage.class, CONTRACT_NEGOTIATION_REQUEST_SCOPE, ContractRemoteMessage::getPolicy);
         dispatcher.registerPolicyScope(ContractNegotiationEventMessage.class, CONTRACT_NEGOTIATION_REQUEST_SCOPE, ContractRemoteMessage::getPolicy);
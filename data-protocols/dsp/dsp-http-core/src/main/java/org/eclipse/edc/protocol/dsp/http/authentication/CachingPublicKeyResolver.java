@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.http.authentication;
+
+import org.eclipse.edc.keys.spi.PublicKeyResolver;
+import org.eclipse.edc.spi.result.Result;
+
+import java.security.PublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link PublicKeyResolver} that keeps successfully resolved keys for a given time, so that verifying the signature of
+ * a token does not require a key resolution (e.g. a DID document download) on every request. Failed resolutions are
+ * cached too, for a shorter time, so that tokens with made-up key ids don't trigger a resolution on every request.
+ */
+public class CachingPublicKeyResolver implements PublicKeyResolver {
+
+    static final int MAX_CACHED_KEYS = 1_000;
+
+    private final PublicKeyResolver delegate;
+    private final Clock clock;
+    private final Duration ttl;
+    private final Duration failureTtl;
+    private final Map<String, CachedKey> cache = new ConcurrentHashMap<>();
+
+    public CachingPublicKeyResolver(PublicKeyResolver delegate, Clock clock, Duration ttl, Duration failureTtl) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.ttl = ttl;
+        this.failureTtl = failureTtl;
+    }
+
+    @Override
+    public Result<PublicKey> resolveKey(String id) {
+        var now = clock.millis();
+        var cached = cache.get(id);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.failure() == null ? Result.success(cached.key()) : Result.failure(cached.failure());
+        }
+
+        var result = delegate.resolveKey(id);
+        if (cache.size() >= MAX_CACHED_KEYS) {
+            cache.values().removeIf(key -> key.expiresAt() <= now);
+        }
+        if (cache.size() < MAX_CACHED_KEYS) {
+            var cachedKey = result.succeeded()
+                    ? new CachedKey(result.getContent(), null, now + ttl.toMillis())
+                    : new CachedKey(null, result.getFailureDetail(), now + failureTtl.toMillis());
+            cache.put(id, cachedKey);
+        }
+        return result;
+    }
+
+    private record CachedKey(PublicKey key, String failure, long expiresAt) {
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.http.authentication;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.crypto.factories.DefaultJWSVerifierFactory;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.edc.keys.spi.PublicKeyResolver;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.jetbrains.annotations.Nullable;
+
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static jakarta.ws.rs.HttpMethod.OPTIONS;
+import static jakarta.ws.rs.core.HttpHeaders.AUTHORIZATION;
+
+/**
+ * Cheap checks on the token of incoming protocol requests, done before the request body gets read, expanded as JSON-LD,
+ * validated and transformed. Requests are rejected when the token is missing, is not a signed JWT, is expired or not
+ * valid yet, has no issuer, has an invalid signature or when its issuer exceeds its rate limit. The discovery endpoints
+ * under {@code /.well-known} are public, their requests are never checked.
+ * <p>
+ * Tokens whose signature could not be verified with a key of the issuer DID are rate limited per issuer as well, but
+ * in buckets separate from the verified ones, so that a token that claims to come from a partner cannot consume the
+ * permits of that partner.
+ * <p>
+ * This does not replace the token verification done by the {@link org.eclipse.edc.spi.iam.IdentityService}: whenever
+ * a check cannot be done cheaply (e.g. the signing key cannot be resolved) the request is let through.
+ */
+public class DspPreAuthenticationFilter implements ContainerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String WELL_KNOWN_PATH = ".well-known/";
+    // not valid in a DID, so it cannot clash with an issuer
+    static final String UNVERIFIED_ISSUER_PREFIX = "<unverified>";
+
+    private final Clock clock;
+    private final Monitor monitor;
+    private final Duration leeway;
+    private final IssuerRateLimiter rateLimiter;
+    private final PublicKeyResolver publicKeyResolver;
+    private final DefaultJWSVerifierFactory verifierFactory = new DefaultJWSVerifierFactory();
+    private final Map<Rejection, AtomicLong> rejections = new EnumMap<>(Rejection.class);
+
+    /**
+     * Constructor.
+     *
+     * @param clock             the clock.
+     * @param monitor           the monitor.
+     * @param leeway            the clock skew tolerated on expiration and not-before.
+     * @param rateLimiter       the issuer rate limiter.
+     * @param publicKeyResolver the resolver for the keys used to verify signatures, signatures are not verified if null.
+     */
+    public DspPreAuthenticationFilter(Clock clock, Monitor monitor, Duration leeway, IssuerRateLimiter rateLimiter,
+                                      @Nullable PublicKeyResolver publicKeyResolver) {
+        this.clock = clock;
+        this.monitor = monitor;
+        this.leeway = leeway;
+        this.rateLimiter = rateLimiter;
+        this.publicKeyResolver = publicKeyResolver;
+        Arrays.stream(Rejection.values()).forEach(rejection -> rejections.put(rejection, new AtomicLong()));
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        if (OPTIONS.equalsIgnoreCase(requestContext.getMethod()) || isWellKnown(requestContext.getUriInfo().getPath())) {
+            return;
+        }
+
+        var token = requestContext.getHeaderString(AUTHORIZATION);
+        if (token == null || token.isBlank()) {
+            reject(requestContext, Rejection.MISSING_TOKEN);
+            return;
+        }
+        if (token.startsWith(BEARER_PREFIX)) {
+            token = token.substring(BEARER_PREFIX.length());
+        }
+
+        SignedJWT jwt;
+        JWTClaimsSet claims;
+        try {
+            jwt = SignedJWT.parse(token);
+            claims = jwt.getJWTClaimsSet();
+        } catch (ParseException e) {
+            reject(requestContext, Rejection.MALFORMED_TOKEN);
+            return;
+        }
+
+        if (claims.getIssuer() == null) {
+            reject(requestContext, Rejection.MALFORMED_TOKEN);
+            return;
+        }
+
+        var now = clock.instant();
+        var expiration = claims.getExpirationTime();
+        var notBefore = claims.getNotBeforeTime();
+        if (expiration == null || expiration.toInstant().plus(leeway).isBefore(now) ||
+                (notBefore != null && notBefore.toInstant().minus(leeway).isAfter(now))) {
+            reject(requestContext, Rejection.EXPIRED_TOKEN);
+            return;
+        }
+
+        var signature = verifySignature(jwt, claims.getIssuer());
+        if (signature == Signature.INVALID) {
+            reject(requestContext, Rejection.INVALID_SIGNATURE);
+            return;
+        }
+
+        var bucket = signature == Signature.VERIFIED ? claims.getIssuer() : UNVERIFIED_ISSUER_PREFIX + claims.getIssuer();
+        if (!rateLimiter.tryAcquire(bucket)) {
+            reject(requestContext, Rejection.RATE_LIMITED);
+        }
+    }
+
+    /**
+     * Number of requests rejected since startup for the given reason.
+     *
+     * @param rejection the rejection reason.
+     * @return the number of rejected requests.
+     */
+    public long getRejectedRequests(Rejection rejection) {
+        return rejections.get(rejection).get();
+    }
+
+    private boolean isWellKnown(@Nullable String path) {
+        return path != null && (path.startsWith(WELL_KNOWN_PATH) || path.startsWith("/" + WELL_KNOWN_PATH));
+    }
+
+    private Signature verifySignature(SignedJWT jwt, String issuer) {
+        var keyId = jwt.getHeader().getKeyID();
+        if (publicKeyResolver == null || keyId == null || !keyId.startsWith(issuer + "#")) {
+            return Signature.UNVERIFIED;
+        }
+
+        var key = publicKeyResolver.resolveKey(keyId);
+        if (key.failed()) {
+            return Signature.UNVERIFIED;
+        }
+
+        try {
+            return jwt.verify(verifierFactory.createJWSVerifier(jwt.getHeader(), key.getContent())) ? Signature.VERIFIED : Signature.INVALID;
+        } catch (JOSEException e) {
+            // algorithm or key type not supported by the default verifiers: leave it to the identity service
+            return Signature.UNVERIFIED;
+        }
+    }
+
+    private void reject(ContainerRequestContext requestContext, Rejection rejection) {
+        rejections.get(rejection).incrementAndGet();
+        monitor.debug(() -> "DSP: request to %s rejected before processing: %s".formatted(requestContext.getUriInfo().getPath(), rejection));
+        requestContext.abortWith(Response.status(rejection.status).build());
+    }
+
+    private enum Signature {
+        VERIFIED, UNVERIFIED, INVALID
+    }
+
+    /**
+     * Reasons for rejecting a request.
+     */
+    public enum Rejection {
+        MISSING_TOKEN(Response.Status.UNAUTHORIZED),
+        MALFORMED_TOKEN(Response.Status.UNAUTHORIZED),
+        EXPIRED_TOKEN(Response.Status.UNAUTHORIZED),
+        INVALID_SIGNATURE(Response.Status.UNAUTHORIZED),
+        RATE_LIMITED(Response.Status.TOO_MANY_REQUESTS);
+
+        private final Response.Status status;
+
+        Rejection(Response.Status status) {
+            this.status = status;
+        }
+    }
+}
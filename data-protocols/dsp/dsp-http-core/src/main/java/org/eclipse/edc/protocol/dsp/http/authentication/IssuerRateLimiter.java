@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.http.authentication;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Token bucket rate limiter keyed by token issuer. Every issuer can send up to {@code burst} requests at once, then
+ * {@code permitsPerSecond} requests per second.
+ * <p>
+ * A rate lower or equal to 0 means "unlimited". To bound memory usage, idle issuers (whose bucket is full again) are
+ * evicted once the number of tracked issuers reaches {@link #MAX_TRACKED_ISSUERS}.
+ */
+public class IssuerRateLimiter {
+
+    static final int MAX_TRACKED_ISSUERS = 10_000;
+
+    private final double permitsPerSecond;
+    private final double burst;
+    private final Clock clock;
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    public IssuerRateLimiter(double permitsPerSecond, double burst, Clock clock) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = Math.max(burst, 1);
+        this.clock = clock;
+    }
+
+    /**
+     * Rate limiter that allows every request.
+     *
+     * @return the rate limiter.
+     */
+    public static IssuerRateLimiter unlimited() {
+        return new IssuerRateLimiter(0, 0, Clock.systemUTC());
+    }
+
+    /**
+     * Consume a permit for the issuer, if available.
+     *
+     * @param issuer the token issuer.
+     * @return true if the request is allowed, false if the issuer exceeded its rate.
+     */
+    public boolean tryAcquire(String issuer) {
+        if (permitsPerSecond <= 0) {
+            return true;
+        }
+
+        var now = clock.millis();
+        if (buckets.size() >= MAX_TRACKED_ISSUERS && !buckets.containsKey(issuer)) {
+            buckets.values().removeIf(bucket -> bucket.isFull(now));
+        }
+
+        return buckets.computeIfAbsent(issuer, i -> new Bucket(now)).tryAcquire(now);
+    }
+
+    private class Bucket {
+        private double tokens;
+        private long lastRefill;
+
+        Bucket(long now) {
+            tokens = burst;
+            lastRefill = now;
+        }
+
+        synchronized boolean tryAcquire(long now) {
+            refill(now);
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+
+        synchronized boolean isFull(long now) {
+            refill(now);
+            return tokens >= burst;
+        }
+
+        private void refill(long now) {
+            var elapsed = now - lastRefill;
+            if (elapsed > 0) {
+                tokens = Math.min(burst, tokens + elapsed * permitsPerSecond / 1000);
+                lastRefill = now;
+            }
+        }
+    }
+}
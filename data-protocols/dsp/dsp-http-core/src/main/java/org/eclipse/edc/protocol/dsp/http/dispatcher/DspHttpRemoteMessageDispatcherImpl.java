@@ -31,14 +31,17 @@ import org.eclipse.edc.spi.iam.RequestContext;
 import org.eclipse.edc.spi.iam.RequestScope;
 import org.eclipse.edc.spi.iam.TokenParameters;
 import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 import org.eclipse.edc.spi.types.domain.message.RemoteMessage;
 import org.eclipse.edc.token.spi.TokenDecorator;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
@@ -51,9 +54,13 @@ import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
 
 /**
  * Dispatches remote messages using the dataspace protocol.
+ * The latency and the errors of every dispatch are recorded on the {@link MetricsRecorder}, tagged with the message type
+ * and the counter-party.
  */
 public class DspHttpRemoteMessageDispatcherImpl implements DspHttpRemoteMessageDispatcher {
 
+    public static final String DISPATCH_DURATION_METRIC = "edc.dsp.dispatch.duration";
+    public static final String DISPATCH_ERRORS_METRIC = "edc.dsp.dispatch.errors";
     private static final String AUDIENCE_CLAIM = "aud";
     private static final String SCOPE_CLAIM = "scope";
     private final Map<Class<? extends RemoteMessage>, MessageHandler<?, ?>> handlers = new HashMap<>();
@@ -63,6 +70,7 @@ public class DspHttpRemoteMessageDispatcherImpl implements DspHttpRemoteMessageD
     private final PolicyEngine policyEngine;
     private final TokenDecorator tokenDecorator;
     private final AudienceResolver audienceResolver;
+    private final MetricsRecorder metrics;
 
 
     public DspHttpRemoteMessageDispatcherImpl(EdcHttpClient httpClient,
@@ -70,11 +78,21 @@ public class DspHttpRemoteMessageDispatcherImpl implements DspHttpRemoteMessageD
                                               TokenDecorator decorator,
                                               PolicyEngine policyEngine,
                                               AudienceResolver audienceResolver) {
+        this(httpClient, identityService, decorator, policyEngine, audienceResolver, MetricsRecorder.noop());
+    }
+
+    public DspHttpRemoteMessageDispatcherImpl(EdcHttpClient httpClient,
+                                              IdentityService identityService,
+                                              TokenDecorator decorator,
+                                              PolicyEngine policyEngine,
+                                              AudienceResolver audienceResolver,
+                                              MetricsRecorder metrics) {
         this.httpClient = httpClient;
         this.identityService = identityService;
         this.policyEngine = policyEngine;
         this.tokenDecorator = decorator;
         this.audienceResolver = audienceResolver;
+        this.metrics = metrics;
     }
 
     @Override
@@ -123,16 +141,20 @@ public class DspHttpRemoteMessageDispatcherImpl implements DspHttpRemoteMessageD
                 .claims(AUDIENCE_CLAIM, audienceResolver.resolve(message)) // enforce the audience, ignore anything a decorator might have set
                 .build();
 
-        return identityService.obtainClientCredentials(tokenParameters)
-                .map(token -> {
-                    var requestWithAuth = request.newBuilder()
-                            .header("Authorization", token.getToken())
-                            .build();
+        var start = System.nanoTime();
+        var credentials = identityService.obtainClientCredentials(tokenParameters);
+        if (credentials.failed()) {
+            record(message, start, false);
+            return failedFuture(new EdcException(format("Unable to obtain credentials: %s", credentials.getFailureDetail())));
+        }
+
+        var requestWithAuth = request.newBuilder()
+                .header("Authorization", credentials.getContent().getToken())
+                .build();
 
-                    return httpClient.executeAsync(requestWithAuth, List.of(retryWhenStatusNot2xxOr4xx()))
-                            .thenApply(response -> handleResponse(response, responseType, handler.bodyExtractor));
-                })
-                .orElse(failure -> failedFuture(new EdcException(format("Unable to obtain credentials: %s", failure.getFailureDetail()))));
+        return httpClient.executeAsync(requestWithAuth, List.of(retryWhenStatusNot2xxOr4xx()))
+                .thenApply(response -> handleResponse(response, responseType, handler.bodyExtractor))
+                .whenComplete((result, throwable) -> record(message, start, throwable == null && result.succeeded()));
     }
 
     @Override
@@ -146,6 +168,15 @@ public class DspHttpRemoteMessageDispatcherImpl implements DspHttpRemoteMessageD
         policyScopes.put(messageClass, new PolicyScope<>(messageClass, scope, policyProvider));
     }
 
+    private void record(RemoteMessage message, long start, boolean succeeded) {
+        var counterParty = Objects.requireNonNullElse(message.getCounterPartyId(), Objects.requireNonNullElse(message.getCounterPartyAddress(), "unknown"));
+        var tags = new String[]{ "message", message.getClass().getSimpleName(), "counterParty", counterParty };
+        metrics.recordTime(DISPATCH_DURATION_METRIC, Duration.ofNanos(System.nanoTime() - start), tags);
+        if (!succeeded) {
+            metrics.increment(DISPATCH_ERRORS_METRIC, 1, tags);
+        }
+    }
+
     @NotNull
     private <T> StatusResult<T> handleResponse(Response response, Class<T> responseType, DspHttpResponseBodyExtractor<T> bodyExtractor) {
         try (var responseBody = response.body()) {
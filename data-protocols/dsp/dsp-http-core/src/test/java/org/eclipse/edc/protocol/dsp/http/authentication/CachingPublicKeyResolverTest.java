@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.http.authentication;
+
+import org.eclipse.edc.keys.spi.PublicKeyResolver;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.security.PublicKey;
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingPublicKeyResolverTest {
+
+    private final PublicKeyResolver delegate = mock();
+    private final Clock clock = mock();
+    private final CachingPublicKeyResolver resolver = new CachingPublicKeyResolver(delegate, clock, Duration.ofSeconds(60), Duration.ofSeconds(10));
+
+    @Test
+    void resolveKey_shouldCacheKey() {
+        var key = mock(PublicKey.class);
+        when(clock.millis()).thenReturn(0L);
+        when(delegate.resolveKey("did:web:issuer#key-1")).thenReturn(Result.success(key));
+
+        assertThat(resolver.resolveKey("did:web:issuer#key-1").getContent()).isSameAs(key);
+        assertThat(resolver.resolveKey("did:web:issuer#key-1").getContent()).isSameAs(key);
+
+        verify(delegate, times(1)).resolveKey("did:web:issuer#key-1");
+    }
+
+    @Test
+    void resolveKey_shouldCacheFailure_forFailureTtl() {
+        when(clock.millis()).thenReturn(0L);
+        when(delegate.resolveKey("did:web:issuer#unknown")).thenReturn(Result.failure("not found"));
+
+        assertThat(resolver.resolveKey("did:web:issuer#unknown").failed()).isTrue();
+        assertThat(resolver.resolveKey("did:web:issuer#unknown").getFailureDetail()).isEqualTo("not found");
+        verify(delegate, times(1)).resolveKey("did:web:issuer#unknown");
+
+        when(clock.millis()).thenReturn(10_000L);
+        assertThat(resolver.resolveKey("did:web:issuer#unknown").failed()).isTrue();
+        verify(delegate, times(2)).resolveKey("did:web:issuer#unknown");
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.http.authentication;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
+import org.eclipse.edc.keys.spi.PublicKeyResolver;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+import static jakarta.ws.rs.core.HttpHeaders.AUTHORIZATION;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.protocol.dsp.http.authentication.DspPreAuthenticationFilter.Rejection.EXPIRED_TOKEN;
+import static org.eclipse.edc.protocol.dsp.http.authentication.DspPreAuthenticationFilter.Rejection.INVALID_SIGNATURE;
+import static org.eclipse.edc.protocol.dsp.http.authentication.DspPreAuthenticationFilter.Rejection.MALFORMED_TOKEN;
+import static org.eclipse.edc.protocol.dsp.http.authentication.DspPreAuthenticationFilter.Rejection.MISSING_TOKEN;
+import static org.eclipse.edc.protocol.dsp.http.authentication.DspPreAuthenticationFilter.Rejection.RATE_LIMITED;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DspPreAuthenticationFilterTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T10:00:00Z");
+
+    private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+    private final PublicKeyResolver publicKeyResolver = mock();
+    private final ContainerRequestContext requestContext = mock();
+    private ECKey signingKey;
+
+    @BeforeEach
+    void setUp() throws JOSEException {
+        signingKey = new ECKeyGenerator(Curve.P_256).keyID("issuer#key-1").generate();
+        when(requestContext.getMethod()).thenReturn("POST");
+        when(requestContext.getUriInfo()).thenReturn(mock(UriInfo.class));
+        when(publicKeyResolver.resolveKey("issuer#key-1")).thenAnswer(i -> Result.success(signingKey.toPublicKey()));
+    }
+
+    @Test
+    void filter_shouldLetValidTokenThrough() throws JOSEException {
+        var filter = filter(IssuerRateLimiter.unlimited());
+        when(requestContext.getHeaderString(AUTHORIZATION)).thenReturn(token(signingKey, NOW.plusSeconds(60)));
+
+        filter.filter(requestContext);
+
+        verify(requestContext, never()).abortWith(any());
+    }
+
+    @Test
+    void filter_shouldAcceptBearerPrefix() throws JOSEException {
+        var filter = filter(IssuerRateLimiter.unlimited());
+        when(requestContext.getHeaderString(AUTHORIZATION)).thenReturn("Bearer " + token(signingKey, NOW.plusSeconds(60)));
+
+        filter.filter(requestContext);
+
+        verify(requestContext, never()).abortWith(any());
+    }
+
+    @Test
+    void filter_shouldReject_whenTokenIsMissing() {
+        var filter = filter(IssuerRateLimiter.unlimited());
+
+        filter.filter(requestContext);
+
+        verifyAbortedWith(Response.Status.UNAUTHORIZED);
+        assertThat(filter.getRejectedRequests(MISSING_TOKEN)).isEqualTo(1);
+    }
+
+    @Test
+    void filter_shouldReject_whenTokenIsNotJwt() {
+        var filter = filter(IssuerRateLimiter.unlimited());
+        when(requestContext.getHeaderString(AUTHORIZATION)).thenReturn("garbage");
+
+        filter.filter(requestContext);
+
+        verifyAbortedWith(Response.Status.UNAUTHORIZED);
+        assertThat(filter.getRejectedRequests(MALFORMED_TOKEN)).isEqualTo(1);
+    }
+
+    @Test
+    void filter_shouldReject_whenTokenIsExpired() throws JOSEException {
+        var filter = filter(IssuerRateLimiter.unlimited());
+        when(requestContext.getHeaderString(AUTHORIZATION)).thenReturn(token(signingKey, NOW.minusSeconds(60)));
+
+        filter.filter(requestContext);
+
+        verifyAbortedWith(Response.Status.UNAUTHORIZED);
+        assertThat(filter.getRejectedRequests(EXPIRED_TOKEN)).isEqualTo(1);
+    }
+
+    @Test
+    void filter_shouldReject_whenSignatureIsInvalid() throws JOSEException {
+        var filter = filter(IssuerRateLimiter.unlimited());
+        var otherKey = new ECKeyGenerator(Curve.P_256).keyID("issuer#key-1").generate();
+        when(requestContext.getHeaderString(AUTHORIZATION)).thenReturn(token(otherKey, NOW.plusSeconds(60)));
+
+        filter.filter(requestContext);
+
+        verifyAbortedWith(Response.Status.UNAUTHORIZED);
+        assertThat(filter.getRejectedRequests(INVALID_SIGNATURE)).isEqualTo(1);
+    }
+
+    @Test
+    void filter_shouldLetThrough_whenKeyCannotBeResolved() throws JOSEException {
+        var filter = filter(IssuerRateLimiter.unlimited());
+        when(publicKeyResolver.resolveKey(any())).thenReturn(Result.failure("not found"));
+        when(requestContext.getHeaderString(AUTHORIZATION)).thenReturn(token(signingKey, NOW.plusSeconds(60)));
+
+        filter.filter(requestContext);
+
+        verify(requestContext, never()).abortWith(any());
+    }
+
+    @Test
+    void filter_shouldReject_whenIssuerExceedsRateLimit() throws JOSEException {
+        var filter = filter(new IssuerRateLimiter(1, 1, clock));
+        when(requestContext.getHeaderString(AUTHORIZATION)).thenReturn(token(signingKey, NOW.plusSeconds(60)));
+
+        filter.filter(requestContext);
+        filter.filter(requestContext);
+
+        verifyAbortedWith(Response.Status.TOO_MANY_REQUESTS);
+        assertThat(filter.getRejectedRequests(RATE_LIMITED)).isEqualTo(1);
+    }
+
+    @Test
+    void filter_shouldNotChargeIssuer_whenSignatureCannotBeVerified() throws JOSEException {
+        var filter = filter(new IssuerRateLimiter(1, 1, clock));
+        when(publicKeyResolver.resolveKey("issuer#key-2")).thenReturn(Result.failure("not found"));
+        var unverifiableKey = new ECKeyGenerator(Curve.P_256).keyID("issuer#key-2").generate();
+        when(requestContext.getHeaderString(AUTHORIZATION))
+                .thenReturn(token(unverifiableKey, NOW.plusSeconds(60)))
+                .thenReturn(token(signingKey, NOW.plusSeconds(60)));
+
+        filter.filter(requestContext);
+        filter.filter(requestContext);
+
+        verify(requestContext, never()).abortWith(any());
+    }
+
+    @Test
+    void filter_shouldRateLimitUnverifiedTokensPerIssuer() throws JOSEException {
+        var filter = filter(new IssuerRateLimiter(1, 1, clock));
+        when(requestContext.getHeaderString(AUTHORIZATION))
+                .thenReturn(token("issuer", new ECKeyGenerator(Curve.P_256).generate(), NOW.plusSeconds(60)))
+                .thenReturn(token("other-issuer", new ECKeyGenerator(Curve.P_256).generate(), NOW.plusSeconds(60)))
+                .thenReturn(token("issuer", new ECKeyGenerator(Curve.P_256).generate(), NOW.plusSeconds(60)));
+
+        filter.filter(requestContext);
+        filter.filter(requestContext);
+        verify(requestContext, never()).abortWith(any());
+
+        filter.filter(requestContext);
+        verifyAbortedWith(Response.Status.TOO_MANY_REQUESTS);
+        assertThat(filter.getRejectedRequests(RATE_LIMITED)).isEqualTo(1);
+    }
+
+    @Test
+    void filter_shouldNotCheckWellKnownEndpoints() {
+        var filter = filter(IssuerRateLimiter.unlimited());
+        var uriInfo = mock(UriInfo.class);
+        when(uriInfo.getPath()).thenReturn(".well-known/dspace-version");
+        when(requestContext.getUriInfo()).thenReturn(uriInfo);
+        when(requestContext.getMethod()).thenReturn("GET");
+
+        filter.filter(requestContext);
+
+        verify(requestContext, never()).abortWith(any());
+        assertThat(filter.getRejectedRequests(MISSING_TOKEN)).isZero();
+    }
+
+    @Test
+    void filter_shouldNotResolveKey_whenKeyDoesNotBelongToIssuer() throws JOSEException {
+        var filter = filter(new IssuerRateLimiter(1, 1, clock));
+        when(requestContext.getHeaderString(AUTHORIZATION))
+                .thenReturn(token("other-issuer", signingKey, NOW.plusSeconds(60)))
+                .thenReturn(token(signingKey, NOW.plusSeconds(60)));
+
+        filter.filter(requestContext);
+        filter.filter(requestContext);
+
+        verify(requestContext, never()).abortWith(any());
+        verify(publicKeyResolver).resolveKey("issuer#key-1");
+    }
+
+    private DspPreAuthenticationFilter filter(IssuerRateLimiter rateLimiter) {
+        return new DspPreAuthenticationFilter(clock, mock(Monitor.class), Duration.ofSeconds(5), rateLimiter, publicKeyResolver);
+    }
+
+    private void verifyAbortedWith(Response.Status status) {
+        verify(requestContext).abortWith(argThat(response -> response.getStatus() == status.getStatusCode()));
+    }
+
+    private String token(ECKey key, Instant expiration) throws JOSEException {
+        return token("issuer", key, expiration);
+    }
+
+    private String token(String issuer, ECKey key, Instant expiration) throws JOSEException {
+        var claims = new JWTClaimsSet.Builder()
+                .issuer(issuer)
+                .expirationTime(Date.from(expiration))
+                .build();
+        var jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.ES256).keyID(key.getKeyID()).build(), claims);
+        jwt.sign(new ECDSASigner(key));
+        return jwt.serialize();
+    }
+}
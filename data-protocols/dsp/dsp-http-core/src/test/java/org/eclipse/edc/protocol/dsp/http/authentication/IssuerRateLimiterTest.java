@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.http.authentication;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IssuerRateLimiterTest {
+
+    private final Clock clock = mock();
+
+    @Test
+    void tryAcquire_shouldAllowBurstThenRate() {
+        when(clock.millis()).thenReturn(0L);
+        var rateLimiter = new IssuerRateLimiter(2, 3, clock);
+
+        assertThat(rateLimiter.tryAcquire("issuer")).isTrue();
+        assertThat(rateLimiter.tryAcquire("issuer")).isTrue();
+        assertThat(rateLimiter.tryAcquire("issuer")).isTrue();
+        assertThat(rateLimiter.tryAcquire("issuer")).isFalse();
+
+        when(clock.millis()).thenReturn(500L);
+        assertThat(rateLimiter.tryAcquire("issuer")).isTrue();
+        assertThat(rateLimiter.tryAcquire("issuer")).isFalse();
+    }
+
+    @Test
+    void tryAcquire_shouldLimitIssuersIndependently() {
+        when(clock.millis()).thenReturn(0L);
+        var rateLimiter = new IssuerRateLimiter(1, 1, clock);
+
+        assertThat(rateLimiter.tryAcquire("issuer")).isTrue();
+        assertThat(rateLimiter.tryAcquire("issuer")).isFalse();
+        assertThat(rateLimiter.tryAcquire("other")).isTrue();
+    }
+
+    @Test
+    void tryAcquire_shouldAlwaysAllow_whenUnlimited() {
+        var rateLimiter = IssuerRateLimiter.unlimited();
+
+        for (var i = 0; i < 1000; i++) {
+            assertThat(rateLimiter.tryAcquire("issuer")).isTrue();
+        }
+    }
+}
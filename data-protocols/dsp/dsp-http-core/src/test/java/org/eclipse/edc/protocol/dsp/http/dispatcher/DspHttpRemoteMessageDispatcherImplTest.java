@@ -33,6 +33,7 @@ import org.eclipse.edc.spi.iam.RequestScope;
 import org.eclipse.edc.spi.iam.TokenParameters;
 import org.eclipse.edc.spi.iam.TokenRepresentation;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 import org.eclipse.edc.spi.types.domain.message.RemoteMessage;
 import org.eclipse.edc.token.spi.TokenDecorator;
 import org.jetbrains.annotations.NotNull;
@@ -49,6 +50,8 @@ import static java.time.temporal.ChronoUnit.SECONDS;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.eclipse.edc.protocol.dsp.http.dispatcher.DspHttpRemoteMessageDispatcherImpl.DISPATCH_DURATION_METRIC;
+import static org.eclipse.edc.protocol.dsp.http.dispatcher.DspHttpRemoteMessageDispatcherImpl.DISPATCH_ERRORS_METRIC;
 import static org.eclipse.edc.protocol.dsp.http.spi.types.HttpMessageProtocol.DATASPACE_PROTOCOL_HTTP;
 import static org.eclipse.edc.spi.response.ResponseStatus.ERROR_RETRY;
 import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
@@ -74,10 +77,11 @@ class DspHttpRemoteMessageDispatcherImplTest {
     private final TokenDecorator tokenDecorator = mock();
     private final DspHttpRequestFactory<TestMessage> requestFactory = mock();
     private final AudienceResolver audienceResolver = mock();
+    private final MetricsRecorder metrics = mock();
     private final Duration timeout = Duration.of(5, SECONDS);
 
     private final DspHttpRemoteMessageDispatcher dispatcher =
-            new DspHttpRemoteMessageDispatcherImpl(httpClient, identityService, tokenDecorator, policyEngine, audienceResolver);
+            new DspHttpRemoteMessageDispatcherImpl(httpClient, identityService, tokenDecorator, policyEngine, audienceResolver, metrics);
 
     private static okhttp3.Response dummyResponse(int code) {
         return dummyResponseBuilder(code)
@@ -360,6 +364,17 @@ class DspHttpRemoteMessageDispatcherImplTest {
             verify(bodyExtractor, never()).extractBody(any());
         }
 
+        @Test
+        void shouldRecordMetrics() {
+            respondWith(dummyResponse(500), bodyExtractor);
+
+            var future = dispatcher.dispatch(String.class, new TestMessage());
+
+            assertThat(future).succeedsWithin(timeout);
+            verify(metrics).recordTime(eq(DISPATCH_DURATION_METRIC), any(), eq("message"), eq("TestMessage"), eq("counterParty"), eq("http://connector"));
+            verify(metrics).increment(DISPATCH_ERRORS_METRIC, 1, "message", "TestMessage", "counterParty", "http://connector");
+        }
+
         private void respondWith(okhttp3.Response response, DspHttpResponseBodyExtractor<Object> bodyExtractor) {
             when(requestFactory.createRequest(any())).thenReturn(new Request.Builder().url("http://url").build());
             when(httpClient.executeAsync(any(), isA(List.class))).thenReturn(completedFuture(response));
@@ -87,6 +87,43 @@ public interface ApiCoreSchema {
                 """;
     }
 
+    @Schema(name = "StateChanges", example = StateChangesSchema.STATE_CHANGES_EXAMPLE)
+    record StateChangesSchema(
+            @Schema(name = TYPE, example = StateChanges.STATE_CHANGES_TYPE)
+            String type,
+            List<StateChangeSchema> changes,
+            long lastSequence,
+            boolean truncated
+    ) {
+        public static final String STATE_CHANGES_EXAMPLE = """
+                {
+                    "@context": { "@vocab": "https://w3id.org/edc/v0.0.1/ns/" },
+                    "@type": "https://w3id.org/edc/v0.0.1/ns/StateChanges",
+                    "changes": [{
+                        "@type": "https://w3id.org/edc/v0.0.1/ns/StateChange",
+                        "@id": "entity-id",
+                        "sequence": 42,
+                        "event": "transfer.process.started",
+                        "at": 1688465655
+                    }],
+                    "lastSequence": 42,
+                    "truncated": false
+                }
+                """;
+    }
+
+    @Schema(name = "StateChange")
+    record StateChangeSchema(
+            @Schema(name = TYPE, example = StateChanges.STATE_CHANGE_TYPE)
+            String type,
+            @Schema(name = ID)
+            String id,
+            long sequence,
+            String event,
+            long at
+    ) {
+    }
+
     @Schema(name = "ApiErrorDetail", example = ApiErrorDetailSchema.API_ERROR_EXAMPLE)
     record ApiErrorDetailSchema(
             String message,
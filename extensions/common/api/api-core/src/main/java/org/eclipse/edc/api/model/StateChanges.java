@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.api.model;
+
+import java.util.List;
+
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+
+/**
+ * Represent the state changes of the entities a client subscribed to, returned by the state change streams.
+ *
+ * @param changes      the state changes, ordered by sequence.
+ * @param lastSequence the sequence the client has to pass to get the next changes.
+ * @param truncated    true if some changes could have been lost (e.g. the buffer has been overrun or the connector
+ *                     restarted), and the client has to fetch the current state of the entities again.
+ */
+public record StateChanges(List<StateChange> changes, long lastSequence, boolean truncated) {
+
+    public static final String STATE_CHANGES_TYPE = EDC_NAMESPACE + "StateChanges";
+    public static final String STATE_CHANGES_CHANGES = EDC_NAMESPACE + "changes";
+    public static final String STATE_CHANGES_LAST_SEQUENCE = EDC_NAMESPACE + "lastSequence";
+    public static final String STATE_CHANGES_TRUNCATED = EDC_NAMESPACE + "truncated";
+
+    public static final String STATE_CHANGE_TYPE = EDC_NAMESPACE + "StateChange";
+    public static final String STATE_CHANGE_SEQUENCE = EDC_NAMESPACE + "sequence";
+    public static final String STATE_CHANGE_EVENT = EDC_NAMESPACE + "event";
+    public static final String STATE_CHANGE_AT = EDC_NAMESPACE + "at";
+
+    /**
+     * A single state change.
+     *
+     * @param sequence the sequence of the change, increasing monotonically.
+     * @param entityId the id of the entity.
+     * @param event    the name of the event that reported the change, e.g. {@code transfer.process.started}.
+     * @param at       the timestamp of the event.
+     */
+    public record StateChange(long sequence, String entityId, String event, long at) {
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.api.stream;
+
+import org.eclipse.edc.api.model.StateChanges;
+import org.eclipse.edc.api.model.StateChanges.StateChange;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.result.Result;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Keeps the last state changes of a kind of entity, fed by the {@link org.eclipse.edc.spi.event.EventRouter}, and
+ * notifies the clients that are waiting for them (long polling).
+ * <p>
+ * Every change gets a sequence number that increases monotonically: clients pass the last sequence they have seen to
+ * resume the stream from where they left. Only the last {@code capacity} changes are kept in memory, and sequences
+ * restart when the connector restarts: in both cases the client is told that the stream is truncated, and it has to
+ * fetch the current state of the entities again.
+ * <p>
+ * The number of clients that can wait at the same time is bounded, further subscriptions are rejected until some of
+ * the waiting clients get notified or time out.
+ *
+ * @param <E> the kind of event.
+ */
+public class StateChangeFeed<E extends Event> implements EventSubscriber {
+
+    private final Class<E> eventKind;
+    private final Function<E, String> entityIdExtractor;
+    private final int capacity;
+    private final int maxSubscriptions;
+    private final Executor executor;
+    private final Object lock = new Object();
+    private final Deque<StateChange> changes = new ArrayDeque<>();
+    private final Set<Subscription> subscriptions = new LinkedHashSet<>();
+    private long lastSequence;
+
+    /**
+     * Create the feed.
+     *
+     * @param eventKind         the kind of event.
+     * @param entityIdExtractor extracts the entity id from the event.
+     * @param capacity          the number of changes kept in memory.
+     * @param maxSubscriptions  the number of clients that can wait for changes at the same time.
+     * @param executor          the executor that notifies the waiting clients, so that slow clients don't block the
+     *                          publisher of the events.
+     */
+    public StateChangeFeed(Class<E> eventKind, Function<E, String> entityIdExtractor, int capacity, int maxSubscriptions, Executor executor) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive, was " + capacity);
+        }
+        this.eventKind = eventKind;
+        this.entityIdExtractor = entityIdExtractor;
+        this.capacity = capacity;
+        this.maxSubscriptions = maxSubscriptions;
+        this.executor = executor;
+    }
+
+    @Override
+    public <T extends Event> void on(EventEnvelope<T> event) {
+        var payload = event.getPayload();
+        if (!eventKind.isInstance(payload)) {
+            return;
+        }
+
+        var notified = new ArrayList<Subscription>();
+        StateChanges stateChanges;
+        synchronized (lock) {
+            var change = new StateChange(++lastSequence, entityIdExtractor.apply(eventKind.cast(payload)), payload.name(), event.getAt());
+            changes.addLast(change);
+            if (changes.size() > capacity) {
+                changes.removeFirst();
+            }
+
+            var iterator = subscriptions.iterator();
+            while (iterator.hasNext()) {
+                var subscription = iterator.next();
+                if (subscription.matches(change)) {
+                    iterator.remove();
+                    notified.add(subscription);
+                }
+            }
+            stateChanges = new StateChanges(List.of(change), lastSequence, false);
+        }
+
+        notified.forEach(subscription -> executor.execute(() -> subscription.complete(stateChanges)));
+    }
+
+    /**
+     * Subscribe to the changes after the passed sequence. The consumer is called once: immediately if there are
+     * already changes after the sequence (or if the stream is truncated), otherwise at the first matching change.
+     *
+     * @param after     the last sequence seen by the client, null to get only the changes from now on.
+     * @param entityIds the ids of the entities the client is interested in, empty for all the entities.
+     * @param consumer  receives the changes.
+     * @return the subscription, that has to be cancelled if the client stops waiting, or a failure if too many clients
+     *         are already waiting.
+     */
+    public Result<Subscription> subscribe(@Nullable Long after, Set<String> entityIds, Consumer<StateChanges> consumer) {
+        var subscription = new Subscription(entityIds, consumer);
+        StateChanges available;
+        synchronized (lock) {
+            available = changesAfter(after, entityIds);
+            if (available == null) {
+                if (subscriptions.size() >= maxSubscriptions) {
+                    return Result.failure("Too many clients waiting for changes, max is " + maxSubscriptions);
+                }
+                subscriptions.add(subscription);
+                return Result.success(subscription);
+            }
+        }
+        subscription.complete(available);
+        return Result.success(subscription);
+    }
+
+    /**
+     * The sequence of the last change.
+     *
+     * @return the last sequence.
+     */
+    public long lastSequence() {
+        synchronized (lock) {
+            return lastSequence;
+        }
+    }
+
+    private @Nullable StateChanges changesAfter(@Nullable Long after, Set<String> entityIds) {
+        if (after == null || after == lastSequence) {
+            return null;
+        }
+
+        var oldest = changes.isEmpty() ? lastSequence + 1 : changes.getFirst().sequence();
+        var truncated = after > lastSequence || after < oldest - 1;
+        var matching = new ArrayList<StateChange>();
+        var iterator = changes.descendingIterator();
+        while (iterator.hasNext()) {
+            var change = iterator.next();
+            if (change.sequence() <= after) {
+                break;
+            }
+            if (entityIds.isEmpty() || entityIds.contains(change.entityId())) {
+                matching.add(change);
+            }
+        }
+
+        if (matching.isEmpty() && !truncated) {
+            return null;
+        }
+        Collections.reverse(matching);
+        return new StateChanges(matching, lastSequence, truncated);
+    }
+
+    /**
+     * A client waiting for state changes.
+     */
+    public class Subscription {
+
+        private final Set<String> entityIds;
+        private final Consumer<StateChanges> consumer;
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        private Subscription(Set<String> entityIds, Consumer<StateChanges> consumer) {
+            this.entityIds = entityIds;
+            this.consumer = consumer;
+        }
+
+        /**
+         * Stop waiting for changes, e.g. because the client timed out.
+         *
+         * @return true if the subscription has been cancelled, false if the consumer has already been called.
+         */
+        public boolean cancel() {
+            synchronized (lock) {
+                subscriptions.remove(this);
+            }
+            return done.compareAndSet(false, true);
+        }
+
+        private boolean matches(StateChange change) {
+            return entityIds.isEmpty() || entityIds.contains(change.entityId());
+        }
+
+        private void complete(StateChanges stateChanges) {
+            if (done.compareAndSet(false, true)) {
+                consumer.accept(stateChanges);
+            }
+        }
+    }
+}
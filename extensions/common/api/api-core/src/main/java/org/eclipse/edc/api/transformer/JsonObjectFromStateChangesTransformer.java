@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.api.transformer;
+
+import jakarta.json.JsonBuilderFactory;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.api.model.StateChanges;
+import org.eclipse.edc.jsonld.spi.transformer.AbstractJsonLdTransformer;
+import org.eclipse.edc.transform.spi.TransformerContext;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static org.eclipse.edc.api.model.StateChanges.STATE_CHANGES_CHANGES;
+import static org.eclipse.edc.api.model.StateChanges.STATE_CHANGES_LAST_SEQUENCE;
+import static org.eclipse.edc.api.model.StateChanges.STATE_CHANGES_TRUNCATED;
+import static org.eclipse.edc.api.model.StateChanges.STATE_CHANGES_TYPE;
+import static org.eclipse.edc.api.model.StateChanges.STATE_CHANGE_AT;
+import static org.eclipse.edc.api.model.StateChanges.STATE_CHANGE_EVENT;
+import static org.eclipse.edc.api.model.StateChanges.STATE_CHANGE_SEQUENCE;
+import static org.eclipse.edc.api.model.StateChanges.STATE_CHANGE_TYPE;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+
+public class JsonObjectFromStateChangesTransformer extends AbstractJsonLdTransformer<StateChanges, JsonObject> {
+
+    private final JsonBuilderFactory builderFactory;
+
+    public JsonObjectFromStateChangesTransformer(JsonBuilderFactory builderFactory) {
+        super(StateChanges.class, JsonObject.class);
+        this.builderFactory = builderFactory;
+    }
+
+    @Override
+    public @Nullable JsonObject transform(@NotNull StateChanges input, @NotNull TransformerContext context) {
+        var changes = builderFactory.createArrayBuilder();
+        input.changes().forEach(change -> changes.add(builderFactory.createObjectBuilder()
+                .add(TYPE, STATE_CHANGE_TYPE)
+                .add(ID, change.entityId())
+                .add(STATE_CHANGE_SEQUENCE, change.sequence())
+                .add(STATE_CHANGE_EVENT, change.event())
+                .add(STATE_CHANGE_AT, change.at())));
+
+        return builderFactory.createObjectBuilder()
+                .add(TYPE, STATE_CHANGES_TYPE)
+                .add(STATE_CHANGES_CHANGES, changes)
+                .add(STATE_CHANGES_LAST_SEQUENCE, input.lastSequence())
+                .add(STATE_CHANGES_TRUNCATED, input.truncated())
+                .build();
+    }
+}
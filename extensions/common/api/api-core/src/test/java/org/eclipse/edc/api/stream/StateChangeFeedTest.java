@@ -0,0 +1,190 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.api.stream;
+
+import org.eclipse.edc.api.model.StateChanges;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StateChangeFeedTest {
+
+    private final StateChangeFeed<TestEvent> feed = new StateChangeFeed<>(TestEvent.class, TestEvent::getEntityId, 3, 2, Runnable::run);
+
+    @Test
+    void subscribe_shouldWaitForNextChange_whenNoSequence() {
+        publish("entity-1");
+        var received = new AtomicReference<StateChanges>();
+
+        feed.subscribe(null, Set.of(), received::set);
+        assertThat(received.get()).isNull();
+
+        publish("entity-2");
+        assertThat(received.get()).isNotNull().satisfies(changes -> {
+            assertThat(changes.changes()).hasSize(1).first().satisfies(change -> {
+                assertThat(change.entityId()).isEqualTo("entity-2");
+                assertThat(change.sequence()).isEqualTo(2);
+                assertThat(change.event()).isEqualTo("test.event");
+            });
+            assertThat(changes.lastSequence()).isEqualTo(2);
+            assertThat(changes.truncated()).isFalse();
+        });
+    }
+
+    @Test
+    void subscribe_shouldReturnBufferedChanges_whenResumingFromSequence() {
+        publish("entity-1");
+        publish("entity-2");
+        publish("entity-3");
+        var received = new AtomicReference<StateChanges>();
+
+        feed.subscribe(1L, Set.of(), received::set);
+
+        assertThat(received.get()).isNotNull().satisfies(changes -> {
+            assertThat(changes.changes()).extracting(StateChanges.StateChange::entityId).containsExactly("entity-2", "entity-3");
+            assertThat(changes.lastSequence()).isEqualTo(3);
+            assertThat(changes.truncated()).isFalse();
+        });
+    }
+
+    @Test
+    void subscribe_shouldFilterByEntityId() {
+        publish("entity-1");
+        var received = new AtomicReference<StateChanges>();
+
+        feed.subscribe(0L, Set.of("entity-2"), received::set);
+        assertThat(received.get()).isNull();
+
+        publish("entity-3");
+        assertThat(received.get()).isNull();
+
+        publish("entity-2");
+        assertThat(received.get()).isNotNull().satisfies(changes -> {
+            assertThat(changes.changes()).extracting(StateChanges.StateChange::entityId).containsExactly("entity-2");
+            assertThat(changes.lastSequence()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    void subscribe_shouldReturnTruncated_whenBufferOverrun() {
+        publish("entity-1");
+        publish("entity-2");
+        publish("entity-3");
+        publish("entity-4");
+        var received = new AtomicReference<StateChanges>();
+
+        feed.subscribe(0L, Set.of(), received::set);
+
+        assertThat(received.get()).isNotNull().satisfies(changes -> {
+            assertThat(changes.changes()).extracting(StateChanges.StateChange::entityId).containsExactly("entity-2", "entity-3", "entity-4");
+            assertThat(changes.truncated()).isTrue();
+        });
+    }
+
+    @Test
+    void subscribe_shouldReturnTruncated_whenSequenceIsUnknown() {
+        publish("entity-1");
+        var received = new AtomicReference<StateChanges>();
+
+        feed.subscribe(10L, Set.of(), received::set);
+
+        assertThat(received.get()).isNotNull().satisfies(changes -> {
+            assertThat(changes.changes()).isEmpty();
+            assertThat(changes.lastSequence()).isEqualTo(1);
+            assertThat(changes.truncated()).isTrue();
+        });
+    }
+
+    @Test
+    void subscribe_shouldFail_whenTooManyClientsAreWaiting() {
+        feed.subscribe(null, Set.of(), changes -> {});
+        var waiting = feed.subscribe(null, Set.of(), changes -> {}).getContent();
+
+        assertThat(feed.subscribe(null, Set.of(), changes -> {}).failed()).isTrue();
+
+        waiting.cancel();
+
+        assertThat(feed.subscribe(null, Set.of(), changes -> {}).succeeded()).isTrue();
+    }
+
+    @Test
+    void cancel_shouldStopWaiting() {
+        var received = new AtomicReference<StateChanges>();
+        var subscription = feed.subscribe(null, Set.of(), received::set).getContent();
+
+        var cancelled = subscription.cancel();
+        publish("entity-1");
+
+        assertThat(cancelled).isTrue();
+        assertThat(received.get()).isNull();
+    }
+
+    @Test
+    void cancel_shouldReturnFalse_whenAlreadyNotified() {
+        var subscription = feed.subscribe(null, Set.of(), changes -> {}).getContent();
+        publish("entity-1");
+
+        assertThat(subscription.cancel()).isFalse();
+    }
+
+    @Test
+    void shouldIgnoreOtherEvents() {
+        feed.on(EventEnvelope.Builder.newInstance().at(1).payload(new OtherEvent()).build());
+
+        assertThat(feed.lastSequence()).isZero();
+    }
+
+    @Test
+    void shouldFail_whenCapacityNotPositive() {
+        assertThatThrownBy(() -> new StateChangeFeed<>(TestEvent.class, TestEvent::getEntityId, 0, 2, Runnable::run))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void publish(String entityId) {
+        feed.on(EventEnvelope.Builder.newInstance().at(1).payload(new TestEvent(entityId)).build());
+    }
+
+    private static class TestEvent extends Event {
+
+        private final String entityId;
+
+        TestEvent(String entityId) {
+            this.entityId = entityId;
+        }
+
+        String getEntityId() {
+            return entityId;
+        }
+
+        @Override
+        public String name() {
+            return "test.event";
+        }
+    }
+
+    private static class OtherEvent extends Event {
+
+        @Override
+        public String name() {
+            return "other.event";
+        }
+    }
+}
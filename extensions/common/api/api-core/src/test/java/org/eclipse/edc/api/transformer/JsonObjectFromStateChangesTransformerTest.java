@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.api.transformer;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.api.model.StateChanges;
+import org.eclipse.edc.transform.spi.TransformerContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.api.model.StateChanges.STATE_CHANGES_CHANGES;
+import static org.eclipse.edc.api.model.StateChanges.STATE_CHANGES_LAST_SEQUENCE;
+import static org.eclipse.edc.api.model.StateChanges.STATE_CHANGES_TRUNCATED;
+import static org.eclipse.edc.api.model.StateChanges.STATE_CHANGES_TYPE;
+import static org.eclipse.edc.api.model.StateChanges.STATE_CHANGE_AT;
+import static org.eclipse.edc.api.model.StateChanges.STATE_CHANGE_EVENT;
+import static org.eclipse.edc.api.model.StateChanges.STATE_CHANGE_SEQUENCE;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+import static org.mockito.Mockito.mock;
+
+class JsonObjectFromStateChangesTransformerTest {
+
+    private final JsonObjectFromStateChangesTransformer transformer = new JsonObjectFromStateChangesTransformer(Json.createBuilderFactory(emptyMap()));
+    private final TransformerContext context = mock(TransformerContext.class);
+
+    @Test
+    void types() {
+        assertThat(transformer.getInputType()).isEqualTo(StateChanges.class);
+        assertThat(transformer.getOutputType()).isEqualTo(JsonObject.class);
+    }
+
+    @Test
+    void transform() {
+        var input = new StateChanges(List.of(new StateChanges.StateChange(3, "id", "transfer.process.started", 1234)), 5, true);
+
+        var result = transformer.transform(input, context);
+
+        assertThat(result).isNotNull();
+        assertThat(result.getString(TYPE)).isEqualTo(STATE_CHANGES_TYPE);
+        assertThat(result.getJsonNumber(STATE_CHANGES_LAST_SEQUENCE).longValue()).isEqualTo(5);
+        assertThat(result.getBoolean(STATE_CHANGES_TRUNCATED)).isTrue();
+        assertThat(result.getJsonArray(STATE_CHANGES_CHANGES)).hasSize(1).first().satisfies(json -> {
+            var change = json.asJsonObject();
+            assertThat(change.getString(ID)).isEqualTo("id");
+            assertThat(change.getJsonNumber(STATE_CHANGE_SEQUENCE).longValue()).isEqualTo(3);
+            assertThat(change.getString(STATE_CHANGE_EVENT)).isEqualTo("transfer.process.started");
+            assertThat(change.getJsonNumber(STATE_CHANGE_AT).longValue()).isEqualTo(1234);
+        });
+    }
+
+}
@@ -69,6 +69,18 @@ class Oauth2ClientImplTest {
         assertThat(result.getContent().getToken()).isEqualTo("token");
     }
 
+    @Test
+    void verifyRequestTokenSuccess_withExpiresIn() {
+        var request = createRequest();
+        var responseBody = typeManager.writeValueAsString(Map.of("access_token", "token", "expires_in", 3600));
+        server.when(HttpRequest.request()).respond(HttpResponse.response().withBody(responseBody, APPLICATION_JSON));
+
+        var result = client.requestToken(request);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.getContent().getExpiresIn()).isEqualTo(3600L);
+    }
+
     @Test
     void verifyFailureIfServerCallFails() {
         var request = createRequest();
@@ -28,11 +28,12 @@ import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
 @BaseExtension
-@Provides({ EventListener.class, ExecutorInstrumentation.class, MeterRegistry.class })
+@Provides({ EventListener.class, ExecutorInstrumentation.class, MeterRegistry.class, MetricsRecorder.class })
 @Extension(value = MicrometerExtension.NAME)
 public class MicrometerExtension implements ServiceExtension {
 
@@ -44,6 +45,8 @@ public class MicrometerExtension implements ServiceExtension {
     public static final String ENABLE_OKHTTP_METRICS = "edc.metrics.okhttp.enabled";
     @Setting
     public static final String ENABLE_EXECUTOR_METRICS = "edc.metrics.executor.enabled";
+    @Setting
+    public static final String ENABLE_CONNECTOR_METRICS = "edc.metrics.connector.enabled";
     public static final String NAME = "Micrometer Metrics";
     private static final String OKHTTP_REQUESTS_METRIC_NAME = "okhttp.requests";
 
@@ -61,6 +64,7 @@ public class MicrometerExtension implements ServiceExtension {
         var enableSystemMetrics = context.getSetting(ENABLE_SYSTEM_METRICS, true);
         var enableOkHttpMetrics = context.getSetting(ENABLE_OKHTTP_METRICS, true);
         var enableExecutorMetrics = context.getSetting(ENABLE_EXECUTOR_METRICS, true);
+        var enableConnectorMetrics = context.getSetting(ENABLE_CONNECTOR_METRICS, true);
 
         if (!enableMetrics) {
             return; // metrics disabled
@@ -77,6 +81,10 @@ public class MicrometerExtension implements ServiceExtension {
         if (enableExecutorMetrics) {
             enableExecutorMetrics(context, registry);
         }
+
+        if (enableConnectorMetrics) {
+            enableConnectorMetrics(context, registry);
+        }
     }
 
     private void enableSystemMetrics(MeterRegistry registry) {
@@ -95,4 +103,8 @@ public class MicrometerExtension implements ServiceExtension {
     private void enableExecutorMetrics(ServiceExtensionContext context, MeterRegistry registry) {
         context.registerService(ExecutorInstrumentation.class, new MicrometerExecutorInstrumentation(registry));
     }
+
+    private void enableConnectorMetrics(ServiceExtensionContext context, MeterRegistry registry) {
+        context.registerService(MetricsRecorder.class, new MicrometerMetricsRecorder(registry));
+    }
 }
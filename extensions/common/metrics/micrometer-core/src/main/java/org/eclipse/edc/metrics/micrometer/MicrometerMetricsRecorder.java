@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.metrics.micrometer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.edc.spi.system.MetricsRecorder;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * {@link MetricsRecorder} that records metrics on a Micrometer {@link MeterRegistry}: timings as timers, counters as
+ * counters and gauges as gauges.
+ */
+public class MicrometerMetricsRecorder implements MetricsRecorder {
+    private final MeterRegistry registry;
+
+    public MicrometerMetricsRecorder(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void recordTime(String name, Duration duration, String... tags) {
+        registry.timer(name, tags).record(duration);
+    }
+
+    @Override
+    public void increment(String name, double amount, String... tags) {
+        registry.counter(name, tags).increment(amount);
+    }
+
+    @Override
+    public void gauge(String name, Supplier<Number> value, String... tags) {
+        Gauge.builder(name, value, supplier -> supplier.get().doubleValue())
+                .tags(tags)
+                .strongReference(true)
+                .register(registry);
+    }
+}
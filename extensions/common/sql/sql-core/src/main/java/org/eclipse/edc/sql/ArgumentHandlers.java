@@ -19,7 +19,11 @@ import java.math.BigDecimal;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 enum ArgumentHandlers implements ArgumentHandler {
     /**
@@ -203,5 +207,24 @@ enum ArgumentHandlers implements ArgumentHandler {
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setNull(position, java.sql.Types.NULL);
         }
+    };
+
+    private static final Map<Class<?>, Optional<ArgumentHandler>> HANDLERS_BY_TYPE = new ConcurrentHashMap<>();
+
+    /**
+     * Find the handler for the argument. The lookup is cached by argument type, since all the handlers but {@link #NULL}
+     * only depend on it.
+     *
+     * @param argument the argument.
+     * @return the handler, empty if none accepts the argument.
+     */
+    static Optional<ArgumentHandler> forArgument(Object argument) {
+        if (argument == null) {
+            return Optional.of(NULL);
+        }
+        return HANDLERS_BY_TYPE.computeIfAbsent(argument.getClass(), type -> Arrays.stream(values())
+                .filter(it -> it.accepts(argument))
+                .<ArgumentHandler>map(it -> it)
+                .findFirst());
     }
 }
@@ -15,6 +15,7 @@
 package org.eclipse.edc.sql;
 
 import java.sql.Connection;
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
@@ -31,6 +32,19 @@ public interface QueryExecutor {
      */
     int execute(Connection connection, String sql, Object... arguments);
 
+    /**
+     * Intended for mutating queries that have to be executed multiple times with different parameters, e.g. bulk
+     * inserts. Implementations should send all the executions to the database in a single round trip.
+     *
+     * @param connection the connection to be used to execute the statements.
+     * @param sql the parametrized sql query
+     * @param arguments the parameters of every execution
+     * @return rowsChanged by every execution
+     */
+    default int[] executeBatch(Connection connection, String sql, List<Object[]> arguments) {
+        return arguments.stream().mapToInt(it -> execute(connection, sql, it)).toArray();
+    }
+
     /**
      * Intended for reading queries.
      * The resulting {@link Stream} must be closed with the "close()" when a terminal operation is used on the stream
@@ -15,8 +15,10 @@
 package org.eclipse.edc.sql;
 
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
@@ -31,6 +33,9 @@ public class SqlCoreExtension implements ServiceExtension {
     @Setting(value = "Fetch size value used in SQL queries", defaultValue = DEFAULT_EDC_SQL_FETCH_SIZE)
     public static final String EDC_SQL_FETCH_SIZE = "edc.sql.fetch.size";
 
+    @Inject
+    private MetricsRecorder metrics;
+
     @Override
     public String name() {
         return NAME;
@@ -40,7 +45,7 @@ public class SqlCoreExtension implements ServiceExtension {
     public QueryExecutor sqlQueryExecutor(ServiceExtensionContext context) {
         var fetchSize = context.getSetting(EDC_SQL_FETCH_SIZE, parseInt(DEFAULT_EDC_SQL_FETCH_SIZE));
         var configuration = new SqlQueryExecutorConfiguration(fetchSize);
-        return new SqlQueryExecutor(configuration);
+        return new SqlQueryExecutor(configuration, metrics);
     }
 
     @Provider(isDefault = true)
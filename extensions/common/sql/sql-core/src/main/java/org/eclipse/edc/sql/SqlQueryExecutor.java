@@ -16,34 +16,59 @@
 package org.eclipse.edc.sql;
 
 import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 import org.jetbrains.annotations.NotNull;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.Arrays;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.function.Consumer;
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 import static java.util.stream.StreamSupport.stream;
 
 /**
- * The SqlQueryExecutor is capable of executing parametrized SQL queries
+ * The SqlQueryExecutor is capable of executing parametrized SQL queries.
+ * The execution time of every statement is recorded on the {@link MetricsRecorder}, for queries it's the time until the
+ * result set is available, the streaming of the results is not included. The metrics are tagged with the operation
+ * (e.g. {@code SELECT}) and the first table of the statement, not with the statement itself, that contains the
+ * dynamically built filters and would make the number of time series unbounded.
  */
 public class SqlQueryExecutor implements QueryExecutor {
 
+    public static final String STATEMENT_DURATION_METRIC = "edc.sql.statement.duration";
+    public static final String STATEMENT_ERRORS_METRIC = "edc.sql.statement.errors";
+    public static final String OPERATION_TAG = "operation";
+    public static final String TABLE_TAG = "table";
+
+    private static final Set<String> OPERATIONS = Set.of("SELECT", "INSERT", "UPDATE", "DELETE", "WITH");
+    private static final String OTHER_OPERATION = "OTHER";
+    private static final String UNKNOWN_TABLE = "unknown";
+    private static final Pattern TABLE_PATTERN = Pattern.compile("\\b(?:FROM|INTO|UPDATE)\\s+([a-zA-Z_][\\w.]*)", Pattern.CASE_INSENSITIVE);
+
     private final SqlQueryExecutorConfiguration configuration;
+    private final MetricsRecorder metrics;
 
     public SqlQueryExecutor() {
         this(SqlQueryExecutorConfiguration.ofDefaults());
     }
 
     public SqlQueryExecutor(SqlQueryExecutorConfiguration configuration) {
+        this(configuration, MetricsRecorder.noop());
+    }
+
+    public SqlQueryExecutor(SqlQueryExecutorConfiguration configuration, MetricsRecorder metrics) {
         this.configuration = configuration;
+        this.metrics = metrics;
     }
 
     @Override
@@ -52,11 +77,40 @@ public class SqlQueryExecutor implements QueryExecutor {
         Objects.requireNonNull(sql, "sql");
         Objects.requireNonNull(arguments, "arguments");
 
-        try (var statement = connection.prepareStatement(sql, PreparedStatement.RETURN_GENERATED_KEYS)) {
+        var start = System.nanoTime();
+        try (var statement = connection.prepareStatement(sql)) {
             setArguments(statement, arguments);
             return statement.execute() ? 0 : statement.getUpdateCount();
         } catch (Exception exception) {
+            metrics.increment(STATEMENT_ERRORS_METRIC, 1, tags(sql));
             throw new EdcPersistenceException(exception.getMessage(), exception);
+        } finally {
+            recordDuration(sql, start);
+        }
+    }
+
+    @Override
+    public int[] executeBatch(Connection connection, String sql, List<Object[]> arguments) {
+        Objects.requireNonNull(connection, "connection");
+        Objects.requireNonNull(sql, "sql");
+        Objects.requireNonNull(arguments, "arguments");
+
+        if (arguments.isEmpty()) {
+            return new int[0];
+        }
+
+        var start = System.nanoTime();
+        try (var statement = connection.prepareStatement(sql)) {
+            for (var batchArguments : arguments) {
+                setArguments(statement, batchArguments);
+                statement.addBatch();
+            }
+            return statement.executeBatch();
+        } catch (Exception exception) {
+            metrics.increment(STATEMENT_ERRORS_METRIC, 1, tags(sql));
+            throw new EdcPersistenceException(exception.getMessage(), exception);
+        } finally {
+            recordDuration(sql, start);
         }
     }
 
@@ -75,6 +129,7 @@ public class SqlQueryExecutor implements QueryExecutor {
         Objects.requireNonNull(arguments, "arguments");
 
         var doorKeeper = new DoorKeeper();
+        var start = System.nanoTime();
         try {
             if (closeConnection) {
                 doorKeeper.takeCareOf(connection);
@@ -84,10 +139,12 @@ public class SqlQueryExecutor implements QueryExecutor {
             statement.setFetchSize(configuration.fetchSize());
             setArguments(statement, arguments);
             var resultSet = statement.executeQuery();
+            recordDuration(sql, start);
             doorKeeper.takeCareOf(resultSet);
             var splititerator = createSpliterator(resultSetMapper, resultSet);
             return stream(splititerator, false).onClose(doorKeeper::close);
         } catch (SQLException sqlEx) {
+            metrics.increment(STATEMENT_ERRORS_METRIC, 1, tags(sql));
             try {
                 doorKeeper.close();
             } catch (Exception ex) {
@@ -98,6 +155,28 @@ public class SqlQueryExecutor implements QueryExecutor {
         }
     }
 
+    private void recordDuration(String sql, long start) {
+        metrics.recordTime(STATEMENT_DURATION_METRIC, Duration.ofNanos(System.nanoTime() - start), tags(sql));
+    }
+
+    /**
+     * Bounded tags of a statement: its leading keyword and the first table it refers to.
+     */
+    static String[] tags(String sql) {
+        var trimmed = sql.stripLeading();
+        var end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        var operation = trimmed.substring(0, end).toUpperCase(Locale.ROOT);
+        if (!OPERATIONS.contains(operation)) {
+            operation = OTHER_OPERATION;
+        }
+        var matcher = TABLE_PATTERN.matcher(trimmed);
+        var table = matcher.find() ? matcher.group(1).toLowerCase(Locale.ROOT) : UNKNOWN_TABLE;
+        return new String[]{ OPERATION_TAG, operation, TABLE_TAG, table };
+    }
+
     private void setArguments(PreparedStatement statement, Object[] arguments) throws SQLException {
         for (var index = 0; index < arguments.length; index++) {
             var position = index + 1;
@@ -106,8 +185,7 @@ public class SqlQueryExecutor implements QueryExecutor {
     }
 
     private void setArgument(PreparedStatement statement, int position, Object argument) throws SQLException {
-        var argumentHandler = Arrays.stream(ArgumentHandlers.values()).filter(it -> it.accepts(argument))
-                .findFirst().orElse(null);
+        var argumentHandler = ArgumentHandlers.forArgument(argument).orElse(null);
 
         if (argumentHandler != null) {
             argumentHandler.handle(statement, position, argument);
@@ -117,13 +117,13 @@ public class SqlExecuteStatement {
     }
 
     /**
-     * Gives a SQL update statement.
+     * Gives a SQL update statement. The where criteria is joined with AND operator.
      *
      * @param tableName the table name.
-     * @param where the update field criterion
+     * @param whereCriteria the update field conditions
      * @return sql update statement.
      */
-    public String update(String tableName, Criterion where) {
+    public String update(String tableName, Criterion... whereCriteria) {
         if (columnEntries.isEmpty()) {
             throw new IllegalArgumentException(format("Cannot create UPDATE statement on %s because no columns are registered", tableName));
         }
@@ -132,6 +132,10 @@ public class SqlExecuteStatement {
                 .map(ColumnEntry::asString)
                 .collect(joining(", "));
 
+        var where = Arrays.stream(whereCriteria)
+                .map(Criterion::toString)
+                .collect(joining(" AND "));
+
         return format("UPDATE %s SET %s WHERE %s;", tableName, statement, where);
     }
 
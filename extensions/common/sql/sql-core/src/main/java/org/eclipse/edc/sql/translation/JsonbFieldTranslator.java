@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.translation;
+
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.util.reflection.PathItem;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static java.util.Collections.nCopies;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * {@link FieldTranslator} for Postgres {@code JSONB} columns. Equality and {@code in} criteria are translated into
+ * containment predicates ({@code column @> '{"path": {"to": "value"}}'}), that can be served by a GIN index on the
+ * column, instead of {@code column -> 'path' ->> 'to' = 'value'} expressions that require a full scan.
+ * <p>
+ * Containment is used only when it is semantically equivalent to the text comparison done by {@link JsonFieldTranslator},
+ * that is when the right operand is a string that cannot be the text representation of a non-string JSON value (number,
+ * boolean, null, object or array). In every other case the translation falls back to {@link JsonFieldTranslator}.
+ */
+public class JsonbFieldTranslator extends JsonFieldTranslator {
+
+    private static final Pattern NON_STRING_JSON_TEXT = Pattern.compile("^(true|false|null|-?\\d.*|[\\[{].*)$", Pattern.DOTALL);
+    private static final String CONTAINMENT_PLACEHOLDER = "?::jsonb";
+
+    public JsonbFieldTranslator(String columnName) {
+        super(columnName);
+    }
+
+    @Override
+    public WhereClause toWhereClause(List<PathItem> path, Criterion criterion, SqlOperator operator) {
+        var operandRight = criterion.getOperandRight();
+        var representation = operator.representation();
+
+        if ("=".equals(representation) && isContainable(operandRight)) {
+            return new WhereClause("%s @> %s".formatted(columnName, CONTAINMENT_PLACEHOLDER), List.of(toJsonDocument(path, operandRight)));
+        }
+
+        if ("in".equals(representation) && operandRight instanceof Collection<?> values && !values.isEmpty() && values.stream().allMatch(this::isContainable)) {
+            var predicate = String.join(" OR ", nCopies(values.size(), "%s @> %s".formatted(columnName, CONTAINMENT_PLACEHOLDER)));
+            var parameters = values.stream().map(value -> (Object) toJsonDocument(path, value)).toList();
+            return new WhereClause("(%s)".formatted(predicate), parameters);
+        }
+
+        return super.toWhereClause(path, criterion, operator);
+    }
+
+    private boolean isContainable(Object value) {
+        return value instanceof String string && !NON_STRING_JSON_TEXT.matcher(string).matches();
+    }
+
+    private String toJsonDocument(List<PathItem> path, Object value) {
+        var opening = path.stream().map(item -> "{%s:".formatted(quote(item.toString()))).collect(joining());
+        return opening + quote(value.toString()) + "}".repeat(path.size());
+    }
+
+    private String quote(String text) {
+        var builder = new StringBuilder("\"");
+        for (var i = 0; i < text.length(); i++) {
+            var character = text.charAt(i);
+            switch (character) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (character < 0x20) {
+                        builder.append("\\u%04x".formatted((int) character));
+                    } else {
+                        builder.append(character);
+                    }
+                }
+            }
+        }
+        return builder.append('"').toString();
+    }
+}
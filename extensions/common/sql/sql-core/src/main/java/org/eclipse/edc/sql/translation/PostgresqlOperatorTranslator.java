@@ -19,6 +19,7 @@ import java.util.Collection;
 import static org.eclipse.edc.spi.query.CriterionOperatorRegistry.CONTAINS;
 import static org.eclipse.edc.spi.query.CriterionOperatorRegistry.EQUAL;
 import static org.eclipse.edc.spi.query.CriterionOperatorRegistry.IN;
+import static org.eclipse.edc.spi.query.CriterionOperatorRegistry.LESS_THAN;
 import static org.eclipse.edc.spi.query.CriterionOperatorRegistry.LIKE;
 
 /**
@@ -33,6 +34,7 @@ public class PostgresqlOperatorTranslator implements SqlOperatorTranslator {
             case LIKE -> new SqlOperator("like", String.class);
             case IN -> new SqlOperator("in", Collection.class);
             case CONTAINS -> new SqlOperator("??", Object.class);
+            case LESS_THAN -> new SqlOperator("<", Number.class);
             default -> null;
         };
     }
@@ -44,6 +44,7 @@ public class SqlQueryStatement {
     private CriterionToWhereClauseConverter criterionToWhereConditionConverter;
     private SortFieldConverter sortFieldConverter;
     private String orderByClause = "";
+    private String lockingClause = "";
 
     /**
      * Initializes this SQL Query Statement.
@@ -100,6 +101,7 @@ public class SqlQueryStatement {
                 orderByClause +
                 LIMIT +
                 OFFSET +
+                lockingClause +
                 ";";
     }
 
@@ -128,6 +130,17 @@ public class SqlQueryStatement {
         return this;
     }
 
+    /**
+     * Set a locking clause, that is appended at the end of the query, e.g. {@code FOR UPDATE SKIP LOCKED}.
+     *
+     * @param clause the SQL locking clause.
+     * @return self.
+     */
+    public SqlQueryStatement lockingClause(String clause) {
+        lockingClause = " " + clause;
+        return this;
+    }
+
     /**
      * Add where clause. If it contains multiple clauses better wrap it with parenthesis
      *
@@ -17,11 +17,16 @@ package org.eclipse.edc.sql.translation;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.util.reflection.PathItem;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
+import static org.eclipse.edc.sql.translation.FieldTranslator.toParameters;
+
 /**
  * A {@linkplain TranslationMapping} keeps a tree of {@link FieldTranslator}s that can be obtained using canonical
  * information about business objects to SQL, i.e. it contains field names of an object and maps them to their SQL schema
@@ -32,7 +37,9 @@ import java.util.function.Function;
  */
 public abstract class TranslationMapping {
 
+    private static final int MAX_CACHED_WHERE_CLAUSES = 1000;
     private final Map<String, Object> fieldMap = new HashMap<>();
+    private final Map<WhereClauseKey, String> whereClauses = new ConcurrentHashMap<>();
 
     /**
      * Returns the {@link FieldTranslator} for the specified path.
@@ -52,8 +59,23 @@ public abstract class TranslationMapping {
      * @return the {@link WhereClause}.
      */
     public WhereClause getWhereClause(Criterion criterion, SqlOperator operator) {
-        var path = PathItem.parse(criterion.getOperandLeft().toString());
-        return getWhereClause(path, criterion, operator);
+        // the same criteria are translated over and over by the state machines' queries, with different values. The SQL
+        // fragment only depends on the field, the operator and the shape of the right operand, so only the fragment is
+        // memoised and the parameters are bound from the criterion on every call
+        var key = WhereClauseKey.of(criterion, operator);
+        var sql = whereClauses.get(key);
+        if (sql != null) {
+            return new WhereClause(sql, toParameters(criterion));
+        }
+
+        var whereClause = translate(criterion, operator);
+        if (whereClause != null && bindsRightOperand(whereClause, criterion)) {
+            if (whereClauses.size() >= MAX_CACHED_WHERE_CLAUSES) {
+                whereClauses.clear();
+            }
+            whereClauses.put(key, whereClause.sql());
+        }
+        return whereClause;
     }
 
     /**
@@ -86,6 +108,19 @@ public abstract class TranslationMapping {
         fieldMap.put(fieldPath, translationMapping);
     }
 
+    private WhereClause translate(Criterion criterion, SqlOperator operator) {
+        var path = PathItem.parse(criterion.getOperandLeft().toString());
+        return getWhereClause(path, criterion, operator);
+    }
+
+    /**
+     * The parameters of a memoised fragment are bound from the criterion, that's only possible when the translator
+     * binds the right operand as it is.
+     */
+    private boolean bindsRightOperand(WhereClause whereClause, Criterion criterion) {
+        return new ArrayList<>(whereClause.parameters()).equals(new ArrayList<>(toParameters(criterion)));
+    }
+
     private Function<Class<?>, String> getFieldTranslator(List<PathItem> path) {
         var entry = fieldMap.get(path.get(0).toString());
         if (entry == null) {
@@ -118,4 +153,15 @@ public abstract class TranslationMapping {
         }
     }
 
+    private record WhereClauseKey(String operandLeft, SqlOperator operator, Class<?> operandType, int arity) {
+
+        static WhereClauseKey of(Criterion criterion, SqlOperator operator) {
+            var operandRight = criterion.getOperandRight();
+            if (operandRight instanceof Collection<?> collection) {
+                return new WhereClauseKey(String.valueOf(criterion.getOperandLeft()), operator, Collection.class, collection.size());
+            }
+            var operandType = operandRight == null ? null : operandRight.getClass();
+            return new WhereClauseKey(String.valueOf(criterion.getOperandLeft()), operator, operandType, operandRight == null ? 0 : 1);
+        }
+    }
 }
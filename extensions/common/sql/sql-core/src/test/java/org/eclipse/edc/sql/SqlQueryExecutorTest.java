@@ -14,6 +14,9 @@
 
 package org.eclipse.edc.sql;
 
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.spi.system.MetricsRecorder;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -26,12 +29,20 @@ import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
-import java.sql.Statement;
 import java.sql.Timestamp;
 import java.util.Date;
+import java.util.List;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.sql.SqlQueryExecutor.STATEMENT_DURATION_METRIC;
+import static org.eclipse.edc.sql.SqlQueryExecutor.STATEMENT_ERRORS_METRIC;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class SqlQueryExecutorTest {
@@ -43,7 +54,7 @@ class SqlQueryExecutorTest {
     void setArgumentCorrectType(Object argument, MockitoPreparedStatementVerification verification) throws SQLException {
         var connection = Mockito.mock(Connection.class);
         var preparedStatement = Mockito.mock(PreparedStatement.class);
-        when(connection.prepareStatement(DUMMY_SQL, Statement.RETURN_GENERATED_KEYS)).thenReturn(preparedStatement);
+        when(connection.prepareStatement(DUMMY_SQL)).thenReturn(preparedStatement);
         when(preparedStatement.execute()).thenReturn(true);
 
         executor.execute(connection, DUMMY_SQL, argument);
@@ -51,6 +62,59 @@ class SqlQueryExecutorTest {
         verification.verify(preparedStatement);
     }
 
+    @Test
+    void shouldRecordStatementMetrics() throws SQLException {
+        var metrics = Mockito.mock(MetricsRecorder.class);
+        var executor = new SqlQueryExecutor(SqlQueryExecutorConfiguration.ofDefaults(), metrics);
+        var connection = Mockito.mock(Connection.class);
+        var preparedStatement = Mockito.mock(PreparedStatement.class);
+        var sql = "UPDATE edc_entity SET state = ? WHERE id = ?";
+        when(connection.prepareStatement(sql)).thenReturn(preparedStatement);
+        when(preparedStatement.execute()).thenThrow(new SQLException("error"));
+
+        assertThatThrownBy(() -> executor.execute(connection, sql, 1, "id")).isInstanceOf(EdcPersistenceException.class);
+
+        verify(metrics).recordTime(eq(STATEMENT_DURATION_METRIC), any(), eq("operation"), eq("UPDATE"), eq("table"), eq("edc_entity"));
+        verify(metrics).increment(STATEMENT_ERRORS_METRIC, 1, "operation", "UPDATE", "table", "edc_entity");
+    }
+
+    @Test
+    void tags_shouldBeBounded() {
+        assertThat(SqlQueryExecutor.tags("SELECT * FROM (SELECT * FROM EDC_ENTITY UNION ALL SELECT * FROM edc_archive) AS edc_entity WHERE id = ?"))
+                .containsExactly("operation", "SELECT", "table", "edc_entity");
+        assertThat(SqlQueryExecutor.tags("  insert into edc_entity (id) VALUES (?)"))
+                .containsExactly("operation", "INSERT", "table", "edc_entity");
+        assertThat(SqlQueryExecutor.tags(DUMMY_SQL))
+                .containsExactly("operation", "OTHER", "table", "unknown");
+    }
+
+    @Test
+    void executeBatch_shouldSendAllExecutionsInSingleBatch() throws SQLException {
+        var connection = Mockito.mock(Connection.class);
+        var preparedStatement = Mockito.mock(PreparedStatement.class);
+        when(connection.prepareStatement(DUMMY_SQL)).thenReturn(preparedStatement);
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{ 1, 1 });
+
+        var result = executor.executeBatch(connection, DUMMY_SQL, List.of(new Object[]{ "first", 1 }, new Object[]{ "second", 2 }));
+
+        assertThat(result).containsExactly(1, 1);
+        verify(connection).prepareStatement(DUMMY_SQL);
+        verify(preparedStatement).setString(1, "first");
+        verify(preparedStatement).setString(1, "second");
+        verify(preparedStatement, times(2)).addBatch();
+        verify(preparedStatement).executeBatch();
+    }
+
+    @Test
+    void executeBatch_shouldNotExecute_whenNoArguments() throws SQLException {
+        var connection = Mockito.mock(Connection.class);
+
+        var result = executor.executeBatch(connection, DUMMY_SQL, List.of());
+
+        assertThat(result).isEmpty();
+        verifyNoInteractions(connection);
+    }
+
     static class TestExecuteParametrizedArgumentProvider implements ArgumentsProvider {
         @Override
         public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
@@ -81,6 +81,15 @@ class SqlExecuteStatementTest {
 
             assertThat(statement).isEqualToIgnoringCase("update table_name set column_name = ?::json where id = ?;");
         }
+
+        @Test
+        void shouldReturnStatementWithAndOperator_whenMultipleWhereClauses() {
+            var statement = SqlExecuteStatement.newInstance("::json")
+                    .column("column_name")
+                    .update("table_name", equalTo("id"), isNull("field"));
+
+            assertThat(statement).isEqualToIgnoringCase("update table_name set column_name = ? where id = ? and field is null;");
+        }
     }
 
     @Nested
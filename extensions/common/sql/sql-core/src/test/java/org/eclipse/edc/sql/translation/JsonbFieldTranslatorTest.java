@@ -0,0 +1,94 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.translation;
+
+import org.eclipse.edc.util.reflection.PathItem;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+class JsonbFieldTranslatorTest {
+
+    private final JsonbFieldTranslator translator = new JsonbFieldTranslator("column_name");
+
+    @Test
+    void shouldReturnContainment_whenEqualsString() {
+        var operator = new SqlOperator("=", Object.class);
+        var criterion = criterion("json.nested.field", "=", "value");
+
+        var result = translator.toWhereClause(PathItem.parse("nested.field"), criterion, operator);
+
+        assertThat(result.sql()).isEqualTo("column_name @> ?::jsonb");
+        assertThat(result.parameters()).containsExactly("{\"nested\":{\"field\":\"value\"}}");
+    }
+
+    @Test
+    void shouldEscapeJson_whenKeyOrValueContainSpecialCharacters() {
+        var operator = new SqlOperator("=", Object.class);
+        var criterion = criterion("json.'https://w3id.org/edc/v0.0.1/ns/id'", "=", "a \"quoted\" \\ value");
+
+        var result = translator.toWhereClause(PathItem.parse("'https://w3id.org/edc/v0.0.1/ns/id'"), criterion, operator);
+
+        assertThat(result.parameters()).containsExactly("{\"https://w3id.org/edc/v0.0.1/ns/id\":\"a \\\"quoted\\\" \\\\ value\"}");
+    }
+
+    @Test
+    void shouldReturnContainmentDisjunction_whenInStrings() {
+        var operator = new SqlOperator("in", Object.class);
+        var criterion = criterion("json.field", "in", List.of("one", "two"));
+
+        var result = translator.toWhereClause(PathItem.parse("field"), criterion, operator);
+
+        assertThat(result.sql()).isEqualTo("(column_name @> ?::jsonb OR column_name @> ?::jsonb)");
+        assertThat(result.parameters()).containsExactly("{\"field\":\"one\"}", "{\"field\":\"two\"}");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "true", "null", "42", "-1.5", "{\"key\":\"value\"}", "[1]" })
+    void shouldFallbackToJsonExpression_whenStringCouldMatchNonStringValue(String value) {
+        var operator = new SqlOperator("=", Object.class);
+        var criterion = criterion("json.field", "=", value);
+
+        var result = translator.toWhereClause(PathItem.parse("field"), criterion, operator);
+
+        assertThat(result.sql()).isEqualTo("column_name ->> 'field' = ?");
+        assertThat(result.parameters()).containsExactly(value);
+    }
+
+    @Test
+    void shouldFallbackToJsonExpression_whenOperatorIsNotEquality() {
+        var operator = new SqlOperator("like", String.class);
+        var criterion = criterion("json.field", "like", "val%");
+
+        var result = translator.toWhereClause(PathItem.parse("field"), criterion, operator);
+
+        assertThat(result.sql()).isEqualTo("column_name ->> 'field' like ?");
+    }
+
+    @Test
+    void shouldFallbackToJsonExpression_whenRightOperandIsBoolean() {
+        var operator = new SqlOperator("=", Object.class);
+        var criterion = criterion("json.field", "=", true);
+
+        var result = translator.toWhereClause(PathItem.parse("field"), criterion, operator);
+
+        assertThat(result.sql()).isEqualTo("(column_name ->> 'field')::boolean = ?");
+    }
+}
@@ -56,6 +56,14 @@ class PostgresqlOperatorTranslatorTest {
         assertThat(operator.rightOperandClass()).isEqualTo(Object.class);
     }
 
+    @Test
+    void shouldTranslate_lessThan() {
+        var operator = translator.translate("<");
+
+        assertThat(operator.representation()).isEqualTo("<");
+        assertThat(operator.rightOperandClass()).isEqualTo(Number.class);
+    }
+
     @Test
     void shouldReturnNull_whenOperatorNotSupported() {
         var operator = translator.translate("not-supported");
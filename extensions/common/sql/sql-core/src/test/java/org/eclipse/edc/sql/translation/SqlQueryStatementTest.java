@@ -54,6 +54,14 @@ class SqlQueryStatementTest {
         verify(criterionToWhereClauseConverter).convert(criterion);
     }
 
+    @Test
+    void lockingClause_shouldBeAppendedAfterOffset() {
+        var statement = new SqlQueryStatement(SELECT_STATEMENT, 80, 20).lockingClause("FOR UPDATE SKIP LOCKED");
+
+        assertThat(statement.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " LIMIT ? OFFSET ? FOR UPDATE SKIP LOCKED;");
+        assertThat(statement.getParameters()).containsExactly(80, 20);
+    }
+
     @Test
     void multipleExpressions() {
         var criterion1 = new Criterion("any", "=", "testid1");
@@ -25,6 +25,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -67,6 +68,44 @@ class TranslationMappingTest {
         verify(nestedFieldTranslator).toWhereClause(argThat(List::isEmpty), same(criterion), any());
     }
 
+    @Test
+    void shouldMemoiseSqlAndBindParameters_whenOperandHasSameType() {
+        when(fieldTranslator.toWhereClause(any(), any(), any())).thenReturn(new WhereClause("column = ?", "value"));
+
+        mapping.getWhereClause(criterion("field", "=", "value"), dummyOperator());
+        var second = mapping.getWhereClause(criterion("field", "=", "other-value"), dummyOperator());
+
+        assertThat(second.sql()).isEqualTo("column = ?");
+        assertThat(second.parameters()).containsExactly("other-value");
+        verify(fieldTranslator).toWhereClause(any(), any(), any());
+    }
+
+    @Test
+    void shouldMemoiseSql_byCollectionOperandSize() {
+        when(fieldTranslator.toWhereClause(any(), any(), any()))
+                .thenReturn(new WhereClause("column in (?,?)", List.of("a", "b")))
+                .thenReturn(new WhereClause("column in (?)", List.of("c")));
+
+        mapping.getWhereClause(criterion("field", "in", List.of("a", "b")), dummyOperator());
+        var sameSize = mapping.getWhereClause(criterion("field", "in", List.of("c", "d")), dummyOperator());
+        var otherSize = mapping.getWhereClause(criterion("field", "in", List.of("c")), dummyOperator());
+
+        assertThat(sameSize.sql()).isEqualTo("column in (?,?)");
+        assertThat(sameSize.parameters()).containsExactly("c", "d");
+        assertThat(otherSize.sql()).isEqualTo("column in (?)");
+        verify(fieldTranslator, times(2)).toWhereClause(any(), any(), any());
+    }
+
+    @Test
+    void shouldNotMemoiseSql_whenTranslatorTransformsOperand() {
+        when(fieldTranslator.toWhereClause(any(), any(), any())).thenReturn(new WhereClause("column = ?", "VALUE"));
+
+        mapping.getWhereClause(criterion("field", "=", "value"), dummyOperator());
+        mapping.getWhereClause(criterion("field", "=", "value"), dummyOperator());
+
+        verify(fieldTranslator, times(2)).toWhereClause(any(), any(), any());
+    }
+
     @NotNull
     private SqlOperator dummyOperator() {
         return new SqlOperator("=", Object.class);
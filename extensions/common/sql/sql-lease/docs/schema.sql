@@ -0,0 +1,12 @@
+-- Statements are designed for and tested with Postgres only!
+
+-- required only when the cluster mode is enabled (edc.sql.cluster.enabled)
+CREATE TABLE IF NOT EXISTS edc_cluster_member
+(
+    member_id    VARCHAR NOT NULL
+        CONSTRAINT cluster_member_pk
+            PRIMARY KEY,
+    heartbeat_at BIGINT  NOT NULL
+);
+
+COMMENT ON COLUMN edc_cluster_member.heartbeat_at IS 'posix timestamp of the last heartbeat';
@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.lease;
+
+import static java.lang.String.format;
+
+/**
+ * Statements used by the stores in {@link ConcurrencyMode#OPTIMISTIC} mode, where the claim of an entity is stored
+ * in the entity row, together with a version that gets incremented at every save.
+ */
+public interface ClaimStatements extends StatefulEntityStatements {
+
+    /**
+     * Claims the entity if it's not claimed by anyone else. Parameters are the claim holder, the claim expiration,
+     * the entity id and the current time.
+     */
+    String getClaimTemplate();
+
+    /**
+     * Deletes the entity if it's not claimed. Parameters are the entity id and the current time.
+     */
+    String getDeleteUnclaimedTemplate();
+
+    /**
+     * Filter on the entities that are not claimed, or whose claim is expired. Parameter is the current time.
+     */
+    default String getNotClaimedFilter() {
+        return format("(%s IS NULL OR %s < ?)", getClaimedUntilColumn(), getClaimedUntilColumn());
+    }
+
+    /**
+     * Filter on the entities that can be written by a claim holder: not claimed, claimed by the holder or whose claim
+     * is expired. Parameters are the claim holder and the current time.
+     */
+    default String getWritableByFilter() {
+        return format("(%s IS NULL OR %s = ? OR %s < ?)", getClaimedByColumn(), getClaimedByColumn(), getClaimedUntilColumn());
+    }
+
+    /**
+     * Locking clause that lets concurrent runtimes claim different entities without waiting for each other.
+     */
+    default String getSkipLockedClause() {
+        return "FOR UPDATE SKIP LOCKED";
+    }
+
+    default String getVersionColumn() {
+        return "version";
+    }
+
+    default String getClaimedByColumn() {
+        return "claimed_by";
+    }
+
+    default String getClaimedUntilColumn() {
+        return "claimed_until";
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.lease;
+
+import org.eclipse.edc.sql.statement.SqlStatements;
+
+/**
+ * Encapsulates statements and table/column names to manipulate the cluster member heartbeats and to filter entities by
+ * partition.
+ */
+public interface ClusterMemberStatements extends SqlStatements {
+
+    /**
+     * Inserts or updates the heartbeat of a member. Parameters: member id, heartbeat timestamp.
+     */
+    String getHeartbeatTemplate();
+
+    /**
+     * Selects the ids of the members with a heartbeat newer than a timestamp. Parameters: timestamp.
+     */
+    String getLiveMembersTemplate();
+
+    /**
+     * Deletes a member. Parameters: member id.
+     */
+    String getDeleteMemberTemplate();
+
+    /**
+     * Deletes the members with a heartbeat older than a timestamp. Parameters: timestamp.
+     */
+    String getDeleteExpiredMembersTemplate();
+
+    /**
+     * Filter that matches the entities whose id falls in one of the given partitions. Takes a parameter for every
+     * partition.
+     *
+     * @param idColumn          the entity id column.
+     * @param partitionCount    the total number of partitions, a power of two.
+     * @param matchedPartitions the number of partitions to be matched.
+     * @return the filter.
+     */
+    String getPartitionFilter(String idColumn, int partitionCount, int matchedPartitions);
+
+    default String getClusterMemberTableName() {
+        return "edc_cluster_member";
+    }
+
+    default String getMemberIdColumn() {
+        return "member_id";
+    }
+
+    default String getHeartbeatAtColumn() {
+        return "heartbeat_at";
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.lease;
+
+/**
+ * How the SQL state entity stores make sure that an entity is processed by a single runtime at a time.
+ */
+public enum ConcurrencyMode {
+
+    /**
+     * Entities are leased through the lease table: every lease is inserted in the table and referenced by the entity,
+     * and deleted when the entity is saved.
+     */
+    LEASE,
+
+    /**
+     * Entities are claimed in batches with {@code SELECT ... FOR UPDATE SKIP LOCKED}, the claim is written on the
+     * entity row itself and released by the save, which is a compare-and-set on the entity version.
+     */
+    OPTIMISTIC;
+
+    /**
+     * Parse the mode from its configuration value, case insensitive.
+     *
+     * @param value the configuration value.
+     * @return the mode.
+     * @throws IllegalArgumentException if the value is not a valid mode.
+     */
+    public static ConcurrencyMode parse(String value) {
+        for (var mode : values()) {
+            if (mode.name().equalsIgnoreCase(value)) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("Invalid concurrency mode '%s', valid values are 'lease' and 'optimistic'".formatted(value));
+    }
+}
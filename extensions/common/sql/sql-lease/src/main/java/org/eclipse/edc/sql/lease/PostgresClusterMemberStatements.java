@@ -0,0 +1,56 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.lease;
+
+import static java.lang.String.format;
+import static java.lang.String.join;
+import static java.util.Collections.nCopies;
+
+/**
+ * Postgres implementation of the {@link ClusterMemberStatements}. Entities are assigned to partitions by the lower
+ * bits of the {@code hashtext} of their id.
+ */
+public class PostgresClusterMemberStatements implements ClusterMemberStatements {
+
+    @Override
+    public String getHeartbeatTemplate() {
+        return format("INSERT INTO %s (%s, %s) VALUES (?, ?) ON CONFLICT (%s) DO UPDATE SET %s = EXCLUDED.%s",
+                getClusterMemberTableName(), getMemberIdColumn(), getHeartbeatAtColumn(), getMemberIdColumn(),
+                getHeartbeatAtColumn(), getHeartbeatAtColumn());
+    }
+
+    @Override
+    public String getLiveMembersTemplate() {
+        return format("SELECT %s FROM %s WHERE %s >= ?", getMemberIdColumn(), getClusterMemberTableName(), getHeartbeatAtColumn());
+    }
+
+    @Override
+    public String getDeleteMemberTemplate() {
+        return format("DELETE FROM %s WHERE %s = ?", getClusterMemberTableName(), getMemberIdColumn());
+    }
+
+    @Override
+    public String getDeleteExpiredMembersTemplate() {
+        return format("DELETE FROM %s WHERE %s < ?", getClusterMemberTableName(), getHeartbeatAtColumn());
+    }
+
+    @Override
+    public String getPartitionFilter(String idColumn, int partitionCount, int matchedPartitions) {
+        if (matchedPartitions == 0) {
+            return "1 = 0";
+        }
+        return format("(hashtext(%s) & %d) IN (%s)", idColumn, partitionCount - 1, join(", ", nCopies(matchedPartitions, "?")));
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.lease;
+
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.translation.SqlQueryStatement;
+
+import java.sql.Connection;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Claims entities for a runtime in {@link ConcurrencyMode#OPTIMISTIC} mode. Compared to the {@link SqlLeaseContext},
+ * a claim is a single update of the entity row, and it's released by the save of the entity, which doesn't need any
+ * additional statement.
+ * <p>
+ * Claims expire like leases do, so that entities claimed by a runtime that crashed get picked up by the others: a
+ * runtime that saves an entity after its claim expired and another runtime saved it fails on the version check.
+ */
+public class SqlClaimContext {
+
+    public static final Duration DEFAULT_CLAIM_DURATION = Duration.ofSeconds(60);
+
+    private final ClaimStatements statements;
+    private final QueryExecutor queryExecutor;
+    private final String claimHolder;
+    private final Clock clock;
+    private final Duration claimDuration;
+
+    public SqlClaimContext(ClaimStatements statements, QueryExecutor queryExecutor, String claimHolder, Clock clock, Duration claimDuration) {
+        this.statements = Objects.requireNonNull(statements, "statements");
+        this.queryExecutor = Objects.requireNonNull(queryExecutor, "queryExecutor");
+        this.claimHolder = Objects.requireNonNull(claimHolder, "claimHolder");
+        this.clock = Objects.requireNonNull(clock, "clock");
+        this.claimDuration = Objects.requireNonNull(claimDuration, "claimDuration");
+    }
+
+    /**
+     * Restrict the statement to the entities that are not claimed, and lock the selected rows skipping the ones
+     * locked by other transactions. Supposed to be followed by {@link #claimAll} in the same transaction.
+     *
+     * @param statement the statement.
+     * @return the statement.
+     */
+    public SqlQueryStatement selectClaimable(SqlQueryStatement statement) {
+        return statement.addWhereClause(statements.getNotClaimedFilter(), clock.millis())
+                .lockingClause(statements.getSkipLockedClause());
+    }
+
+    /**
+     * Claim the entities in a single batch. They are supposed to be locked by the current transaction.
+     *
+     * @param connection the connection.
+     * @param entityIds  the entity ids.
+     */
+    public void claimAll(Connection connection, Collection<String> entityIds) {
+        var now = clock.millis();
+        var claimedUntil = now + claimDuration.toMillis();
+        var arguments = entityIds.stream().map(id -> new Object[]{ claimHolder, claimedUntil, id, now }).toList();
+        var claimed = queryExecutor.executeBatch(connection, statements.getClaimTemplate(), arguments);
+        for (var i = 0; i < claimed.length; i++) {
+            if (claimed[i] == 0) {
+                throw new EdcPersistenceException("Entity %s could not be claimed".formatted(arguments.get(i)[2]));
+            }
+        }
+    }
+
+    /**
+     * Claim the entity.
+     *
+     * @param connection the connection.
+     * @param entityId   the entity id.
+     * @return true if the entity has been claimed, false if it does not exist or it's already claimed.
+     */
+    public boolean claim(Connection connection, String entityId) {
+        var now = clock.millis();
+        return queryExecutor.execute(connection, statements.getClaimTemplate(), claimHolder, now + claimDuration.toMillis(), entityId, now) > 0;
+    }
+
+    /**
+     * Delete the entity if it's not claimed.
+     *
+     * @param connection the connection.
+     * @param entityId   the entity id.
+     * @return true if the entity has been deleted, false if it does not exist or it's claimed.
+     */
+    public boolean deleteUnclaimed(Connection connection, String entityId) {
+        return queryExecutor.execute(connection, statements.getDeleteUnclaimedTemplate(), entityId, clock.millis()) > 0;
+    }
+
+    /**
+     * Parameters of the {@link ClaimStatements#getWritableByFilter()}.
+     *
+     * @return the parameters.
+     */
+    public Object[] writableByParameters() {
+        return new Object[]{ claimHolder, clock.millis() };
+    }
+}
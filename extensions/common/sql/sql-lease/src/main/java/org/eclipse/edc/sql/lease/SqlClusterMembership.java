@@ -0,0 +1,229 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.lease;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.translation.SqlQueryStatement;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Membership of a connector replica in a cluster of replicas that share the same database. Every replica writes its
+ * heartbeat in the cluster member table, the members that sent a heartbeat within the member timeout are considered
+ * live.
+ * <p>
+ * Entity ids are hashed into a fixed number of partitions, which are assigned to the live members with rendezvous
+ * (highest random weight) hashing: every member computes the same assignment from the same member list, and when a
+ * member joins or leaves only the partitions it owns are moved. Stores use {@link #addPartitionFilter} to make
+ * {@code nextNotLeased} poll only the partitions owned by this replica, so replicas don't compete for the same rows.
+ * Leases still guarantee that an entity is processed by a single replica while the assignment is changing.
+ * <p>
+ * As long as the membership is not known (before the first heartbeat, or when the heartbeats fail for longer than the
+ * member timeout), no filter is applied and the replica polls all the partitions.
+ */
+public class SqlClusterMembership {
+
+    public static final int DEFAULT_PARTITION_COUNT = 256;
+    public static final long DEFAULT_MEMBER_TIMEOUT = 30_000L;
+
+    private final DataSourceRegistry dataSourceRegistry;
+    private final String dataSourceName;
+    private final TransactionContext transactionContext;
+    private final ClusterMemberStatements statements;
+    private final QueryExecutor queryExecutor;
+    private final Clock clock;
+    private final Monitor monitor;
+    private final String memberId;
+    private final Duration memberTimeout;
+    private final int partitionCount;
+    private volatile Set<Integer> ownedPartitions;
+    private volatile long lastHeartbeat;
+    private ScheduledExecutorService executor;
+
+    public SqlClusterMembership(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
+                                ClusterMemberStatements statements, QueryExecutor queryExecutor, Clock clock, Monitor monitor,
+                                String memberId, Duration memberTimeout, int partitionCount) {
+        if (partitionCount <= 0 || Integer.bitCount(partitionCount) != 1) {
+            throw new IllegalArgumentException("Partition count must be a power of two, was " + partitionCount);
+        }
+        this.dataSourceRegistry = Objects.requireNonNull(dataSourceRegistry, "dataSourceRegistry");
+        this.dataSourceName = Objects.requireNonNull(dataSourceName, "dataSourceName");
+        this.transactionContext = Objects.requireNonNull(transactionContext, "transactionContext");
+        this.statements = Objects.requireNonNull(statements, "statements");
+        this.queryExecutor = Objects.requireNonNull(queryExecutor, "queryExecutor");
+        this.clock = Objects.requireNonNull(clock, "clock");
+        this.monitor = Objects.requireNonNull(monitor, "monitor");
+        this.memberId = Objects.requireNonNull(memberId, "memberId");
+        this.memberTimeout = Objects.requireNonNull(memberTimeout, "memberTimeout");
+        this.partitionCount = partitionCount;
+    }
+
+    /**
+     * Start sending heartbeats, three times per member timeout.
+     */
+    public void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            var thread = Executors.defaultThreadFactory().newThread(r);
+            thread.setName("SqlClusterMembership-" + memberId);
+            thread.setDaemon(true);
+            return thread;
+        });
+        var interval = Math.max(1, memberTimeout.toMillis() / 3);
+        executor.scheduleWithFixedDelay(this::safeHeartbeat, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stop sending heartbeats and leave the cluster, so that the other members take over the partitions immediately.
+     */
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        try {
+            transactionContext.execute(() -> {
+                try (var connection = getConnection()) {
+                    queryExecutor.execute(connection, statements.getDeleteMemberTemplate(), memberId);
+                } catch (SQLException e) {
+                    throw new EdcPersistenceException(e);
+                }
+            });
+        } catch (Exception e) {
+            monitor.warning("Cluster member %s failed to leave the cluster".formatted(memberId), e);
+        }
+        ownedPartitions = null;
+    }
+
+    /**
+     * Write the heartbeat of this member and recompute the partitions it owns from the live members.
+     */
+    public void heartbeat() {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var now = clock.millis();
+                queryExecutor.execute(connection, statements.getHeartbeatTemplate(), memberId, now);
+                queryExecutor.execute(connection, statements.getDeleteExpiredMembersTemplate(), now - 10 * memberTimeout.toMillis());
+
+                try (var stream = queryExecutor.query(connection, false, rs -> rs.getString(statements.getMemberIdColumn()),
+                        statements.getLiveMembersTemplate(), now - memberTimeout.toMillis())) {
+                    var members = stream.collect(Collectors.toCollection(TreeSet::new));
+                    members.add(memberId);
+                    ownedPartitions = assignPartitions(members);
+                }
+                lastHeartbeat = now;
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    /**
+     * The partitions owned by this member.
+     *
+     * @return the owned partitions, null if the membership is not known and all the partitions have to be polled.
+     */
+    public @Nullable Set<Integer> ownedPartitions() {
+        var owned = ownedPartitions;
+        if (owned != null && clock.millis() - lastHeartbeat > memberTimeout.toMillis()) {
+            // other members could have taken over our partitions already, but it's safer to poll more than to stall
+            return null;
+        }
+        return owned;
+    }
+
+    /**
+     * Restrict the statement to the entities in the partitions owned by this member. Does nothing if the membership is
+     * not known.
+     *
+     * @param statement the statement.
+     * @param idColumn  the entity id column.
+     */
+    public void addPartitionFilter(SqlQueryStatement statement, String idColumn) {
+        var owned = ownedPartitions();
+        if (owned != null) {
+            statement.addWhereClause(statements.getPartitionFilter(idColumn, partitionCount, owned.size()), owned.toArray());
+        }
+    }
+
+    public String getMemberId() {
+        return memberId;
+    }
+
+    private void safeHeartbeat() {
+        try {
+            heartbeat();
+        } catch (Exception e) {
+            monitor.warning("Cluster member %s failed to send heartbeat".formatted(memberId), e);
+        }
+    }
+
+    private Set<Integer> assignPartitions(Collection<String> members) {
+        return IntStream.range(0, partitionCount)
+                .filter(partition -> memberId.equals(owner(members, partition)))
+                .boxed()
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private String owner(Collection<String> members, int partition) {
+        String owner = null;
+        var maxWeight = Long.MIN_VALUE;
+        for (var member : members) {
+            var weight = weight(member, partition);
+            if (owner == null || weight > maxWeight) {
+                owner = member;
+                maxWeight = weight;
+            }
+        }
+        return owner;
+    }
+
+    /**
+     * Murmur3 finalizer over the member and the partition: it must be stable across JVMs, as all the members have to
+     * compute the same assignment.
+     */
+    private static long weight(String member, int partition) {
+        var h = ((long) member.hashCode() << 32) ^ (partition & 0xffffffffL);
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private Connection getConnection() throws SQLException {
+        var dataSource = dataSourceRegistry.resolve(dataSourceName);
+        if (dataSource == null) {
+            throw new EdcPersistenceException("DataSource %s could not be resolved".formatted(dataSourceName));
+        }
+        return dataSource.getConnection();
+    }
+}
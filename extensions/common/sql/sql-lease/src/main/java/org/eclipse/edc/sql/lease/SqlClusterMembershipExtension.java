@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.lease;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.eclipse.edc.sql.lease.SqlClusterMembership.DEFAULT_MEMBER_TIMEOUT;
+import static org.eclipse.edc.sql.lease.SqlClusterMembership.DEFAULT_PARTITION_COUNT;
+
+/**
+ * Registers the {@link SqlClusterMembership} when the cluster mode is enabled, so that the SQL stores partition the
+ * entities between the connector replicas.
+ */
+@Provides(SqlClusterMembership.class)
+@Extension(value = SqlClusterMembershipExtension.NAME)
+public class SqlClusterMembershipExtension implements ServiceExtension {
+
+    public static final String NAME = "SQL Cluster Membership";
+
+    @Setting(value = "If true, the connector replicas that share the same database partition the entities processed by the state machines", type = "boolean", defaultValue = "false")
+    public static final String CLUSTER_ENABLED_SETTING = "edc.sql.cluster.enabled";
+
+    @Setting(value = "Id of the replica in the cluster, must be unique. Random by default")
+    public static final String CLUSTER_MEMBER_ID_SETTING = "edc.sql.cluster.member.id";
+
+    @Setting(value = "Time in milliseconds after which a replica that did not send a heartbeat is considered dead and its partitions are taken over", type = "long", defaultValue = DEFAULT_MEMBER_TIMEOUT + "")
+    public static final String CLUSTER_MEMBER_TIMEOUT_SETTING = "edc.sql.cluster.member.timeout";
+
+    @Setting(value = "Number of partitions the entities are hashed into, must be a power of two and the same on all the replicas", type = "int", defaultValue = DEFAULT_PARTITION_COUNT + "")
+    public static final String CLUSTER_PARTITIONS_SETTING = "edc.sql.cluster.partitions";
+
+    @Setting(value = "Name of the datasource that contains the cluster member table", defaultValue = DataSourceRegistry.DEFAULT_DATASOURCE)
+    public static final String DATASOURCE_NAME_SETTING = "edc.datasource.cluster.name";
+
+    @Inject
+    private DataSourceRegistry dataSourceRegistry;
+    @Inject
+    private TransactionContext transactionContext;
+    @Inject
+    private QueryExecutor queryExecutor;
+    @Inject
+    private Clock clock;
+    @Inject(required = false)
+    private ClusterMemberStatements statements;
+
+    private SqlClusterMembership membership;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        if (!context.getSetting(CLUSTER_ENABLED_SETTING, false)) {
+            return;
+        }
+
+        var memberId = context.getSetting(CLUSTER_MEMBER_ID_SETTING, context.getConnectorId() + "-" + UUID.randomUUID());
+        var dataSourceName = context.getConfig().getString(DATASOURCE_NAME_SETTING, DataSourceRegistry.DEFAULT_DATASOURCE);
+        membership = new SqlClusterMembership(dataSourceRegistry, dataSourceName, transactionContext,
+                statements != null ? statements : new PostgresClusterMemberStatements(), queryExecutor, clock,
+                context.getMonitor(), memberId, Duration.ofMillis(context.getSetting(CLUSTER_MEMBER_TIMEOUT_SETTING, DEFAULT_MEMBER_TIMEOUT)),
+                context.getSetting(CLUSTER_PARTITIONS_SETTING, DEFAULT_PARTITION_COUNT));
+        context.registerService(SqlClusterMembership.class, membership);
+    }
+
+    @Override
+    public void start() {
+        if (membership != null) {
+            membership.start();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (membership != null) {
+            membership.stop();
+        }
+    }
+}
@@ -27,7 +27,9 @@ public class StatefulEntityMapping extends TranslationMapping {
         add("id", statements.getIdColumn());
         add("state", statements.getStateColumn());
         add("stateCount", statements.getStateCountColumn());
+        add("stateTimestamp", statements.getStateTimestampColumn());
         add("createdAt", statements.getCreatedAtColumn());
+        add("updatedAt", statements.getUpdatedAtColumn());
         add("traceContext", new JsonFieldTranslator(statements.getTraceContextColumn()));
         add("errorDetail", statements.getErrorDetailColumn());
     }
@@ -0,0 +1,177 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.lease;
+
+import org.eclipse.edc.junit.annotations.ComponentTest;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.sql.SqlQueryExecutor;
+import org.eclipse.edc.sql.testfixtures.PostgresqlLocalInstance;
+import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
+import org.eclipse.edc.sql.translation.SqlQueryStatement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ComponentTest
+@ExtendWith(PostgresqlStoreSetupExtension.class)
+class PostgresClusterMembershipTest {
+
+    private static final int PARTITIONS = 16;
+    private static final Duration MEMBER_TIMEOUT = Duration.ofSeconds(30);
+
+    private final ClusterMemberStatements statements = new PostgresClusterMemberStatements();
+    private final SqlQueryExecutor queryExecutor = new SqlQueryExecutor();
+    private final Clock clock = mock();
+    private PostgresqlStoreSetupExtension setupExtension;
+
+    @BeforeAll
+    static void prepare(PostgresqlLocalInstance postgres) {
+        postgres.createDatabase();
+    }
+
+    @BeforeEach
+    void setup(PostgresqlStoreSetupExtension setupExtension) throws IOException {
+        this.setupExtension = setupExtension;
+        var schema = Files.readString(Paths.get("./src/test/resources/schema.sql"));
+        setupExtension.runQuery(schema);
+        when(clock.millis()).thenReturn(0L);
+    }
+
+    @AfterEach
+    void teardown(PostgresqlStoreSetupExtension setupExtension) {
+        setupExtension.runQuery("DROP TABLE " + statements.getClusterMemberTableName() + " CASCADE");
+        setupExtension.runQuery("DROP TABLE edc_test_entity CASCADE");
+        setupExtension.runQuery("DROP TABLE edc_lease CASCADE");
+    }
+
+    @Test
+    void ownedPartitions_shouldBeNull_beforeFirstHeartbeat() {
+        var membership = membership("member-a");
+
+        assertThat(membership.ownedPartitions()).isNull();
+    }
+
+    @Test
+    void ownedPartitions_shouldSplitPartitionsBetweenLiveMembers() {
+        var first = membership("member-a");
+        var second = membership("member-b");
+
+        first.heartbeat();
+        second.heartbeat();
+        first.heartbeat();
+
+        var firstPartitions = first.ownedPartitions();
+        var secondPartitions = second.ownedPartitions();
+        assertThat(firstPartitions).isNotEmpty().doesNotContainAnyElementsOf(secondPartitions);
+        var all = new HashSet<>(firstPartitions);
+        all.addAll(secondPartitions);
+        assertThat(all).containsExactlyInAnyOrderElementsOf(IntStream.range(0, PARTITIONS).boxed().toList());
+    }
+
+    @Test
+    void ownedPartitions_shouldTakeOverPartitions_whenMemberLeaves() {
+        var first = membership("member-a");
+        var second = membership("member-b");
+        first.heartbeat();
+        second.heartbeat();
+
+        second.stop();
+        first.heartbeat();
+
+        assertThat(first.ownedPartitions()).hasSize(PARTITIONS);
+    }
+
+    @Test
+    void ownedPartitions_shouldTakeOverPartitions_whenMemberTimesOut() {
+        var first = membership("member-a");
+        var second = membership("member-b");
+        first.heartbeat();
+        second.heartbeat();
+        first.heartbeat();
+        assertThat(first.ownedPartitions()).hasSizeLessThan(PARTITIONS);
+
+        when(clock.millis()).thenReturn(MEMBER_TIMEOUT.toMillis() + 1);
+        first.heartbeat();
+
+        assertThat(first.ownedPartitions()).hasSize(PARTITIONS);
+    }
+
+    @Test
+    void ownedPartitions_shouldBeNull_whenHeartbeatIsTooOld() {
+        var membership = membership("member-a");
+        membership.heartbeat();
+
+        when(clock.millis()).thenReturn(MEMBER_TIMEOUT.toMillis() + 1);
+
+        assertThat(membership.ownedPartitions()).isNull();
+    }
+
+    @Test
+    void addPartitionFilter_shouldSplitEntitiesBetweenMembers(Connection connection) {
+        var ids = IntStream.range(0, 100).mapToObj(i -> "entity-" + i).toList();
+        ids.forEach(id -> queryExecutor.execute(connection, "INSERT INTO edc_test_entity (id) VALUES (?)", id));
+        var first = membership("member-a");
+        var second = membership("member-b");
+        first.heartbeat();
+        second.heartbeat();
+        first.heartbeat();
+
+        var firstIds = queryIds(first, connection);
+        var secondIds = queryIds(second, connection);
+
+        assertThat(firstIds).isNotEmpty().doesNotContainAnyElementsOf(secondIds);
+        var all = new HashSet<>(firstIds);
+        all.addAll(secondIds);
+        assertThat(all).containsExactlyInAnyOrderElementsOf(ids);
+    }
+
+    @Test
+    void shouldFail_whenPartitionCountIsNotPowerOfTwo() {
+        assertThatThrownBy(() -> new SqlClusterMembership(setupExtension.getDataSourceRegistry(), setupExtension.getDatasourceName(),
+                setupExtension.getTransactionContext(), statements, queryExecutor, clock, mock(Monitor.class), "member", MEMBER_TIMEOUT, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<String> queryIds(SqlClusterMembership membership, Connection connection) {
+        var statement = new SqlQueryStatement("SELECT * FROM edc_test_entity", 1000, 0);
+        membership.addPartitionFilter(statement, "id");
+        try (var stream = queryExecutor.query(connection, false, rs -> rs.getString("id"), statement.getQueryAsString(), statement.getParameters())) {
+            return stream.toList();
+        }
+    }
+
+    private SqlClusterMembership membership(String memberId) {
+        return new SqlClusterMembership(setupExtension.getDataSourceRegistry(), setupExtension.getDatasourceName(),
+                setupExtension.getTransactionContext(), statements, queryExecutor, clock, mock(Monitor.class), memberId,
+                MEMBER_TIMEOUT, PARTITIONS);
+    }
+}
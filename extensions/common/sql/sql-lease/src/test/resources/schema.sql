@@ -30,4 +30,13 @@ CREATE TABLE IF NOT EXISTS edc_test_entity
 );
 
 CREATE UNIQUE INDEX IF NOT EXISTS test_entity_id_uindex
-    ON edc_test_entity (id);
\ No newline at end of file
+    ON edc_test_entity (id);
+
+-- cluster members
+CREATE TABLE IF NOT EXISTS edc_cluster_member
+(
+    member_id    VARCHAR NOT NULL
+        CONSTRAINT cluster_member_pk
+            PRIMARY KEY,
+    heartbeat_at BIGINT  NOT NULL
+);
@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.lease.testfixtures;
+
+import org.eclipse.edc.sql.SqlQueryExecutor;
+import org.eclipse.edc.sql.lease.ClaimStatements;
+import org.eclipse.edc.sql.lease.SqlClaimContext;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import static java.lang.String.format;
+
+/**
+ * Helper class to easily claim entities and verify claims in tests, the counterpart of {@link LeaseUtil} for the
+ * optimistic concurrency mode.
+ */
+public class ClaimUtil {
+
+    private final Supplier<Connection> connectionSupplier;
+    private final ClaimStatements statements;
+    private final String tableName;
+    private final Clock clock;
+    private final SqlQueryExecutor queryExecutor = new SqlQueryExecutor();
+
+    public ClaimUtil(Supplier<Connection> connectionSupplier, ClaimStatements statements, String tableName, Clock clock) {
+        this.connectionSupplier = connectionSupplier;
+        this.statements = statements;
+        this.tableName = tableName;
+        this.clock = clock;
+    }
+
+    public void claimEntity(String id, String claimHolder, Duration claimDuration) {
+        try (var conn = connectionSupplier.get()) {
+            new SqlClaimContext(statements, queryExecutor, claimHolder, clock, claimDuration).claim(conn, id);
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public boolean isClaimed(String id, String claimHolder) {
+        var sql = format("SELECT %s FROM %s WHERE %s = ? AND %s >= ?", statements.getClaimedByColumn(), tableName,
+                statements.getIdColumn(), statements.getClaimedUntilColumn());
+        try (var conn = connectionSupplier.get()) {
+            var claimedBy = queryExecutor.single(conn, false, rs -> rs.getString(1), sql, id, clock.millis());
+            return claimHolder.equals(claimedBy);
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -17,11 +17,18 @@ package org.eclipse.edc.validator.dataaddress.kafka;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.validator.spi.ValidationResult;
 import org.eclipse.edc.validator.spi.Validator;
+import org.eclipse.edc.validator.spi.Violation;
 
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.BOOTSTRAP_SERVERS;
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.CONSUMER_COUNT;
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.DELIVERY_MODE;
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.DELIVERY_MODE_ACKNOWLEDGED;
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.DELIVERY_MODE_FIRE_AND_FORGET;
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.MAX_RECORD_SIZE;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.TOPIC;
 import static org.eclipse.edc.validator.spi.Violation.violation;
 
@@ -30,16 +37,22 @@ import static org.eclipse.edc.validator.spi.Violation.violation;
  */
 public class KafkaDataAddressValidator implements Validator<DataAddress> {
 
+    private static final Set<String> DELIVERY_MODES = Set.of(DELIVERY_MODE_ACKNOWLEDGED, DELIVERY_MODE_FIRE_AND_FORGET);
+
     @Override
     public ValidationResult validate(DataAddress input) {
-        var violations = Stream.of(TOPIC, BOOTSTRAP_SERVERS)
+        var mandatory = Stream.of(TOPIC, BOOTSTRAP_SERVERS)
                 .map(it -> {
                     var value = input.getStringProperty(it);
                     if (value == null || value.isBlank()) {
                         return violation("'%s' is a mandatory attribute".formatted(it), it, value);
                     }
                     return null;
-                })
+                });
+
+        var optional = Stream.of(validateDeliveryMode(input), validatePositiveInteger(input, MAX_RECORD_SIZE), validatePositiveInteger(input, CONSUMER_COUNT));
+
+        var violations = Stream.concat(mandatory, optional)
                 .filter(Objects::nonNull)
                 .toList();
 
@@ -50,4 +63,26 @@ public class KafkaDataAddressValidator implements Validator<DataAddress> {
         return ValidationResult.failure(violations);
     }
 
+    private Violation validateDeliveryMode(DataAddress input) {
+        var value = input.getStringProperty(DELIVERY_MODE);
+        if (value != null && !DELIVERY_MODES.contains(value)) {
+            return violation("'%s' must be one of %s".formatted(DELIVERY_MODE, DELIVERY_MODES), DELIVERY_MODE, value);
+        }
+        return null;
+    }
+
+    private Violation validatePositiveInteger(DataAddress input, String property) {
+        var value = input.getStringProperty(property);
+        if (value == null) {
+            return null;
+        }
+        try {
+            if (Integer.parseInt(value) > 0) {
+                return null;
+            }
+        } catch (NumberFormatException ignored) {
+            // reported below
+        }
+        return violation("'%s' must be a positive integer".formatted(property), property, value);
+    }
 }
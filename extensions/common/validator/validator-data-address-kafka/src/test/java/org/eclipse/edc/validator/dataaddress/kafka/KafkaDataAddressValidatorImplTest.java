@@ -21,6 +21,10 @@ import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.BOOTSTRAP_SERVERS;
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.CONSUMER_COUNT;
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.DELIVERY_MODE;
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.DELIVERY_MODE_FIRE_AND_FORGET;
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.MAX_RECORD_SIZE;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.TOPIC;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 
@@ -54,4 +58,38 @@ class KafkaDataAddressValidatorImplTest {
         });
     }
 
+    @Test
+    void shouldPass_whenOptionalPropertiesAreValid() {
+        var dataAddress = DataAddress.Builder.newInstance()
+                .type("Kafka")
+                .property(TOPIC, "topic.name")
+                .property(BOOTSTRAP_SERVERS, "any:98123")
+                .property(DELIVERY_MODE, DELIVERY_MODE_FIRE_AND_FORGET)
+                .property(MAX_RECORD_SIZE, "1024")
+                .property(CONSUMER_COUNT, "3")
+                .build();
+
+        var result = validator.validate(dataAddress);
+
+        assertThat(result).isSucceeded();
+    }
+
+    @Test
+    void shouldFail_whenOptionalPropertiesAreNotValid() {
+        var dataAddress = DataAddress.Builder.newInstance()
+                .type("Kafka")
+                .property(TOPIC, "topic.name")
+                .property(BOOTSTRAP_SERVERS, "any:98123")
+                .property(DELIVERY_MODE, "unknown")
+                .property(MAX_RECORD_SIZE, "-1")
+                .property(CONSUMER_COUNT, "many")
+                .build();
+
+        var result = validator.validate(dataAddress);
+
+        assertThat(result).isFailed().extracting(ValidationFailure::getViolations).satisfies(violations -> {
+            assertThat(violations).extracting(Violation::path).containsExactlyInAnyOrder(DELIVERY_MODE, MAX_RECORD_SIZE, CONSUMER_COUNT);
+        });
+    }
+
 }
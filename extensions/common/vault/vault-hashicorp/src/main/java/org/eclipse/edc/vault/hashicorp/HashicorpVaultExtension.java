@@ -16,6 +16,7 @@
 package org.eclipse.edc.vault.hashicorp;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.boot.vault.CachingVault;
 import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
@@ -30,6 +31,10 @@ import org.eclipse.edc.vault.hashicorp.client.HashicorpVaultClient;
 import org.eclipse.edc.vault.hashicorp.client.HashicorpVaultSettings;
 import org.eclipse.edc.vault.hashicorp.client.HashicorpVaultTokenRenewTask;
 
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
 
 @Extension(value = HashicorpVaultExtension.NAME)
@@ -43,6 +48,10 @@ public class HashicorpVaultExtension implements ServiceExtension {
     public static final long VAULT_TOKEN_RENEW_BUFFER_DEFAULT = 30;
     public static final long VAULT_TOKEN_TTL_DEFAULT = 300;
     public static final String VAULT_API_SECRET_PATH_DEFAULT = "/v1/secret";
+    public static final boolean VAULT_CACHE_ENABLED_DEFAULT = true;
+    public static final long VAULT_CACHE_TTL_DEFAULT = 300;
+    public static final long VAULT_CACHE_NEGATIVE_TTL_DEFAULT = 10;
+    public static final long VAULT_CACHE_REFRESH_AHEAD_DEFAULT = 30;
 
     @Setting(value = "The URL of the Hashicorp Vault", required = true)
     public static final String VAULT_URL = "edc.vault.hashicorp.url";
@@ -71,6 +80,18 @@ public class HashicorpVaultExtension implements ServiceExtension {
     @Setting(value = "The URL path of the vault's /secret endpoint", defaultValue = VAULT_API_SECRET_PATH_DEFAULT)
     public static final String VAULT_API_SECRET_PATH = "edc.vault.hashicorp.api.secret.path";
 
+    @Setting(value = "Whether the resolved secrets are cached", defaultValue = "true", type = "boolean")
+    public static final String VAULT_CACHE_ENABLED = "edc.vault.hashicorp.cache.enabled";
+
+    @Setting(value = "The time-to-live of the cached secrets in seconds", defaultValue = "300", type = "long")
+    public static final String VAULT_CACHE_TTL = "edc.vault.hashicorp.cache.ttl";
+
+    @Setting(value = "The time-to-live of the cached missing secrets in seconds", defaultValue = "10", type = "long")
+    public static final String VAULT_CACHE_NEGATIVE_TTL = "edc.vault.hashicorp.cache.negative-ttl";
+
+    @Setting(value = "The time before the expiration of a cached secret in which it gets refreshed in background, in seconds. 0 disables the refresh", defaultValue = "30", type = "long")
+    public static final String VAULT_CACHE_REFRESH_AHEAD = "edc.vault.hashicorp.cache.refresh-ahead";
+
     @Inject
     private EdcHttpClient httpClient;
 
@@ -81,6 +102,7 @@ public class HashicorpVaultExtension implements ServiceExtension {
     private HashicorpVaultTokenRenewTask tokenRenewalTask;
     private Monitor monitor;
     private HashicorpVaultSettings settings;
+    private ExecutorService cacheRefreshExecutor;
 
     @Override
     public String name() {
@@ -104,8 +126,23 @@ public class HashicorpVaultExtension implements ServiceExtension {
     }
 
     @Provider
-    public Vault hashicorpVault() {
-        return new HashicorpVault(hashicorpVaultClient(), monitor);
+    public Vault hashicorpVault(ServiceExtensionContext context) {
+        var vault = new HashicorpVault(hashicorpVaultClient(), monitor);
+        if (!context.getSetting(VAULT_CACHE_ENABLED, VAULT_CACHE_ENABLED_DEFAULT)) {
+            return vault;
+        }
+
+        var refreshAhead = Duration.ofSeconds(context.getSetting(VAULT_CACHE_REFRESH_AHEAD, VAULT_CACHE_REFRESH_AHEAD_DEFAULT));
+        if (!refreshAhead.isZero()) {
+            cacheRefreshExecutor = executorInstrumentation.instrument(Executors.newSingleThreadExecutor(), NAME + " cache refresh");
+        }
+        return CachingVault.Builder.newInstance(vault)
+                .ttl(Duration.ofSeconds(context.getSetting(VAULT_CACHE_TTL, VAULT_CACHE_TTL_DEFAULT)))
+                .negativeTtl(Duration.ofSeconds(context.getSetting(VAULT_CACHE_NEGATIVE_TTL, VAULT_CACHE_NEGATIVE_TTL_DEFAULT)))
+                .refreshAhead(refreshAhead)
+                .refreshExecutor(cacheRefreshExecutor)
+                .monitor(monitor)
+                .build();
     }
 
     @Override
@@ -132,6 +169,9 @@ public class HashicorpVaultExtension implements ServiceExtension {
         if (tokenRenewalTask.isRunning()) {
             tokenRenewalTask.stop();
         }
+        if (cacheRefreshExecutor != null) {
+            cacheRefreshExecutor.shutdownNow();
+        }
     }
 
     private HashicorpVaultSettings getSettings(ServiceExtensionContext context) {
@@ -16,6 +16,7 @@
 package org.eclipse.edc.vault.hashicorp;
 
 import org.eclipse.edc.boot.system.injection.ObjectFactory;
+import org.eclipse.edc.boot.vault.CachingVault;
 import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
@@ -25,9 +26,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.vault.hashicorp.HashicorpVaultExtension.VAULT_CACHE_ENABLED;
+import static org.eclipse.edc.vault.hashicorp.HashicorpVaultExtension.VAULT_CACHE_ENABLED_DEFAULT;
 import static org.eclipse.edc.vault.hashicorp.HashicorpVaultExtension.VAULT_TOKEN;
 import static org.eclipse.edc.vault.hashicorp.HashicorpVaultExtension.VAULT_TOKEN_SCHEDULED_RENEW_ENABLED;
 import static org.eclipse.edc.vault.hashicorp.HashicorpVaultExtension.VAULT_TOKEN_SCHEDULED_RENEW_ENABLED_DEFAULT;
@@ -63,8 +67,21 @@ class HashicorpVaultExtensionTest {
 
     @Test
     void hashicorpVault_ensureType(ServiceExtensionContext context) {
+        when(context.getSetting(VAULT_CACHE_ENABLED, VAULT_CACHE_ENABLED_DEFAULT)).thenReturn(false);
         extension.initialize(context);
-        assertThat(extension.hashicorpVault()).isInstanceOf(HashicorpVault.class);
+        assertThat(extension.hashicorpVault(context)).isInstanceOf(HashicorpVault.class);
+    }
+
+    @Test
+    void hashicorpVault_shouldBeCachedByDefault(ServiceExtensionContext context) {
+        var refreshExecutor = mock(ExecutorService.class);
+        when(executorInstrumentation.instrument(any(ExecutorService.class), anyString())).thenReturn(refreshExecutor);
+        extension.initialize(context);
+
+        assertThat(extension.hashicorpVault(context)).isInstanceOf(CachingVault.class);
+
+        extension.shutdown();
+        verify(refreshExecutor).shutdownNow();
     }
 
     @Test
@@ -15,12 +15,15 @@
 package org.eclipse.edc.connector.controlplane.api.client.transferprocess;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import okhttp3.MediaType;
 import okhttp3.Request;
 import okhttp3.RequestBody;
+import org.eclipse.edc.connector.controlplane.api.client.spi.transferprocess.DataFlowResult;
 import org.eclipse.edc.connector.controlplane.api.client.spi.transferprocess.TransferProcessApiClient;
 import org.eclipse.edc.connector.controlplane.api.client.transferprocess.model.TransferProcessFailRequest;
+import org.eclipse.edc.connector.controlplane.api.client.transferprocess.model.TransferProcessResultRequest;
 import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
@@ -28,8 +31,13 @@ import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
 import org.jetbrains.annotations.NotNull;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+import static java.util.stream.Collectors.toSet;
 import static org.eclipse.edc.http.spi.FallbackFactories.retryWhenStatusIsNotIn;
 
 /**
@@ -59,6 +67,79 @@ public class TransferProcessHttpClient implements TransferProcessApiClient {
         return sendRequest(dataFlowStartMessage, "fail", TransferProcessFailRequest.Builder.newInstance().errorMessage(reason).build());
     }
 
+    /**
+     * Sends a single request for every Control Plane callback address with all the results addressed to it. Falls back
+     * to one request per result if the Control Plane does not expose the batch endpoint.
+     */
+    @Override
+    public List<Result<Void>> signal(List<DataFlowResult> results) {
+        var outcomes = new ArrayList<Result<Void>>(Collections.nCopies(results.size(), null));
+        var indexesByCallbackAddress = new LinkedHashMap<URI, List<Integer>>();
+        for (var i = 0; i < results.size(); i++) {
+            var callbackAddress = results.get(i).request().getCallbackAddress();
+            if (callbackAddress == null) {
+                outcomes.set(i, signal(results.get(i)));
+            } else {
+                indexesByCallbackAddress.computeIfAbsent(callbackAddress, k -> new ArrayList<>()).add(i);
+            }
+        }
+
+        indexesByCallbackAddress.forEach((callbackAddress, indexes) -> {
+            var group = indexes.stream().map(results::get).toList();
+            var groupOutcomes = sendResults(callbackAddress, group);
+            for (var i = 0; i < indexes.size(); i++) {
+                outcomes.set(indexes.get(i), groupOutcomes.get(i));
+            }
+        });
+        return outcomes;
+    }
+
+    private Result<Void> signal(DataFlowResult result) {
+        return result.failed() ? failed(result.request(), result.reason()) : completed(result.request());
+    }
+
+    private List<Result<Void>> sendResults(URI callbackAddress, List<DataFlowResult> results) {
+        try {
+            var body = results.stream()
+                    .map(result -> TransferProcessResultRequest.Builder.newInstance()
+                            .transferProcessId(result.request().getProcessId())
+                            .failed(result.failed())
+                            .errorMessage(result.reason())
+                            .build())
+                    .toList();
+            var request = createRequest(buildUrl(callbackAddress, "./transferprocess/results"), body);
+            try (var response = httpClient.execute(request, List.of(retryWhenStatusIsNotIn(200, 404, 405)))) {
+                if (response.code() != 200) {
+                    // the control plane does not support the batch endpoint
+                    return results.stream().map(this::signal).toList();
+                }
+
+                var errors = mapper.readValue(response.body().string(), new TypeReference<Map<String, String>>() {
+                });
+                var processIds = results.stream().map(result -> result.request().getProcessId()).collect(toSet());
+                if (!processIds.containsAll(errors.keySet())) {
+                    // the response does not belong to this batch, none of the results can be considered as delivered
+                    var message = "TransferProcess API response does not match the results sent: %s".formatted(errors.keySet());
+                    monitor.severe(message);
+                    return results.stream().map(result -> Result.<Void>failure(message)).toList();
+                }
+                return results.stream().map(result -> {
+                    var processId = result.request().getProcessId();
+                    if (!errors.containsKey(processId)) {
+                        return Result.<Void>success();
+                    }
+                    var message = "TransferProcess API rejected the result of %s: %s".formatted(processId, errors.get(processId));
+                    monitor.severe(message);
+                    return Result.<Void>failure(message);
+                }).toList();
+            }
+        } catch (Exception e) {
+            monitor.severe("Failed to send callback request", e);
+            var failure = Result.<Void>failure("Failed to send callback request: " + e.getMessage());
+            return results.stream().map(result -> failure).toList();
+        }
+    }
+
     private Result<Void> sendRequest(DataFlowStartMessage dataFlowStartMessage, String action, Object body) {
 
         if (dataFlowStartMessage.getCallbackAddress() != null) {
@@ -86,9 +167,12 @@ public class TransferProcessHttpClient implements TransferProcessApiClient {
 
     @NotNull
     private String buildUrl(DataFlowStartMessage dataFlowStartMessage, String action) {
-        var callbackAddress = dataFlowStartMessage.getCallbackAddress();
-        var url = URI.create(callbackAddress + "/").resolve(String.format("./transferprocess/%s/%s", dataFlowStartMessage.getProcessId(), action)).normalize();
-        return url.toString();
+        return buildUrl(dataFlowStartMessage.getCallbackAddress(), String.format("./transferprocess/%s/%s", dataFlowStartMessage.getProcessId(), action));
+    }
+
+    @NotNull
+    private String buildUrl(URI callbackAddress, String path) {
+        return URI.create(callbackAddress + "/").resolve(path).normalize().toString();
     }
 
     private Request createRequest(String url, Object body) throws JsonProcessingException {
@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.api.client.transferprocess.model;
+
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+
+/**
+ * Payload item for notifying the results of multiple transfers at once
+ */
+@JsonDeserialize(builder = TransferProcessResultRequest.Builder.class)
+public class TransferProcessResultRequest {
+    private String transferProcessId;
+    private boolean failed;
+    private String errorMessage;
+
+    private TransferProcessResultRequest() {
+
+    }
+
+    public String getTransferProcessId() {
+        return transferProcessId;
+    }
+
+    public boolean isFailed() {
+        return failed;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    @JsonPOJOBuilder(withPrefix = "")
+    public static final class Builder {
+        private final TransferProcessResultRequest request;
+
+        private Builder() {
+            request = new TransferProcessResultRequest();
+        }
+
+        @JsonCreator
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder transferProcessId(String transferProcessId) {
+            request.transferProcessId = transferProcessId;
+            return this;
+        }
+
+        public Builder failed(boolean failed) {
+            request.failed = failed;
+            return this;
+        }
+
+        public Builder errorMessage(String errorMessage) {
+            request.errorMessage = errorMessage;
+            return this;
+        }
+
+        public TransferProcessResultRequest build() {
+            return request;
+        }
+    }
+}
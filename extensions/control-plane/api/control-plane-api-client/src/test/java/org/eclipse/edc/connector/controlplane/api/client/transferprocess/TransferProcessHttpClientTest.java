@@ -17,8 +17,10 @@ package org.eclipse.edc.connector.controlplane.api.client.transferprocess;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import okhttp3.Interceptor;
 import okhttp3.MediaType;
+import okhttp3.Request;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
+import org.eclipse.edc.connector.controlplane.api.client.spi.transferprocess.DataFlowResult;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
@@ -28,8 +30,11 @@ import org.mockito.invocation.InvocationOnMock;
 
 import java.io.IOException;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
 
 import static okhttp3.Protocol.HTTP_1_1;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.http.client.testfixtures.HttpTestUtils.testHttpClient;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -46,11 +51,15 @@ public class TransferProcessHttpClientTest {
     private TransferProcessHttpClient transferProcessHttpClient;
 
     private static Response createResponse(int code, InvocationOnMock invocation) {
+        return createResponse(code, "", invocation);
+    }
+
+    private static Response createResponse(int code, String body, InvocationOnMock invocation) {
         Interceptor.Chain chain = invocation.getArgument(0);
         return new Response.Builder()
                 .request(chain.request())
                 .protocol(HTTP_1_1).code(code)
-                .body(ResponseBody.create("", MediaType.get("application/json"))).message("test")
+                .body(ResponseBody.create(body, MediaType.get("application/json"))).message("test")
                 .build();
     }
 
@@ -125,6 +134,77 @@ public class TransferProcessHttpClientTest {
         verifyNoInteractions(monitor);
     }
 
+    @Test
+    void signal_shouldSendSingleRequestPerCallbackAddress() throws IOException {
+        var requests = new ArrayList<Request>();
+        when(interceptor.intercept(any())).thenAnswer(invocation -> {
+            requests.add(((Interceptor.Chain) invocation.getArgument(0)).request());
+            return createResponse(200, "{}", invocation);
+        });
+        var results = List.of(
+                DataFlowResult.completed(createRequest().processId("1").callbackAddress(URI.create("http://first/control")).build()),
+                DataFlowResult.failed(createRequest().processId("2").callbackAddress(URI.create("http://second/control")).build(), "failure"),
+                DataFlowResult.completed(createRequest().processId("3").callbackAddress(URI.create("http://first/control")).build())
+        );
+
+        var outcomes = transferProcessHttpClient.signal(results);
+
+        assertThat(outcomes).hasSize(3).allSatisfy(outcome -> assertThat(outcome).isSucceeded());
+        assertThat(requests).extracting(request -> request.url().toString())
+                .containsExactly("http://first/control/transferprocess/results", "http://second/control/transferprocess/results");
+        verifyNoInteractions(monitor);
+    }
+
+    @Test
+    void signal_shouldFailResultsRejectedByControlPlane() throws IOException {
+        when(interceptor.intercept(any())).thenAnswer(invocation -> createResponse(200, "{\"2\": \"not found\"}", invocation));
+        var callbackAddress = URI.create("http://localhost:8080/test");
+        var results = List.of(
+                DataFlowResult.completed(createRequest().processId("1").callbackAddress(callbackAddress).build()),
+                DataFlowResult.completed(createRequest().processId("2").callbackAddress(callbackAddress).build())
+        );
+
+        var outcomes = transferProcessHttpClient.signal(results);
+
+        assertThat(outcomes.get(0)).isSucceeded();
+        assertThat(outcomes.get(1)).isFailed();
+    }
+
+    @Test
+    void signal_shouldFailAllResults_whenResponseDoesNotMatchBatch() throws IOException {
+        when(interceptor.intercept(any())).thenAnswer(invocation -> createResponse(200, "{\"3\": \"not found\"}", invocation));
+        var callbackAddress = URI.create("http://localhost:8080/test");
+        var results = List.of(
+                DataFlowResult.completed(createRequest().processId("1").callbackAddress(callbackAddress).build()),
+                DataFlowResult.completed(createRequest().processId("2").callbackAddress(callbackAddress).build())
+        );
+
+        var outcomes = transferProcessHttpClient.signal(results);
+
+        assertThat(outcomes).hasSize(2).allSatisfy(outcome -> assertThat(outcome).isFailed());
+    }
+
+    @Test
+    void signal_shouldSendSingleRequests_whenBatchEndpointIsMissing() throws IOException {
+        var requests = new ArrayList<Request>();
+        when(interceptor.intercept(any())).thenAnswer(invocation -> {
+            var request = ((Interceptor.Chain) invocation.getArgument(0)).request();
+            requests.add(request);
+            return createResponse(request.url().encodedPath().endsWith("/results") ? 404 : 204, invocation);
+        });
+        var callbackAddress = URI.create("http://localhost:8080/test");
+        var results = List.of(
+                DataFlowResult.completed(createRequest().processId("1").callbackAddress(callbackAddress).build()),
+                DataFlowResult.failed(createRequest().processId("2").callbackAddress(callbackAddress).build(), "failure")
+        );
+
+        var outcomes = transferProcessHttpClient.signal(results);
+
+        assertThat(outcomes).hasSize(2).allSatisfy(outcome -> assertThat(outcome).isSucceeded());
+        assertThat(requests).extracting(request -> request.url().encodedPath())
+                .containsExactly("/test/transferprocess/results", "/test/transferprocess/1/complete", "/test/transferprocess/2/fail");
+    }
+
     private DataFlowStartMessage.Builder createRequest() {
         return DataFlowStartMessage.Builder.newInstance()
                 .id("1")
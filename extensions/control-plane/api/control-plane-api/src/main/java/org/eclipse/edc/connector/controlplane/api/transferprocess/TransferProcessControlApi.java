@@ -22,8 +22,12 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.eclipse.edc.connector.controlplane.api.transferprocess.model.TransferProcessFailStateDto;
+import org.eclipse.edc.connector.controlplane.api.transferprocess.model.TransferProcessResultDto;
 import org.eclipse.edc.web.spi.ApiErrorDetail;
 
+import java.util.List;
+import java.util.Map;
+
 
 @OpenAPIDefinition
 @Tag(name = "Transfer Process Control Api")
@@ -47,5 +51,14 @@ public interface TransferProcessControlApi {
             })
     void fail(String processId, TransferProcessFailStateDto request);
 
+    @Operation(description = "Requests completion or failure of multiple transfer processes at once. The response contains the errors of " +
+            "the transfer processes that could not be completed or failed, keyed by transfer process id, the other ones have been received successfully",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "The errors keyed by transfer process id",
+                            content = @Content(schema = @Schema(implementation = Map.class))),
+                    @ApiResponse(responseCode = "400", description = "Request was malformed, e.g. an id was null",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiErrorDetail.class))))
+            })
+    Map<String, String> results(List<TransferProcessResultDto> results);
 
 }
@@ -21,6 +21,7 @@ import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
 import org.eclipse.edc.connector.controlplane.api.transferprocess.model.TransferProcessFailStateDto;
+import org.eclipse.edc.connector.controlplane.api.transferprocess.model.TransferProcessResultDto;
 import org.eclipse.edc.connector.controlplane.services.spi.transferprocess.TransferProcessService;
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.command.TerminateTransferCommand;
@@ -29,6 +30,10 @@ import org.eclipse.edc.validator.spi.Validator;
 import org.eclipse.edc.validator.spi.Violation;
 import org.eclipse.edc.web.spi.exception.ValidationFailureException;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import static org.eclipse.edc.web.spi.exception.ServiceResultHandler.exceptionMapper;
 
 
@@ -61,6 +66,39 @@ public class TransferProcessControlApiController implements TransferProcessContr
         transferProcessService.terminate(new TerminateTransferCommand(processId, request.getErrorMessage())).orElseThrow(exceptionMapper(TransferProcess.class, processId));
     }
 
+    @POST
+    @Path("/results")
+    @Override
+    public Map<String, String> results(List<TransferProcessResultDto> results) {
+        if (results == null) {
+            throw new ValidationFailureException(List.of(Violation.violation("requestBody cannot be null", "")));
+        }
+        if (results.stream().anyMatch(result -> result == null || result.getTransferProcessId() == null)) {
+            throw new ValidationFailureException(List.of(Violation.violation("transferProcessId cannot be null", "transferProcessId")));
+        }
+
+        var errors = new LinkedHashMap<String, String>();
+        for (var result : results) {
+            var processId = result.getTransferProcessId();
+            if (result.isFailed()) {
+                var failState = TransferProcessFailStateDto.Builder.newInstance().errorMessage(result.getErrorMessage()).build();
+                var validation = validator.validate(failState);
+                if (validation.failed()) {
+                    errors.put(processId, validation.getFailureDetail());
+                    continue;
+                }
+            }
+
+            var serviceResult = result.isFailed()
+                    ? transferProcessService.terminate(new TerminateTransferCommand(processId, result.getErrorMessage()))
+                    : transferProcessService.complete(processId);
+            if (serviceResult.failed()) {
+                errors.put(processId, serviceResult.getFailureDetail());
+            }
+        }
+        return errors;
+    }
+
     private static class TransferProcessFailStateDtoValidator implements Validator<TransferProcessFailStateDto> {
         @Override
         public ValidationResult validate(TransferProcessFailStateDto input) {
@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.api.transferprocess.model;
+
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+
+/**
+ * The result of the data flow of a transfer process: completed, or failed with an error message.
+ */
+@JsonDeserialize(builder = TransferProcessResultDto.Builder.class)
+public class TransferProcessResultDto {
+    private String transferProcessId;
+    private boolean failed;
+    private String errorMessage;
+
+    private TransferProcessResultDto() {
+
+    }
+
+    public String getTransferProcessId() {
+        return transferProcessId;
+    }
+
+    public boolean isFailed() {
+        return failed;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    @JsonPOJOBuilder(withPrefix = "")
+    public static final class Builder {
+        private final TransferProcessResultDto result;
+
+        private Builder() {
+            result = new TransferProcessResultDto();
+        }
+
+        @JsonCreator
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder transferProcessId(String transferProcessId) {
+            result.transferProcessId = transferProcessId;
+            return this;
+        }
+
+        public Builder failed(boolean failed) {
+            result.failed = failed;
+            return this;
+        }
+
+        public Builder errorMessage(String errorMessage) {
+            result.errorMessage = errorMessage;
+            return this;
+        }
+
+        public TransferProcessResultDto build() {
+            return result;
+        }
+    }
+}
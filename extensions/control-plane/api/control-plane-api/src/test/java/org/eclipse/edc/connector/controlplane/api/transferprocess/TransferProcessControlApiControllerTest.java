@@ -27,9 +27,12 @@ import static io.restassured.RestAssured.given;
 import static io.restassured.http.ContentType.JSON;
 import static java.lang.String.format;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ApiTest
@@ -76,6 +79,69 @@ public class TransferProcessControlApiControllerTest extends RestControllerTestB
         assertThat(captor.getValue().getEntityId()).isEqualTo(id);
     }
 
+    @Test
+    void results() {
+        var body = """
+                [
+                    { "transferProcessId": "completed" },
+                    { "transferProcessId": "failed", "failed": true, "errorMessage": "testError" }
+                ]
+                """;
+        when(transferProcessService.complete(any())).thenReturn(ServiceResult.success());
+        when(transferProcessService.terminate(any())).thenReturn(ServiceResult.success());
+
+        baseRequest()
+                .contentType(JSON)
+                .body(body)
+                .post("/results")
+                .then()
+                .log().ifError()
+                .statusCode(200)
+                .body("size()", is(0));
+
+        verify(transferProcessService).complete("completed");
+        var captor = ArgumentCaptor.forClass(TerminateTransferCommand.class);
+        verify(transferProcessService).terminate(captor.capture());
+        assertThat(captor.getValue().getEntityId()).isEqualTo("failed");
+        assertThat(captor.getValue().getReason()).isEqualTo("testError");
+    }
+
+    @Test
+    void results_shouldReturnErrorsOfSingleTransferProcesses() {
+        var body = """
+                [
+                    { "transferProcessId": "unknown" },
+                    { "transferProcessId": "withoutMessage", "failed": true }
+                ]
+                """;
+        when(transferProcessService.complete(any())).thenReturn(ServiceResult.notFound("not found"));
+
+        baseRequest()
+                .contentType(JSON)
+                .body(body)
+                .post("/results")
+                .then()
+                .log().ifError()
+                .statusCode(200)
+                .body("unknown", is("not found"))
+                .body("withoutMessage", is("errorMessage cannot be null"));
+
+        verify(transferProcessService).complete("unknown");
+        verify(transferProcessService, never()).terminate(any());
+    }
+
+    @Test
+    void results_shouldReturnBadRequest_whenIdIsMissing() {
+        baseRequest()
+                .contentType(JSON)
+                .body("[ { \"failed\": false } ]")
+                .post("/results")
+                .then()
+                .statusCode(400);
+
+        verifyNoInteractions(transferProcessService);
+    }
+
     @Override
     protected Object controller() {
         return new TransferProcessControlApiController(transferProcessService);
@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.controlplane.api.management.contractnegotiatio
 
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.links.Link;
 import io.swagger.v3.oas.annotations.links.LinkParameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -26,6 +27,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import jakarta.ws.rs.container.AsyncResponse;
 import org.eclipse.edc.api.model.ApiCoreSchema;
 import org.eclipse.edc.connector.api.management.configuration.ManagementApiSchema;
 import org.eclipse.edc.connector.controlplane.api.management.contractnegotiation.model.ContractOfferDescription;
@@ -45,6 +47,9 @@ import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.ODRL_POLICY_TYPE_O
 @Tag(name = "Contract Negotiation")
 public interface ContractNegotiationApi {
 
+    long DEFAULT_CHANGES_TIMEOUT = 30_000;
+    long MAX_CHANGES_TIMEOUT = 60_000;
+
     @Operation(description = "Returns all contract negotiations according to a query",
             requestBody = @RequestBody(content = @Content(schema = @Schema(implementation = ApiCoreSchema.QuerySpecSchema.class))),
             responses = {
@@ -92,6 +97,22 @@ public interface ContractNegotiationApi {
     )
     JsonObject getAgreementForNegotiation(String negotiationId);
 
+    @Operation(description = "Waits for state changes of the contract negotiations (long polling). Returns as soon as there are " +
+            "changes after the passed sequence, or an empty list when the timeout expires. Clients pass the returned " +
+            "lastSequence to the next call to resume from where they left. When truncated is true some changes could " +
+            "have been lost, and the state of the contract negotiations has to be fetched again.",
+            parameters = {
+                    @Parameter(name = "after", description = "The last sequence seen by the client. If missing, only the changes from now on are returned"),
+                    @Parameter(name = "id", description = "The ids of the contract negotiations to watch, all if missing"),
+                    @Parameter(name = "timeout", description = "Max time to wait for changes in milliseconds, at most " + MAX_CHANGES_TIMEOUT)
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "The state changes",
+                            content = @Content(schema = @Schema(implementation = ApiCoreSchema.StateChangesSchema.class))),
+                    @ApiResponse(responseCode = "503", description = "Too many clients are waiting for changes, the request can be retried later")
+            })
+    void getNegotiationChanges(Long after, List<String> ids, long timeout, AsyncResponse response);
+
     @Operation(description = "Initiates a contract negotiation for a given offer and with the given counter part. Please note that successfully invoking this endpoint " +
             "only means that the negotiation was initiated. Clients must poll the /{id}/state endpoint to track the state",
             requestBody = @RequestBody(content = @Content(schema = @Schema(implementation = ContractRequestSchema.class))),
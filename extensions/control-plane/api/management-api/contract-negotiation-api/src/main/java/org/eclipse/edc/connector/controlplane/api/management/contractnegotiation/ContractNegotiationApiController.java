@@ -19,14 +19,22 @@ package org.eclipse.edc.connector.controlplane.api.management.contractnegotiatio
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.api.model.IdResponse;
+import org.eclipse.edc.api.model.StateChanges;
+import org.eclipse.edc.api.stream.StateChangeFeed;
 import org.eclipse.edc.connector.controlplane.api.management.contractnegotiation.model.NegotiationState;
+import org.eclipse.edc.connector.controlplane.contract.spi.event.contractnegotiation.ContractNegotiationEvent;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.command.TerminateNegotiationCommand;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiation;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractRequest;
@@ -41,9 +49,14 @@ import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 import org.eclipse.edc.web.spi.exception.ValidationFailureException;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static jakarta.json.stream.JsonCollectors.toJsonArray;
+import static jakarta.ws.rs.core.HttpHeaders.RETRY_AFTER;
+import static jakarta.ws.rs.core.Response.Status.SERVICE_UNAVAILABLE;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.eclipse.edc.connector.controlplane.contract.spi.types.command.TerminateNegotiationCommand.TERMINATE_NEGOTIATION_TYPE;
 import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractRequest.CONTRACT_REQUEST_TYPE;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_TYPE;
@@ -57,13 +70,16 @@ public class ContractNegotiationApiController implements ContractNegotiationApi
     private final TypeTransformerRegistry transformerRegistry;
     private final Monitor monitor;
     private final JsonObjectValidatorRegistry validatorRegistry;
+    private final StateChangeFeed<ContractNegotiationEvent> changeFeed;
 
     public ContractNegotiationApiController(ContractNegotiationService service, TypeTransformerRegistry transformerRegistry,
-                                            Monitor monitor, JsonObjectValidatorRegistry validatorRegistry) {
+                                            Monitor monitor, JsonObjectValidatorRegistry validatorRegistry,
+                                            StateChangeFeed<ContractNegotiationEvent> changeFeed) {
         this.service = service;
         this.transformerRegistry = transformerRegistry;
         this.monitor = monitor;
         this.validatorRegistry = validatorRegistry;
+        this.changeFeed = changeFeed;
     }
 
     @POST
@@ -124,6 +140,29 @@ public class ContractNegotiationApiController implements ContractNegotiationApi
                 .orElseThrow(() -> new ObjectNotFoundException(ContractNegotiation.class, negotiationId));
     }
 
+    @GET
+    @Path("/changes")
+    @Override
+    public void getNegotiationChanges(@QueryParam("after") Long after, @QueryParam("id") List<String> ids,
+                                      @QueryParam("timeout") @DefaultValue(DEFAULT_CHANGES_TIMEOUT + "") long timeout,
+                                      @Suspended AsyncResponse response) {
+        var subscription = changeFeed.subscribe(after, Set.copyOf(ids), changes -> response.resume(toJson(changes)));
+        if (subscription.failed()) {
+            monitor.debug(subscription.getFailureDetail());
+            response.resume(Response.status(SERVICE_UNAVAILABLE).header(RETRY_AFTER, 1).build());
+            return;
+        }
+
+        response.setTimeout(Math.min(Math.max(timeout, 1), MAX_CHANGES_TIMEOUT), MILLISECONDS);
+        response.setTimeoutHandler(asyncResponse -> {
+            // read before cancelling: a matching change that comes in between completes the subscription, so it's not lost
+            var lastSequence = changeFeed.lastSequence();
+            if (subscription.getContent().cancel()) {
+                asyncResponse.resume(toJson(new StateChanges(List.of(), lastSequence, false)));
+            }
+        });
+    }
+
     @POST
     @Override
     public JsonObject initiateContractNegotiation(JsonObject requestObject) {
@@ -157,6 +196,11 @@ public class ContractNegotiationApiController implements ContractNegotiationApi
         service.terminate(command).orElseThrow(exceptionMapper(ContractNegotiation.class, id));
     }
 
+    private JsonObject toJson(StateChanges changes) {
+        return transformerRegistry.transform(changes, JsonObject.class)
+                .orElseThrow(f -> new EdcException("Error creating response body: " + f.getFailureDetail()));
+    }
+
     private void logIfError(Result<?> result) {
         result.onFailure(f -> monitor.warning(f.getFailureDetail()));
     }
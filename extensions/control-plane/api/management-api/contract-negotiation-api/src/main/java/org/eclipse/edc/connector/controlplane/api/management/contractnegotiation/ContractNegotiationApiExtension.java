@@ -16,6 +16,7 @@
 package org.eclipse.edc.connector.controlplane.api.management.contractnegotiation;
 
 import jakarta.json.Json;
+import org.eclipse.edc.api.stream.StateChangeFeed;
 import org.eclipse.edc.connector.api.management.configuration.ManagementApiConfiguration;
 import org.eclipse.edc.connector.controlplane.api.management.contractnegotiation.transform.JsonObjectFromContractNegotiationTransformer;
 import org.eclipse.edc.connector.controlplane.api.management.contractnegotiation.transform.JsonObjectFromNegotiationStateTransformer;
@@ -25,9 +26,13 @@ import org.eclipse.edc.connector.controlplane.api.management.contractnegotiation
 import org.eclipse.edc.connector.controlplane.api.management.contractnegotiation.transform.JsonObjectToTerminateNegotiationCommandTransformer;
 import org.eclipse.edc.connector.controlplane.api.management.contractnegotiation.validation.ContractRequestValidator;
 import org.eclipse.edc.connector.controlplane.api.management.contractnegotiation.validation.TerminateNegotiationValidator;
+import org.eclipse.edc.connector.controlplane.contract.spi.event.contractnegotiation.ContractNegotiationEvent;
 import org.eclipse.edc.connector.controlplane.services.spi.contractnegotiation.ContractNegotiationService;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.event.EventRouter;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
@@ -35,6 +40,8 @@ import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 import org.eclipse.edc.web.spi.WebService;
 
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.eclipse.edc.connector.controlplane.contract.spi.types.command.TerminateNegotiationCommand.TERMINATE_NEGOTIATION_TYPE;
 import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractRequest.CONTRACT_REQUEST_TYPE;
@@ -44,6 +51,19 @@ public class ContractNegotiationApiExtension implements ServiceExtension {
 
     public static final String NAME = "Management API: Contract Negotiation";
 
+    public static final int DEFAULT_CHANGES_CAPACITY = 10_000;
+    public static final int DEFAULT_CHANGES_MAX_WAITING = 1000;
+    public static final int DEFAULT_CHANGES_THREADS = 2;
+
+    @Setting(value = "Number of contract negotiation state changes kept in memory to let the clients resume the changes stream", type = "int", defaultValue = DEFAULT_CHANGES_CAPACITY + "")
+    public static final String CHANGES_CAPACITY_SETTING = "edc.api.management.contractnegotiation.changes.capacity";
+
+    @Setting(value = "Max number of clients that can wait for contract negotiation state changes at the same time, further clients get a 503 response", type = "int", defaultValue = DEFAULT_CHANGES_MAX_WAITING + "")
+    public static final String CHANGES_MAX_WAITING_SETTING = "edc.api.management.contractnegotiation.changes.max-waiting";
+
+    @Setting(value = "Number of threads that notify the clients waiting for contract negotiation state changes", type = "int", defaultValue = DEFAULT_CHANGES_THREADS + "")
+    public static final String CHANGES_THREADS_SETTING = "edc.api.management.contractnegotiation.changes.threads";
+
     @Inject
     private WebService webService;
 
@@ -59,6 +79,14 @@ public class ContractNegotiationApiExtension implements ServiceExtension {
     @Inject
     private JsonObjectValidatorRegistry validatorRegistry;
 
+    @Inject
+    private EventRouter eventRouter;
+
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private ExecutorService changesExecutor;
+
     @Override
     public String name() {
         return NAME;
@@ -81,7 +109,20 @@ public class ContractNegotiationApiExtension implements ServiceExtension {
         validatorRegistry.register(CONTRACT_REQUEST_TYPE, ContractRequestValidator.instance(monitor));
         validatorRegistry.register(TERMINATE_NEGOTIATION_TYPE, TerminateNegotiationValidator.instance());
 
-        var controller = new ContractNegotiationApiController(service, managementApiTransformerRegistry, monitor, validatorRegistry);
+        changesExecutor = executorInstrumentation.instrument(Executors.newFixedThreadPool(context.getSetting(CHANGES_THREADS_SETTING, DEFAULT_CHANGES_THREADS)), NAME + " changes");
+        var changeFeed = new StateChangeFeed<>(ContractNegotiationEvent.class, ContractNegotiationEvent::getContractNegotiationId,
+                context.getSetting(CHANGES_CAPACITY_SETTING, DEFAULT_CHANGES_CAPACITY),
+                context.getSetting(CHANGES_MAX_WAITING_SETTING, DEFAULT_CHANGES_MAX_WAITING), changesExecutor);
+        eventRouter.register(ContractNegotiationEvent.class, changeFeed);
+
+        var controller = new ContractNegotiationApiController(service, managementApiTransformerRegistry, monitor, validatorRegistry, changeFeed);
         webService.registerResource(config.getContextAlias(), controller);
     }
+
+    @Override
+    public void shutdown() {
+        if (changesExecutor != null) {
+            changesExecutor.shutdownNow();
+        }
+    }
 }
@@ -20,7 +20,11 @@ import io.restassured.specification.RequestSpecification;
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
 import org.eclipse.edc.api.model.IdResponse;
+import org.eclipse.edc.api.model.StateChanges;
+import org.eclipse.edc.api.stream.StateChangeFeed;
 import org.eclipse.edc.connector.controlplane.api.management.contractnegotiation.model.NegotiationState;
+import org.eclipse.edc.connector.controlplane.contract.spi.event.contractnegotiation.ContractNegotiationEvent;
+import org.eclipse.edc.connector.controlplane.contract.spi.event.contractnegotiation.ContractNegotiationInitiated;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.ContractAgreement;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.command.TerminateNegotiationCommand;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiation;
@@ -29,6 +33,7 @@ import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractO
 import org.eclipse.edc.connector.controlplane.services.spi.contractnegotiation.ContractNegotiationService;
 import org.eclipse.edc.junit.annotations.ApiTest;
 import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.event.EventEnvelope;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.result.ServiceResult;
@@ -58,6 +63,7 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -72,6 +78,8 @@ class ContractNegotiationApiControllerTest extends RestControllerTestBase {
     private final ContractNegotiationService service = mock();
     private final TypeTransformerRegistry transformerRegistry = mock();
     private final JsonObjectValidatorRegistry validatorRegistry = mock();
+    private final StateChangeFeed<ContractNegotiationEvent> changeFeed = new StateChangeFeed<>(ContractNegotiationEvent.class,
+            ContractNegotiationEvent::getContractNegotiationId, 100, 100, Runnable::run);
 
     @Test
     void getAll() {
@@ -452,9 +460,28 @@ class ContractNegotiationApiControllerTest extends RestControllerTestBase {
         verifyNoInteractions(transformerRegistry, service);
     }
 
+    @Test
+    void getChanges_shouldReturnChangesAfterSequence() {
+        var event = ContractNegotiationInitiated.Builder.newInstance().contractNegotiationId("cn1")
+                .counterPartyAddress("address").counterPartyId("counterPartyId").protocol("protocol").build();
+        changeFeed.on(EventEnvelope.Builder.newInstance().id(randomUUID().toString()).at(System.currentTimeMillis()).payload(event).build());
+        var responseBody = createObjectBuilder().add("lastSequence", 1).build();
+        when(transformerRegistry.transform(any(StateChanges.class), eq(JsonObject.class))).thenReturn(Result.success(responseBody));
+
+        baseRequest()
+                .get("/changes?after=0")
+                .then()
+                .statusCode(200)
+                .contentType(JSON)
+                .body("lastSequence", is(1));
+
+        verify(transformerRegistry).transform(argThat(it -> it instanceof StateChanges changes &&
+                changes.changes().size() == 1 && changes.changes().get(0).entityId().equals("cn1")), eq(JsonObject.class));
+    }
+
     @Override
     protected Object controller() {
-        return new ContractNegotiationApiController(service, transformerRegistry, monitor, validatorRegistry);
+        return new ContractNegotiationApiController(service, transformerRegistry, monitor, validatorRegistry, changeFeed);
     }
 
     private RequestSpecification baseRequest() {
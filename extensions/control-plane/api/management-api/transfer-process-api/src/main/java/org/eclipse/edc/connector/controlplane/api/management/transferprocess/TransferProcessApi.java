@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.controlplane.api.management.transferprocess;
 
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.links.Link;
 import io.swagger.v3.oas.annotations.links.LinkParameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -26,6 +27,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import jakarta.ws.rs.container.AsyncResponse;
 import org.eclipse.edc.api.model.ApiCoreSchema;
 import org.eclipse.edc.connector.api.management.configuration.ManagementApiSchema;
 import org.eclipse.edc.connector.controlplane.api.management.transferprocess.model.SuspendTransfer;
@@ -36,6 +38,8 @@ import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess
 import java.util.List;
 
 import static io.swagger.v3.oas.annotations.media.Schema.RequiredMode.REQUIRED;
+import static org.eclipse.edc.connector.controlplane.api.management.transferprocess.model.TransferRequestBatch.TRANSFER_REQUEST_BATCH_TYPE;
+import static org.eclipse.edc.connector.controlplane.api.management.transferprocess.model.TransferRequestBatch.TRANSFER_REQUEST_FAILURE_TYPE;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess.TRANSFER_PROCESS_TYPE;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferRequest.TRANSFER_REQUEST_TYPE;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
@@ -46,6 +50,9 @@ import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
 @Tag(name = "Transfer Process")
 public interface TransferProcessApi {
 
+    long DEFAULT_CHANGES_TIMEOUT = 30_000;
+    long MAX_CHANGES_TIMEOUT = 60_000;
+
     String ASYNC_WARNING = "Due to the asynchronous nature of transfers, a successful response only indicates that the " +
             "request was successfully received. This may take a long time, so clients must poll the /{id}/state " +
             "endpoint to track the state.";
@@ -85,6 +92,22 @@ public interface TransferProcessApi {
     )
     JsonObject getTransferProcessState(String id);
 
+    @Operation(description = "Waits for state changes of the transfer processes (long polling). Returns as soon as there are " +
+            "changes after the passed sequence, or an empty list when the timeout expires. Clients pass the returned " +
+            "lastSequence to the next call to resume from where they left. When truncated is true some changes could " +
+            "have been lost, and the state of the transfer processes has to be fetched again.",
+            parameters = {
+                    @Parameter(name = "after", description = "The last sequence seen by the client. If missing, only the changes from now on are returned"),
+                    @Parameter(name = "id", description = "The ids of the transfer processes to watch, all if missing"),
+                    @Parameter(name = "timeout", description = "Max time to wait for changes in milliseconds, at most " + MAX_CHANGES_TIMEOUT)
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "The state changes",
+                            content = @Content(schema = @Schema(implementation = ApiCoreSchema.StateChangesSchema.class))),
+                    @ApiResponse(responseCode = "503", description = "Too many clients are waiting for changes, the request can be retried later")
+            })
+    void getTransferProcessChanges(Long after, List<String> ids, long timeout, AsyncResponse response);
+
     @Operation(description = "Initiates a data transfer with the given parameters. " + ASYNC_WARNING,
             requestBody = @RequestBody(content = @Content(schema = @Schema(implementation = TransferRequestSchema.class))),
             responses = {
@@ -99,6 +122,20 @@ public interface TransferProcessApi {
             })
     JsonObject initiateTransferProcess(JsonObject transferRequest);
 
+    @Operation(description = "Initiates multiple data transfers with a single request. Every transfer request is validated " +
+            "and initiated independently, the response contains, in the same order of the requests, either the transfer " +
+            "process ID and created timestamp or the reason of the failure. " + ASYNC_WARNING,
+            requestBody = @RequestBody(content = @Content(schema = @Schema(implementation = TransferRequestBatchSchema.class))),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "The transfer requests were processed. Returns the outcome of every request",
+                            content = @Content(array = @ArraySchema(schema = @Schema(oneOf = {
+                                    ApiCoreSchema.IdResponseSchema.class, TransferRequestFailureSchema.class
+                            })))),
+                    @ApiResponse(responseCode = "400", description = "Request body was malformed, e.g. it contains no transfer request or more than the maximum batch size",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiCoreSchema.ApiErrorDetailSchema.class)))),
+            })
+    JsonArray initiateTransferProcesses(JsonObject transferRequestBatch);
+
     @Operation(description = "Requests the deprovisioning of resources associated with a transfer process. " + ASYNC_WARNING,
             responses = {
                     @ApiResponse(responseCode = "204", description = "Request to deprovision the transfer process was successfully received",
@@ -202,6 +239,53 @@ public interface TransferProcessApi {
                 """;
     }
 
+    @Schema(name = "TransferRequestBatch", example = TransferRequestBatchSchema.TRANSFER_REQUEST_BATCH_EXAMPLE)
+    record TransferRequestBatchSchema(
+            @Schema(name = CONTEXT, requiredMode = REQUIRED)
+            Object context,
+            @Schema(name = TYPE, example = TRANSFER_REQUEST_BATCH_TYPE)
+            String type,
+            @Schema(requiredMode = REQUIRED)
+            List<TransferRequestSchema> requests) {
+
+        public static final String TRANSFER_REQUEST_BATCH_EXAMPLE = """
+                {
+                    "@context": { "@vocab": "https://w3id.org/edc/v0.0.1/ns/" },
+                    "@type": "https://w3id.org/edc/v0.0.1/ns/TransferRequestBatch",
+                    "requests": [{
+                        "@type": "https://w3id.org/edc/v0.0.1/ns/TransferRequest",
+                        "protocol": "dataspace-protocol-http",
+                        "counterPartyAddress": "http://provider-address",
+                        "contractId": "contract-id",
+                        "assetId": "asset-id",
+                        "dataDestination": {
+                            "type": "data-destination-type"
+                        }
+                    }]
+                }
+                """;
+    }
+
+    @Schema(name = "TransferRequestFailure", example = TransferRequestFailureSchema.TRANSFER_REQUEST_FAILURE_EXAMPLE)
+    record TransferRequestFailureSchema(
+            @Schema(name = TYPE, example = TRANSFER_REQUEST_FAILURE_TYPE)
+            String ldType,
+            @Schema(name = ID)
+            String id,
+            String reason,
+            String message
+    ) {
+        public static final String TRANSFER_REQUEST_FAILURE_EXAMPLE = """
+                {
+                    "@context": { "@vocab": "https://w3id.org/edc/v0.0.1/ns/" },
+                    "@type": "https://w3id.org/edc/v0.0.1/ns/TransferRequestFailure",
+                    "@id": "transfer-request-id",
+                    "reason": "BAD_REQUEST",
+                    "message": "mandatory value 'https://w3id.org/edc/v0.0.1/ns/contractId' is missing"
+                }
+                """;
+    }
+
     @Schema(name = "TransferProcess", example = TransferProcessSchema.TRANSFER_PROCESS_EXAMPLE)
     record TransferProcessSchema(
             @Schema(name = TYPE, example = TRANSFER_PROCESS_TYPE)
@@ -14,19 +14,30 @@
 
 package org.eclipse.edc.connector.controlplane.api.management.transferprocess;
 
+import jakarta.json.Json;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
 import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.api.model.IdResponse;
+import org.eclipse.edc.api.model.StateChanges;
+import org.eclipse.edc.api.stream.StateChangeFeed;
 import org.eclipse.edc.connector.controlplane.api.management.transferprocess.model.SuspendTransfer;
 import org.eclipse.edc.connector.controlplane.api.management.transferprocess.model.TerminateTransfer;
 import org.eclipse.edc.connector.controlplane.api.management.transferprocess.model.TransferState;
 import org.eclipse.edc.connector.controlplane.services.spi.transferprocess.TransferProcessService;
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessEvent;
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferRequest;
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.command.ResumeTransferCommand;
@@ -42,15 +53,29 @@ import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 import org.eclipse.edc.web.spi.exception.ValidationFailureException;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static jakarta.json.stream.JsonCollectors.toJsonArray;
+import static jakarta.ws.rs.core.HttpHeaders.RETRY_AFTER;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
+import static jakarta.ws.rs.core.Response.Status.SERVICE_UNAVAILABLE;
 import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.eclipse.edc.connector.controlplane.api.management.transferprocess.model.SuspendTransfer.SUSPEND_TRANSFER_TYPE;
 import static org.eclipse.edc.connector.controlplane.api.management.transferprocess.model.TerminateTransfer.TERMINATE_TRANSFER_TYPE;
+import static org.eclipse.edc.connector.controlplane.api.management.transferprocess.model.TransferRequestBatch.TRANSFER_REQUEST_BATCH_REQUESTS;
+import static org.eclipse.edc.connector.controlplane.api.management.transferprocess.model.TransferRequestBatch.TRANSFER_REQUEST_FAILURE_MESSAGE;
+import static org.eclipse.edc.connector.controlplane.api.management.transferprocess.model.TransferRequestBatch.TRANSFER_REQUEST_FAILURE_REASON;
+import static org.eclipse.edc.connector.controlplane.api.management.transferprocess.model.TransferRequestBatch.TRANSFER_REQUEST_FAILURE_TYPE;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferRequest.TRANSFER_REQUEST_TYPE;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_TYPE;
+import static org.eclipse.edc.spi.result.ServiceFailure.Reason.BAD_REQUEST;
 import static org.eclipse.edc.web.spi.exception.ServiceResultHandler.exceptionMapper;
 import static org.eclipse.edc.web.spi.exception.ServiceResultHandler.mapToException;
 
@@ -63,13 +88,18 @@ public class TransferProcessApiController implements TransferProcessApi {
     private final TransferProcessService service;
     private final TypeTransformerRegistry transformerRegistry;
     private final JsonObjectValidatorRegistry validatorRegistry;
+    private final StateChangeFeed<TransferProcessEvent> changeFeed;
+    private final int maxBatchSize;
 
     public TransferProcessApiController(Monitor monitor, TransferProcessService service,
-                                        TypeTransformerRegistry transformerRegistry, JsonObjectValidatorRegistry validatorRegistry) {
+                                        TypeTransformerRegistry transformerRegistry, JsonObjectValidatorRegistry validatorRegistry,
+                                        StateChangeFeed<TransferProcessEvent> changeFeed, int maxBatchSize) {
         this.monitor = monitor;
         this.service = service;
         this.transformerRegistry = transformerRegistry;
         this.validatorRegistry = validatorRegistry;
+        this.changeFeed = changeFeed;
+        this.maxBatchSize = maxBatchSize;
     }
 
     @POST
@@ -121,6 +151,29 @@ public class TransferProcessApiController implements TransferProcessApi {
                 .orElseThrow(() -> new ObjectNotFoundException(TransferProcess.class, id));
     }
 
+    @GET
+    @Path("changes")
+    @Override
+    public void getTransferProcessChanges(@QueryParam("after") Long after, @QueryParam("id") List<String> ids,
+                                          @QueryParam("timeout") @DefaultValue(DEFAULT_CHANGES_TIMEOUT + "") long timeout,
+                                          @Suspended AsyncResponse response) {
+        var subscription = changeFeed.subscribe(after, Set.copyOf(ids), changes -> response.resume(toJson(changes)));
+        if (subscription.failed()) {
+            monitor.debug(subscription.getFailureDetail());
+            response.resume(Response.status(SERVICE_UNAVAILABLE).header(RETRY_AFTER, 1).build());
+            return;
+        }
+
+        response.setTimeout(Math.min(Math.max(timeout, 1), MAX_CHANGES_TIMEOUT), MILLISECONDS);
+        response.setTimeoutHandler(asyncResponse -> {
+            // read before cancelling: a matching change that comes in between completes the subscription, so it's not lost
+            var lastSequence = changeFeed.lastSequence();
+            if (subscription.getContent().cancel()) {
+                asyncResponse.resume(toJson(new StateChanges(List.of(), lastSequence, false)));
+            }
+        });
+    }
+
     @POST
     @Override
     public JsonObject initiateTransferProcess(JsonObject request) {
@@ -133,13 +186,48 @@ public class TransferProcessApiController implements TransferProcessApi {
                 .onSuccess(d -> monitor.debug(format("Transfer Process created %s", d.getId())))
                 .orElseThrow(it -> mapToException(it, TransferProcess.class));
 
-        var responseDto = IdResponse.Builder.newInstance()
-                .id(createdTransfer.getId())
-                .createdAt(createdTransfer.getCreatedAt())
-                .build();
+        return idResponse(createdTransfer);
+    }
 
-        return transformerRegistry.transform(responseDto, JsonObject.class)
-                .orElseThrow(f -> new EdcException("Error creating response body: " + f.getFailureDetail()));
+    @POST
+    @Path("batch")
+    @Override
+    public JsonArray initiateTransferProcesses(JsonObject batch) {
+        if (!(batch.get(TRANSFER_REQUEST_BATCH_REQUESTS) instanceof JsonArray requests) || requests.isEmpty()) {
+            throw new InvalidRequestException("The batch must contain at least one transfer request");
+        }
+        if (requests.size() > maxBatchSize) {
+            throw new InvalidRequestException("The batch must contain at most %d transfer requests, it contains %d".formatted(maxBatchSize, requests.size()));
+        }
+
+        var responses = new JsonObject[requests.size()];
+        var transferRequests = new ArrayList<TransferRequest>();
+        var indexes = new ArrayList<Integer>();
+        for (var i = 0; i < requests.size(); i++) {
+            var transferRequest = toTransferRequest(requests.get(i));
+            if (transferRequest.succeeded()) {
+                transferRequests.add(transferRequest.getContent());
+                indexes.add(i);
+            } else {
+                responses[i] = failureResponse(requests.get(i), BAD_REQUEST.name(), transferRequest.getFailureDetail());
+            }
+        }
+
+        if (!transferRequests.isEmpty()) {
+            var results = service.initiateTransfers(transferRequests);
+            for (var i = 0; i < results.size(); i++) {
+                var index = indexes.get(i);
+                var result = results.get(i);
+                if (result.succeeded()) {
+                    monitor.debug(format("Transfer Process created %s", result.getContent().getId()));
+                    responses[index] = idResponse(result.getContent());
+                } else {
+                    responses[index] = failureResponse(requests.get(index), result.reason().name(), result.getFailureDetail());
+                }
+            }
+        }
+
+        return Arrays.stream(responses).collect(toJsonArray());
     }
 
     @POST
@@ -187,4 +275,38 @@ public class TransferProcessApiController implements TransferProcessApi {
                 .onSuccess(tp -> monitor.debug(format("Resumption requested for TransferProcess with ID %s", id)))
                 .orElseThrow(exceptionMapper(TransferProcess.class, id));
     }
+
+    private Result<TransferRequest> toTransferRequest(JsonValue json) {
+        if (!(json instanceof JsonObject jsonObject)) {
+            return Result.failure("Transfer request must be a JSON object");
+        }
+        return validatorRegistry.validate(TRANSFER_REQUEST_TYPE, jsonObject).toResult()
+                .compose(v -> transformerRegistry.transform(jsonObject, TransferRequest.class));
+    }
+
+    private JsonObject toJson(StateChanges changes) {
+        return transformerRegistry.transform(changes, JsonObject.class)
+                .orElseThrow(f -> new EdcException("Error creating response body: " + f.getFailureDetail()));
+    }
+
+    private JsonObject idResponse(TransferProcess transferProcess) {
+        var responseDto = IdResponse.Builder.newInstance()
+                .id(transferProcess.getId())
+                .createdAt(transferProcess.getCreatedAt())
+                .build();
+
+        return transformerRegistry.transform(responseDto, JsonObject.class)
+                .orElseThrow(f -> new EdcException("Error creating response body: " + f.getFailureDetail()));
+    }
+
+    private JsonObject failureResponse(JsonValue request, String reason, String message) {
+        var builder = Json.createObjectBuilder()
+                .add(TYPE, TRANSFER_REQUEST_FAILURE_TYPE)
+                .add(TRANSFER_REQUEST_FAILURE_REASON, reason)
+                .add(TRANSFER_REQUEST_FAILURE_MESSAGE, message);
+        if (request instanceof JsonObject jsonObject && jsonObject.get(ID) instanceof JsonString id) {
+            builder.add(ID, id);
+        }
+        return builder.build();
+    }
 }
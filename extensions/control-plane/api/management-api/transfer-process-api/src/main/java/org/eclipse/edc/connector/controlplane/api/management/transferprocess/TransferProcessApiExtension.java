@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.controlplane.api.management.transferprocess;
 
 import jakarta.json.Json;
+import org.eclipse.edc.api.stream.StateChangeFeed;
 import org.eclipse.edc.connector.api.management.configuration.ManagementApiConfiguration;
 import org.eclipse.edc.connector.controlplane.api.management.transferprocess.transform.JsonObjectFromTransferProcessTransformer;
 import org.eclipse.edc.connector.controlplane.api.management.transferprocess.transform.JsonObjectFromTransferStateTransformer;
@@ -24,14 +25,21 @@ import org.eclipse.edc.connector.controlplane.api.management.transferprocess.tra
 import org.eclipse.edc.connector.controlplane.api.management.transferprocess.validation.TerminateTransferValidator;
 import org.eclipse.edc.connector.controlplane.api.management.transferprocess.validation.TransferRequestValidator;
 import org.eclipse.edc.connector.controlplane.services.spi.transferprocess.TransferProcessService;
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessEvent;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.event.EventRouter;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 import org.eclipse.edc.web.spi.WebService;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import static java.util.Collections.emptyMap;
 import static org.eclipse.edc.connector.controlplane.api.management.transferprocess.model.TerminateTransfer.TERMINATE_TRANSFER_TYPE;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferRequest.TRANSFER_REQUEST_TYPE;
@@ -41,6 +49,23 @@ public class TransferProcessApiExtension implements ServiceExtension {
 
     public static final String NAME = "Management API: Transfer Process";
 
+    public static final int DEFAULT_CHANGES_CAPACITY = 10_000;
+    public static final int DEFAULT_CHANGES_MAX_WAITING = 1000;
+    public static final int DEFAULT_CHANGES_THREADS = 2;
+    public static final int DEFAULT_MAX_BATCH_SIZE = 1000;
+
+    @Setting(value = "Number of transfer process state changes kept in memory to let the clients resume the changes stream", type = "int", defaultValue = DEFAULT_CHANGES_CAPACITY + "")
+    public static final String CHANGES_CAPACITY_SETTING = "edc.api.management.transferprocess.changes.capacity";
+
+    @Setting(value = "Max number of clients that can wait for transfer process state changes at the same time, further clients get a 503 response", type = "int", defaultValue = DEFAULT_CHANGES_MAX_WAITING + "")
+    public static final String CHANGES_MAX_WAITING_SETTING = "edc.api.management.transferprocess.changes.max-waiting";
+
+    @Setting(value = "Number of threads that notify the clients waiting for transfer process state changes", type = "int", defaultValue = DEFAULT_CHANGES_THREADS + "")
+    public static final String CHANGES_THREADS_SETTING = "edc.api.management.transferprocess.changes.threads";
+
+    @Setting(value = "Max number of transfer requests in a single batch initiation request, larger batches are rejected", type = "int", defaultValue = DEFAULT_MAX_BATCH_SIZE + "")
+    public static final String MAX_BATCH_SIZE_SETTING = "edc.api.management.transferprocess.batch.max-size";
+
     @Inject
     private WebService webService;
 
@@ -56,6 +81,14 @@ public class TransferProcessApiExtension implements ServiceExtension {
     @Inject
     private JsonObjectValidatorRegistry validatorRegistry;
 
+    @Inject
+    private EventRouter eventRouter;
+
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private ExecutorService changesExecutor;
+
     @Override
     public String name() {
         return NAME;
@@ -76,7 +109,21 @@ public class TransferProcessApiExtension implements ServiceExtension {
         validatorRegistry.register(TRANSFER_REQUEST_TYPE, TransferRequestValidator.instance(context.getMonitor()));
         validatorRegistry.register(TERMINATE_TRANSFER_TYPE, TerminateTransferValidator.instance());
 
-        var newController = new TransferProcessApiController(context.getMonitor(), service, managementApiTransformerRegistry, validatorRegistry);
+        changesExecutor = executorInstrumentation.instrument(Executors.newFixedThreadPool(context.getSetting(CHANGES_THREADS_SETTING, DEFAULT_CHANGES_THREADS)), NAME + " changes");
+        var changeFeed = new StateChangeFeed<>(TransferProcessEvent.class, TransferProcessEvent::getTransferProcessId,
+                context.getSetting(CHANGES_CAPACITY_SETTING, DEFAULT_CHANGES_CAPACITY),
+                context.getSetting(CHANGES_MAX_WAITING_SETTING, DEFAULT_CHANGES_MAX_WAITING), changesExecutor);
+        eventRouter.register(TransferProcessEvent.class, changeFeed);
+
+        var newController = new TransferProcessApiController(context.getMonitor(), service, managementApiTransformerRegistry, validatorRegistry, changeFeed,
+                context.getSetting(MAX_BATCH_SIZE_SETTING, DEFAULT_MAX_BATCH_SIZE));
         webService.registerResource(configuration.getContextAlias(), newController);
     }
+
+    @Override
+    public void shutdown() {
+        if (changesExecutor != null) {
+            changesExecutor.shutdownNow();
+        }
+    }
 }
@@ -0,0 +1,34 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.api.management.transferprocess.model;
+
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+
+/**
+ * Json-LD terms of the batch transfer initiation: the request contains a list of transfer requests, the response
+ * contains, for every request in the same order, either the id of the transfer process or the failure.
+ */
+public final class TransferRequestBatch {
+
+    public static final String TRANSFER_REQUEST_BATCH_TYPE = EDC_NAMESPACE + "TransferRequestBatch";
+    public static final String TRANSFER_REQUEST_BATCH_REQUESTS = EDC_NAMESPACE + "requests";
+
+    public static final String TRANSFER_REQUEST_FAILURE_TYPE = EDC_NAMESPACE + "TransferRequestFailure";
+    public static final String TRANSFER_REQUEST_FAILURE_REASON = EDC_NAMESPACE + "reason";
+    public static final String TRANSFER_REQUEST_FAILURE_MESSAGE = EDC_NAMESPACE + "message";
+
+    private TransferRequestBatch() {
+    }
+}
@@ -16,16 +16,22 @@ package org.eclipse.edc.connector.controlplane.api.management.transferprocess;
 
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
 import org.eclipse.edc.api.model.IdResponse;
+import org.eclipse.edc.api.model.StateChanges;
+import org.eclipse.edc.api.stream.StateChangeFeed;
 import org.eclipse.edc.connector.controlplane.api.management.transferprocess.model.SuspendTransfer;
 import org.eclipse.edc.connector.controlplane.api.management.transferprocess.model.TerminateTransfer;
 import org.eclipse.edc.connector.controlplane.services.spi.transferprocess.TransferProcessService;
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessEvent;
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessInitiated;
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferRequest;
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.command.ResumeTransferCommand;
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.command.SuspendTransferCommand;
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.command.TerminateTransferCommand;
 import org.eclipse.edc.junit.annotations.ApiTest;
+import org.eclipse.edc.spi.event.EventEnvelope;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.result.ServiceResult;
@@ -37,6 +43,7 @@ import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
@@ -45,15 +52,19 @@ import static io.restassured.http.ContentType.JSON;
 import static java.util.Collections.emptyList;
 import static org.eclipse.edc.connector.controlplane.api.management.transferprocess.model.SuspendTransfer.SUSPEND_TRANSFER_TYPE;
 import static org.eclipse.edc.connector.controlplane.api.management.transferprocess.model.TerminateTransfer.TERMINATE_TRANSFER_TYPE;
+import static org.eclipse.edc.connector.controlplane.api.management.transferprocess.model.TransferRequestBatch.TRANSFER_REQUEST_BATCH_REQUESTS;
+import static org.eclipse.edc.connector.controlplane.api.management.transferprocess.model.TransferRequestBatch.TRANSFER_REQUEST_FAILURE_REASON;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferRequest.TRANSFER_REQUEST_TYPE;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_TYPE;
 import static org.eclipse.edc.validator.spi.Violation.violation;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -64,6 +75,8 @@ class TransferProcessApiControllerTest extends RestControllerTestBase {
     private final TypeTransformerRegistry transformerRegistry = mock();
     private final TransferProcessService service = mock();
     private final JsonObjectValidatorRegistry validatorRegistry = mock();
+    private final StateChangeFeed<TransferProcessEvent> changeFeed = new StateChangeFeed<>(TransferProcessEvent.class,
+            TransferProcessEvent::getTransferProcessId, 100, 100, Runnable::run);
 
     @Nested
     class Get {
@@ -145,6 +158,50 @@ class TransferProcessApiControllerTest extends RestControllerTestBase {
         }
     }
 
+    @Nested
+    class Changes {
+
+        @Test
+        void shouldReturnChangesAfterSequence() {
+            publish("first");
+            publish("second");
+            var responseBody = Json.createObjectBuilder().add("lastSequence", 2).build();
+            when(transformerRegistry.transform(isA(StateChanges.class), eq(JsonObject.class))).thenReturn(Result.success(responseBody));
+
+            given()
+                    .port(port)
+                    .get("/v2/transferprocesses/changes?after=0&id=second")
+                    .then()
+                    .statusCode(200)
+                    .contentType(JSON)
+                    .body("lastSequence", is(2));
+            verify(transformerRegistry).transform(argThat(it -> it instanceof StateChanges changes &&
+                    changes.changes().size() == 1 && changes.changes().get(0).entityId().equals("second") && !changes.truncated()), eq(JsonObject.class));
+        }
+
+        @Test
+        void shouldReturnEmptyChanges_whenTimeoutExpires() {
+            publish("first");
+            var responseBody = Json.createObjectBuilder().add("lastSequence", 1).build();
+            when(transformerRegistry.transform(isA(StateChanges.class), eq(JsonObject.class))).thenReturn(Result.success(responseBody));
+
+            given()
+                    .port(port)
+                    .get("/v2/transferprocesses/changes?timeout=100")
+                    .then()
+                    .statusCode(200)
+                    .contentType(JSON)
+                    .body("lastSequence", is(1));
+            verify(transformerRegistry).transform(argThat(it -> it instanceof StateChanges changes &&
+                    changes.changes().isEmpty() && changes.lastSequence() == 1), eq(JsonObject.class));
+        }
+
+        private void publish(String transferProcessId) {
+            var event = TransferProcessInitiated.Builder.newInstance().transferProcessId(transferProcessId).build();
+            changeFeed.on(EventEnvelope.Builder.newInstance().id(UUID.randomUUID().toString()).at(System.currentTimeMillis()).payload(event).build());
+        }
+    }
+
     @Nested
     class Request {
 
@@ -349,6 +406,100 @@ class TransferProcessApiControllerTest extends RestControllerTestBase {
         }
     }
 
+    @Nested
+    class InitiateBatch {
+
+        @Test
+        void shouldReturnResultOfEveryRequest() {
+            var first = TransferRequest.Builder.newInstance().build();
+            var second = TransferRequest.Builder.newInstance().build();
+            var transferProcess = createTransferProcess().id("id").build();
+            var responseBody = Json.createObjectBuilder().add(ID, "transferProcessId").build();
+            when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
+            when(transformerRegistry.transform(any(), eq(TransferRequest.class))).thenReturn(Result.success(first), Result.success(second));
+            when(service.initiateTransfers(any())).thenReturn(List.of(ServiceResult.success(transferProcess), ServiceResult.conflict("conflict")));
+            when(transformerRegistry.transform(any(), eq(JsonObject.class))).thenReturn(Result.success(responseBody));
+            var requestBody = batch(Json.createObjectBuilder().add(ID, "first"), Json.createObjectBuilder().add(ID, "second"));
+
+            given()
+                    .port(port)
+                    .body(requestBody)
+                    .contentType(JSON)
+                    .post("/v2/transferprocesses/batch")
+                    .then()
+                    .statusCode(200)
+                    .contentType(JSON)
+                    .body("size()", is(2))
+                    .body("[0].'" + ID + "'", is("transferProcessId"))
+                    .body("[1].'" + ID + "'", is("second"))
+                    .body("[1].'" + TRANSFER_REQUEST_FAILURE_REASON + "'", is("CONFLICT"));
+            verify(service).initiateTransfers(List.of(first, second));
+            verify(transformerRegistry).transform(isA(IdResponse.class), eq(JsonObject.class));
+        }
+
+        @Test
+        void shouldNotInitiateInvalidRequests() {
+            var transferRequest = TransferRequest.Builder.newInstance().build();
+            var transferProcess = createTransferProcess().id("id").build();
+            var responseBody = Json.createObjectBuilder().add(ID, "transferProcessId").build();
+            when(validatorRegistry.validate(any(), any()))
+                    .thenReturn(ValidationResult.failure(violation("error", "path")), ValidationResult.success());
+            when(transformerRegistry.transform(any(), eq(TransferRequest.class))).thenReturn(Result.success(transferRequest));
+            when(service.initiateTransfers(any())).thenReturn(List.of(ServiceResult.success(transferProcess)));
+            when(transformerRegistry.transform(any(), eq(JsonObject.class))).thenReturn(Result.success(responseBody));
+            var requestBody = batch(Json.createObjectBuilder(), Json.createObjectBuilder());
+
+            given()
+                    .port(port)
+                    .body(requestBody)
+                    .contentType(JSON)
+                    .post("/v2/transferprocesses/batch")
+                    .then()
+                    .statusCode(200)
+                    .contentType(JSON)
+                    .body("[0].'" + TRANSFER_REQUEST_FAILURE_REASON + "'", is("BAD_REQUEST"))
+                    .body("[1].'" + ID + "'", is("transferProcessId"));
+            verify(validatorRegistry, times(2)).validate(eq(TRANSFER_REQUEST_TYPE), any());
+            verify(service).initiateTransfers(List.of(transferRequest));
+        }
+
+        @Test
+        void shouldReturnBadRequest_whenNoRequests() {
+            var requestBody = batch();
+
+            given()
+                    .port(port)
+                    .body(requestBody)
+                    .contentType(JSON)
+                    .post("/v2/transferprocesses/batch")
+                    .then()
+                    .statusCode(400)
+                    .contentType(JSON);
+            verifyNoInteractions(service, transformerRegistry);
+        }
+
+        @Test
+        void shouldReturnBadRequest_whenBatchIsTooLarge() {
+            var requestBody = batch(Json.createObjectBuilder(), Json.createObjectBuilder(), Json.createObjectBuilder());
+
+            given()
+                    .port(port)
+                    .body(requestBody)
+                    .contentType(JSON)
+                    .post("/v2/transferprocesses/batch")
+                    .then()
+                    .statusCode(400)
+                    .contentType(JSON);
+            verifyNoInteractions(service, transformerRegistry);
+        }
+
+        private JsonObject batch(JsonObjectBuilder... requests) {
+            var array = Json.createArrayBuilder();
+            Arrays.stream(requests).forEach(array::add);
+            return Json.createObjectBuilder().add(TRANSFER_REQUEST_BATCH_REQUESTS, array).build();
+        }
+    }
+
     @Nested
     class Deprovision {
 
@@ -576,7 +727,7 @@ class TransferProcessApiControllerTest extends RestControllerTestBase {
 
     @Override
     protected Object controller() {
-        return new TransferProcessApiController(monitor, service, transformerRegistry, validatorRegistry);
+        return new TransferProcessApiController(monitor, service, transformerRegistry, validatorRegistry, changeFeed, 2);
     }
 
     @NotNull
@@ -19,6 +19,7 @@ import org.eclipse.edc.connector.controlplane.asset.spi.index.AssetIndex;
 import org.eclipse.edc.connector.controlplane.asset.spi.index.DataAddressResolver;
 import org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.AssetStatements;
 import org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.postgres.PostgresJsonbDialectStatements;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
@@ -40,6 +41,9 @@ public class SqlAssetIndexServiceExtension implements ServiceExtension {
     @Setting(required = true)
     public static final String DATASOURCE_SETTING_NAME = "edc.datasource.asset.name";
 
+    @Setting(value = "Whether the asset table json columns are stored as JSONB, enabling index-aware queries. Requires the docs/schema-jsonb.sql schema", type = "boolean", defaultValue = "false")
+    public static final String JSONB_SETTING_NAME = "edc.sql.store.asset.jsonb";
+
     @Inject
     private DataSourceRegistry dataSourceRegistry;
 
@@ -59,13 +63,18 @@ public class SqlAssetIndexServiceExtension implements ServiceExtension {
     public void initialize(ServiceExtensionContext context) {
         var dataSourceName = context.getConfig().getString(DATASOURCE_SETTING_NAME, DataSourceRegistry.DEFAULT_DATASOURCE);
 
-        var sqlAssetLoader = new SqlAssetIndex(dataSourceRegistry, dataSourceName, transactionContext, typeManager.getMapper(), getDialect(), queryExecutor);
+        var jsonb = context.getConfig().getBoolean(JSONB_SETTING_NAME, false);
+
+        var sqlAssetLoader = new SqlAssetIndex(dataSourceRegistry, dataSourceName, transactionContext, typeManager.getMapper(), getDialect(jsonb), queryExecutor);
 
         context.registerService(AssetIndex.class, sqlAssetLoader);
         context.registerService(DataAddressResolver.class, sqlAssetLoader);
     }
 
-    private AssetStatements getDialect() {
-        return dialect != null ? dialect : new PostgresDialectStatements();
+    private AssetStatements getDialect(boolean jsonb) {
+        if (dialect != null) {
+            return dialect;
+        }
+        return jsonb ? new PostgresJsonbDialectStatements() : new PostgresDialectStatements();
     }
 }
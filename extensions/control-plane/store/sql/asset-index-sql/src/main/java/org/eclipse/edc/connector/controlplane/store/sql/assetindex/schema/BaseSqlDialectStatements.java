@@ -80,7 +80,11 @@ public class BaseSqlDialectStatements implements AssetStatements {
 
     @Override
     public SqlQueryStatement createQuery(QuerySpec querySpec) {
-        return new SqlQueryStatement(getSelectAssetTemplate(), querySpec, new AssetMapping(this), operatorTranslator);
+        return new SqlQueryStatement(getSelectAssetTemplate(), querySpec, createAssetMapping(), operatorTranslator);
+    }
+
+    protected AssetMapping createAssetMapping() {
+        return new AssetMapping(this);
     }
 
     @Override
@@ -0,0 +1,35 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.postgres;
+
+import org.eclipse.edc.sql.dialect.PostgresDialect;
+import org.eclipse.edc.sql.translation.JsonbFieldTranslator;
+
+/**
+ * Postgres statements for an asset table whose json columns are stored as {@code JSONB} (see docs/schema-jsonb.sql).
+ * Property filters are translated into containment predicates, so they can be served by GIN indexes.
+ */
+public class PostgresJsonbDialectStatements extends PostgresDialectStatements {
+
+    @Override
+    public String getFormatAsJsonOperator() {
+        return PostgresDialect.getJsonbCastOperator();
+    }
+
+    @Override
+    protected AssetMapping createAssetMapping() {
+        return new AssetMapping(this, JsonbFieldTranslator::new);
+    }
+}
@@ -62,7 +62,10 @@ CREATE TABLE IF NOT EXISTS edc_contract_negotiation
     lease_id             VARCHAR
         CONSTRAINT contract_negotiation_lease_lease_id_fk
             REFERENCES edc_lease
-            ON DELETE SET NULL
+            ON DELETE SET NULL,
+    version              BIGINT  DEFAULT 0 NOT NULL,
+    claimed_by           VARCHAR,
+    claimed_until        BIGINT
 );
 
 COMMENT ON COLUMN edc_contract_negotiation.agreement_id IS 'ContractAgreement serialized as JSON';
@@ -71,6 +74,15 @@ COMMENT ON COLUMN edc_contract_negotiation.contract_offers IS 'List<ContractOffe
 
 COMMENT ON COLUMN edc_contract_negotiation.trace_context IS 'Map<String,String> serialized as JSON';
 
+COMMENT ON COLUMN edc_contract_negotiation.version IS 'incremented at every save in optimistic concurrency mode';
+
+COMMENT ON COLUMN edc_contract_negotiation.claimed_until IS 'posix timestamp of the claim expiration in optimistic concurrency mode';
+
+-- columns added after the first release of the schema
+ALTER TABLE edc_contract_negotiation ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE edc_contract_negotiation ADD COLUMN IF NOT EXISTS claimed_by VARCHAR;
+ALTER TABLE edc_contract_negotiation ADD COLUMN IF NOT EXISTS claimed_until BIGINT;
+
 
 CREATE INDEX IF NOT EXISTS contract_negotiation_correlationid_index
     ON edc_contract_negotiation (correlation_id);
@@ -80,3 +92,17 @@ CREATE UNIQUE INDEX IF NOT EXISTS contract_negotiation_id_uindex
 
 CREATE UNIQUE INDEX IF NOT EXISTS contract_agreement_id_uindex
     ON edc_contract_agreement (agr_id);
+
+CREATE INDEX IF NOT EXISTS contract_negotiation_state_updated_at_index
+    ON edc_contract_negotiation (state, updated_at);
+
+-- negotiations in a final state are moved here by the archival, columns must be kept in sync with edc_contract_negotiation
+-- the archival skips the claimed negotiations (claimed_by IS NULL), so it needs the columns added by the ALTERs above
+CREATE TABLE IF NOT EXISTS edc_contract_negotiation_archive
+(
+    LIKE edc_contract_negotiation INCLUDING ALL
+);
+
+ALTER TABLE edc_contract_negotiation_archive ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE edc_contract_negotiation_archive ADD COLUMN IF NOT EXISTS claimed_by VARCHAR;
+ALTER TABLE edc_contract_negotiation_archive ADD COLUMN IF NOT EXISTS claimed_until BIGINT;
@@ -21,10 +21,13 @@ import org.eclipse.edc.connector.controlplane.store.sql.contractnegotiation.stor
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.lease.ConcurrencyMode;
+import org.eclipse.edc.sql.lease.SqlClusterMembership;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
@@ -36,6 +39,10 @@ public class SqlContractNegotiationStoreExtension implements ServiceExtension {
 
     public static final String DATASOURCE_NAME_SETTING = "edc.datasource.contractnegotiation.name";
 
+    @Setting(value = "How concurrent runtimes are coordinated on the contract negotiations: 'lease' uses the lease table, 'optimistic' claims " +
+            "the entities in their row and saves them with a version check. The optimistic mode requires the version and claim columns", defaultValue = "lease")
+    public static final String CONCURRENCY_MODE_SETTING = "edc.sql.store.contractnegotiation.concurrency-mode";
+
     @Inject
     private DataSourceRegistry dataSourceRegistry;
 
@@ -54,10 +61,14 @@ public class SqlContractNegotiationStoreExtension implements ServiceExtension {
     @Inject
     private QueryExecutor queryExecutor;
 
+    @Inject(required = false)
+    private SqlClusterMembership clusterMembership;
+
     @Override
     public void initialize(ServiceExtensionContext context) {
         var sqlStore = new SqlContractNegotiationStore(dataSourceRegistry, getDataSourceName(context), trxContext,
-                typeManager.getMapper(), getStatementImpl(), context.getConnectorId(), clock, queryExecutor);
+                typeManager.getMapper(), getStatementImpl(), context.getConnectorId(), clock, queryExecutor, clusterMembership,
+                getConcurrencyMode(context));
         context.registerService(ContractNegotiationStore.class, sqlStore);
     }
 
@@ -68,6 +79,10 @@ public class SqlContractNegotiationStoreExtension implements ServiceExtension {
         return statements != null ? statements : new PostgresDialectStatements();
     }
 
+    private ConcurrencyMode getConcurrencyMode(ServiceExtensionContext context) {
+        return ConcurrencyMode.parse(context.getConfig().getString(CONCURRENCY_MODE_SETTING, "lease"));
+    }
+
     private String getDataSourceName(ServiceExtensionContext context) {
         return context.getConfig().getString(DATASOURCE_NAME_SETTING, DataSourceRegistry.DEFAULT_DATASOURCE);
     }
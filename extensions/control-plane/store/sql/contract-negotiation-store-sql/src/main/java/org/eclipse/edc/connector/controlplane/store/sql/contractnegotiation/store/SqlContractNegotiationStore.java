@@ -29,6 +29,9 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.ResultSetMapper;
+import org.eclipse.edc.sql.lease.ConcurrencyMode;
+import org.eclipse.edc.sql.lease.SqlClaimContext;
+import org.eclipse.edc.sql.lease.SqlClusterMembership;
 import org.eclipse.edc.sql.lease.SqlLeaseContextBuilder;
 import org.eclipse.edc.sql.store.AbstractSqlStore;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
@@ -42,28 +45,55 @@ import java.sql.SQLException;
 import java.time.Clock;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toList;
+import static org.eclipse.edc.sql.lease.ConcurrencyMode.OPTIMISTIC;
 
 /**
- * SQL-based implementation of the {@link ContractNegotiationStore}
+ * SQL-based implementation of the {@link ContractNegotiationStore}. Concurrent runtimes are coordinated either with
+ * leases or with claims and versioned updates, see {@link ConcurrencyMode}.
  */
 public class SqlContractNegotiationStore extends AbstractSqlStore implements ContractNegotiationStore {
 
     private final ContractNegotiationStatements statements;
+    private final String leaseHolderName;
     private final SqlLeaseContextBuilder leaseContext;
     private final Clock clock;
+    private final SqlClusterMembership clusterMembership;
+    private final ConcurrencyMode concurrencyMode;
+    private final SqlClaimContext claimContext;
 
     public SqlContractNegotiationStore(DataSourceRegistry dataSourceRegistry, String dataSourceName,
                                        TransactionContext transactionContext, ObjectMapper objectMapper,
                                        ContractNegotiationStatements statements, String connectorId, Clock clock,
                                        QueryExecutor queryExecutor) {
+        this(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, statements, connectorId, clock, queryExecutor, null);
+    }
+
+    public SqlContractNegotiationStore(DataSourceRegistry dataSourceRegistry, String dataSourceName,
+                                       TransactionContext transactionContext, ObjectMapper objectMapper,
+                                       ContractNegotiationStatements statements, String connectorId, Clock clock,
+                                       QueryExecutor queryExecutor, @Nullable SqlClusterMembership clusterMembership) {
+        this(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, statements, connectorId, clock, queryExecutor,
+                clusterMembership, ConcurrencyMode.LEASE);
+    }
+
+    public SqlContractNegotiationStore(DataSourceRegistry dataSourceRegistry, String dataSourceName,
+                                       TransactionContext transactionContext, ObjectMapper objectMapper,
+                                       ContractNegotiationStatements statements, String connectorId, Clock clock,
+                                       QueryExecutor queryExecutor, @Nullable SqlClusterMembership clusterMembership,
+                                       ConcurrencyMode concurrencyMode) {
         super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
         this.statements = statements;
+        this.leaseHolderName = connectorId;
         this.clock = clock;
+        this.clusterMembership = clusterMembership;
+        this.concurrencyMode = Objects.requireNonNull(concurrencyMode, "concurrencyMode");
+        claimContext = new SqlClaimContext(statements, queryExecutor, connectorId, clock, SqlClaimContext.DEFAULT_CLAIM_DURATION);
         leaseContext = SqlLeaseContextBuilder.with(transactionContext, connectorId, statements, clock, queryExecutor);
     }
 
@@ -71,13 +101,25 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
     public @Nullable ContractNegotiation findById(String negotiationId) {
         return transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                return findInternal(connection, negotiationId);
+                var negotiation = findInternal(connection, negotiationId);
+                if (negotiation == null) {
+                    return queryExecutor.single(connection, false, contractNegotiationMapper(), statements.getFindIncludingArchiveTemplate(), negotiationId);
+                }
+                return negotiation;
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
         });
     }
 
+    private @Nullable ContractNegotiation findActive(String negotiationId) {
+        try (var connection = getConnection()) {
+            return findInternal(connection, negotiationId);
+        } catch (SQLException e) {
+            throw new EdcPersistenceException(e);
+        }
+    }
+
     @Override
     public @Nullable ContractNegotiation findForCorrelationId(String correlationId) {
         return transactionContext.execute(() -> {
@@ -105,8 +147,18 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
         var id = negotiation.getId();
         transactionContext.execute(() -> {
             try (var connection = getConnection()) {
+                if (concurrencyMode == OPTIMISTIC) {
+                    if (!updateVersioned(connection, negotiation)) {
+                        insertOrFail(connection, negotiation);
+                    }
+                    return;
+                }
+                if (!negotiation.hasDirtyFields() && updateState(connection, negotiation)) {
+                    return;
+                }
                 var existing = findInternal(connection, id);
                 if (existing == null) {
+                    failIfArchived(connection, id);
                     insert(connection, negotiation);
                 } else {
                     leaseContext.withConnection(connection).breakLease(id);
@@ -122,7 +174,7 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
     @Override
     public void delete(String negotiationId) {
         transactionContext.execute(() -> {
-            var existing = findById(negotiationId);
+            var existing = findActive(negotiationId);
 
             //if exists, attempt delete
             if (existing != null) {
@@ -130,6 +182,12 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                     throw new IllegalStateException(format("Cannot delete ContractNegotiation [ID=%s] - ContractAgreement already created.", negotiationId));
                 }
                 try (var connection = getConnection()) {
+                    if (concurrencyMode == OPTIMISTIC) {
+                        if (!claimContext.deleteUnclaimed(connection, negotiationId)) {
+                            throw new IllegalStateException(format("ContractNegotiation %s is claimed, cannot be deleted", negotiationId));
+                        }
+                        return;
+                    }
 
                     // attempt to acquire lease - should fail if someone else holds the lease
                     leaseContext.withConnection(connection).acquireLease(negotiationId);
@@ -159,6 +217,32 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
         });
     }
 
+    @Override
+    public @NotNull Stream<ContractNegotiation> queryNegotiations(QuerySpec querySpec, boolean includeArchived) {
+        if (!includeArchived) {
+            return queryNegotiations(querySpec);
+        }
+        return transactionContext.execute(() -> {
+            try {
+                var statement = statements.createNegotiationsQueryIncludingArchive(querySpec);
+                return queryExecutor.query(getConnection(), true, contractNegotiationMapper(), statement.getQueryAsString(), statement.getParameters());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public int archive(long updatedBefore, int batchSize) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                return queryExecutor.execute(connection, statements.getArchiveTemplate(), updatedBefore, batchSize);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
     @Override
     public @NotNull Stream<ContractAgreement> queryAgreements(QuerySpec querySpec) {
         return transactionContext.execute(() -> {
@@ -176,15 +260,27 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
         return transactionContext.execute(() -> {
             var filter = Arrays.stream(criteria).toList();
             var querySpec = QuerySpec.Builder.newInstance().filter(filter).limit(max).build();
-            var statement = statements.createNegotiationsQuery(querySpec)
-                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis());
+            var statement = statements.createNegotiationsQuery(querySpec);
+            if (concurrencyMode == OPTIMISTIC) {
+                claimContext.selectClaimable(statement);
+            } else {
+                statement.addWhereClause(statements.getNotLeasedFilter(), clock.millis());
+            }
+            if (clusterMembership != null) {
+                clusterMembership.addPartitionFilter(statement, statements.getIdColumn());
+            }
 
             try (
                     var connection = getConnection();
                     var stream = queryExecutor.query(getConnection(), true, contractNegotiationWithAgreementMapper(connection), statement.getQueryAsString(), statement.getParameters())
             ) {
                 var negotiations = stream.collect(toList());
-                negotiations.forEach(cn -> leaseContext.withConnection(connection).acquireLease(cn.getId()));
+                if (concurrencyMode == OPTIMISTIC) {
+                    claimContext.claimAll(connection, negotiations.stream().map(ContractNegotiation::getId).toList());
+                } else {
+                    negotiations.forEach(cn -> leaseContext.withConnection(connection).acquireLease(cn.getId()));
+                }
+                negotiations.forEach(ContractNegotiation::markClean);
                 return negotiations;
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
@@ -201,7 +297,8 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                     return StoreResult.notFound(format("ContractNegotiation %s not found", id));
                 }
 
-                leaseContext.withConnection(connection).acquireLease(id);
+                acquire(connection, id);
+                entity.markClean();
                 return StoreResult.success(entity);
             } catch (IllegalStateException e) {
                 return StoreResult.alreadyLeased(format("ContractNegotiation %s is already leased", id));
@@ -224,7 +321,8 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                     return StoreResult.notFound(format("ContractNegotiation with correlationId %s not found", correlationId));
                 }
 
-                leaseContext.withConnection(connection).acquireLease(entity.getId());
+                acquire(connection, entity.getId());
+                entity.markClean();
                 return StoreResult.success(entity);
             } catch (IllegalStateException e) {
                 return StoreResult.alreadyLeased(format("ContractNegotiation with correlationId %s is already leased", correlationId));
@@ -253,27 +351,109 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
         return queryExecutor.single(connection, false, contractNegotiationMapper(), sql, id);
     }
 
-    private void update(Connection connection, String negotiationId, ContractNegotiation updatedValues) {
-        var stmt = statements.getUpdateNegotiationTemplate();
+    /**
+     * Persists only the state columns, without reading the negotiation first: the lease held by this runtime gets
+     * deleted (the negotiation lease reference is cleared by the foreign key) and the state is updated if the
+     * negotiation is not leased anymore.
+     *
+     * @return true if the negotiation has been updated, false if it does not exist or it's leased by someone else.
+     */
+    private boolean updateState(Connection connection, ContractNegotiation negotiation) {
+        queryExecutor.execute(connection, statements.getDeleteOwnLeaseTemplate(), leaseHolderName, negotiation.getId());
+        var updated = queryExecutor.execute(connection, statements.getUpdateStateTemplate(), concat(stateArguments(negotiation), negotiation.getId()));
+        return updated > 0;
+    }
 
+    private void update(Connection connection, String negotiationId, ContractNegotiation updatedValues) {
         if (updatedValues.getContractAgreement() != null) {
             upsertAgreement(updatedValues.getContractAgreement());
         }
 
-        queryExecutor.execute(connection, stmt,
-                updatedValues.getState(),
-                updatedValues.getStateCount(),
-                updatedValues.getStateTimestamp(),
-                updatedValues.getErrorDetail(),
-                toJson(updatedValues.getContractOffers()),
-                toJson(updatedValues.getCallbackAddresses()),
-                toJson(updatedValues.getTraceContext()),
-                ofNullable(updatedValues.getContractAgreement()).map(ContractAgreement::getId).orElse(null),
-                updatedValues.getUpdatedAt(),
-                updatedValues.isPending(),
-                updatedValues.getCorrelationId(),
-                toJson(updatedValues.getProtocolMessages()),
-                negotiationId);
+        queryExecutor.execute(connection, statements.getUpdateNegotiationTemplate(), concat(updateArguments(updatedValues), negotiationId));
+    }
+
+    /**
+     * Acquires the negotiation with a lease or a claim, depending on the concurrency mode.
+     *
+     * @throws IllegalStateException if the negotiation is already leased or claimed.
+     */
+    private void acquire(Connection connection, String id) {
+        if (concurrencyMode != OPTIMISTIC) {
+            leaseContext.withConnection(connection).acquireLease(id);
+        } else if (!claimContext.claim(connection, id)) {
+            throw new IllegalStateException(format("ContractNegotiation %s is already claimed", id));
+        }
+    }
+
+    /**
+     * Persists the negotiation if it has not been saved by someone else since it was loaded and it's not claimed by
+     * someone else, releasing the claim. Only the state columns are written if there are no dirty fields.
+     *
+     * @return true if the negotiation has been updated, false if it does not exist, it has been modified or it's claimed.
+     */
+    private boolean updateVersioned(Connection connection, ContractNegotiation negotiation) {
+        var version = negotiation.getVersion();
+        var condition = concat(new Object[]{ version + 1, null, null, negotiation.getId(), version }, claimContext.writableByParameters());
+        int updated;
+        if (negotiation.hasDirtyFields()) {
+            if (negotiation.getContractAgreement() != null) {
+                upsertAgreement(negotiation.getContractAgreement());
+            }
+            updated = queryExecutor.execute(connection, statements.getVersionedUpdateNegotiationTemplate(), concat(updateArguments(negotiation), condition));
+        } else {
+            updated = queryExecutor.execute(connection, statements.getVersionedUpdateStateTemplate(), concat(stateArguments(negotiation), condition));
+        }
+        if (updated == 0) {
+            return false;
+        }
+        negotiation.setVersion(version + 1);
+        return true;
+    }
+
+    private void insertOrFail(Connection connection, ContractNegotiation negotiation) {
+        if (findInternal(connection, negotiation.getId()) != null) {
+            throw new IllegalStateException(format("ContractNegotiation %s has been modified or is claimed by another runtime", negotiation.getId()));
+        }
+        failIfArchived(connection, negotiation.getId());
+        insert(connection, negotiation);
+        negotiation.setVersion(0);
+    }
+
+    /**
+     * Archived negotiations are in a final state, saving one again would insert a second row with the same id in the
+     * active table.
+     */
+    private void failIfArchived(Connection connection, String id) {
+        if (queryExecutor.single(connection, false, rs -> rs.getString(1), statements.getFindArchivedIdTemplate(), id) != null) {
+            throw new IllegalStateException(format("ContractNegotiation %s has been archived, it cannot be saved anymore", id));
+        }
+    }
+
+    private Object[] stateArguments(ContractNegotiation negotiation) {
+        return new Object[]{
+                negotiation.getState(),
+                negotiation.getStateCount(),
+                negotiation.getStateTimestamp(),
+                negotiation.getErrorDetail(),
+                negotiation.getUpdatedAt(),
+                negotiation.isPending()
+        };
+    }
+
+    private Object[] updateArguments(ContractNegotiation negotiation) {
+        return concat(stateArguments(negotiation),
+                toJson(negotiation.getContractOffers()),
+                toJson(negotiation.getCallbackAddresses()),
+                toJson(negotiation.getTraceContext()),
+                ofNullable(negotiation.getContractAgreement()).map(ContractAgreement::getId).orElse(null),
+                negotiation.getCorrelationId(),
+                toJson(negotiation.getProtocolMessages()));
+    }
+
+    private static Object[] concat(Object[] first, Object... second) {
+        var result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
     }
 
     private void insert(Connection connection, ContractNegotiation negotiation) {
@@ -379,6 +559,8 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
     }
 
     private ContractNegotiation mapContractNegotiation(ResultSet resultSet, ResultSetMapper<ContractAgreement> agreementMapper) throws Exception {
+        // the version column is not required by the lease mode, so schemas that don't have it keep working
+        var version = concurrencyMode == OPTIMISTIC ? resultSet.getLong(statements.getVersionColumn()) : 0L;
         return ContractNegotiation.Builder.newInstance()
                 .id(resultSet.getString(statements.getIdColumn()))
                 .counterPartyId(resultSet.getString(statements.getCounterPartyIdColumn()))
@@ -402,6 +584,7 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                 .updatedAt(resultSet.getLong(statements.getUpdatedAtColumn()))
                 .pending(resultSet.getBoolean(statements.getPendingColumn()))
                 .protocolMessages(fromJson(resultSet.getString(statements.getProtocolMessagesColumn()), ProtocolMessages.class))
+                .version(version)
                 .build();
     }
 
@@ -15,10 +15,16 @@
 package org.eclipse.edc.connector.controlplane.store.sql.contractnegotiation.store.schema;
 
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.sql.statement.SqlExecuteStatement;
 import org.eclipse.edc.sql.translation.SqlOperatorTranslator;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
+import java.util.stream.Stream;
+
 import static java.lang.String.format;
+import static java.util.stream.Collectors.joining;
+import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates.FINALIZED;
+import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates.TERMINATED;
 import static org.eclipse.edc.sql.statement.SqlExecuteStatement.equalTo;
 import static org.eclipse.edc.sql.statement.SqlExecuteStatement.isNull;
 
@@ -47,20 +53,46 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
 
     @Override
     public String getUpdateNegotiationTemplate() {
-        return executeStatement()
-                .column(getStateColumn())
-                .column(getStateCountColumn())
-                .column(getStateTimestampColumn())
-                .column(getErrorDetailColumn())
-                .jsonColumn(getContractOffersColumn())
-                .jsonColumn(getCallbackAddressesColumn())
-                .jsonColumn(getTraceContextColumn())
-                .column(getContractAgreementIdFkColumn())
-                .column(getUpdatedAtColumn())
-                .column(getPendingColumn())
-                .column(getCorrelationIdColumn())
-                .jsonColumn(getProtocolMessagesColumn())
-                .update(getContractNegotiationTable(), getIdColumn());
+        return updateColumns().update(getContractNegotiationTable(), getIdColumn());
+    }
+
+    @Override
+    public String getUpdateStateTemplate() {
+        return stateColumns().update(getContractNegotiationTable(), equalTo(getIdColumn()), isNull(getLeaseIdColumn()));
+    }
+
+    @Override
+    public String getVersionedUpdateNegotiationTemplate() {
+        return versioned(updateColumns());
+    }
+
+    @Override
+    public String getVersionedUpdateStateTemplate() {
+        return versioned(stateColumns());
+    }
+
+    @Override
+    public String getClaimTemplate() {
+        return format("UPDATE %s SET %s = ?, %s = ? WHERE %s = ? AND %s",
+                getContractNegotiationTable(), getClaimedByColumn(), getClaimedUntilColumn(), getIdColumn(), getNotClaimedFilter());
+    }
+
+    @Override
+    public String getSkipLockedClause() {
+        // the negotiations are selected joined with the agreements, rows on the nullable side cannot be locked
+        return format("FOR UPDATE OF %s SKIP LOCKED", getContractNegotiationTable());
+    }
+
+    @Override
+    public String getDeleteUnclaimedTemplate() {
+        return format("DELETE FROM %s WHERE %s = ? AND %s IS NULL AND %s",
+                getContractNegotiationTable(), getIdColumn(), getContractAgreementIdFkColumn(), getNotClaimedFilter());
+    }
+
+    @Override
+    public String getDeleteOwnLeaseTemplate() {
+        return format("DELETE FROM %s WHERE %s = ? AND %s = (SELECT %s FROM %s WHERE %s = ?)",
+                getLeaseTableName(), getLeasedByColumn(), getLeaseIdColumn(), getLeaseIdColumn(), getContractNegotiationTable(), getIdColumn());
     }
 
     @Override
@@ -128,6 +160,32 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
         return format("SELECT * FROM %s LEFT JOIN %s agr ON %s.%s = agr.%s", getContractNegotiationTable(), getContractAgreementTable(), getContractNegotiationTable(), getContractAgreementIdFkColumn(), getContractAgreementIdColumn());
     }
 
+    @Override
+    public String getSelectNegotiationsIncludingArchiveTemplate() {
+        return format("SELECT * FROM %s LEFT JOIN %s agr ON %s.%s = agr.%s", includingArchive(), getContractAgreementTable(), getContractNegotiationTable(), getContractAgreementIdFkColumn(), getContractAgreementIdColumn());
+    }
+
+    @Override
+    public String getFindIncludingArchiveTemplate() {
+        return format("SELECT * FROM %s LEFT OUTER JOIN %s ON %s.%s = %s.%s WHERE %s.%s = ?;", includingArchive(), getContractAgreementTable(),
+                getContractNegotiationTable(), getContractAgreementIdFkColumn(), getContractAgreementTable(), getContractAgreementIdColumn(), getContractNegotiationTable(), getIdColumn());
+    }
+
+    @Override
+    public String getFindArchivedIdTemplate() {
+        return format("SELECT %s FROM %s WHERE %s = ?", getIdColumn(), getContractNegotiationArchiveTable(), getIdColumn());
+    }
+
+    @Override
+    public String getArchiveTemplate() {
+        var finalStates = Stream.of(FINALIZED, TERMINATED).map(state -> String.valueOf(state.code())).collect(joining(", "));
+        var columns = archivedColumns();
+        return format("WITH archived AS (DELETE FROM %s WHERE %s IN (SELECT %s FROM %s WHERE %s IN (%s) AND %s < ? AND %s IS NULL AND %s IS NULL LIMIT ? FOR UPDATE SKIP LOCKED) RETURNING %s) " +
+                        "INSERT INTO %s (%s) SELECT %s FROM archived",
+                getContractNegotiationTable(), getIdColumn(), getIdColumn(), getContractNegotiationTable(), getStateColumn(), finalStates,
+                getUpdatedAtColumn(), getLeaseIdColumn(), getClaimedByColumn(), columns, getContractNegotiationArchiveTable(), columns, columns);
+    }
+
     @Override
     public SqlQueryStatement createNegotiationsQuery(QuerySpec querySpec) {
         // for generic SQL, only the limit and offset fields are used!
@@ -135,6 +193,13 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
         return new SqlQueryStatement(sql, querySpec.getLimit(), querySpec.getOffset());
     }
 
+    @Override
+    public SqlQueryStatement createNegotiationsQueryIncludingArchive(QuerySpec querySpec) {
+        // for generic SQL, only the limit and offset fields are used!
+        var sql = getSelectNegotiationsIncludingArchiveTemplate();
+        return new SqlQueryStatement(sql, querySpec.getLimit(), querySpec.getOffset());
+    }
+
     @Override
     public SqlQueryStatement createAgreementsQuery(QuerySpec querySpec) {
         // for generic SQL, only the limit and offset fields are used!
@@ -171,4 +236,58 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
                 getLeaseTableName(), getLeaseIdColumn(), getContractNegotiationTable(), getIdColumn());
     }
 
+    private SqlExecuteStatement updateColumns() {
+        return stateColumns()
+                .jsonColumn(getContractOffersColumn())
+                .jsonColumn(getCallbackAddressesColumn())
+                .jsonColumn(getTraceContextColumn())
+                .column(getContractAgreementIdFkColumn())
+                .column(getCorrelationIdColumn())
+                .jsonColumn(getProtocolMessagesColumn());
+    }
+
+    private SqlExecuteStatement stateColumns() {
+        return executeStatement()
+                .column(getStateColumn())
+                .column(getStateCountColumn())
+                .column(getStateTimestampColumn())
+                .column(getErrorDetailColumn())
+                .column(getUpdatedAtColumn())
+                .column(getPendingColumn());
+    }
+
+    /**
+     * Appends the version and the claim columns to the update, and makes it conditional on the version and on the claim.
+     */
+    private String versioned(SqlExecuteStatement statement) {
+        var update = statement
+                .column(getVersionColumn())
+                .column(getClaimedByColumn())
+                .column(getClaimedUntilColumn())
+                .update(getContractNegotiationTable(), equalTo(getIdColumn()), equalTo(getVersionColumn()));
+        // the claim condition is not a simple criterion, so it gets appended to the generated where clause
+        return update.substring(0, update.lastIndexOf(';')) + " AND " + getWritableByFilter() + ";";
+    }
+
+    /**
+     * Columns shared by the active and the archive tables, listed explicitly so that the archival and the unions do not
+     * depend on the column order of the two tables.
+     */
+    private String archivedColumns() {
+        return String.join(", ", getIdColumn(), getCorrelationIdColumn(), getCounterPartyIdColumn(), getCounterPartyAddressColumn(),
+                getTypeColumn(), getProtocolColumn(), getStateColumn(), getStateCountColumn(), getStateTimestampColumn(), getErrorDetailColumn(),
+                getContractAgreementIdFkColumn(), getContractOffersColumn(), getCallbackAddressesColumn(), getTraceContextColumn(),
+                getCreatedAtColumn(), getUpdatedAtColumn(), getPendingColumn(), getProtocolMessagesColumn(), getLeaseIdColumn(),
+                getVersionColumn(), getClaimedByColumn(), getClaimedUntilColumn());
+    }
+
+    /**
+     * Union of the active and archived negotiations, aliased as the negotiation table so that column references stay
+     * valid.
+     */
+    private String includingArchive() {
+        var columns = archivedColumns();
+        return format("(SELECT %s FROM %s UNION ALL SELECT %s FROM %s) AS %s", columns, getContractNegotiationTable(), columns, getContractNegotiationArchiveTable(), getContractNegotiationTable());
+    }
+
 }
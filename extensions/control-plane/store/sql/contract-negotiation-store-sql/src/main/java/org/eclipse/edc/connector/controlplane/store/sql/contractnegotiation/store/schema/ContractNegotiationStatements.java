@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.controlplane.store.sql.contractnegotiation.store.schema;
 
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.sql.lease.ClaimStatements;
 import org.eclipse.edc.sql.lease.LeaseStatements;
 import org.eclipse.edc.sql.lease.StatefulEntityStatements;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
@@ -23,13 +24,34 @@ import org.eclipse.edc.sql.translation.SqlQueryStatement;
  * Provides database-related constants, such as column names, table names and statement templates. Methods to compose
  * statements must be overridden by implementors.
  */
-public interface ContractNegotiationStatements extends StatefulEntityStatements, LeaseStatements {
+public interface ContractNegotiationStatements extends StatefulEntityStatements, LeaseStatements, ClaimStatements {
     String getFindTemplate();
 
     String getFindContractAgreementTemplate();
 
     String getUpdateNegotiationTemplate();
 
+    /**
+     * Update of the state columns only, applied only if the negotiation is not leased.
+     */
+    String getUpdateStateTemplate();
+
+    /**
+     * Update of all the columns that increments the version and releases the claim, applied only if the version is the
+     * given one and the negotiation is writable by the given claim holder, see {@link ClaimStatements#getWritableByFilter()}.
+     */
+    String getVersionedUpdateNegotiationTemplate();
+
+    /**
+     * Update of the state columns only, with the same conditions of {@link #getVersionedUpdateNegotiationTemplate()}.
+     */
+    String getVersionedUpdateStateTemplate();
+
+    /**
+     * Deletion of the lease held by the given holder on the given negotiation.
+     */
+    String getDeleteOwnLeaseTemplate();
+
     String getInsertNegotiationTemplate();
 
     String getDeleteTemplate();
@@ -42,10 +64,35 @@ public interface ContractNegotiationStatements extends StatefulEntityStatements,
 
     String getSelectNegotiationsTemplate();
 
+    /**
+     * Select over both the active and the archived negotiations, joined with their agreements.
+     */
+    String getSelectNegotiationsIncludingArchiveTemplate();
+
+    /**
+     * Find a negotiation by id, looking into both the active and the archived negotiations.
+     */
+    String getFindIncludingArchiveTemplate();
+
+    /**
+     * Select the id of an archived negotiation, to tell whether a negotiation has been archived.
+     */
+    String getFindArchivedIdTemplate();
+
+    /**
+     * Moves a batch of unleased negotiations in a final state to the archive table. Parameters are the max updated
+     * timestamp and the batch size.
+     */
+    String getArchiveTemplate();
+
     default String getContractNegotiationTable() {
         return "edc_contract_negotiation";
     }
 
+    default String getContractNegotiationArchiveTable() {
+        return "edc_contract_negotiation_archive";
+    }
+
     default String getContractAgreementTable() {
         return "edc_contract_agreement";
     }
@@ -124,5 +171,7 @@ public interface ContractNegotiationStatements extends StatefulEntityStatements,
 
     SqlQueryStatement createNegotiationsQuery(QuerySpec querySpec);
 
+    SqlQueryStatement createNegotiationsQueryIncludingArchive(QuerySpec querySpec);
+
     SqlQueryStatement createAgreementsQuery(QuerySpec querySpec);
 }
@@ -41,6 +41,12 @@ public class PostgresDialectStatements extends BaseSqlDialectStatements {
         return new SqlQueryStatement(selectStmt, querySpec, new ContractNegotiationMapping(this), operatorTranslator);
     }
 
+    @Override
+    public SqlQueryStatement createNegotiationsQueryIncludingArchive(QuerySpec querySpec) {
+        var selectStmt = getSelectNegotiationsIncludingArchiveTemplate();
+        return new SqlQueryStatement(selectStmt, querySpec, new ContractNegotiationMapping(this), operatorTranslator);
+    }
+
     @Override
     public SqlQueryStatement createAgreementsQuery(QuerySpec querySpec) {
         var selectStmt = getSelectFromAgreementsTemplate();
@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.store.sql.contractnegotiation.store;
+
+import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiation;
+import org.eclipse.edc.junit.annotations.ComponentTest;
+import org.eclipse.edc.sql.lease.ConcurrencyMode;
+import org.eclipse.edc.sql.lease.testfixtures.ClaimUtil;
+import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.connector.controlplane.contract.spi.testfixtures.negotiation.store.TestFunctions.createContractBuilder;
+import static org.eclipse.edc.connector.controlplane.contract.spi.testfixtures.negotiation.store.TestFunctions.createNegotiationBuilder;
+import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates.REQUESTED;
+import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
+
+/**
+ * Runs the whole contract negotiation store test suite with the {@link ConcurrencyMode#OPTIMISTIC} mode.
+ */
+@ComponentTest
+@ExtendWith(PostgresqlStoreSetupExtension.class)
+class PostgresContractNegotiationStoreOptimisticTest extends PostgresContractNegotiationStoreTest {
+
+    private ClaimUtil claimUtil;
+
+    @BeforeEach
+    void setUpClaims(PostgresqlStoreSetupExtension extension) {
+        claimUtil = new ClaimUtil(extension::getConnection, statements, statements.getContractNegotiationTable(), clock);
+    }
+
+    @Override
+    protected ConcurrencyMode concurrencyMode() {
+        return ConcurrencyMode.OPTIMISTIC;
+    }
+
+    @Override
+    protected void leaseEntity(String negotiationId, String owner, Duration duration) {
+        claimUtil.claimEntity(negotiationId, owner, duration);
+    }
+
+    @Override
+    protected boolean isLeasedBy(String negotiationId, String owner) {
+        return claimUtil.isClaimed(negotiationId, owner);
+    }
+
+    @Nested
+    class NextNotLeased {
+
+        @Test
+        void shouldClaimNegotiations_withAndWithoutAgreement() {
+            var agreement = createContractBuilder("agreementId").build();
+            getContractNegotiationStore().save(createNegotiationBuilder("withAgreement").state(REQUESTED.code()).contractAgreement(agreement).build());
+            getContractNegotiationStore().save(createNegotiationBuilder("withoutAgreement").state(REQUESTED.code()).build());
+
+            var claimed = getContractNegotiationStore().nextNotLeased(10, hasState(REQUESTED.code()));
+
+            assertThat(claimed).extracting(ContractNegotiation::getId).containsExactlyInAnyOrder("withAgreement", "withoutAgreement");
+            assertThat(isLeasedBy("withAgreement", CONNECTOR_NAME)).isTrue();
+            assertThat(getContractNegotiationStore().nextNotLeased(10, hasState(REQUESTED.code()))).isEmpty();
+        }
+    }
+
+    @Nested
+    class Version {
+
+        @Test
+        void save_shouldIncrementVersion() {
+            var negotiation = createNegotiationBuilder("id1").state(REQUESTED.code()).build();
+            getContractNegotiationStore().save(negotiation);
+
+            var claimed = getContractNegotiationStore().nextNotLeased(1, hasState(REQUESTED.code())).get(0);
+            getContractNegotiationStore().save(claimed);
+
+            assertThat(claimed.getVersion()).isEqualTo(1);
+            assertThat(getContractNegotiationStore().findById("id1").getVersion()).isEqualTo(1);
+        }
+
+        @Test
+        void save_shouldFail_whenVersionIsStale() {
+            getContractNegotiationStore().save(createNegotiationBuilder("id1").state(REQUESTED.code()).build());
+            var stale = getContractNegotiationStore().findById("id1");
+            var current = getContractNegotiationStore().findById("id1");
+            getContractNegotiationStore().save(current);
+
+            assertThatThrownBy(() -> getContractNegotiationStore().save(stale)).isInstanceOf(IllegalStateException.class);
+        }
+    }
+}
@@ -15,15 +15,20 @@
 package org.eclipse.edc.connector.controlplane.store.sql.contractnegotiation.store;
 
 import org.eclipse.edc.connector.controlplane.contract.spi.testfixtures.negotiation.store.ContractNegotiationStoreTestBase;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiation;
 import org.eclipse.edc.connector.controlplane.store.sql.contractnegotiation.store.schema.postgres.PostgresDialectStatements;
 import org.eclipse.edc.json.JacksonTypeManager;
 import org.eclipse.edc.junit.annotations.ComponentTest;
 import org.eclipse.edc.policy.model.PolicyRegistrationTypes;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.lease.ConcurrencyMode;
 import org.eclipse.edc.sql.lease.testfixtures.LeaseUtil;
 import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.io.IOException;
@@ -31,6 +36,16 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.time.Duration;
 
+import static java.util.stream.IntStream.range;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.connector.controlplane.contract.spi.testfixtures.negotiation.store.TestFunctions.createContractBuilder;
+import static org.eclipse.edc.connector.controlplane.contract.spi.testfixtures.negotiation.store.TestFunctions.createNegotiationBuilder;
+import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates.FINALIZED;
+import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates.REQUESTED;
+import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates.TERMINATED;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+
 /**
  * This test aims to verify those parts of the contract negotiation store, that are specific to Postgres, e.g. JSON
  * query operators.
@@ -39,17 +54,17 @@ import java.time.Duration;
 @ExtendWith(PostgresqlStoreSetupExtension.class)
 class PostgresContractNegotiationStoreTest extends ContractNegotiationStoreTestBase {
 
+    protected final PostgresDialectStatements statements = new PostgresDialectStatements();
     private SqlContractNegotiationStore store;
     private LeaseUtil leaseUtil;
 
     @BeforeEach
     void setUp(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) throws IOException {
-        var statements = new PostgresDialectStatements();
         var manager = new JacksonTypeManager();
 
         manager.registerTypes(PolicyRegistrationTypes.TYPES.toArray(Class<?>[]::new));
         store = new SqlContractNegotiationStore(extension.getDataSourceRegistry(), extension.getDatasourceName(),
-                extension.getTransactionContext(), manager.getMapper(), statements, CONNECTOR_NAME, clock, queryExecutor);
+                extension.getTransactionContext(), manager.getMapper(), statements, CONNECTOR_NAME, clock, queryExecutor, null, concurrencyMode());
 
         var schema = Files.readString(Paths.get("./docs/schema.sql"));
         extension.runQuery(schema);
@@ -60,10 +75,15 @@ class PostgresContractNegotiationStoreTest extends ContractNegotiationStoreTestB
     void tearDown(PostgresqlStoreSetupExtension extension) {
         var dialect = new PostgresDialectStatements();
         extension.runQuery("DROP TABLE " + dialect.getContractNegotiationTable() + " CASCADE");
+        extension.runQuery("DROP TABLE " + dialect.getContractNegotiationArchiveTable() + " CASCADE");
         extension.runQuery("DROP TABLE " + dialect.getContractAgreementTable() + " CASCADE");
         extension.runQuery("DROP TABLE " + dialect.getLeaseTableName() + " CASCADE");
     }
 
+    protected ConcurrencyMode concurrencyMode() {
+        return ConcurrencyMode.LEASE;
+    }
+
     @Override
     protected SqlContractNegotiationStore getContractNegotiationStore() {
         return store;
@@ -79,4 +99,64 @@ class PostgresContractNegotiationStoreTest extends ContractNegotiationStoreTestB
         return leaseUtil.isLeased(negotiationId, owner);
     }
 
+    @Nested
+    class Archive {
+
+        @Test
+        void shouldMoveOldUnleasedFinalNegotiations() {
+            var threshold = clock.millis();
+            store.save(createNegotiationBuilder("old-finalized").state(FINALIZED.code()).updatedAt(threshold - 1000)
+                    .contractAgreement(createContractBuilder("agreement-id").build()).build());
+            store.save(createNegotiationBuilder("old-terminated").state(TERMINATED.code()).updatedAt(threshold - 1000).build());
+            store.save(createNegotiationBuilder("old-requested").state(REQUESTED.code()).updatedAt(threshold - 1000).build());
+            store.save(createNegotiationBuilder("recent-finalized").state(FINALIZED.code()).updatedAt(threshold + 1000).build());
+            store.save(createNegotiationBuilder("old-leased").state(TERMINATED.code()).updatedAt(threshold - 1000).build());
+            leaseEntity("old-leased", "someone-else");
+
+            var archived = store.archive(threshold, 100);
+
+            assertThat(archived).isEqualTo(2);
+            assertThat(store.queryNegotiations(QuerySpec.none())).extracting(ContractNegotiation::getId)
+                    .containsExactlyInAnyOrder("old-requested", "recent-finalized", "old-leased");
+            assertThat(store.queryNegotiations(QuerySpec.none(), true)).extracting(ContractNegotiation::getId)
+                    .containsExactlyInAnyOrder("old-finalized", "old-terminated", "old-requested", "recent-finalized", "old-leased");
+            assertThat(store.queryAgreements(QuerySpec.none())).hasSize(1);
+        }
+
+        @Test
+        void shouldLimitToBatchSize() {
+            var threshold = clock.millis();
+            range(0, 5).forEach(i -> store.save(createNegotiationBuilder("id" + i).state(TERMINATED.code()).updatedAt(threshold - 1000).build()));
+
+            assertThat(store.archive(threshold, 3)).isEqualTo(3);
+            assertThat(store.archive(threshold, 3)).isEqualTo(2);
+            assertThat(store.archive(threshold, 3)).isZero();
+        }
+
+        @Test
+        void findById_shouldReturnArchivedNegotiationWithAgreement() {
+            var threshold = clock.millis();
+            var agreement = createContractBuilder("agreement-id").build();
+            store.save(createNegotiationBuilder("id").state(FINALIZED.code()).updatedAt(threshold - 1000).contractAgreement(agreement).build());
+            store.archive(threshold, 10);
+
+            var negotiation = store.findById("id");
+
+            assertThat(negotiation).isNotNull();
+            assertThat(negotiation.getContractAgreement()).usingRecursiveComparison().isEqualTo(agreement);
+            assertThat(store.findByIdAndLease("id")).isFailed();
+        }
+
+        @Test
+        void save_shouldFail_whenNegotiationIsArchived() {
+            var threshold = clock.millis();
+            var negotiation = createNegotiationBuilder("id").state(TERMINATED.code()).updatedAt(threshold - 1000).build();
+            store.save(negotiation);
+            store.archive(threshold, 10);
+
+            assertThatThrownBy(() -> store.save(negotiation)).isInstanceOf(IllegalStateException.class);
+            assertThat(store.queryNegotiations(QuerySpec.none())).isEmpty();
+        }
+    }
+
 }
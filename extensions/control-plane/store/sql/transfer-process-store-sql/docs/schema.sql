@@ -46,7 +46,10 @@ CREATE TABLE IF NOT EXISTS edc_transfer_process
     lease_id                   VARCHAR
             CONSTRAINT transfer_process_lease_lease_id_fk
                 REFERENCES edc_lease
-                ON DELETE SET NULL
+                ON DELETE SET NULL,
+    version                    BIGINT  DEFAULT 0 NOT NULL,
+    claimed_by                 VARCHAR,
+    claimed_until              BIGINT
 );
 
 COMMENT ON COLUMN edc_transfer_process.trace_context IS 'Java Map serialized as JSON';
@@ -59,9 +62,31 @@ COMMENT ON COLUMN edc_transfer_process.content_data_address IS 'DataAddress seri
 
 COMMENT ON COLUMN edc_transfer_process.deprovisioned_resources IS 'List of deprovisioned resources, serialized as JSON';
 
+COMMENT ON COLUMN edc_transfer_process.version IS 'incremented at every save in optimistic concurrency mode';
+
+COMMENT ON COLUMN edc_transfer_process.claimed_until IS 'posix timestamp of the claim expiration in optimistic concurrency mode';
+
+-- columns added after the first release of the schema
+ALTER TABLE edc_transfer_process ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE edc_transfer_process ADD COLUMN IF NOT EXISTS claimed_by VARCHAR;
+ALTER TABLE edc_transfer_process ADD COLUMN IF NOT EXISTS claimed_until BIGINT;
+
 
 CREATE UNIQUE INDEX IF NOT EXISTS transfer_process_id_uindex
     ON edc_transfer_process (transferprocess_id);
 
 CREATE UNIQUE INDEX IF NOT EXISTS lease_lease_id_uindex
     ON edc_lease (lease_id);
+
+CREATE INDEX IF NOT EXISTS transfer_process_state_updated_at_index
+    ON edc_transfer_process (state, updated_at);
+
+-- transfer processes in a final state are moved here by the archival, columns must be kept in sync with edc_transfer_process
+CREATE TABLE IF NOT EXISTS edc_transfer_process_archive
+(
+    LIKE edc_transfer_process INCLUDING ALL
+);
+
+ALTER TABLE edc_transfer_process_archive ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE edc_transfer_process_archive ADD COLUMN IF NOT EXISTS claimed_by VARCHAR;
+ALTER TABLE edc_transfer_process_archive ADD COLUMN IF NOT EXISTS claimed_until BIGINT;
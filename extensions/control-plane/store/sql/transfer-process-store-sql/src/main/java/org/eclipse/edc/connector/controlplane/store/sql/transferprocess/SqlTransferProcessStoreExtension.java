@@ -26,6 +26,8 @@ import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.lease.ConcurrencyMode;
+import org.eclipse.edc.sql.lease.SqlClusterMembership;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
@@ -38,6 +40,10 @@ public class SqlTransferProcessStoreExtension implements ServiceExtension {
     @Setting
     public static final String DATASOURCE_NAME_SETTING = "edc.datasource.transferprocess.name";
 
+    @Setting(value = "How concurrent runtimes are coordinated on the transfer processes: 'lease' uses the lease table, 'optimistic' claims " +
+            "the entities in their row and saves them with a version check. The optimistic mode requires the version and claim columns", defaultValue = "lease")
+    public static final String CONCURRENCY_MODE_SETTING = "edc.sql.store.transferprocess.concurrency-mode";
+
     @Inject
     private DataSourceRegistry dataSourceRegistry;
     @Inject
@@ -54,10 +60,14 @@ public class SqlTransferProcessStoreExtension implements ServiceExtension {
     @Inject
     private QueryExecutor queryExecutor;
 
+    @Inject(required = false)
+    private SqlClusterMembership clusterMembership;
+
     @Override
     public void initialize(ServiceExtensionContext context) {
         var store = new SqlTransferProcessStore(dataSourceRegistry, getDataSourceName(context), trxContext,
-                typeManager.getMapper(), getStatementImpl(), context.getConnectorId(), clock, queryExecutor);
+                typeManager.getMapper(), getStatementImpl(), context.getConnectorId(), clock, queryExecutor, clusterMembership,
+                getConcurrencyMode(context));
         context.registerService(TransferProcessStore.class, store);
     }
 
@@ -68,6 +78,10 @@ public class SqlTransferProcessStoreExtension implements ServiceExtension {
         return statements != null ? statements : new PostgresDialectStatements();
     }
 
+    private ConcurrencyMode getConcurrencyMode(ServiceExtensionContext context) {
+        return ConcurrencyMode.parse(context.getConfig().getString(CONCURRENCY_MODE_SETTING, "lease"));
+    }
+
     private String getDataSourceName(ServiceExtensionContext context) {
         return context.getConfig().getString(DATASOURCE_NAME_SETTING, DataSourceRegistry.DEFAULT_DATASOURCE);
     }
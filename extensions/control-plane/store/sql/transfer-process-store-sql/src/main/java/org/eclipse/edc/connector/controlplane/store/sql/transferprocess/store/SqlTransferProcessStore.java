@@ -29,8 +29,12 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.lease.ConcurrencyMode;
+import org.eclipse.edc.sql.lease.SqlClaimContext;
+import org.eclipse.edc.sql.lease.SqlClusterMembership;
 import org.eclipse.edc.sql.lease.SqlLeaseContextBuilder;
 import org.eclipse.edc.sql.store.AbstractSqlStore;
+import org.eclipse.edc.sql.translation.SqlQueryStatement;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.NotNull;
@@ -40,7 +44,9 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -49,25 +55,52 @@ import java.util.stream.Stream;
 import static java.lang.String.format;
 import static java.util.stream.Collectors.toList;
 import static org.eclipse.edc.spi.query.Criterion.criterion;
+import static org.eclipse.edc.sql.lease.ConcurrencyMode.OPTIMISTIC;
 
 /**
- * Implementation of the {@link TransferProcessStore} based on SQL.
+ * Implementation of the {@link TransferProcessStore} based on SQL. Concurrent runtimes are coordinated either with
+ * leases or with claims and versioned updates, see {@link ConcurrencyMode}.
  */
 public class SqlTransferProcessStore extends AbstractSqlStore implements TransferProcessStore {
+    // keeps the IN lists well below the 65535 bind parameters a statement can have on Postgres
+    private static final int MAX_IN_CLAUSE_SIZE = 1000;
+
     private final TransferProcessStoreStatements statements;
     private final String leaseHolderName;
     private final SqlLeaseContextBuilder leaseContext;
     private final Clock clock;
+    private final SqlClusterMembership clusterMembership;
+    private final ConcurrencyMode concurrencyMode;
+    private final SqlClaimContext claimContext;
 
     public SqlTransferProcessStore(DataSourceRegistry dataSourceRegistry, String datasourceName,
                                    TransactionContext transactionContext, ObjectMapper objectMapper,
                                    TransferProcessStoreStatements statements, String leaseHolderName, Clock clock,
                                    QueryExecutor queryExecutor) {
+        this(dataSourceRegistry, datasourceName, transactionContext, objectMapper, statements, leaseHolderName, clock, queryExecutor, null);
+    }
+
+    public SqlTransferProcessStore(DataSourceRegistry dataSourceRegistry, String datasourceName,
+                                   TransactionContext transactionContext, ObjectMapper objectMapper,
+                                   TransferProcessStoreStatements statements, String leaseHolderName, Clock clock,
+                                   QueryExecutor queryExecutor, @Nullable SqlClusterMembership clusterMembership) {
+        this(dataSourceRegistry, datasourceName, transactionContext, objectMapper, statements, leaseHolderName, clock, queryExecutor,
+                clusterMembership, ConcurrencyMode.LEASE);
+    }
+
+    public SqlTransferProcessStore(DataSourceRegistry dataSourceRegistry, String datasourceName,
+                                   TransactionContext transactionContext, ObjectMapper objectMapper,
+                                   TransferProcessStoreStatements statements, String leaseHolderName, Clock clock,
+                                   QueryExecutor queryExecutor, @Nullable SqlClusterMembership clusterMembership,
+                                   ConcurrencyMode concurrencyMode) {
         super(dataSourceRegistry, datasourceName, transactionContext, objectMapper, queryExecutor);
         this.statements = statements;
         this.leaseHolderName = leaseHolderName;
         this.clock = clock;
+        this.clusterMembership = clusterMembership;
+        this.concurrencyMode = Objects.requireNonNull(concurrencyMode, "concurrencyMode");
         leaseContext = SqlLeaseContextBuilder.with(transactionContext, leaseHolderName, statements, clock, queryExecutor);
+        claimContext = new SqlClaimContext(statements, queryExecutor, leaseHolderName, clock, SqlClaimContext.DEFAULT_CLAIM_DURATION);
     }
 
     @Override
@@ -75,15 +108,27 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
         return transactionContext.execute(() -> {
             var filter = Arrays.stream(criteria).collect(toList());
             var querySpec = QuerySpec.Builder.newInstance().filter(filter).limit(max).build();
-            var statement = statements.createQuery(querySpec)
-                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis());
+            var statement = statements.createQuery(querySpec);
+            if (concurrencyMode == OPTIMISTIC) {
+                claimContext.selectClaimable(statement);
+            } else {
+                statement.addWhereClause(statements.getNotLeasedFilter(), clock.millis());
+            }
+            if (clusterMembership != null) {
+                clusterMembership.addPartitionFilter(statement, statements.getIdColumn());
+            }
 
             try (
                     var connection = getConnection();
                     var stream = queryExecutor.query(connection, true, this::mapTransferProcess, statement.getQueryAsString(), statement.getParameters())
             ) {
                 var transferProcesses = stream.collect(Collectors.toList());
-                transferProcesses.forEach(transferProcess -> leaseContext.withConnection(connection).acquireLease(transferProcess.getId()));
+                if (concurrencyMode == OPTIMISTIC) {
+                    claimContext.claimAll(connection, transferProcesses.stream().map(TransferProcess::getId).toList());
+                } else {
+                    transferProcesses.forEach(transferProcess -> leaseContext.withConnection(connection).acquireLease(transferProcess.getId()));
+                }
+                transferProcesses.forEach(TransferProcess::markClean);
                 return transferProcesses;
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
@@ -100,7 +145,8 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                     return StoreResult.notFound(format("TransferProcess %s not found", id));
                 }
 
-                leaseContext.withConnection(connection).acquireLease(entity.getId());
+                acquire(connection, entity.getId());
+                entity.markClean();
                 return StoreResult.success(entity);
             } catch (IllegalStateException e) {
                 return StoreResult.alreadyLeased(format("TransferProcess %s is already leased", id));
@@ -124,7 +170,8 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                     return StoreResult.notFound(format("TransferProcess with correlationId %s not found", correlationId));
                 }
 
-                leaseContext.withConnection(connection).acquireLease(entity.getId());
+                acquire(connection, entity.getId());
+                entity.markClean();
                 return StoreResult.success(entity);
             } catch (IllegalStateException e) {
                 return StoreResult.alreadyLeased(format("TransferProcess with correlationId %s is already leased", correlationId));
@@ -139,11 +186,21 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
         Objects.requireNonNull(entity.getId(), "TransferProcesses must have an ID!");
         transactionContext.execute(() -> {
             try (var conn = getConnection()) {
+                if (concurrencyMode == OPTIMISTIC) {
+                    if (!updateVersioned(conn, entity)) {
+                        insertOrFail(conn, entity);
+                    }
+                    return;
+                }
+                if (!entity.hasDirtyFields() && updateState(conn, entity)) {
+                    return;
+                }
                 var existing = findByIdInternal(conn, entity.getId());
                 if (existing != null) {
                     leaseContext.by(leaseHolderName).withConnection(conn).breakLease(entity.getId());
                     update(conn, entity);
                 } else {
+                    failIfArchived(conn, entity.getId());
                     insert(conn, entity);
                 }
             } catch (SQLException e) {
@@ -152,11 +209,66 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
         });
     }
 
+    /**
+     * Persists the entities in a single transaction: the existing ones are updated one by one, the new ones are
+     * inserted in a single JDBC batch. The existing and the archived ids are looked up in chunks of
+     * {@value #MAX_IN_CLAUSE_SIZE}, the whole batch fails if any of the entities has been archived.
+     */
+    @Override
+    public void saveAll(List<TransferProcess> entities) {
+        entities.forEach(entity -> Objects.requireNonNull(entity.getId(), "TransferProcesses must have an ID!"));
+        if (entities.isEmpty()) {
+            return;
+        }
+        transactionContext.execute(() -> {
+            try (var conn = getConnection()) {
+                var ids = entities.stream().map(TransferProcess::getId).toList();
+                var existingIds = new HashSet<String>();
+                for (var from = 0; from < ids.size(); from += MAX_IN_CLAUSE_SIZE) {
+                    var chunk = ids.subList(from, Math.min(from + MAX_IN_CLAUSE_SIZE, ids.size()));
+                    var querySpec = QuerySpec.Builder.newInstance().filter(criterion("id", "in", chunk)).limit(chunk.size()).build();
+                    try (var existing = executeQuery(conn, querySpec)) {
+                        existing.map(TransferProcess::getId).forEach(existingIds::add);
+                    }
+                    try (var archived = executeQuery(conn, statements.createArchivedQuery(querySpec))) {
+                        archived.findFirst().ifPresent(entity -> {
+                            throw archived(entity.getId());
+                        });
+                    }
+                }
+
+                var inserts = new ArrayList<Object[]>();
+                for (var entity : entities) {
+                    if (existingIds.contains(entity.getId())) {
+                        if (concurrencyMode == OPTIMISTIC) {
+                            if (!updateVersioned(conn, entity)) {
+                                throw conflict(entity.getId());
+                            }
+                        } else {
+                            leaseContext.by(leaseHolderName).withConnection(conn).breakLease(entity.getId());
+                            update(conn, entity);
+                        }
+                    } else {
+                        inserts.add(insertArguments(entity));
+                    }
+                }
+                queryExecutor.executeBatch(conn, statements.getInsertStatement(), inserts);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
     @Override
     public @Nullable TransferProcess findById(String id) {
         return transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                return findByIdInternal(connection, id);
+                var entity = findByIdInternal(connection, id);
+                if (entity == null) {
+                    var querySpec = QuerySpec.Builder.newInstance().filter(criterion("id", "=", id)).build();
+                    return single(executeQuery(connection, statements.createQueryIncludingArchive(querySpec)).collect(toList()));
+                }
+                return entity;
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -177,9 +289,13 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
     public void delete(String processId) {
 
         transactionContext.execute(() -> {
-            var existing = findById(processId);
-            if (existing != null) {
-                try (var conn = getConnection()) {
+            try (var conn = getConnection()) {
+                var existing = findByIdInternal(conn, processId);
+                if (existing != null && concurrencyMode == OPTIMISTIC) {
+                    if (!claimContext.deleteUnclaimed(conn, processId)) {
+                        throw new IllegalStateException(format("TransferProcess %s is claimed, cannot be deleted", processId));
+                    }
+                } else if (existing != null) {
                     // attempt to acquire lease - should fail if someone else holds the lease
                     leaseContext.by(leaseHolderName).withConnection(conn).acquireLease(processId);
 
@@ -188,11 +304,10 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
 
                     //necessary to delete the row in edc_lease
                     leaseContext.by(leaseHolderName).withConnection(conn).breakLease(processId);
-                } catch (SQLException e) {
-                    throw new EdcPersistenceException(e);
                 }
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
             }
-
         });
     }
 
@@ -207,6 +322,31 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
         });
     }
 
+    @Override
+    public Stream<TransferProcess> findAll(QuerySpec querySpec, boolean includeArchived) {
+        if (!includeArchived) {
+            return findAll(querySpec);
+        }
+        return transactionContext.execute(() -> {
+            try (var conn = getConnection()) {
+                return executeQuery(conn, statements.createQueryIncludingArchive(querySpec));
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public int archive(long updatedBefore, int batchSize) {
+        return transactionContext.execute(() -> {
+            try (var conn = getConnection()) {
+                return queryExecutor.execute(conn, statements.getArchiveTemplate(), updatedBefore, batchSize);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
     private QuerySpec correlationIdQuerySpec(String correlationId) {
         var criterion = criterion("correlationId", "=", correlationId);
         return QuerySpec.Builder.newInstance().filter(criterion).build();
@@ -220,13 +360,103 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
     }
 
     private Stream<TransferProcess> executeQuery(Connection connection, QuerySpec querySpec) {
-        var statement = statements.createQuery(querySpec);
+        return executeQuery(connection, statements.createQuery(querySpec));
+    }
+
+    private Stream<TransferProcess> executeQuery(Connection connection, SqlQueryStatement statement) {
         return queryExecutor.query(connection, true, this::mapTransferProcess, statement.getQueryAsString(), statement.getParameters());
     }
 
+    /**
+     * Persists only the state columns, without reading the entity first: the lease held by this runtime gets deleted
+     * (the entity lease reference is cleared by the foreign key) and the state is updated if the entity is not leased
+     * anymore.
+     *
+     * @return true if the entity has been updated, false if it does not exist or it's leased by someone else.
+     */
+    private boolean updateState(Connection conn, TransferProcess process) {
+        queryExecutor.execute(conn, statements.getDeleteOwnLeaseTemplate(), leaseHolderName, process.getId());
+        var updated = queryExecutor.execute(conn, statements.getUpdateStateTemplate(), concat(stateArguments(process), process.getId()));
+        return updated > 0;
+    }
+
     private void update(Connection conn, TransferProcess process) {
         var updateStmt = statements.getUpdateTransferProcessTemplate();
-        queryExecutor.execute(conn, updateStmt,
+        queryExecutor.execute(conn, updateStmt, concat(updateArguments(process), process.getId()));
+    }
+
+    /**
+     * Acquires the entity with a lease or a claim, depending on the concurrency mode.
+     *
+     * @throws IllegalStateException if the entity is already leased or claimed.
+     */
+    private void acquire(Connection connection, String id) {
+        if (concurrencyMode != OPTIMISTIC) {
+            leaseContext.withConnection(connection).acquireLease(id);
+        } else if (!claimContext.claim(connection, id)) {
+            throw new IllegalStateException(format("TransferProcess %s is already claimed", id));
+        }
+    }
+
+    /**
+     * Persists the entity if it has not been saved by someone else since it was loaded and it's not claimed by someone
+     * else, releasing the claim. Only the state columns are written if there are no dirty fields.
+     *
+     * @return true if the entity has been updated, false if it does not exist, it has been modified or it's claimed.
+     */
+    private boolean updateVersioned(Connection conn, TransferProcess process) {
+        var version = process.getVersion();
+        var condition = concat(new Object[]{ version + 1, null, null, process.getId(), version }, claimContext.writableByParameters());
+        var updated = process.hasDirtyFields()
+                ? queryExecutor.execute(conn, statements.getVersionedUpdateTransferProcessTemplate(), concat(updateArguments(process), condition))
+                : queryExecutor.execute(conn, statements.getVersionedUpdateStateTemplate(), concat(stateArguments(process), condition));
+        if (updated == 0) {
+            return false;
+        }
+        process.setVersion(version + 1);
+        return true;
+    }
+
+    private void insertOrFail(Connection conn, TransferProcess process) {
+        if (findByIdInternal(conn, process.getId()) != null) {
+            throw conflict(process.getId());
+        }
+        failIfArchived(conn, process.getId());
+        insert(conn, process);
+        process.setVersion(0);
+    }
+
+    /**
+     * Archived transfer processes are in a final state, saving one again would insert a second row with the same id in
+     * the active table.
+     */
+    private void failIfArchived(Connection conn, String id) {
+        if (queryExecutor.single(conn, false, rs -> rs.getString(1), statements.getFindArchivedIdTemplate(), id) != null) {
+            throw archived(id);
+        }
+    }
+
+    private IllegalStateException conflict(String id) {
+        return new IllegalStateException(format("TransferProcess %s has been modified or is claimed by another runtime", id));
+    }
+
+    private IllegalStateException archived(String id) {
+        return new IllegalStateException(format("TransferProcess %s has been archived, it cannot be saved anymore", id));
+    }
+
+    private Object[] stateArguments(TransferProcess process) {
+        return new Object[]{
+                process.getState(),
+                process.getStateCount(),
+                process.getStateTimestamp(),
+                process.getUpdatedAt(),
+                process.getErrorDetail(),
+                process.isPending()
+        };
+    }
+
+    private Object[] updateArguments(TransferProcess process) {
+        return new Object[]{
                 process.getState(),
                 process.getStateCount(),
                 process.getStateTimestamp(),
@@ -247,8 +477,14 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                 process.getProtocol(),
                 process.getAssetId(),
                 process.getContractId(),
-                toJson(process.getDataDestination()),
-                process.getId());
+                toJson(process.getDataDestination())
+        };
+    }
+
+    private static Object[] concat(Object[] first, Object... second) {
+        var result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
     }
 
     /**
@@ -268,8 +504,12 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
     }
 
     private void insert(Connection conn, TransferProcess process) {
-        var insertTpStatement = statements.getInsertStatement();
-        queryExecutor.execute(conn, insertTpStatement, process.getId(),
+        queryExecutor.execute(conn, statements.getInsertStatement(), insertArguments(process));
+    }
+
+    private Object[] insertArguments(TransferProcess process) {
+        return new Object[]{
+                process.getId(),
                 process.getState(),
                 process.getStateCount(),
                 process.getStateTimestamp(),
@@ -293,10 +533,13 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                 process.getProtocol(),
                 process.getAssetId(),
                 process.getContractId(),
-                toJson(process.getDataDestination()));
+                toJson(process.getDataDestination())
+        };
     }
 
     private TransferProcess mapTransferProcess(ResultSet resultSet) throws SQLException {
+        // the version column is not required by the lease mode, so schemas that don't have it keep working
+        var version = concurrencyMode == OPTIMISTIC ? resultSet.getLong(statements.getVersionColumn()) : 0L;
         return TransferProcess.Builder.newInstance()
                 .id(resultSet.getString(statements.getIdColumn()))
                 .type(TransferProcess.Type.valueOf(resultSet.getString(statements.getTypeColumn())))
@@ -325,6 +568,7 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                 .transferType(resultSet.getString(statements.getTransferTypeColumn()))
                 .protocolMessages(fromJson(resultSet.getString(statements.getProtocolMessagesColumn()), ProtocolMessages.class))
                 .dataPlaneId(resultSet.getString(statements.getDataPlaneIdColumn()))
+                .version(version)
                 .build();
     }
 
@@ -17,10 +17,13 @@ package org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.s
 
 import org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.schema.postgres.TransferProcessMapping;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.sql.statement.SqlExecuteStatement;
 import org.eclipse.edc.sql.translation.SqlOperatorTranslator;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
 import static java.lang.String.format;
+import static org.eclipse.edc.sql.statement.SqlExecuteStatement.equalTo;
+import static org.eclipse.edc.sql.statement.SqlExecuteStatement.isNull;
 
 /**
  * Postgres-specific variants and implementations of the statements required for the TransferProcessStore
@@ -99,6 +102,31 @@ public abstract class BaseSqlDialectStatements implements TransferProcessStoreSt
 
     @Override
     public String getUpdateTransferProcessTemplate() {
+        return updateColumns().update(getTransferProcessTableName(), getIdColumn());
+    }
+
+    @Override
+    public String getVersionedUpdateTransferProcessTemplate() {
+        return versioned(updateColumns());
+    }
+
+    @Override
+    public String getVersionedUpdateStateTemplate() {
+        return versioned(stateColumns());
+    }
+
+    @Override
+    public String getClaimTemplate() {
+        return format("UPDATE %s SET %s = ?, %s = ? WHERE %s = ? AND %s",
+                getTransferProcessTableName(), getClaimedByColumn(), getClaimedUntilColumn(), getIdColumn(), getNotClaimedFilter());
+    }
+
+    @Override
+    public String getDeleteUnclaimedTemplate() {
+        return format("DELETE FROM %s WHERE %s = ? AND %s", getTransferProcessTableName(), getIdColumn(), getNotClaimedFilter());
+    }
+
+    private SqlExecuteStatement updateColumns() {
         return executeStatement()
                 .column(getStateColumn())
                 .column(getStateCountColumn())
@@ -120,8 +148,41 @@ public abstract class BaseSqlDialectStatements implements TransferProcessStoreSt
                 .column(getProtocolColumn())
                 .column(getAssetIdColumn())
                 .column(getContractIdColumn())
-                .jsonColumn(getDataDestinationColumn())
-                .update(getTransferProcessTableName(), getIdColumn());
+                .jsonColumn(getDataDestinationColumn());
+    }
+
+    @Override
+    public String getUpdateStateTemplate() {
+        return stateColumns().update(getTransferProcessTableName(), equalTo(getIdColumn()), isNull(getLeaseIdColumn()));
+    }
+
+    private SqlExecuteStatement stateColumns() {
+        return executeStatement()
+                .column(getStateColumn())
+                .column(getStateCountColumn())
+                .column(getStateTimestampColumn())
+                .column(getUpdatedAtColumn())
+                .column(getErrorDetailColumn())
+                .column(getPendingColumn());
+    }
+
+    /**
+     * Appends the version and the claim columns to the update, and makes it conditional on the version and on the claim.
+     */
+    private String versioned(SqlExecuteStatement statement) {
+        var update = statement
+                .column(getVersionColumn())
+                .column(getClaimedByColumn())
+                .column(getClaimedUntilColumn())
+                .update(getTransferProcessTableName(), equalTo(getIdColumn()), equalTo(getVersionColumn()));
+        // the claim condition is not a simple criterion, so it gets appended to the generated where clause
+        return update.substring(0, update.lastIndexOf(';')) + " AND " + getWritableByFilter() + ";";
+    }
+
+    @Override
+    public String getDeleteOwnLeaseTemplate() {
+        return format("DELETE FROM %s WHERE %s = ? AND %s = (SELECT %s FROM %s WHERE %s = ?)",
+                getLeaseTableName(), getLeasedByColumn(), getLeaseIdColumn(), getLeaseIdColumn(), getTransferProcessTableName(), getIdColumn());
     }
 
     @Override
@@ -129,9 +190,54 @@ public abstract class BaseSqlDialectStatements implements TransferProcessStoreSt
         return "SELECT * FROM %s".formatted(getTransferProcessTableName());
     }
 
+    @Override
+    public String getSelectIncludingArchiveTemplate() {
+        var columns = archivedColumns();
+        return "SELECT * FROM (SELECT %s FROM %s UNION ALL SELECT %s FROM %s) AS %s"
+                .formatted(columns, getTransferProcessTableName(), columns, getTransferProcessArchiveTableName(), getTransferProcessTableName());
+    }
+
+    @Override
+    public String getSelectArchivedTemplate() {
+        return "SELECT * FROM %s AS %s".formatted(getTransferProcessArchiveTableName(), getTransferProcessTableName());
+    }
+
+    @Override
+    public String getFindArchivedIdTemplate() {
+        return "SELECT %s FROM %s WHERE %s = ?".formatted(getIdColumn(), getTransferProcessArchiveTableName(), getIdColumn());
+    }
+
     @Override
     public SqlQueryStatement createQuery(QuerySpec querySpec) {
-        return new SqlQueryStatement(getSelectTemplate(), querySpec, new TransferProcessMapping(this), operatorTranslator);
+        return createQuery(getSelectTemplate(), querySpec);
+    }
+
+    @Override
+    public SqlQueryStatement createQueryIncludingArchive(QuerySpec querySpec) {
+        return createQuery(getSelectIncludingArchiveTemplate(), querySpec);
+    }
+
+    @Override
+    public SqlQueryStatement createArchivedQuery(QuerySpec querySpec) {
+        return createQuery(getSelectArchivedTemplate(), querySpec);
+    }
+
+    protected SqlQueryStatement createQuery(String selectTemplate, QuerySpec querySpec) {
+        return new SqlQueryStatement(selectTemplate, querySpec, new TransferProcessMapping(this), operatorTranslator);
+    }
+
+    /**
+     * Columns shared by the active and the archive tables, listed explicitly so that the archival and the unions do not
+     * depend on the column order of the two tables.
+     */
+    protected String archivedColumns() {
+        return String.join(", ", getIdColumn(), getTypeColumn(), getStateColumn(), getStateCountColumn(), getStateTimestampColumn(),
+                getCreatedAtColumn(), getUpdatedAtColumn(), getTraceContextColumn(), getErrorDetailColumn(), getResourceManifestColumn(),
+                getProvisionedResourceSetColumn(), getContentDataAddressColumn(), getDeprovisionedResourcesColumn(),
+                getPrivatePropertiesColumn(), getCallbackAddressesColumn(), getPendingColumn(), getTransferTypeColumn(),
+                getProtocolMessagesColumn(), getDataPlaneIdColumn(), getCorrelationIdColumn(), getCounterPartyAddressColumn(),
+                getProtocolColumn(), getAssetIdColumn(), getContractIdColumn(), getDataDestinationColumn(), getLeaseIdColumn(),
+                getVersionColumn(), getClaimedByColumn(), getClaimedUntilColumn());
     }
 
 }
@@ -17,6 +17,7 @@ package org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.s
 
 import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.sql.lease.ClaimStatements;
 import org.eclipse.edc.sql.lease.LeaseStatements;
 import org.eclipse.edc.sql.lease.StatefulEntityStatements;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
@@ -25,7 +26,7 @@ import org.eclipse.edc.sql.translation.SqlQueryStatement;
  * Statement templates and SQL table+column names required for the TransferProcessStore
  */
 @ExtensionPoint
-public interface TransferProcessStoreStatements extends StatefulEntityStatements, LeaseStatements {
+public interface TransferProcessStoreStatements extends StatefulEntityStatements, LeaseStatements, ClaimStatements {
 
     String getInsertStatement();
 
@@ -33,12 +34,58 @@ public interface TransferProcessStoreStatements extends StatefulEntityStatements
 
     String getUpdateTransferProcessTemplate();
 
+    /**
+     * Update of the state columns only, applied only if the entity is not leased.
+     */
+    String getUpdateStateTemplate();
+
+    /**
+     * Update of all the columns that increments the version and releases the claim, applied only if the version is the
+     * given one and the entity is writable by the given claim holder, see {@link ClaimStatements#getWritableByFilter()}.
+     */
+    String getVersionedUpdateTransferProcessTemplate();
+
+    /**
+     * Update of the state columns only, with the same conditions of {@link #getVersionedUpdateTransferProcessTemplate()}.
+     */
+    String getVersionedUpdateStateTemplate();
+
+    /**
+     * Deletion of the lease held by the given holder on the given entity.
+     */
+    String getDeleteOwnLeaseTemplate();
+
     String getSelectTemplate();
 
+    /**
+     * Select over both the active and the archived transfer processes.
+     */
+    String getSelectIncludingArchiveTemplate();
+
+    /**
+     * Select over the archived transfer processes only.
+     */
+    String getSelectArchivedTemplate();
+
+    /**
+     * Select the id of an archived transfer process, to tell whether a transfer process has been archived.
+     */
+    String getFindArchivedIdTemplate();
+
+    /**
+     * Moves a batch of unleased transfer processes in a final state to the archive table. Parameters are the max
+     * updated timestamp and the batch size.
+     */
+    String getArchiveTemplate();
+
     default String getTransferProcessTableName() {
         return "edc_transfer_process";
     }
 
+    default String getTransferProcessArchiveTableName() {
+        return "edc_transfer_process_archive";
+    }
+
     default String getIdColumn() {
         return "transferprocess_id";
     }
@@ -112,4 +159,8 @@ public interface TransferProcessStoreStatements extends StatefulEntityStatements
     }
 
     SqlQueryStatement createQuery(QuerySpec querySpec);
+
+    SqlQueryStatement createQueryIncludingArchive(QuerySpec querySpec);
+
+    SqlQueryStatement createArchivedQuery(QuerySpec querySpec);
 }
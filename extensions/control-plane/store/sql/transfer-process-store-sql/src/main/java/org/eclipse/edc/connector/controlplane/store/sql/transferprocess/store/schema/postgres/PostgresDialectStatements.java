@@ -20,7 +20,13 @@ import org.eclipse.edc.sql.dialect.PostgresDialect;
 import org.eclipse.edc.sql.translation.PostgresqlOperatorTranslator;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
+import java.util.stream.Stream;
+
 import static java.lang.String.format;
+import static java.util.stream.Collectors.joining;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.COMPLETED;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.DEPROVISIONED;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.TERMINATED;
 import static org.eclipse.edc.sql.dialect.PostgresDialect.getSelectFromJsonArrayTemplate;
 
 /**
@@ -42,18 +48,28 @@ public class PostgresDialectStatements extends BaseSqlDialectStatements {
     }
 
     @Override
-    public SqlQueryStatement createQuery(QuerySpec querySpec) {
+    public String getArchiveTemplate() {
+        var finalStates = Stream.of(COMPLETED, TERMINATED, DEPROVISIONED).map(state -> String.valueOf(state.code())).collect(joining(", "));
+        var columns = archivedColumns();
+        return format("WITH archived AS (DELETE FROM %s WHERE %s IN (SELECT %s FROM %s WHERE %s IN (%s) AND %s < ? AND %s IS NULL AND %s IS NULL LIMIT ? FOR UPDATE SKIP LOCKED) RETURNING %s) " +
+                        "INSERT INTO %s (%s) SELECT %s FROM archived",
+                getTransferProcessTableName(), getIdColumn(), getIdColumn(), getTransferProcessTableName(), getStateColumn(), finalStates,
+                getUpdatedAtColumn(), getLeaseIdColumn(), getClaimedByColumn(), columns, getTransferProcessArchiveTableName(), columns, columns);
+    }
+
+    @Override
+    protected SqlQueryStatement createQuery(String selectTemplate, QuerySpec querySpec) {
         // if any criterion targets a JSON array field, we need to slightly adapt the FROM clause
         if (querySpec.containsAnyLeftOperand("resourceManifest.definitions")) {
-            var select = getSelectFromJsonArrayTemplate(getSelectTemplate(), format("%s -> '%s'", getResourceManifestColumn(), "definitions"), DEFINITIONS_ALIAS);
+            var select = getSelectFromJsonArrayTemplate(selectTemplate, format("%s -> '%s'", getResourceManifestColumn(), "definitions"), DEFINITIONS_ALIAS);
             return new SqlQueryStatement(select, querySpec, new TransferProcessMapping(this), operatorTranslator);
         } else if (querySpec.containsAnyLeftOperand("provisionedResourceSet.resources")) {
-            var select = getSelectFromJsonArrayTemplate(getSelectTemplate(), format("%s -> '%s'", getProvisionedResourceSetColumn(), "resources"), RESOURCES_ALIAS);
+            var select = getSelectFromJsonArrayTemplate(selectTemplate, format("%s -> '%s'", getProvisionedResourceSetColumn(), "resources"), RESOURCES_ALIAS);
             return new SqlQueryStatement(select, querySpec, new TransferProcessMapping(this), operatorTranslator);
         } else if (querySpec.containsAnyLeftOperand("deprovisionedResources")) {
-            var select = getSelectFromJsonArrayTemplate(getSelectTemplate(), format("%s", getDeprovisionedResourcesColumn()), DEPROVISIONED_RESOURCES_ALIAS);
+            var select = getSelectFromJsonArrayTemplate(selectTemplate, format("%s", getDeprovisionedResourcesColumn()), DEPROVISIONED_RESOURCES_ALIAS);
             return new SqlQueryStatement(select, querySpec, new TransferProcessMapping(this), operatorTranslator);
         }
-        return super.createQuery(querySpec);
+        return super.createQuery(selectTemplate, querySpec);
     }
 }
@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.store.sql.transferprocess;
+
+import org.eclipse.edc.connector.controlplane.transfer.spi.testfixtures.store.TestFunctions;
+import org.eclipse.edc.junit.annotations.ComponentTest;
+import org.eclipse.edc.sql.lease.ConcurrencyMode;
+import org.eclipse.edc.sql.lease.testfixtures.ClaimUtil;
+import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.INITIAL;
+import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
+
+/**
+ * Runs the whole transfer process store test suite with the {@link ConcurrencyMode#OPTIMISTIC} mode.
+ */
+@ComponentTest
+@ExtendWith(PostgresqlStoreSetupExtension.class)
+class PostgresTransferProcessStoreOptimisticTest extends PostgresTransferProcessStoreTest {
+
+    private ClaimUtil claimUtil;
+
+    @BeforeEach
+    void setUpClaims(PostgresqlStoreSetupExtension extension) {
+        claimUtil = new ClaimUtil(extension::getConnection, statements, statements.getTransferProcessTableName(), clock);
+    }
+
+    @Override
+    protected ConcurrencyMode concurrencyMode() {
+        return ConcurrencyMode.OPTIMISTIC;
+    }
+
+    @Override
+    protected void leaseEntity(String negotiationId, String owner, Duration duration) {
+        claimUtil.claimEntity(negotiationId, owner, duration);
+    }
+
+    @Override
+    protected boolean isLeasedBy(String negotiationId, String owner) {
+        return claimUtil.isClaimed(negotiationId, owner);
+    }
+
+    @Nested
+    class Version {
+
+        @Test
+        void save_shouldIncrementVersion() {
+            var transferProcess = TestFunctions.createTransferProcess("id1", INITIAL);
+            getTransferProcessStore().save(transferProcess);
+
+            var claimed = getTransferProcessStore().nextNotLeased(1, hasState(INITIAL.code())).get(0);
+            getTransferProcessStore().save(claimed);
+
+            assertThat(claimed.getVersion()).isEqualTo(1);
+            assertThat(getTransferProcessStore().findById("id1").getVersion()).isEqualTo(1);
+        }
+
+        @Test
+        void save_shouldFail_whenVersionIsStale() {
+            var transferProcess = TestFunctions.createTransferProcess("id1", INITIAL);
+            getTransferProcessStore().save(transferProcess);
+            var stale = getTransferProcessStore().findById("id1");
+            var current = getTransferProcessStore().findById("id1");
+            getTransferProcessStore().save(current);
+
+            assertThatThrownBy(() -> getTransferProcessStore().save(stale)).isInstanceOf(IllegalStateException.class);
+        }
+    }
+}
@@ -18,14 +18,19 @@ import org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.Sq
 import org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.schema.postgres.PostgresDialectStatements;
 import org.eclipse.edc.connector.controlplane.transfer.spi.testfixtures.store.TestFunctions;
 import org.eclipse.edc.connector.controlplane.transfer.spi.testfixtures.store.TransferProcessStoreTestBase;
+import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
 import org.eclipse.edc.json.JacksonTypeManager;
 import org.eclipse.edc.junit.annotations.ComponentTest;
 import org.eclipse.edc.policy.model.PolicyRegistrationTypes;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.lease.ConcurrencyMode;
 import org.eclipse.edc.sql.lease.testfixtures.LeaseUtil;
 import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.io.IOException;
@@ -33,11 +38,20 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.time.Duration;
 
+import static java.util.stream.IntStream.range;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.testfixtures.store.TestFunctions.createTransferProcessBuilder;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.COMPLETED;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.STARTED;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.TERMINATED;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
+
 @ComponentTest
 @ExtendWith(PostgresqlStoreSetupExtension.class)
 class PostgresTransferProcessStoreTest extends TransferProcessStoreTestBase {
 
-    private final PostgresDialectStatements statements = new PostgresDialectStatements();
+    protected final PostgresDialectStatements statements = new PostgresDialectStatements();
     private LeaseUtil leaseUtil;
     private SqlTransferProcessStore store;
 
@@ -50,7 +64,7 @@ class PostgresTransferProcessStoreTest extends TransferProcessStoreTestBase {
         leaseUtil = new LeaseUtil(extension.getTransactionContext(), extension::getConnection, statements, clock);
         store = new SqlTransferProcessStore(extension.getDataSourceRegistry(), extension.getDatasourceName(),
                 extension.getTransactionContext(), typeManager.getMapper(), statements, "test-connector",
-                clock, queryExecutor);
+                clock, queryExecutor, null, concurrencyMode());
 
         var schema = Files.readString(Paths.get("./docs/schema.sql"));
         extension.runQuery(schema);
@@ -59,9 +73,14 @@ class PostgresTransferProcessStoreTest extends TransferProcessStoreTestBase {
     @AfterEach
     void tearDown(PostgresqlStoreSetupExtension extension) {
         extension.runQuery("DROP TABLE " + statements.getTransferProcessTableName() + " CASCADE");
+        extension.runQuery("DROP TABLE " + statements.getTransferProcessArchiveTableName() + " CASCADE");
         extension.runQuery("DROP TABLE " + statements.getLeaseTableName() + " CASCADE");
     }
 
+    protected ConcurrencyMode concurrencyMode() {
+        return ConcurrencyMode.LEASE;
+    }
+
     @Override
     protected SqlTransferProcessStore getTransferProcessStore() {
         return store;
@@ -77,4 +96,50 @@ class PostgresTransferProcessStoreTest extends TransferProcessStoreTestBase {
         return leaseUtil.isLeased(negotiationId, owner);
     }
 
+    @Nested
+    class Archive {
+
+        @Test
+        void shouldMoveOldUnleasedFinalEntities() {
+            var threshold = clock.millis();
+            store.save(createTransferProcessBuilder("old-completed").state(COMPLETED.code()).updatedAt(threshold - 1000).build());
+            store.save(createTransferProcessBuilder("old-terminated").state(TERMINATED.code()).updatedAt(threshold - 1000).build());
+            store.save(createTransferProcessBuilder("old-started").state(STARTED.code()).updatedAt(threshold - 1000).build());
+            store.save(createTransferProcessBuilder("recent-completed").state(COMPLETED.code()).updatedAt(threshold + 1000).build());
+            store.save(createTransferProcessBuilder("old-leased").state(COMPLETED.code()).updatedAt(threshold - 1000).build());
+            leaseEntity("old-leased", "someone-else");
+
+            var archived = store.archive(threshold, 100);
+
+            assertThat(archived).isEqualTo(2);
+            assertThat(store.findAll(QuerySpec.none())).extracting(TransferProcess::getId)
+                    .containsExactlyInAnyOrder("old-started", "recent-completed", "old-leased");
+            assertThat(store.findAll(QuerySpec.none(), true)).extracting(TransferProcess::getId)
+                    .containsExactlyInAnyOrder("old-completed", "old-terminated", "old-started", "recent-completed", "old-leased");
+            assertThat(store.nextNotLeased(10, hasState(COMPLETED.code()))).extracting(TransferProcess::getId)
+                    .containsExactly("recent-completed");
+        }
+
+        @Test
+        void shouldLimitToBatchSize() {
+            var threshold = clock.millis();
+            range(0, 5).forEach(i -> store.save(createTransferProcessBuilder("id" + i).state(COMPLETED.code()).updatedAt(threshold - 1000).build()));
+
+            assertThat(store.archive(threshold, 3)).isEqualTo(3);
+            assertThat(store.archive(threshold, 3)).isEqualTo(2);
+            assertThat(store.archive(threshold, 3)).isZero();
+            assertThat(store.findAll(QuerySpec.none())).isEmpty();
+        }
+
+        @Test
+        void findById_shouldReturnArchivedEntity() {
+            var threshold = clock.millis();
+            store.save(createTransferProcessBuilder("id").state(COMPLETED.code()).updatedAt(threshold - 1000).build());
+            store.archive(threshold, 10);
+
+            assertThat(store.findById("id")).isNotNull().extracting(TransferProcess::getState).isEqualTo(COMPLETED.code());
+            assertThat(store.findByIdAndLease("id")).isFailed();
+        }
+    }
+
 }
@@ -27,8 +27,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.controlplane.store.sql.transferprocess.SqlTransferProcessStoreExtension.CONCURRENCY_MODE_SETTING;
 import static org.eclipse.edc.connector.controlplane.store.sql.transferprocess.SqlTransferProcessStoreExtension.DATASOURCE_NAME_SETTING;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -46,6 +48,7 @@ public class SqlTransferProcessStoreExtensionTest {
         var config = mock(Config.class);
         when(context.getConfig()).thenReturn(config);
         when(config.getString(any(), any())).thenReturn("test");
+        when(config.getString(eq(CONCURRENCY_MODE_SETTING), any())).thenReturn("optimistic");
 
         extension.initialize(context);
 
@@ -53,5 +56,6 @@ public class SqlTransferProcessStoreExtensionTest {
         assertThat(service).isInstanceOf(SqlTransferProcessStore.class);
 
         verify(config).getString(DATASOURCE_NAME_SETTING, DataSourceRegistry.DEFAULT_DATASOURCE);
+        verify(config).getString(CONCURRENCY_MODE_SETTING, "lease");
     }
 }
@@ -21,11 +21,13 @@ import org.eclipse.edc.connector.controlplane.transfer.spi.flow.DataFlowProperti
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.DataFlowResponse;
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
 import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelectorService;
+import org.eclipse.edc.connector.dataplane.selector.spi.client.DataPlaneClient;
 import org.eclipse.edc.connector.dataplane.selector.spi.client.DataPlaneClientFactory;
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.response.ResponseStatus;
 import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowResponseMessage;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
 import org.eclipse.edc.spi.types.domain.transfer.FlowType;
 import org.jetbrains.annotations.NotNull;
@@ -34,6 +36,7 @@ import java.util.Collection;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 
 import static java.util.stream.Collectors.toSet;
@@ -71,39 +74,20 @@ public class DataPlaneSignalingFlowController implements DataFlowController {
 
     @Override
     public @NotNull StatusResult<DataFlowResponse> start(TransferProcess transferProcess, Policy policy) {
-        var flowType = extractFlowType(transferProcess);
-        if (flowType.failed()) {
-            return StatusResult.failure(ResponseStatus.FATAL_ERROR, flowType.getFailureDetail());
-        }
+        return prepareStart(transferProcess, policy)
+                .compose(start -> start.client().start(start.message()).map(start::toResponse));
+    }
 
-        var propertiesResult = propertiesProvider.propertiesFor(transferProcess, policy);
-        if (propertiesResult.failed()) {
-            return StatusResult.failure(ResponseStatus.FATAL_ERROR, propertiesResult.getFailureDetail());
+    @Override
+    public @NotNull CompletableFuture<StatusResult<DataFlowResponse>> startAsync(TransferProcess transferProcess, Policy policy) {
+        var prepared = prepareStart(transferProcess, policy);
+        if (prepared.failed()) {
+            return CompletableFuture.completedFuture(StatusResult.failure(ResponseStatus.FATAL_ERROR, prepared.getFailureDetail()));
         }
 
-        var dataPlaneInstance = selectorClient.select(transferProcess.getContentDataAddress(), transferProcess.getDataDestination(), selectionStrategy, transferProcess.getTransferType());
-        var dataFlowRequest = DataFlowStartMessage.Builder.newInstance()
-                .id(UUID.randomUUID().toString())
-                .processId(transferProcess.getId())
-                .sourceDataAddress(transferProcess.getContentDataAddress())
-                .destinationDataAddress(transferProcess.getDataDestination())
-                .participantId(policy.getAssignee())
-                .agreementId(transferProcess.getContractId())
-                .assetId(transferProcess.getAssetId())
-                .flowType(flowType.getContent())
-                .callbackAddress(callbackUrl != null ? callbackUrl.get() : null)
-                .properties(propertiesResult.getContent())
-                .build();
-
-        var dataPlaneInstanceId = dataPlaneInstance != null ? dataPlaneInstance.getId() : null;
-
-        return clientFactory.createClient(dataPlaneInstance)
-                .start(dataFlowRequest)
-                .map(it -> DataFlowResponse.Builder.newInstance()
-                        .dataAddress(it.getDataAddress())
-                        .dataPlaneId(dataPlaneInstanceId)
-                        .build()
-                );
+        var start = prepared.getContent();
+        return start.client().startAsync(start.message())
+                .thenApply(result -> result.map(start::toResponse));
     }
 
     @Override
@@ -135,6 +119,36 @@ public class DataPlaneSignalingFlowController implements DataFlowController {
                 .collect(toSet());
     }
 
+    private StatusResult<PreparedStart> prepareStart(TransferProcess transferProcess, Policy policy) {
+        var flowType = extractFlowType(transferProcess);
+        if (flowType.failed()) {
+            return StatusResult.failure(ResponseStatus.FATAL_ERROR, flowType.getFailureDetail());
+        }
+
+        var propertiesResult = propertiesProvider.propertiesFor(transferProcess, policy);
+        if (propertiesResult.failed()) {
+            return StatusResult.failure(ResponseStatus.FATAL_ERROR, propertiesResult.getFailureDetail());
+        }
+
+        var dataPlaneInstance = selectorClient.select(transferProcess.getContentDataAddress(), transferProcess.getDataDestination(), selectionStrategy, transferProcess.getTransferType());
+        var dataFlowRequest = DataFlowStartMessage.Builder.newInstance()
+                .id(UUID.randomUUID().toString())
+                .processId(transferProcess.getId())
+                .sourceDataAddress(transferProcess.getContentDataAddress())
+                .destinationDataAddress(transferProcess.getDataDestination())
+                .participantId(policy.getAssignee())
+                .agreementId(transferProcess.getContractId())
+                .assetId(transferProcess.getAssetId())
+                .flowType(flowType.getContent())
+                .callbackAddress(callbackUrl != null ? callbackUrl.get() : null)
+                .properties(propertiesResult.getContent())
+                .build();
+
+        var dataPlaneInstanceId = dataPlaneInstance != null ? dataPlaneInstance.getId() : null;
+
+        return StatusResult.success(new PreparedStart(clientFactory.createClient(dataPlaneInstance), dataFlowRequest, dataPlaneInstanceId));
+    }
+
     private StatusResult<FlowType> extractFlowType(TransferProcess transferProcess) {
         return Optional.ofNullable(transferProcess.getTransferType())
                 .map(transferType -> transferType.split("-"))
@@ -159,4 +173,14 @@ public class DataPlaneSignalingFlowController implements DataFlowController {
             return d -> true;
         }
     }
+
+    private record PreparedStart(DataPlaneClient client, DataFlowStartMessage message, String dataPlaneId) {
+
+        DataFlowResponse toResponse(DataFlowResponseMessage responseMessage) {
+            return DataFlowResponse.Builder.newInstance()
+                    .dataAddress(responseMessage.getDataAddress())
+                    .dataPlaneId(dataPlaneId)
+                    .build();
+        }
+    }
 }
@@ -23,6 +23,7 @@ import org.eclipse.edc.connector.dataplane.selector.spi.client.DataPlaneClient;
 import org.eclipse.edc.connector.dataplane.selector.spi.client.DataPlaneClientFactory;
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
 import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.response.ResponseFailure;
 import org.eclipse.edc.spi.response.ResponseStatus;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.types.domain.DataAddress;
@@ -39,13 +40,18 @@ import java.net.URI;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 public class DataPlaneSignalingFlowControllerTest {
@@ -217,6 +223,43 @@ public class DataPlaneSignalingFlowControllerTest {
         assertThat(result.getFailureMessages()).allSatisfy(s -> assertThat(s).contains(errorMsg));
     }
 
+    @Test
+    void initiateFlowAsync_shouldStartWithoutBlocking() {
+        var policy = Policy.Builder.newInstance().assignee("participantId").build();
+        var transferProcess = transferProcessBuilder()
+                .transferType(HTTP_DATA_PULL)
+                .contentDataAddress(testDataAddress())
+                .build();
+
+        when(propertiesProvider.propertiesFor(any(), any())).thenReturn(StatusResult.success(Map.of()));
+        when(dataPlaneClient.startAsync(any(DataFlowStartMessage.class))).thenReturn(CompletableFuture.completedFuture(StatusResult.success(mock(DataFlowResponseMessage.class))));
+        var dataPlaneInstance = createDataPlaneInstance();
+        when(selectorService.select(any(), any(), any(), eq(HTTP_DATA_PULL))).thenReturn(dataPlaneInstance);
+        when(dataPlaneClientFactory.createClient(any())).thenReturn(dataPlaneClient);
+
+        var future = flowController.startAsync(transferProcess, policy);
+
+        assertThat(future).succeedsWithin(1, SECONDS).satisfies(result -> assertThat(result).isSucceeded()
+                .extracting(DataFlowResponse::getDataPlaneId).isEqualTo(dataPlaneInstance.getId()));
+        verify(dataPlaneClient).startAsync(argThat(message -> message.getProcessId().equals(transferProcess.getId())));
+        verify(dataPlaneClient, never()).start(any());
+    }
+
+    @Test
+    void initiateFlowAsync_shouldReturnFailedResult_whenPropertiesResolveFails() {
+        var transferProcess = transferProcessBuilder()
+                .contentDataAddress(testDataAddress())
+                .transferType(HTTP_DATA_PULL)
+                .build();
+        when(propertiesProvider.propertiesFor(any(), any())).thenReturn(StatusResult.failure(ResponseStatus.FATAL_ERROR, "error"));
+
+        var future = flowController.startAsync(transferProcess, Policy.Builder.newInstance().build());
+
+        assertThat(future).succeedsWithin(1, SECONDS).satisfies(result -> assertThat(result).isFailed()
+                .extracting(ResponseFailure::status).isEqualTo(ResponseStatus.FATAL_ERROR));
+        verifyNoInteractions(dataPlaneClientFactory);
+    }
+
     @Test
     void terminate_shouldCallTerminate() {
         var transferProcess = transferProcessBuilder()
@@ -22,6 +22,7 @@ dependencies {
     api(project(":core:common:token-core"))
 
     implementation(project(":spi:common:keys-spi"))
+    implementation(project(":core:common:lib:util-lib"))
 
     testImplementation(project(":core:common:junit"))
     testImplementation(libs.restAssured)
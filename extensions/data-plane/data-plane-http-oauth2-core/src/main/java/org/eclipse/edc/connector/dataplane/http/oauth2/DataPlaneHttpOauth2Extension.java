@@ -20,11 +20,14 @@ import org.eclipse.edc.iam.oauth2.spi.client.Oauth2Client;
 import org.eclipse.edc.keys.spi.PrivateKeyResolver;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
 import java.time.Clock;
+import java.time.Duration;
 
 /**
  * Provides support for adding OAuth2 authentication to http data transfer
@@ -32,6 +35,10 @@ import java.time.Clock;
 @Extension(value = DataPlaneHttpOauth2Extension.NAME)
 public class DataPlaneHttpOauth2Extension implements ServiceExtension {
     public static final String NAME = "Data Plane HTTP OAuth2";
+    public static final long DEFAULT_TOKEN_EXPIRATION_MARGIN = 30;
+
+    @Setting(value = "Seconds before their expiration in which the cached OAuth2 tokens are not used anymore", defaultValue = DEFAULT_TOKEN_EXPIRATION_MARGIN + "", type = "long")
+    public static final String TOKEN_EXPIRATION_MARGIN = "edc.dataplane.http.oauth2.token.expiration-margin";
 
     @Inject
     private Clock clock;
@@ -48,6 +55,9 @@ public class DataPlaneHttpOauth2Extension implements ServiceExtension {
     @Inject
     private Oauth2Client oauth2Client;
 
+    @Inject
+    private MetricsRecorder metrics;
+
     @Override
     public String name() {
         return NAME;
@@ -56,7 +66,9 @@ public class DataPlaneHttpOauth2Extension implements ServiceExtension {
     @Override
     public void initialize(ServiceExtensionContext context) {
         var requestFactory = new Oauth2CredentialsRequestFactory(privateKeyResolver, clock, vault, context.getMonitor());
-        var oauth2ParamsDecorator = new Oauth2HttpRequestParamsDecorator(requestFactory, oauth2Client);
+        var expirationMargin = Duration.ofSeconds(context.getSetting(TOKEN_EXPIRATION_MARGIN, DEFAULT_TOKEN_EXPIRATION_MARGIN));
+        var tokenCache = new Oauth2TokenCache(clock, expirationMargin, metrics);
+        var oauth2ParamsDecorator = new Oauth2HttpRequestParamsDecorator(requestFactory, oauth2Client, tokenCache);
 
         paramsProvider.registerSinkDecorator(oauth2ParamsDecorator);
         paramsProvider.registerSourceDecorator(oauth2ParamsDecorator);
@@ -29,22 +29,30 @@ public class Oauth2HttpRequestParamsDecorator implements HttpParamsDecorator {
 
     private final Oauth2CredentialsRequestFactory requestFactory;
     private final Oauth2Client client;
+    private final Oauth2TokenCache tokenCache;
     private final Oauth2DataAddressValidator validator = new Oauth2DataAddressValidator();
 
-    public Oauth2HttpRequestParamsDecorator(Oauth2CredentialsRequestFactory requestFactory, Oauth2Client client) {
+    public Oauth2HttpRequestParamsDecorator(Oauth2CredentialsRequestFactory requestFactory, Oauth2Client client, Oauth2TokenCache tokenCache) {
         this.requestFactory = requestFactory;
         this.client = client;
+        this.tokenCache = tokenCache;
     }
 
     @Override
     public HttpRequestParams.Builder decorate(DataFlowStartMessage request, HttpDataAddress address, HttpRequestParams.Builder params) {
         if (validator.test(address)) {
-            return requestFactory.create(address)
-                    .compose(client::requestToken)
+            return tokenCache.getToken(address, () -> requestFactory.create(address).compose(client::requestToken))
                     .map(tokenRepresentation -> params.header("Authorization", "Bearer " + tokenRepresentation.getToken()))
                     .orElseThrow(failure -> new EdcException("Cannot authenticate through OAuth2: " + failure.getFailureDetail()));
         } else {
             return params;
         }
     }
+
+    @Override
+    public void invalidate(DataFlowStartMessage request, HttpDataAddress address) {
+        if (validator.test(address)) {
+            tokenCache.invalidate(address);
+        }
+    }
 }
@@ -0,0 +1,148 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.http.oauth2;
+
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.system.MetricsRecorder;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.util.concurrency.StripedLock;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static org.eclipse.edc.iam.oauth2.spi.Oauth2DataAddressSchema.CLIENT_ID;
+import static org.eclipse.edc.iam.oauth2.spi.Oauth2DataAddressSchema.CLIENT_SECRET_KEY;
+import static org.eclipse.edc.iam.oauth2.spi.Oauth2DataAddressSchema.PRIVATE_KEY_NAME;
+import static org.eclipse.edc.iam.oauth2.spi.Oauth2DataAddressSchema.SCOPE;
+import static org.eclipse.edc.iam.oauth2.spi.Oauth2DataAddressSchema.TOKEN_URL;
+
+/**
+ * Caches the OAuth2 access tokens obtained for a {@link DataAddress}, keyed by token url, client id, scope and
+ * credentials, until they expire (minus a safety margin). Tokens without an {@code expires_in} are not cached.
+ * <p>
+ * Concurrent requests for the same key while there's no valid token are serialized, so only one of them actually
+ * requests the token and the others get it from the cache.
+ */
+public class Oauth2TokenCache {
+
+    public static final String CACHE_HITS_METRIC = "edc.dataplane.oauth2.token.cache.hits";
+    public static final String CACHE_MISSES_METRIC = "edc.dataplane.oauth2.token.cache.misses";
+    public static final String CACHE_SIZE_METRIC = "edc.dataplane.oauth2.token.cache.size";
+
+    private static final int EXPIRED_CLEANUP_THRESHOLD = 1000;
+
+    private final Map<TokenKey, CachedToken> tokens = new ConcurrentHashMap<>();
+    private final StripedLock lock = new StripedLock();
+    private final Clock clock;
+    private final Duration expirationMargin;
+    private final MetricsRecorder metrics;
+
+    public Oauth2TokenCache(Clock clock, Duration expirationMargin, MetricsRecorder metrics) {
+        this.clock = clock;
+        this.expirationMargin = expirationMargin;
+        this.metrics = metrics;
+        metrics.gauge(CACHE_SIZE_METRIC, tokens::size);
+    }
+
+    /**
+     * Get the cached token for the address, or request a new one.
+     *
+     * @param address       the data address.
+     * @param tokenSupplier requests a new token.
+     * @return the token, or the failure of the token request.
+     */
+    public Result<TokenRepresentation> getToken(DataAddress address, Supplier<Result<TokenRepresentation>> tokenSupplier) {
+        var key = TokenKey.of(address);
+        var cached = validToken(key);
+        if (cached != null) {
+            metrics.increment(CACHE_HITS_METRIC, 1);
+            return Result.success(cached);
+        }
+
+        return lock.withLock(key, () -> {
+            // another thread could have obtained the token in the meantime
+            var token = validToken(key);
+            if (token != null) {
+                metrics.increment(CACHE_HITS_METRIC, 1);
+                return Result.success(token);
+            }
+
+            metrics.increment(CACHE_MISSES_METRIC, 1);
+            var result = tokenSupplier.get();
+            if (result.succeeded()) {
+                store(key, result.getContent());
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Discard the cached token for the address, e.g. because the backend rejected it.
+     *
+     * @param address the data address.
+     */
+    public void invalidate(DataAddress address) {
+        tokens.remove(TokenKey.of(address));
+    }
+
+    private TokenRepresentation validToken(TokenKey key) {
+        var cached = tokens.get(key);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expiresAt() <= clock.millis()) {
+            tokens.remove(key, cached);
+            return null;
+        }
+        return cached.token();
+    }
+
+    private void store(TokenKey key, TokenRepresentation token) {
+        var expiresIn = token.getExpiresIn();
+        if (expiresIn == null) {
+            return;
+        }
+
+        var now = clock.millis();
+        var expiresAt = now + Duration.ofSeconds(expiresIn).minus(expirationMargin).toMillis();
+        if (expiresAt <= now) {
+            return;
+        }
+
+        if (tokens.size() >= EXPIRED_CLEANUP_THRESHOLD) {
+            tokens.values().removeIf(it -> it.expiresAt() <= now);
+        }
+        tokens.put(key, new CachedToken(token, expiresAt));
+    }
+
+    private record TokenKey(String tokenUrl, String clientId, String scope, String credentials) {
+
+        static TokenKey of(DataAddress address) {
+            var credentials = address.getStringProperty(PRIVATE_KEY_NAME);
+            if (credentials == null) {
+                credentials = address.getStringProperty(CLIENT_SECRET_KEY);
+            }
+            return new TokenKey(address.getStringProperty(TOKEN_URL), address.getStringProperty(CLIENT_ID),
+                    address.getStringProperty(SCOPE), credentials);
+        }
+    }
+
+    private record CachedToken(TokenRepresentation token, long expiresAt) {
+    }
+}
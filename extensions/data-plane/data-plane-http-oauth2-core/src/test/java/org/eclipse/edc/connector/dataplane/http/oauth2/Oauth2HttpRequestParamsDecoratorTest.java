@@ -21,9 +21,12 @@ import org.eclipse.edc.iam.oauth2.spi.client.SharedSecretOauth2CredentialsReques
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.iam.TokenRepresentation;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.UUID;
 
 import static java.util.Collections.emptyMap;
@@ -35,6 +38,8 @@ import static org.eclipse.edc.iam.oauth2.spi.Oauth2DataAddressSchema.CLIENT_SECR
 import static org.eclipse.edc.iam.oauth2.spi.Oauth2DataAddressSchema.TOKEN_URL;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
@@ -43,7 +48,8 @@ class Oauth2HttpRequestParamsDecoratorTest {
     private final Oauth2CredentialsRequestFactory requestFactory = mock(Oauth2CredentialsRequestFactory.class);
     private final Oauth2Client client = mock(Oauth2Client.class);
 
-    private final Oauth2HttpRequestParamsDecorator decorator = new Oauth2HttpRequestParamsDecorator(requestFactory, client);
+    private final Oauth2HttpRequestParamsDecorator decorator = new Oauth2HttpRequestParamsDecorator(requestFactory, client,
+            new Oauth2TokenCache(Clock.systemUTC(), Duration.ofSeconds(30), MetricsRecorder.noop()));
 
     @Test
     void requestOauth2TokenAndSetItOnRequest() {
@@ -59,6 +65,38 @@ class Oauth2HttpRequestParamsDecoratorTest {
                 .containsEntry("Authorization", "Bearer token-test");
     }
 
+    @Test
+    void shouldReuseCachedToken() {
+        var httpAddress = httpDataAddressWithOauth2Properties();
+        when(requestFactory.create(any())).thenReturn(Result.success(createRequest()));
+        when(client.requestToken(any())).thenReturn(Result.success(TokenRepresentation.Builder.newInstance().token("token-test").expiresIn(3600L).build()));
+
+        decorator.decorate(dummyDataFlowRequest(), httpAddress, HttpRequestParams.Builder.newInstance().baseUrl("http://any").method("GET"));
+        var result = decorator.decorate(dummyDataFlowRequest(), httpAddress, HttpRequestParams.Builder.newInstance().baseUrl("http://any").method("GET")).build();
+
+        assertThat(result.getHeaders()).asInstanceOf(map(String.class, String.class))
+                .containsEntry("Authorization", "Bearer token-test");
+        verify(requestFactory).create(any());
+        verify(client).requestToken(any());
+    }
+
+    @Test
+    void shouldRequestNewToken_whenInvalidated() {
+        var httpAddress = httpDataAddressWithOauth2Properties();
+        when(requestFactory.create(any())).thenReturn(Result.success(createRequest()));
+        when(client.requestToken(any())).thenReturn(
+                Result.success(TokenRepresentation.Builder.newInstance().token("rejected").expiresIn(3600L).build()),
+                Result.success(TokenRepresentation.Builder.newInstance().token("fresh").expiresIn(3600L).build()));
+
+        decorator.decorate(dummyDataFlowRequest(), httpAddress, HttpRequestParams.Builder.newInstance().baseUrl("http://any").method("GET"));
+        decorator.invalidate(dummyDataFlowRequest(), httpAddress);
+        var result = decorator.decorate(dummyDataFlowRequest(), httpAddress, HttpRequestParams.Builder.newInstance().baseUrl("http://any").method("GET")).build();
+
+        assertThat(result.getHeaders()).asInstanceOf(map(String.class, String.class))
+                .containsEntry("Authorization", "Bearer fresh");
+        verify(client, times(2)).requestToken(any());
+    }
+
     @Test
     void shouldThrowExceptionIfCannotBuildRequest() {
         var dataFlowRequest = dummyDataFlowRequest();
@@ -0,0 +1,167 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.http.oauth2;
+
+import org.eclipse.edc.connector.dataplane.http.spi.HttpDataAddress;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.system.MetricsRecorder;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.dataplane.http.oauth2.Oauth2TokenCache.CACHE_HITS_METRIC;
+import static org.eclipse.edc.connector.dataplane.http.oauth2.Oauth2TokenCache.CACHE_MISSES_METRIC;
+import static org.eclipse.edc.iam.oauth2.spi.Oauth2DataAddressSchema.CLIENT_ID;
+import static org.eclipse.edc.iam.oauth2.spi.Oauth2DataAddressSchema.CLIENT_SECRET_KEY;
+import static org.eclipse.edc.iam.oauth2.spi.Oauth2DataAddressSchema.SCOPE;
+import static org.eclipse.edc.iam.oauth2.spi.Oauth2DataAddressSchema.TOKEN_URL;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class Oauth2TokenCacheTest {
+
+    private final Clock clock = mock();
+    private final MetricsRecorder metrics = mock();
+    private final Oauth2TokenCache cache = new Oauth2TokenCache(clock, Duration.ofSeconds(30), metrics);
+
+    @Test
+    void getToken_shouldReturnCachedToken_whenNotExpired() {
+        when(clock.millis()).thenReturn(0L, 0L, 1000L);
+        Supplier<Result<TokenRepresentation>> supplier = mock();
+        when(supplier.get()).thenReturn(Result.success(token("token", 60L)));
+
+        var first = cache.getToken(address("scope"), supplier);
+        var second = cache.getToken(address("scope"), supplier);
+
+        assertThat(second.getContent()).isSameAs(first.getContent());
+        verify(supplier).get();
+        verify(metrics).increment(CACHE_MISSES_METRIC, 1);
+        verify(metrics).increment(CACHE_HITS_METRIC, 1);
+    }
+
+    @Test
+    void getToken_shouldRequestNewToken_whenExpirationMarginReached() {
+        when(clock.millis()).thenReturn(0L, 30_000L);
+        Supplier<Result<TokenRepresentation>> supplier = mock();
+        when(supplier.get()).thenReturn(Result.success(token("first", 60L)), Result.success(token("second", 60L)));
+
+        cache.getToken(address("scope"), supplier);
+        var result = cache.getToken(address("scope"), supplier);
+
+        assertThat(result.getContent().getToken()).isEqualTo("second");
+        verify(supplier, times(2)).get();
+    }
+
+    @Test
+    void getToken_shouldNotCache_whenExpirationIsUnknown() {
+        when(clock.millis()).thenReturn(0L);
+        Supplier<Result<TokenRepresentation>> supplier = mock();
+        when(supplier.get()).thenReturn(Result.success(token("token", null)));
+
+        cache.getToken(address("scope"), supplier);
+        cache.getToken(address("scope"), supplier);
+
+        verify(supplier, times(2)).get();
+    }
+
+    @Test
+    void getToken_shouldNotCacheFailures() {
+        when(clock.millis()).thenReturn(0L);
+        Supplier<Result<TokenRepresentation>> supplier = mock();
+        when(supplier.get()).thenReturn(Result.failure("error"));
+
+        var result = cache.getToken(address("scope"), supplier);
+        cache.getToken(address("scope"), supplier);
+
+        assertThat(result.failed()).isTrue();
+        verify(supplier, times(2)).get();
+    }
+
+    @Test
+    void getToken_shouldCacheByScope() {
+        when(clock.millis()).thenReturn(0L);
+        Supplier<Result<TokenRepresentation>> supplier = mock();
+        when(supplier.get()).thenReturn(Result.success(token("first", 60L)), Result.success(token("second", 60L)));
+
+        var first = cache.getToken(address("scope-a"), supplier);
+        var second = cache.getToken(address("scope-b"), supplier);
+
+        assertThat(first.getContent().getToken()).isEqualTo("first");
+        assertThat(second.getContent().getToken()).isEqualTo("second");
+    }
+
+    @Test
+    void getToken_shouldRequestTokenOnce_whenCalledConcurrently() throws InterruptedException {
+        when(clock.millis()).thenReturn(0L);
+        var requests = new AtomicInteger();
+        var started = new CountDownLatch(1);
+        Supplier<Result<TokenRepresentation>> supplier = () -> {
+            requests.incrementAndGet();
+            started.countDown();
+            return Result.success(token("token", 60L));
+        };
+        var executor = Executors.newFixedThreadPool(8);
+
+        var futures = IntStream.range(0, 8)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> cache.getToken(address("scope"), supplier), executor))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).join();
+        executor.shutdownNow();
+
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(requests.get()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidate_shouldDiscardToken() {
+        when(clock.millis()).thenReturn(0L);
+        Supplier<Result<TokenRepresentation>> supplier = mock();
+        when(supplier.get()).thenReturn(Result.success(token("token", 60L)));
+
+        cache.getToken(address("scope"), supplier);
+        cache.invalidate(address("scope"));
+        cache.getToken(address("scope"), supplier);
+
+        verify(supplier, times(2)).get();
+        verify(metrics, times(2)).increment(eq(CACHE_MISSES_METRIC), eq(1d));
+    }
+
+    private TokenRepresentation token(String token, Long expiresIn) {
+        return TokenRepresentation.Builder.newInstance().token(token).expiresIn(expiresIn).build();
+    }
+
+    private DataAddress address(String scope) {
+        return HttpDataAddress.Builder.newInstance()
+                .property(TOKEN_URL, "http://token")
+                .property(CLIENT_ID, "client")
+                .property(CLIENT_SECRET_KEY, "secret-key")
+                .property(SCOPE, scope)
+                .build();
+    }
+}
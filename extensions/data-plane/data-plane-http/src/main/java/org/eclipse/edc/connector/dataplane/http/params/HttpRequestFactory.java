@@ -63,7 +63,19 @@ public class HttpRequestFactory {
      * @return HTTP request.
      */
     public Request toRequest(HttpRequestParams params, DataSource.Part part) {
-        return toRequest(params, createRequestBody(params, part::openStream, part.mediaType()));
+        return toRequest(params, part::openStream, part.mediaType());
+    }
+
+    /**
+     * Creates HTTP request from the provided set of parameters and the request body supplier.
+     *
+     * @param params       the http request parameters.
+     * @param bodySupplier the request body supplier.
+     * @param contentType  the request body content type.
+     * @return HTTP request.
+     */
+    public Request toRequest(HttpRequestParams params, Supplier<InputStream> bodySupplier, String contentType) {
+        return toRequest(params, createRequestBody(params, bodySupplier, contentType));
     }
 
     @NotNull
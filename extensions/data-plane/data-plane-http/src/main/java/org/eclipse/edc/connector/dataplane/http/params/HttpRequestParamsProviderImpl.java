@@ -67,4 +67,18 @@ public class HttpRequestParamsProviderImpl implements HttpRequestParamsProvider
         return params.build();
     }
 
+    @Override
+    public HttpRequestParams refreshSourceParams(DataFlowStartMessage request) {
+        var address = HttpDataAddress.Builder.newInstance().copyFrom(request.getSourceDataAddress()).build();
+        sourceDecorators.forEach(decorator -> decorator.invalidate(request, address));
+        return provideSourceParams(request);
+    }
+
+    @Override
+    public HttpRequestParams refreshSinkParams(DataFlowStartMessage request) {
+        var address = HttpDataAddress.Builder.newInstance().copyFrom(request.getDestinationDataAddress()).build();
+        sinkDecorators.forEach(decorator -> decorator.invalidate(request, address));
+        return provideSinkParams(request);
+    }
+
 }
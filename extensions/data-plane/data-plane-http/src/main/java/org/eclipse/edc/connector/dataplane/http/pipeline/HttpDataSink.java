@@ -22,8 +22,11 @@ import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.connector.dataplane.util.sink.ParallelSink;
 import org.eclipse.edc.http.spi.EdcHttpClient;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 import static java.lang.String.format;
 
@@ -32,29 +35,55 @@ import static java.lang.String.format;
  */
 public class HttpDataSink extends ParallelSink {
     private static final StreamResult<Object> ERROR_WRITING_DATA = StreamResult.error("Error writing data");
+    private static final int UNAUTHORIZED = 401;
 
-    private HttpRequestParams params;
+    private volatile HttpRequestParams params;
+    private Supplier<HttpRequestParams> paramsRefresher;
     private EdcHttpClient httpClient;
     private HttpRequestFactory requestFactory;
 
     @Override
     protected StreamResult<Object> transferParts(List<DataSource.Part> parts) {
         for (var part : parts) {
-            var request = requestFactory.toRequest(params, part);
-            try (var response = httpClient.execute(request)) {
-                if (!response.isSuccessful()) {
-                    monitor.severe(format("Error {%s: %s} received writing HTTP data %s to endpoint %s for request: %s",
-                            response.code(), response.message(), part.name(), request.url().url(), request));
-                    return ERROR_WRITING_DATA;
+            var sentStream = new AtomicReference<InputStream>();
+            var code = send(params, part, () -> {
+                var stream = part.openStream();
+                sentStream.set(stream);
+                return stream;
+            });
+            if (code == UNAUTHORIZED && paramsRefresher != null) {
+                // a part that cannot be read again returns the stream that has already been sent, it cannot be retried
+                var stream = part.openStream();
+                if (stream != sentStream.get()) {
+                    monitor.debug(() -> "Retrying HTTP data %s with refreshed credentials".formatted(part.name()));
+                    params = paramsRefresher.get();
+                    code = send(params, part, () -> stream);
                 }
-            } catch (Exception e) {
-                monitor.severe(format("Error writing HTTP data %s to endpoint %s for request: %s", part.name(), request.url().url(), request), e);
+            }
+            if (code < 200 || code >= 300) {
                 return ERROR_WRITING_DATA;
             }
         }
         return StreamResult.success();
     }
 
+    /**
+     * Send the part, returning the response code, or -1 if the request failed.
+     */
+    private int send(HttpRequestParams params, DataSource.Part part, Supplier<InputStream> bodySupplier) {
+        var request = requestFactory.toRequest(params, bodySupplier, part.mediaType());
+        try (var response = httpClient.execute(request)) {
+            if (!response.isSuccessful()) {
+                monitor.severe(format("Error {%s: %s} received writing HTTP data %s to endpoint %s for request: %s",
+                        response.code(), response.message(), part.name(), request.url().url(), request));
+            }
+            return response.code();
+        } catch (Exception e) {
+            monitor.severe(format("Error writing HTTP data %s to endpoint %s for request: %s", part.name(), request.url().url(), request), e);
+            return -1;
+        }
+    }
+
     private HttpDataSink() {
     }
 
@@ -73,6 +102,15 @@ public class HttpDataSink extends ParallelSink {
             return this;
         }
 
+        /**
+         * Provides the params again after the endpoint answered 401, the part gets retried once with them if it can be
+         * read again.
+         */
+        public Builder paramsRefresher(Supplier<HttpRequestParams> paramsRefresher) {
+            sink.paramsRefresher = paramsRefresher;
+            return this;
+        }
+
         public Builder httpClient(EdcHttpClient httpClient) {
             sink.httpClient = httpClient;
             return this;
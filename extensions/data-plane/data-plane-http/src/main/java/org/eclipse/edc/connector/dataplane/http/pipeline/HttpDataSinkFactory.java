@@ -73,6 +73,7 @@ public class HttpDataSinkFactory implements DataSinkFactory {
     public DataSink createSink(DataFlowStartMessage request) {
         return HttpDataSink.Builder.newInstance()
                 .params(requestParamsProvider.provideSinkParams(request))
+                .paramsRefresher(() -> requestParamsProvider.refreshSinkParams(request))
                 .requestId(request.getId())
                 .partitionSize(partitionSize)
                 .httpClient(httpClient)
@@ -19,8 +19,9 @@ import okhttp3.MediaType;
 import okhttp3.ResponseBody;
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
-import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.ResumableDataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferCheckpoint;
 import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
@@ -30,6 +31,7 @@ import java.io.InputStream;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
@@ -37,25 +39,44 @@ import static org.eclipse.edc.connector.dataplane.http.spi.HttpDataAddress.OCTET
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.error;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.success;
 
-public class HttpDataSource implements DataSource {
+public class HttpDataSource implements ResumableDataSource {
+    private static final int PARTIAL_CONTENT = 206;
     private static final int FORBIDDEN = 401;
     private static final int NOT_AUTHORIZED = 403;
     private static final int NOT_FOUND = 404;
 
     private String name;
     private HttpRequestParams params;
+    private Supplier<HttpRequestParams> paramsRefresher;
     private String requestId;
     private Monitor monitor;
     private EdcHttpClient httpClient;
     private HttpRequestFactory requestFactory;
     private final AtomicReference<ResponseBodyStream> responseBodyStream = new AtomicReference<>();
+    private long offset = 0;
 
     private HttpDataSource() {
     }
 
+    @Override
+    public StreamResult<Void> seek(TransferCheckpoint checkpoint) {
+        if (!"GET".equals(params.getMethod())) {
+            return error(format("Cannot resume HTTP data source with method %s for request %s", params.getMethod(), requestId));
+        }
+        offset = checkpoint.bytesTransferred();
+        return success();
+    }
+
     @Override
     public StreamResult<Stream<Part>> openPartStream() {
+        return openPartStream(paramsRefresher != null);
+    }
+
+    private StreamResult<Stream<Part>> openPartStream(boolean retryUnauthorized) {
         var request = requestFactory.toRequest(params);
+        if (offset > 0) {
+            request = request.newBuilder().header("Range", "bytes=" + offset + "-").build();
+        }
         monitor.debug(() -> "Executing HTTP request: " + request.url());
         try {
             // NB: Do not close the response as the body input stream needs to be read after this method returns. The response closes the body stream.
@@ -66,12 +87,20 @@ public class HttpDataSource implements DataSource {
                     throw new EdcException(format("Received empty response body transferring HTTP data for request %s: %s", requestId, response.code()));
                 }
                 var stream = body.byteStream();
+                if (offset > 0 && response.code() != PARTIAL_CONTENT) {
+                    // the server ignored the range request, the already transferred bytes need to be skipped
+                    stream.skipNBytes(offset);
+                }
                 responseBodyStream.set(new ResponseBodyStream(body, stream));
                 var mediaType = Optional.ofNullable(body.contentType()).map(MediaType::toString).orElse(OCTET_STREAM);
                 return success(Stream.of(new HttpPart(name, stream, mediaType)));
             } else {
                 try {
-                    if (NOT_AUTHORIZED == response.code() || FORBIDDEN == response.code()) {
+                    if (FORBIDDEN == response.code() && retryUnauthorized) {
+                        // the credentials could have been cached and revoked in the meantime, they get obtained again once
+                        monitor.debug(() -> "Retrying HTTP request with refreshed credentials for request " + requestId);
+                        params = paramsRefresher.get();
+                    } else if (NOT_AUTHORIZED == response.code() || FORBIDDEN == response.code()) {
                         return StreamResult.notAuthorized();
                     } else if (NOT_FOUND == response.code()) {
                         return StreamResult.notFound();
@@ -85,6 +114,7 @@ public class HttpDataSource implements DataSource {
                         monitor.info("Error closing failed response", e);
                     }
                 }
+                return openPartStream(false);
             }
         } catch (IOException e) {
             throw new EdcException(e);
@@ -125,6 +155,14 @@ public class HttpDataSource implements DataSource {
             return this;
         }
 
+        /**
+         * Provides the params again after the endpoint answered 401, the request gets retried once with them.
+         */
+        public Builder paramsRefresher(Supplier<HttpRequestParams> paramsRefresher) {
+            dataSource.paramsRefresher = paramsRefresher;
+            return this;
+        }
+
         public Builder name(String name) {
             dataSource.name = name;
             return this;
@@ -72,6 +72,7 @@ public class HttpDataSourceFactory implements DataSourceFactory {
                 .requestId(request.getId())
                 .name(dataAddress.getName())
                 .params(requestParamsProvider.provideSourceParams(request))
+                .paramsRefresher(() -> requestParamsProvider.refreshSourceParams(request))
                 .requestFactory(requestFactory)
                 .build();
     }
@@ -23,7 +23,9 @@ import org.eclipse.edc.connector.dataplane.http.spi.HttpDataAddress;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParamsProvider;
 import org.eclipse.edc.connector.dataplane.http.testfixtures.TestFunctions;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.InputStreamDataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
@@ -37,17 +39,23 @@ import org.mockito.ArgumentMatchers;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.connector.dataplane.http.testfixtures.TestFunctions.createHttpResponse;
 import static org.eclipse.edc.dataaddress.httpdata.spi.HttpDataAddressSchema.HTTP_DATA_TYPE;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class HttpDataSinkFactoryTest {
@@ -114,7 +122,7 @@ class HttpDataSinkFactoryTest {
                 .build();
 
         // validate the generated data sink field by field using reflection
-        assertThat(sink).usingRecursiveComparison().isEqualTo(expected);
+        assertThat(sink).usingRecursiveComparison().ignoringFields("paramsRefresher").isEqualTo(expected);
     }
 
     @ParameterizedTest
@@ -128,7 +136,7 @@ class HttpDataSinkFactoryTest {
                 .contentType("application/json")
                 .build();
         when(provider.provideSinkParams(request)).thenReturn(params);
-        when(requestFactory.toRequest(any(), any())).thenReturn(createHttpRequest());
+        when(requestFactory.toRequest(any(), any(), any())).thenReturn(createHttpRequest());
         when(httpClient.execute(ArgumentMatchers.isA(Request.class))).thenReturn(createHttpResponse().build());
 
         var sink = factory.createSink(request);
@@ -139,6 +147,48 @@ class HttpDataSinkFactoryTest {
                 .satisfies(result -> assertThat(result.succeeded()).isTrue());
     }
 
+    @Test
+    void shouldRetryWithRefreshedParams_whenUnauthorized() throws IOException {
+        var address = HttpDataAddress.Builder.newInstance().build();
+        var request = createRequest(address);
+        var params = HttpRequestParams.Builder.newInstance().baseUrl("http://some.base.url").method("POST").contentType("application/json").build();
+        var refreshedParams = HttpRequestParams.Builder.newInstance().baseUrl("http://some.base.url").method("POST").contentType("application/json").build();
+        when(provider.provideSinkParams(request)).thenReturn(params);
+        when(provider.refreshSinkParams(request)).thenReturn(refreshedParams);
+        when(requestFactory.toRequest(any(), any(), any())).thenReturn(createHttpRequest());
+        when(httpClient.execute(ArgumentMatchers.isA(Request.class)))
+                .thenReturn(createHttpResponse().code(401).build(), createHttpResponse().build());
+        var sink = factory.createSink(request);
+
+        var future = sink.transfer(new FileDataSource("test".getBytes()));
+
+        assertThat(future).succeedsWithin(10, TimeUnit.SECONDS)
+                .satisfies(result -> assertThat(result.succeeded()).isTrue());
+        verify(provider).refreshSinkParams(request);
+        verify(requestFactory).toRequest(eq(refreshedParams), any(), any());
+    }
+
+    @Test
+    void shouldNotRetry_whenPartCannotBeReadAgain() throws IOException {
+        var address = HttpDataAddress.Builder.newInstance().build();
+        var request = createRequest(address);
+        var params = HttpRequestParams.Builder.newInstance().baseUrl("http://some.base.url").method("POST").contentType("application/json").build();
+        when(provider.provideSinkParams(request)).thenReturn(params);
+        when(requestFactory.toRequest(any(), any(), any())).thenAnswer(invocation -> {
+            // the body is read as the request gets sent
+            invocation.<Supplier<InputStream>>getArgument(1).get();
+            return createHttpRequest();
+        });
+        when(httpClient.execute(ArgumentMatchers.isA(Request.class))).thenReturn(createHttpResponse().code(401).build());
+        var sink = factory.createSink(request);
+
+        var future = sink.transfer(new InputStreamDataSource("test", new ByteArrayInputStream("test".getBytes())));
+
+        assertThat(future).succeedsWithin(10, TimeUnit.SECONDS)
+                .satisfies(result -> assertThat(result.succeeded()).isFalse());
+        verify(provider, never()).refreshSinkParams(any());
+    }
+
     private DataFlowStartMessage createRequest(DataAddress destination) {
         return DataFlowStartMessage.Builder.newInstance()
                 .id(UUID.randomUUID().toString())
@@ -148,6 +198,31 @@ class HttpDataSinkFactoryTest {
                 .build();
     }
 
+    /**
+     * Data source whose part can be read more than once, like a file.
+     */
+    private record FileDataSource(byte[] content) implements DataSource {
+
+        @Override
+        public StreamResult<Stream<Part>> openPartStream() {
+            return StreamResult.success(Stream.of(new Part() {
+                @Override
+                public String name() {
+                    return "test";
+                }
+
+                @Override
+                public InputStream openStream() {
+                    return new ByteArrayInputStream(content);
+                }
+            }));
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
     private Request createHttpRequest() {
         return new Request.Builder()
                 .url(Objects.requireNonNull(HttpUrl.parse("http://any")))
@@ -22,6 +22,7 @@ import okhttp3.ResponseBody;
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferCheckpoint;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
@@ -35,7 +36,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static okhttp3.Protocol.HTTP_1_1;
@@ -77,6 +80,46 @@ class HttpDataSourceTest {
         verify(requestFactory).toRequest(any());
     }
 
+    @Test
+    void seek_shouldRequestRange() {
+        var responseBody = ResponseBody.create("data", MediaType.parse("text/plain"));
+        var interceptor = new CustomInterceptor(206, responseBody, "Partial Content");
+        var params = HttpRequestParams.Builder.newInstance().method("GET").baseUrl("http://some.test.url/").build();
+        var source = defaultBuilder(interceptor).params(params).requestFactory(requestFactory).build();
+        when(requestFactory.toRequest(any())).thenReturn(dummyRequest());
+
+        var seekResult = source.seek(new TransferCheckpoint(0, 10, Map.of()));
+        var parts = source.openPartStream().getContent().toList();
+
+        assertThat(seekResult).isSucceeded();
+        assertThat(interceptor.getInterceptedRequest().header("Range")).isEqualTo("bytes=10-");
+        assertThat(parts).hasSize(1).first().satisfies(part -> assertThat(part.openStream()).hasContent("data"));
+    }
+
+    @Test
+    void seek_shouldSkipTransferredBytes_whenRangeIsNotSupported() {
+        var responseBody = ResponseBody.create("0123456789data", MediaType.parse("text/plain"));
+        var interceptor = new CustomInterceptor(200, responseBody, "OK");
+        var params = HttpRequestParams.Builder.newInstance().method("GET").baseUrl("http://some.test.url/").build();
+        var source = defaultBuilder(interceptor).params(params).requestFactory(requestFactory).build();
+        when(requestFactory.toRequest(any())).thenReturn(dummyRequest());
+
+        source.seek(new TransferCheckpoint(0, 10, Map.of()));
+        var parts = source.openPartStream().getContent().toList();
+
+        assertThat(parts).hasSize(1).first().satisfies(part -> assertThat(part.openStream()).hasContent("data"));
+    }
+
+    @Test
+    void seek_shouldFail_whenMethodIsNotGet() {
+        var params = HttpRequestParams.Builder.newInstance().method("POST").baseUrl("http://some.test.url/").build();
+        var source = defaultBuilder(mock(Interceptor.class)).params(params).requestFactory(requestFactory).build();
+
+        var result = source.seek(new TransferCheckpoint(0, 10, Map.of()));
+
+        assertThat(result).isFailed();
+    }
+
     @ParameterizedTest
     @ArgumentsSource(StreamFailureArguments.class)
     void verifyCallFailed(int code, StreamFailure.Reason reason) {
@@ -91,6 +134,24 @@ class HttpDataSourceTest {
         verify(requestFactory).toRequest(any());
     }
 
+    @Test
+    void shouldRetryOnceWithRefreshedParams_whenUnauthorized() {
+        var responseBody = ResponseBody.create("Test body", MediaType.parse("text/plain"));
+        var interceptor = new CustomInterceptor(401, responseBody, "Unauthorized");
+        HttpRequestParams refreshedParams = mock();
+        Supplier<HttpRequestParams> paramsRefresher = mock();
+        when(paramsRefresher.get()).thenReturn(refreshedParams);
+        var source = defaultBuilder(interceptor).params(mock()).paramsRefresher(paramsRefresher).requestFactory(requestFactory).build();
+        when(requestFactory.toRequest(any())).thenReturn(dummyRequest());
+
+        var result = source.openPartStream();
+
+        assertThat(result).isFailed().extracting(StreamFailure::getReason).isEqualTo(NOT_AUTHORIZED);
+        verify(paramsRefresher).get();
+        verify(requestFactory).toRequest(refreshedParams);
+        assertThat(interceptor.requests).hasSize(2);
+    }
+
     @Test
     void close_shouldCloseResponseBodyAndStream() throws IOException {
         InputStream stream = mock();
@@ -26,6 +26,8 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.regex.Pattern;
 
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.DELIVERY_MODE;
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.DELIVERY_MODE_FIRE_AND_FORGET;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.KAFKA_PROPERTIES_PREFIX;
 
 public class KafkaPropertiesFactory {
@@ -44,6 +46,10 @@ public class KafkaPropertiesFactory {
                 .map(props -> {
                     props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
                     props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class.getName());
+                    if (!DELIVERY_MODE_FIRE_AND_FORGET.equals(properties.get(DELIVERY_MODE))) {
+                        // acknowledged delivery requires the records to be replicated before being considered as sent
+                        props.putIfAbsent(ProducerConfig.ACKS_CONFIG, "all");
+                    }
                     return props;
                 });
     }
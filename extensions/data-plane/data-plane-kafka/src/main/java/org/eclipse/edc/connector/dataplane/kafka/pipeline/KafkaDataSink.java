@@ -17,25 +17,68 @@ package org.eclipse.edc.connector.dataplane.kafka.pipeline;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.ResumableDataSink;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferCheckpoint;
 import org.eclipse.edc.connector.dataplane.util.sink.ParallelSink;
 import org.eclipse.edc.spi.result.AbstractResult;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
-class KafkaDataSink extends ParallelSink implements Closeable {
+import static java.nio.charset.StandardCharsets.UTF_8;
 
+/**
+ * Publishes every part as a Kafka record, or as several records when the part is larger than the max record size.
+ * <p>
+ * In {@link DeliveryMode#ACKNOWLEDGED} mode, the transfer completes only once the producer has been flushed and every
+ * record has been acknowledged by the broker, and it fails if any of the records could not be delivered.
+ * <p>
+ * In both modes a part is closed, so that the source can acknowledge it, only once the broker acknowledged all of its
+ * records, and never if one of them could not be delivered.
+ */
+class KafkaDataSink extends ParallelSink implements ResumableDataSink, Closeable {
+
+    static final String CHUNK_INDEX_HEADER = "edc-chunk-index";
+    static final String LAST_CHUNK_HEADER = "edc-last-chunk";
+
+    private final AtomicLong outstandingSends = new AtomicLong();
+    private final AtomicReference<Exception> sendFailure = new AtomicReference<>();
     private String topic;
     private Producer<String, byte[]> producer;
+    private DeliveryMode deliveryMode = DeliveryMode.ACKNOWLEDGED;
+    private int maxRecordSize;
 
     private KafkaDataSink() {
     }
 
+    @Override
+    public CompletableFuture<StreamResult<Object>> transfer(DataSource source) {
+        return super.transfer(source).whenComplete((result, throwable) -> close());
+    }
+
+    /**
+     * Topics are append-only, so a transfer can be resumed as long as the source resumes at record level, i.e. it
+     * provides offsets in the checkpoint. Records published after the checkpoint may be published twice.
+     */
+    @Override
+    public StreamResult<Void> resumeFrom(TransferCheckpoint checkpoint) {
+        if (checkpoint.offsets().isEmpty()) {
+            return StreamResult.error("Kafka sink can only resume transfers from sources that track record offsets");
+        }
+        return StreamResult.success();
+    }
+
     @Override
     public void close() {
         if (producer != null) {
@@ -52,23 +95,119 @@ class KafkaDataSink extends ParallelSink implements Closeable {
                 .orElse(StreamResult.success());
     }
 
+    /**
+     * The records are sent asynchronously, the part gets closed by the producer callbacks.
+     */
+    @Override
+    protected void partTransferred(DataSource.Part part) {
+    }
+
+    @Override
+    protected StreamResult<Object> complete() {
+        if (deliveryMode == DeliveryMode.ACKNOWLEDGED) {
+            producer.flush();
+            var failure = sendFailure.get();
+            if (failure != null) {
+                return StreamResult.error("Failed to publish records to topic %s: %s".formatted(topic, failure.getMessage()));
+            }
+            if (outstandingSends.get() > 0) {
+                return StreamResult.error("%s records were not acknowledged for topic %s".formatted(outstandingSends.get(), topic));
+            }
+        }
+        return StreamResult.success();
+    }
+
     private StreamResult<Object> publishPart(DataSource.Part part) {
+        if (deliveryMode == DeliveryMode.ACKNOWLEDGED && sendFailure.get() != null) {
+            return StreamResult.error("Failed to publish records to topic %s: %s".formatted(topic, sendFailure.get().getMessage()));
+        }
+        var delivery = new PartDelivery(part);
         try (var is = part.openStream()) {
-            // asynchronous publishing
-            producer.send(new ProducerRecord<>(topic, null, is.readAllBytes()), (metadata, exception) -> {
-                if (exception != null) {
-                    monitor.warning("Failed to publish message:  " + metadata, exception);
-                }
-            });
+            if (maxRecordSize > 0) {
+                publishChunks(part.name(), is, delivery);
+            } else {
+                send(new ProducerRecord<>(topic, null, is.readAllBytes()), delivery);
+            }
+            delivery.allSent();
             return StreamResult.success();
         } catch (IOException e) {
             return StreamResult.error("Failed to open part with name: " + part.name());
+        } catch (Exception e) {
+            return StreamResult.error("Failed to publish part with name %s: %s".formatted(part.name(), e.getMessage()));
+        }
+    }
+
+    private void publishChunks(String partName, InputStream is, PartDelivery delivery) throws IOException {
+        // all the chunks of a part have the same key, so they land on the same partition in order
+        var key = partName != null ? partName : requestId;
+        var chunk = is.readNBytes(maxRecordSize);
+        var index = 0;
+        do {
+            var next = chunk.length < maxRecordSize ? new byte[0] : is.readNBytes(maxRecordSize);
+            var headers = new RecordHeaders()
+                    .add(CHUNK_INDEX_HEADER, String.valueOf(index++).getBytes(UTF_8))
+                    .add(LAST_CHUNK_HEADER, String.valueOf(next.length == 0).getBytes(UTF_8));
+            send(new ProducerRecord<>(topic, null, key, chunk, headers), delivery);
+            chunk = next;
+        } while (chunk.length > 0);
+    }
+
+    private void send(ProducerRecord<String, byte[]> record, PartDelivery delivery) {
+        outstandingSends.incrementAndGet();
+        delivery.sent();
+        producer.send(record, (metadata, exception) -> {
+            outstandingSends.decrementAndGet();
+            if (exception != null) {
+                sendFailure.compareAndSet(null, exception);
+                monitor.warning("Failed to publish message to topic " + topic, exception);
+            } else {
+                delivery.acknowledged();
+            }
+        });
+    }
+
+    /**
+     * Tracks the records of a part that have not been acknowledged yet, and closes the part once they all have been
+     * acknowledged and no more records will be sent for it. A record that fails is never released, so the part is not
+     * closed.
+     */
+    private class PartDelivery {
+
+        private final DataSource.Part part;
+        // one for the records still to be sent, released by allSent
+        private final AtomicInteger pending = new AtomicInteger(1);
+
+        PartDelivery(DataSource.Part part) {
+            this.part = part;
+        }
+
+        void sent() {
+            pending.incrementAndGet();
+        }
+
+        void acknowledged() {
+            release();
+        }
+
+        void allSent() {
+            release();
+        }
+
+        private void release() {
+            if (pending.decrementAndGet() == 0) {
+                close(part);
+            }
         }
     }
 
+    enum DeliveryMode {
+        ACKNOWLEDGED, FIRE_AND_FORGET
+    }
+
     public static class Builder extends ParallelSink.Builder<Builder, KafkaDataSink> {
 
         private Properties producerProperties;
+        private Producer<String, byte[]> producer;
 
         public static Builder newInstance() {
             return new Builder();
@@ -88,13 +227,33 @@ class KafkaDataSink extends ParallelSink implements Closeable {
             return this;
         }
 
+        public Builder deliveryMode(DeliveryMode deliveryMode) {
+            sink.deliveryMode = deliveryMode;
+            return this;
+        }
+
+        public Builder maxRecordSize(int maxRecordSize) {
+            sink.maxRecordSize = maxRecordSize;
+            return this;
+        }
+
+        Builder producer(Producer<String, byte[]> producer) {
+            this.producer = producer;
+            return this;
+        }
+
         @Override
         protected void validate() {
             Objects.requireNonNull(sink.monitor, "monitor");
             Objects.requireNonNull(sink.topic, "topic");
-            Objects.requireNonNull(producerProperties, "producerProperties");
+            Objects.requireNonNull(sink.deliveryMode, "deliveryMode");
 
-            sink.producer = new KafkaProducer<>(producerProperties);
+            if (producer != null) {
+                sink.producer = producer;
+            } else {
+                Objects.requireNonNull(producerProperties, "producerProperties");
+                sink.producer = new KafkaProducer<>(producerProperties);
+            }
         }
     }
 }
@@ -29,7 +29,10 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.concurrent.ExecutorService;
 
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.DELIVERY_MODE;
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.DELIVERY_MODE_FIRE_AND_FORGET;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.KAFKA_TYPE;
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.MAX_RECORD_SIZE;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.TOPIC;
 
 public class KafkaDataSinkFactory implements DataSinkFactory {
@@ -75,8 +78,16 @@ public class KafkaDataSinkFactory implements DataSinkFactory {
                 .requestId(request.getId())
                 .topic(destination.getStringProperty(TOPIC))
                 .producerProperties(producerProps)
+                .deliveryMode(deliveryMode(destination))
+                .maxRecordSize(Integer.parseInt(destination.getStringProperty(MAX_RECORD_SIZE, "0")))
                 .partitionSize(partitionSize)
                 .executorService(executorService)
                 .build();
     }
-}
\ No newline at end of file
+
+    private KafkaDataSink.DeliveryMode deliveryMode(DataAddress destination) {
+        return DELIVERY_MODE_FIRE_AND_FORGET.equals(destination.getStringProperty(DELIVERY_MODE))
+                ? KafkaDataSink.DeliveryMode.FIRE_AND_FORGET
+                : KafkaDataSink.DeliveryMode.ACKNOWLEDGED;
+    }
+}
@@ -16,68 +16,227 @@ package org.eclipse.edc.connector.dataplane.kafka.pipeline;
 
 import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
-import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
-import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.ResumableDataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferCheckpoint;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
-import org.jetbrains.annotations.NotNull;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static java.util.Spliterators.spliteratorUnknownSize;
 import static java.util.stream.StreamSupport.stream;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.success;
 
-class KafkaDataSource implements DataSource {
+/**
+ * Consumes the records of a topic with one or more consumers, every consumer being assigned a share of the topic
+ * partitions. The consumers poll in their own threads and feed a bounded buffer that backs the part stream.
+ * <p>
+ * Offsets are committed explicitly, and only once the sink has reported the part as successfully transferred by
+ * closing it, so that a restarted transfer continues after the last record delivered by the sink. A failure of a
+ * consumer is rethrown by the part stream, so that the transfer fails. The committed offsets are also exposed through
+ * the {@link TransferCheckpoint}, so that a data flow can be resumed on another data plane.
+ */
+class KafkaDataSource implements ResumableDataSource {
+
+    private static final int DEFAULT_BUFFER_SIZE = 1000;
 
+    private final AtomicBoolean active = new AtomicBoolean(true);
+    private final AtomicReference<Exception> failure = new AtomicReference<>();
+    private final Map<TopicPartition, PartitionOffsets> partitionOffsets = new ConcurrentHashMap<>();
+    private final Map<TopicPartition, Long> seekOffsets = new HashMap<>();
     private String name;
+    private String topic;
     private Monitor monitor;
     private Duration pollDuration;
     private Duration maxDuration;
-    private Consumer<String, byte[]> consumer;
     private Clock clock;
-    private final AtomicBoolean active = new AtomicBoolean(true);
+    private Properties consumerProperties;
+    private Function<Properties, Consumer<String, byte[]>> consumerFactory = KafkaConsumer::new;
+    private int consumers = 1;
+    private BlockingQueue<ConsumerRecord<String, byte[]>> buffer;
+    private ExecutorService pollers;
 
     private KafkaDataSource() {
     }
 
     @Override
     public void close() {
-        active.set(false);
+        stop();
+    }
+
+    @Override
+    public StreamResult<Void> seek(TransferCheckpoint checkpoint) {
+        var offsets = new HashMap<TopicPartition, Long>();
+        for (var entry : checkpoint.offsets().entrySet()) {
+            var separator = entry.getKey().lastIndexOf('-');
+            if (separator < 0 || !entry.getKey().substring(0, separator).equals(topic)) {
+                continue;
+            }
+            try {
+                var partition = Integer.parseInt(entry.getKey().substring(separator + 1));
+                offsets.put(new TopicPartition(topic, partition), Long.parseLong(entry.getValue()));
+            } catch (NumberFormatException e) {
+                return StreamResult.error("Invalid offset in checkpoint for %s: %s".formatted(entry.getKey(), entry.getValue()));
+            }
+        }
+        if (offsets.isEmpty()) {
+            return StreamResult.error("Checkpoint does not contain any offset for topic " + topic);
+        }
+        seekOffsets.putAll(offsets);
+        return StreamResult.success();
+    }
+
+    @Override
+    public TransferCheckpoint checkpoint(TransferCheckpoint checkpoint) {
+        var result = checkpoint;
+        for (var entry : seekOffsets.entrySet()) {
+            result = result.withOffset(entry.getKey().toString(), String.valueOf(entry.getValue()));
+        }
+        for (var entry : partitionOffsets.entrySet()) {
+            var committable = entry.getValue().committable();
+            if (committable >= 0) {
+                result = result.withOffset(entry.getKey().toString(), String.valueOf(committable));
+            }
+        }
+        return result;
     }
 
     @Override
     public StreamResult<Stream<Part>> openPartStream() {
-        var stream = openRecordsStream()
-                .flatMap(consumerRecords -> consumerRecords.partitions().stream()
-                        .flatMap(p -> consumerRecords.records(p).stream())
-                        .map(KafkaPart::new)
-                        .map(Part.class::cast))
-                .onClose(() -> consumer.close());
+        var assignments = assignPartitions();
+        if (assignments.isEmpty()) {
+            return StreamResult.error("No partition found for topic " + topic);
+        }
+
+        buffer = new ArrayBlockingQueue<>(DEFAULT_BUFFER_SIZE);
+        pollers = Executors.newFixedThreadPool(assignments.size());
+        assignments.forEach((consumer, partitions) -> pollers.submit(() -> poll(consumer, partitions)));
+
+        var stream = stream(spliteratorUnknownSize(new BufferedRecordsIterator(), 0), /* not parallel */ false)
+                .map(KafkaPart::new)
+                .map(Part.class::cast)
+                .onClose(this::stop);
 
         return success(stream);
     }
 
-    @NotNull
-    private Stream<ConsumerRecords<String, byte[]>> openRecordsStream() {
-        return stream(spliteratorUnknownSize(new ConsumerRecordsIterator(), 0), /* not parallel */ false);
+    private Map<Consumer<String, byte[]>, List<TopicPartition>> assignPartitions() {
+        var first = consumerFactory.apply(consumerProperties);
+        var partitions = first.partitionsFor(topic).stream()
+                .map(info -> new TopicPartition(info.topic(), info.partition()))
+                .toList();
+
+        var count = Math.max(1, Math.min(consumers, partitions.size()));
+        var assignments = new HashMap<Consumer<String, byte[]>, List<TopicPartition>>();
+        var consumerList = new ArrayList<Consumer<String, byte[]>>();
+        consumerList.add(first);
+        for (var i = 1; i < count; i++) {
+            consumerList.add(consumerFactory.apply(consumerProperties));
+        }
+        for (var i = 0; i < partitions.size(); i++) {
+            assignments.computeIfAbsent(consumerList.get(i % count), c -> new ArrayList<>()).add(partitions.get(i));
+        }
+        if (partitions.isEmpty()) {
+            first.close();
+        }
+
+        assignments.forEach((consumer, assigned) -> {
+            consumer.assign(assigned);
+            assigned.forEach(partition -> {
+                var offset = seekOffsets.get(partition);
+                if (offset != null) {
+                    consumer.seek(partition, offset);
+                }
+                partitionOffsets.put(partition, new PartitionOffsets());
+            });
+        });
+        debug("assigned %s partitions to %s consumers".formatted(partitions.size(), assignments.size()));
+        return assignments;
+    }
+
+    private void poll(Consumer<String, byte[]> consumer, List<TopicPartition> partitions) {
+        try {
+            while (active.get()) {
+                commit(consumer, partitions);
+                for (var record : consumer.poll(pollDuration)) {
+                    var offsets = partitionOffsets.get(new TopicPartition(record.topic(), record.partition()));
+                    offsets.dispatched(record.offset());
+                    while (active.get() && !buffer.offer(record, pollDuration.toMillis(), TimeUnit.MILLISECONDS)) {
+                        debug("buffer full, waiting for the sink");
+                    }
+                }
+            }
+            commit(consumer, partitions);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            monitor.severe("KafkaDataSource %s failed consuming from topic %s".formatted(name, topic), e);
+            failure.compareAndSet(null, e);
+            active.set(false);
+        } finally {
+            consumer.close();
+        }
+    }
+
+    private void commit(Consumer<String, byte[]> consumer, List<TopicPartition> partitions) {
+        var offsets = new HashMap<TopicPartition, OffsetAndMetadata>();
+        for (var partition : partitions) {
+            var committable = partitionOffsets.get(partition).toCommit();
+            if (committable >= 0) {
+                offsets.put(partition, new OffsetAndMetadata(committable));
+            }
+        }
+        if (!offsets.isEmpty()) {
+            consumer.commitSync(offsets);
+            partitions.forEach(partition -> {
+                var committed = offsets.get(partition);
+                if (committed != null) {
+                    partitionOffsets.get(partition).committed(committed.offset());
+                }
+            });
+        }
+    }
+
+    private void stop() {
+        active.set(false);
+        if (pollers != null) {
+            pollers.shutdown();
+        }
+    }
+
+    private void debug(String message) {
+        monitor.debug(String.format("KafkaDataSource %s %s", name, message));
     }
 
     public static class Builder {
 
-        private Properties consumerProperties;
-        private String topic;
         private final KafkaDataSource dataSource;
 
         public static Builder newInstance() {
@@ -100,7 +259,7 @@ class KafkaDataSource implements DataSource {
         }
 
         public Builder topic(String topic) {
-            this.topic = topic;
+            dataSource.topic = topic;
             return this;
         }
 
@@ -115,20 +274,27 @@ class KafkaDataSource implements DataSource {
         }
 
         public Builder consumerProperties(Properties consumerProperties) {
-            this.consumerProperties = consumerProperties;
+            dataSource.consumerProperties = consumerProperties;
+            return this;
+        }
+
+        public Builder consumers(int consumers) {
+            dataSource.consumers = consumers;
+            return this;
+        }
+
+        Builder consumerFactory(Function<Properties, Consumer<String, byte[]>> consumerFactory) {
+            dataSource.consumerFactory = consumerFactory;
             return this;
         }
 
         public KafkaDataSource build() {
             Objects.requireNonNull(dataSource.monitor, "monitor");
             Objects.requireNonNull(dataSource.pollDuration, "pollDuration");
-            Objects.requireNonNull(topic, "topic");
-            Objects.requireNonNull(consumerProperties, "consumerProperties");
+            Objects.requireNonNull(dataSource.topic, "topic");
+            Objects.requireNonNull(dataSource.consumerProperties, "consumerProperties");
             Objects.requireNonNull(dataSource.clock, "clock");
 
-            dataSource.consumer = new KafkaConsumer<>(consumerProperties);
-            dataSource.consumer.subscribe(List.of(topic));
-
             return dataSource;
         }
 
@@ -137,6 +303,39 @@ class KafkaDataSource implements DataSource {
         }
     }
 
+    /**
+     * Tracks the offsets of a partition: the offset that can be committed is the lowest one that has been dispatched
+     * but not yet acknowledged by the sink, or the one following the last dispatched record.
+     */
+    private static class PartitionOffsets {
+
+        private final TreeSet<Long> inFlight = new TreeSet<>();
+        private long next = -1;
+        private long committed = -1;
+
+        synchronized void dispatched(long offset) {
+            inFlight.add(offset);
+            next = Math.max(next, offset + 1);
+        }
+
+        synchronized void acknowledged(long offset) {
+            inFlight.remove(offset);
+        }
+
+        synchronized long committable() {
+            return inFlight.isEmpty() ? next : inFlight.first();
+        }
+
+        synchronized long toCommit() {
+            var committable = committable();
+            return committable > committed ? committable : -1;
+        }
+
+        synchronized void committed(long offset) {
+            committed = Math.max(committed, offset);
+        }
+    }
+
     private class KafkaPart implements Part {
 
         private final ConsumerRecord<String, byte[]> consumerRecord;
@@ -154,38 +353,58 @@ class KafkaDataSource implements DataSource {
         public InputStream openStream() {
             return new ByteArrayInputStream(consumerRecord.value());
         }
+
+        @Override
+        public void close() {
+            var offsets = partitionOffsets.get(new TopicPartition(consumerRecord.topic(), consumerRecord.partition()));
+            if (offsets != null) {
+                offsets.acknowledged(consumerRecord.offset());
+            }
+        }
     }
 
-    private class ConsumerRecordsIterator implements Iterator<ConsumerRecords<String, byte[]>> {
+    private class BufferedRecordsIterator implements Iterator<ConsumerRecord<String, byte[]>> {
 
         private final Instant streamEnd;
+        private ConsumerRecord<String, byte[]> next;
 
-        ConsumerRecordsIterator() {
+        BufferedRecordsIterator() {
             this.streamEnd = maxDuration == null ? Instant.MAX : clock.instant().plus(maxDuration);
             debug("starts consuming events until: " + streamEnd);
         }
 
         @Override
         public boolean hasNext() {
-            var isMaxDurationReached = clock.instant().isAfter(streamEnd);
-            if (isMaxDurationReached) {
-                debug("max duration reached");
+            while (next == null) {
+                if (clock.instant().isAfter(streamEnd)) {
+                    debug("max duration reached");
+                    return false;
+                }
+                if (!active.get()) {
+                    var exception = failure.get();
+                    if (exception != null) {
+                        throw new EdcException("KafkaDataSource %s failed consuming from topic %s".formatted(name, topic), exception);
+                    }
+                    return false;
+                }
+                try {
+                    next = buffer.poll(pollDuration.toMillis(), TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
             }
-            return active.get() && !isMaxDurationReached;
+            return true;
         }
 
         @Override
-        public ConsumerRecords<String, byte[]> next() {
-            ConsumerRecords<String, byte[]> records;
-            do {
-                records = consumer.poll(pollDuration);
-            } while (active.get() && records.isEmpty());
-
-            return records;
-        }
-
-        private void debug(String message) {
-            monitor.debug(String.format("KafkaDataSource %s %s", name, message));
+        public ConsumerRecord<String, byte[]> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            var record = next;
+            next = null;
+            return record;
         }
     }
 }
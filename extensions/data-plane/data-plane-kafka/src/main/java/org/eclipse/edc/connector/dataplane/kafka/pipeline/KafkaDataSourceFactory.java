@@ -32,6 +32,7 @@ import java.time.Clock;
 import java.time.Duration;
 import java.util.Optional;
 
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.CONSUMER_COUNT;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.KAFKA_TYPE;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.MAX_DURATION;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.NAME;
@@ -78,6 +79,8 @@ public class KafkaDataSourceFactory implements DataSourceFactory {
         var consumerProps = propertiesFactory.getConsumerProperties(source.getProperties())
                 .orElseThrow(failure -> new IllegalArgumentException(failure.getFailureDetail()));
         consumerProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        // offsets are committed by the source once the records have been handed over to the sink
+        consumerProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
 
         var topic = source.getStringProperty(TOPIC);
         var name = source.getStringProperty(NAME);
@@ -98,6 +101,7 @@ public class KafkaDataSourceFactory implements DataSourceFactory {
                 .pollDuration(pollDuration)
                 .maxDuration(maxDuration)
                 .consumerProperties(consumerProps)
+                .consumers(Integer.parseInt(source.getStringProperty(CONSUMER_COUNT, "1")))
                 .build();
     }
 }
@@ -0,0 +1,175 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.kafka.pipeline;
+
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.InputStreamDataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KafkaDataSinkTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    @SuppressWarnings("unchecked")
+    private final Producer<String, byte[]> producer = mock(Producer.class);
+
+    @Test
+    void transfer_shouldFlushAndCloseProducer_whenAcknowledged() {
+        when(producer.send(any(), any())).thenAnswer(invocation -> acknowledge(invocation.getArgument(1), null));
+        var sink = sinkBuilder().build();
+
+        var future = sink.transfer(new InputStreamDataSource("part", new ByteArrayInputStream("data".getBytes())));
+
+        assertThat(future).succeedsWithin(5, TimeUnit.SECONDS).satisfies(result -> assertThat(result).isSucceeded());
+        var inOrder = inOrder(producer);
+        inOrder.verify(producer).send(any(), any());
+        inOrder.verify(producer).flush();
+        inOrder.verify(producer).close();
+    }
+
+    @Test
+    void transfer_shouldFail_whenRecordIsNotAcknowledged() {
+        when(producer.send(any(), any())).thenAnswer(invocation -> acknowledge(invocation.getArgument(1), new RuntimeException("broker down")));
+        var sink = sinkBuilder().build();
+
+        var future = sink.transfer(new InputStreamDataSource("part", new ByteArrayInputStream("data".getBytes())));
+
+        assertThat(future).succeedsWithin(5, TimeUnit.SECONDS).satisfies(result -> assertThat(result).isFailed()
+                .detail().contains("broker down"));
+    }
+
+    @Test
+    void transfer_shouldSucceed_whenRecordIsNotAcknowledgedAndFireAndForget() {
+        when(producer.send(any(), any())).thenAnswer(invocation -> acknowledge(invocation.getArgument(1), new RuntimeException("broker down")));
+        var sink = sinkBuilder().deliveryMode(KafkaDataSink.DeliveryMode.FIRE_AND_FORGET).build();
+
+        var future = sink.transfer(new InputStreamDataSource("part", new ByteArrayInputStream("data".getBytes())));
+
+        assertThat(future).succeedsWithin(5, TimeUnit.SECONDS).satisfies(result -> assertThat(result).isSucceeded());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void transfer_shouldSplitPart_whenLargerThanMaxRecordSize() {
+        when(producer.send(any(), any())).thenAnswer(invocation -> acknowledge(invocation.getArgument(1), null));
+        var sink = sinkBuilder().maxRecordSize(4).build();
+
+        var future = sink.transfer(new InputStreamDataSource("part", new ByteArrayInputStream("0123456789".getBytes())));
+
+        assertThat(future).succeedsWithin(5, TimeUnit.SECONDS).satisfies(result -> assertThat(result).isSucceeded());
+        ArgumentCaptor<ProducerRecord<String, byte[]>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(producer, times(3)).send(captor.capture(), any());
+        assertThat(captor.getAllValues()).extracting(record -> new String(record.value())).containsExactly("0123", "4567", "89");
+        assertThat(captor.getAllValues()).extracting(ProducerRecord::key).containsOnly("part");
+        assertThat(captor.getAllValues()).extracting(record -> new String(record.headers().lastHeader(KafkaDataSink.LAST_CHUNK_HEADER).value(), UTF_8))
+                .containsExactly("false", "false", "true");
+    }
+
+    @Test
+    void transfer_shouldClosePart_onlyOnceRecordIsAcknowledged() throws Exception {
+        var callback = new AtomicReference<Callback>();
+        when(producer.send(any(), any())).thenAnswer(invocation -> {
+            callback.set(invocation.getArgument(1));
+            return new CompletableFuture<>();
+        });
+        var part = part("data");
+        var sink = sinkBuilder().deliveryMode(KafkaDataSink.DeliveryMode.FIRE_AND_FORGET).build();
+
+        var future = sink.transfer(source(part));
+
+        assertThat(future).succeedsWithin(5, TimeUnit.SECONDS);
+        verify(part, never()).close();
+        callback.get().onCompletion(null, null);
+        verify(part).close();
+    }
+
+    @Test
+    void transfer_shouldNotClosePart_whenRecordIsNotAcknowledged() throws Exception {
+        when(producer.send(any(), any())).thenAnswer(invocation -> acknowledge(invocation.getArgument(1), new RuntimeException("broker down")));
+        var part = part("data");
+        var sink = sinkBuilder().build();
+
+        var future = sink.transfer(source(part));
+
+        assertThat(future).succeedsWithin(5, TimeUnit.SECONDS).satisfies(result -> assertThat(result).isFailed());
+        verify(part, never()).close();
+    }
+
+    @Test
+    void transfer_shouldNotClosePart_whenOneOfItsChunksIsNotAcknowledged() throws Exception {
+        when(producer.send(any(), any()))
+                .thenAnswer(invocation -> acknowledge(invocation.getArgument(1), null))
+                .thenAnswer(invocation -> acknowledge(invocation.getArgument(1), new RuntimeException("broker down")))
+                .thenAnswer(invocation -> acknowledge(invocation.getArgument(1), null));
+        var part = part("0123456789");
+        var sink = sinkBuilder().maxRecordSize(4).build();
+
+        var future = sink.transfer(source(part));
+
+        assertThat(future).succeedsWithin(5, TimeUnit.SECONDS).satisfies(result -> assertThat(result).isFailed());
+        verify(part, never()).close();
+    }
+
+    private DataSource.Part part(String content) {
+        DataSource.Part part = mock();
+        when(part.name()).thenReturn("part");
+        when(part.openStream()).thenReturn(new ByteArrayInputStream(content.getBytes()));
+        return part;
+    }
+
+    private DataSource source(DataSource.Part part) {
+        DataSource source = mock();
+        when(source.openPartStream()).thenReturn(StreamResult.success(Stream.of(part)));
+        return source;
+    }
+
+    private KafkaDataSink.Builder sinkBuilder() {
+        return KafkaDataSink.Builder.newInstance()
+                .monitor(mock(Monitor.class))
+                .requestId("requestId")
+                .topic("topic")
+                .producer(producer)
+                .executorService(executor);
+    }
+
+    private CompletableFuture<Object> acknowledge(Callback callback, Exception exception) {
+        callback.onCompletion(null, exception);
+        return exception == null ? CompletableFuture.completedFuture(null) : CompletableFuture.failedFuture(exception);
+    }
+}
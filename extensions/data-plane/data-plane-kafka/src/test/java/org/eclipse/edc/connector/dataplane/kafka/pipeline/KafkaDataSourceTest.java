@@ -0,0 +1,202 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.kafka.pipeline;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferCheckpoint;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class KafkaDataSourceTest {
+
+    private static final String TOPIC = "topic";
+    private final TopicPartition partition0 = new TopicPartition(TOPIC, 0);
+    private final TopicPartition partition1 = new TopicPartition(TOPIC, 1);
+
+    @Test
+    void openPartStream_shouldCommitOffset_whenPartHasBeenAcknowledged() throws Exception {
+        var consumer = consumer(partition0);
+        consumer.schedulePollTask(() -> {
+            consumer.addRecord(record(partition0, 0, "first"));
+            consumer.addRecord(record(partition0, 1, "second"));
+        });
+        var source = sourceBuilder(List.of(consumer).iterator()).build();
+
+        var result = source.openPartStream();
+
+        assertThat(result).isSucceeded();
+        try (Stream<DataSource.Part> stream = result.getContent()) {
+            var parts = stream.iterator();
+            var part = parts.next();
+            assertThat(read(part)).isEqualTo("first");
+            assertThat(source.checkpoint(TransferCheckpoint.initial()).offsets()).containsEntry("topic-0", "0");
+
+            part.close();
+
+            await().untilAsserted(() -> assertThat(consumer.committed(Set.of(partition0)))
+                    .containsEntry(partition0, new OffsetAndMetadata(1)));
+            assertThat(source.checkpoint(TransferCheckpoint.initial()).offsets()).containsEntry("topic-0", "1");
+        }
+    }
+
+    @Test
+    void openPartStream_shouldNotCommitOffset_whenSinkFailsToDeliverRecord() {
+        var consumer = consumer(partition0);
+        consumer.schedulePollTask(() -> consumer.addRecord(record(partition0, 0, "record")));
+        var source = sourceBuilder(List.of(consumer).iterator()).maxDuration(Duration.ofMillis(500)).build();
+        Producer<String, byte[]> producer = mock();
+        when(producer.send(any(), any())).thenAnswer(invocation -> {
+            var exception = new KafkaException("broker unavailable");
+            invocation.<Callback>getArgument(1).onCompletion(null, exception);
+            return CompletableFuture.failedFuture(exception);
+        });
+        var sink = KafkaDataSink.Builder.newInstance()
+                .monitor(mock(Monitor.class))
+                .requestId("requestId")
+                .topic("target")
+                .producer(producer)
+                .executorService(Executors.newSingleThreadExecutor())
+                .build();
+
+        var result = sink.transfer(source);
+
+        assertThat(result).succeedsWithin(5, TimeUnit.SECONDS).satisfies(it -> assertThat(it).isFailed());
+        assertThat(source.checkpoint(TransferCheckpoint.initial()).offsets()).containsEntry("topic-0", "0");
+        assertThat(consumer.committed(Set.of(partition0))).doesNotContainEntry(partition0, new OffsetAndMetadata(1));
+        source.close();
+    }
+
+    @Test
+    void openPartStream_shouldFail_whenConsumerFails() {
+        var consumer = consumer(partition0);
+        consumer.setPollException(new KafkaException("broker unavailable"));
+        var source = sourceBuilder(List.of(consumer).iterator()).build();
+
+        var result = source.openPartStream();
+
+        assertThat(result).isSucceeded();
+        try (Stream<DataSource.Part> stream = result.getContent()) {
+            assertThatThrownBy(() -> stream.iterator().hasNext()).isInstanceOf(EdcException.class)
+                    .hasCauseInstanceOf(KafkaException.class);
+        }
+    }
+
+    @Test
+    void openPartStream_shouldSpreadPartitionsAcrossConsumers() {
+        var first = consumer(partition0, partition1);
+        var second = consumer(partition0, partition1);
+        first.schedulePollTask(() -> first.addRecord(record(partition0, 0, "from-first")));
+        second.schedulePollTask(() -> second.addRecord(record(partition1, 0, "from-second")));
+        var source = sourceBuilder(List.of(first, second).iterator()).consumers(2).build();
+
+        var result = source.openPartStream();
+
+        assertThat(result).isSucceeded();
+        try (Stream<DataSource.Part> stream = result.getContent()) {
+            var contents = stream.limit(2).map(this::read).toList();
+
+            assertThat(contents).containsExactlyInAnyOrder("from-first", "from-second");
+        }
+    }
+
+    @Test
+    void seek_shouldStartFromCheckpointOffsets() {
+        var consumer = consumer(partition0);
+        consumer.schedulePollTask(() -> {
+            consumer.addRecord(record(partition0, 4, "already-transferred"));
+            consumer.addRecord(record(partition0, 5, "next"));
+        });
+        var source = sourceBuilder(List.of(consumer).iterator()).build();
+
+        var seekResult = source.seek(new TransferCheckpoint(4, 100, Map.of("topic-0", "5")));
+
+        assertThat(seekResult).isSucceeded();
+        assertThat(source.checkpoint(TransferCheckpoint.initial()).offsets()).containsEntry("topic-0", "5");
+        try (Stream<DataSource.Part> stream = source.openPartStream().getContent()) {
+            assertThat(read(stream.iterator().next())).isEqualTo("next");
+        }
+    }
+
+    @Test
+    void seek_shouldFail_whenCheckpointHasNoOffsetForTopic() {
+        var source = sourceBuilder(List.<MockConsumer<String, byte[]>>of().iterator()).build();
+
+        var result = source.seek(new TransferCheckpoint(4, 100, Map.of("other-topic-0", "5")));
+
+        assertThat(result).isFailed();
+    }
+
+    private KafkaDataSource.Builder sourceBuilder(Iterator<MockConsumer<String, byte[]>> consumers) {
+        return KafkaDataSource.Builder.newInstance()
+                .monitor(mock(Monitor.class))
+                .clock(Clock.systemUTC())
+                .topic(TOPIC)
+                .name("name")
+                .pollDuration(Duration.ofMillis(10))
+                .consumerProperties(new Properties())
+                .consumerFactory(properties -> consumers.next());
+    }
+
+    private MockConsumer<String, byte[]> consumer(TopicPartition... partitions) {
+        var consumer = new MockConsumer<String, byte[]>(OffsetResetStrategy.EARLIEST);
+        consumer.updatePartitions(TOPIC, Stream.of(partitions).map(p -> new PartitionInfo(TOPIC, p.partition(), null, null, null)).toList());
+        consumer.updateBeginningOffsets(Stream.of(partitions).collect(toMap(p -> p, p -> 0L)));
+        return consumer;
+    }
+
+    private ConsumerRecord<String, byte[]> record(TopicPartition partition, long offset, String value) {
+        return new ConsumerRecord<>(TOPIC, partition.partition(), offset, "key", value.getBytes());
+    }
+
+    private String read(DataSource.Part part) {
+        try (var stream = part.openStream()) {
+            return new String(stream.readAllBytes());
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
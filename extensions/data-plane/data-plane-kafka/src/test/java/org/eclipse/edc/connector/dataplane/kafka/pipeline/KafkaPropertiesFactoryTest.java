@@ -20,6 +20,13 @@ import org.junit.jupiter.api.Test;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.BATCH_SIZE;
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.BOOTSTRAP_SERVERS;
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.COMPRESSION_TYPE;
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.DELIVERY_MODE;
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.DELIVERY_MODE_FIRE_AND_FORGET;
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.KAFKA_PROPERTIES_PREFIX;
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.LINGER_MS;
 import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
 
 class KafkaPropertiesFactoryTest {
@@ -60,12 +67,46 @@ class KafkaPropertiesFactoryTest {
 
         assertThat(result.succeeded()).isTrue();
         assertThat(result.getContent())
-                .hasSize(5)
+                .hasSize(6)
                 .containsEntry("bootstrap.servers", "kafka:9092")
                 .containsEntry("foo.bar", "value1")
                 .containsEntry("hello.world", "value2")
                 .containsEntry("key.serializer", "org.apache.kafka.common.serialization.StringSerializer")
-                .containsEntry("value.serializer", "org.apache.kafka.common.serialization.ByteArraySerializer");
+                .containsEntry("value.serializer", "org.apache.kafka.common.serialization.ByteArraySerializer")
+                .containsEntry("acks", "all");
+    }
+
+    @Test
+    void verifyGetProducerProperties_shouldKeepTuningProperties() {
+        var properties = Map.<String, Object>of(
+                BOOTSTRAP_SERVERS, "kafka:9092",
+                BATCH_SIZE, "65536",
+                LINGER_MS, "20",
+                COMPRESSION_TYPE, "lz4",
+                KAFKA_PROPERTIES_PREFIX + "acks", "1"
+        );
+
+        var result = factory.getProducerProperties(properties);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.getContent())
+                .containsEntry("batch.size", "65536")
+                .containsEntry("linger.ms", "20")
+                .containsEntry("compression.type", "lz4")
+                .containsEntry("acks", "1");
+    }
+
+    @Test
+    void verifyGetProducerProperties_shouldNotRequireAcks_whenFireAndForget() {
+        var properties = Map.<String, Object>of(
+                BOOTSTRAP_SERVERS, "kafka:9092",
+                DELIVERY_MODE, DELIVERY_MODE_FIRE_AND_FORGET
+        );
+
+        var result = factory.getProducerProperties(properties);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.getContent()).doesNotContainKey("acks");
     }
 
 }
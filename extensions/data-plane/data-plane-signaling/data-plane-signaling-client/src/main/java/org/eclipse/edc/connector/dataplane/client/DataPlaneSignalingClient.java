@@ -37,7 +37,11 @@ import org.eclipse.edc.spi.types.domain.transfer.DataFlowTerminateMessage;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import static java.lang.String.format;
@@ -55,13 +59,26 @@ public class DataPlaneSignalingClient implements DataPlaneClient {
     private final JsonLd jsonLd;
 
     private final ObjectMapper mapper;
+    private final Map<Class<?>, String> constantBodies;
 
     public DataPlaneSignalingClient(EdcHttpClient httpClient, TypeTransformerRegistry transformerRegistry, JsonLd jsonLd, ObjectMapper mapper, DataPlaneInstance dataPlane) {
+        this(httpClient, transformerRegistry, jsonLd, mapper, dataPlane, new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param constantBodies the serialized bodies of the messages that carry no per-flow field, by message type. It can
+     *                       be shared between the clients that use the same transformer registry.
+     */
+    public DataPlaneSignalingClient(EdcHttpClient httpClient, TypeTransformerRegistry transformerRegistry, JsonLd jsonLd, ObjectMapper mapper, DataPlaneInstance dataPlane,
+                                    Map<Class<?>, String> constantBodies) {
         this.httpClient = httpClient;
         this.transformerRegistry = transformerRegistry;
         this.jsonLd = jsonLd;
         this.mapper = mapper;
         this.dataPlane = dataPlane;
+        this.constantBodies = constantBodies;
     }
 
     @WithSpan
@@ -86,6 +103,28 @@ public class DataPlaneSignalingClient implements DataPlaneClient {
         return send(message, url, transferProcessId, r -> StatusResult.success());
     }
 
+    @WithSpan
+    @Override
+    public CompletableFuture<StatusResult<DataFlowResponseMessage>> startAsync(DataFlowStartMessage message) {
+        return Optional.ofNullable(dataPlane)
+                .map(instance -> sendAsync(message, instance.getUrl().toString(), message.getProcessId(), this::handleStartResponse))
+                .orElseGet(() -> CompletableFuture.completedFuture(StatusResult.failure(FATAL_ERROR, noDataPlaneInstanceFound(message))));
+    }
+
+    @Override
+    public CompletableFuture<StatusResult<Void>> suspendAsync(String transferProcessId) {
+        var url = "%s/%s/suspend".formatted(dataPlane.getUrl(), transferProcessId);
+        var message = DataFlowSuspendMessage.Builder.newInstance().build();
+        return sendAsync(message, url, transferProcessId, r -> StatusResult.success());
+    }
+
+    @Override
+    public CompletableFuture<StatusResult<Void>> terminateAsync(String transferProcessId) {
+        var url = "%s/%s/terminate".formatted(dataPlane.getUrl(), transferProcessId);
+        var message = DataFlowTerminateMessage.Builder.newInstance().build();
+        return sendAsync(message, url, transferProcessId, r -> StatusResult.success());
+    }
+
     private String noDataPlaneInstanceFound(DataFlowStartMessage message) {
         var source = message.getSourceDataAddress().getType();
         var destination = message.getDestinationDataAddress().getType();
@@ -93,26 +132,69 @@ public class DataPlaneSignalingClient implements DataPlaneClient {
         return "Unable to process transfer %s: No data plane found for source: %s and destination: %s".formatted(processId, source, destination);
     }
 
-    private <T> StatusResult<T> send(Object message, String url, String processId, Function<Response, StatusResult<T>> handleStartResponse) {
-        var requestBuilder = transformerRegistry.transform(message, JsonObject.class)
-                .compose(jsonLd::compact)
-                .compose(this::serializeMessage)
+    private <T> StatusResult<T> send(Object message, String url, String processId, Function<Response, StatusResult<T>> responseHandler) {
+        var request = createRequest(message, url);
+        if (request.failed()) {
+            return StatusResult.failure(FATAL_ERROR, request.getFailureDetail());
+        }
+
+        try (var response = httpClient.execute(request.getContent())) {
+            return handleResponse(response, processId, responseHandler);
+        } catch (IOException e) {
+            return StatusResult.failure(FATAL_ERROR, e.getMessage());
+        }
+    }
+
+    private <T> CompletableFuture<StatusResult<T>> sendAsync(Object message, String url, String processId, Function<Response, StatusResult<T>> responseHandler) {
+        var request = createRequest(message, url);
+        if (request.failed()) {
+            return CompletableFuture.completedFuture(StatusResult.failure(FATAL_ERROR, request.getFailureDetail()));
+        }
+
+        return httpClient.executeAsync(request.getContent(), List.of())
+                .thenApply(response -> {
+                    try (response) {
+                        return handleResponse(response, processId, responseHandler);
+                    }
+                })
+                .exceptionally(throwable -> StatusResult.failure(FATAL_ERROR, throwable.getMessage()));
+    }
+
+    private Result<Request> createRequest(Object message, String url) {
+        return createBody(message)
                 .map(rawBody -> RequestBody.create(rawBody, TYPE_JSON))
                 .map(body -> new Request.Builder().post(body).url(url).build());
+    }
 
-        if (requestBuilder.succeeded()) {
-            var request = requestBuilder.getContent();
-            try (var response = httpClient.execute(request)) {
-                if (response.isSuccessful()) {
-                    return handleStartResponse.apply(response);
-                } else {
-                    return StatusResult.failure(FATAL_ERROR, format("Transfer request failed with status code %s for request %s", response.code(), processId));
-                }
-            } catch (IOException e) {
-                return StatusResult.failure(FATAL_ERROR, e.getMessage());
-            }
+    /**
+     * The suspend and terminate messages are sent without reason, the flow being identified by the url, so their body
+     * is the same for every flow and gets serialized only once. The start message is made of per-flow fields only, so
+     * it's serialized on every call.
+     */
+    private Result<String> createBody(Object message) {
+        if (!(message instanceof DataFlowSuspendMessage) && !(message instanceof DataFlowTerminateMessage)) {
+            return serializeBody(message);
+        }
+
+        var cached = constantBodies.get(message.getClass());
+        if (cached != null) {
+            return Result.success(cached);
+        }
+        return serializeBody(message)
+                .onSuccess(body -> constantBodies.putIfAbsent(message.getClass(), body));
+    }
+
+    private Result<String> serializeBody(Object message) {
+        return transformerRegistry.transform(message, JsonObject.class)
+                .compose(jsonLd::compact)
+                .compose(this::serializeMessage);
+    }
+
+    private <T> StatusResult<T> handleResponse(Response response, String processId, Function<Response, StatusResult<T>> responseHandler) {
+        if (response.isSuccessful()) {
+            return responseHandler.apply(response);
         } else {
-            return StatusResult.failure(FATAL_ERROR, requestBuilder.getFailureDetail());
+            return StatusResult.failure(FATAL_ERROR, format("Transfer request failed with status code %s for request %s", response.code(), processId));
         }
     }
 
@@ -28,6 +28,7 @@ import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.eclipse.edc.spi.constants.CoreConstants.JSON_LD;
 
@@ -70,7 +71,8 @@ public class DataPlaneSignalingClientExtension implements ServiceExtension {
         context.getMonitor().debug(() -> "Using remote Data Plane client.");
         Objects.requireNonNull(httpClient, "To use remote Data Plane client, an EdcHttpClient instance must be registered");
         var signalingApiTypeTransformerRegistry = transformerRegistry.forContext("signaling-api");
-        return instance -> new DataPlaneSignalingClient(httpClient, signalingApiTypeTransformerRegistry, jsonLd, mapper, instance);
+        var constantBodies = new ConcurrentHashMap<Class<?>, String>();
+        return instance -> new DataPlaneSignalingClient(httpClient, signalingApiTypeTransformerRegistry, jsonLd, mapper, instance, constantBodies);
     }
 }
 
@@ -58,6 +58,7 @@ import java.util.Map;
 import java.util.UUID;
 
 import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.http.client.testfixtures.HttpTestUtils.testHttpClient;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VOCAB;
@@ -67,6 +68,8 @@ import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
 import static org.eclipse.edc.util.io.Ports.getFreePort;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockserver.integration.ClientAndServer.startClientAndServer;
 import static org.mockserver.matchers.Times.once;
@@ -291,6 +294,61 @@ class DataPlaneSignalingClientTest {
 
     }
 
+    @Nested
+    class StartAsync {
+
+        @Test
+        void verifyTransferSuccess() throws JsonProcessingException {
+            var flowRequest = createDataFlowRequest();
+            var expected = TRANSFORMER_REGISTRY.transform(flowRequest, JsonObject.class)
+                    .compose(JSON_LD::compact)
+                    .orElseThrow((e) -> new EdcException(e.getFailureDetail()));
+
+            var flowResponse = DataFlowResponseMessage.Builder.newInstance().dataAddress(DataAddress.Builder.newInstance().type("type").build()).build();
+            var response = TRANSFORMER_REGISTRY.transform(flowResponse, JsonObject.class)
+                    .compose(JSON_LD::compact)
+                    .orElseThrow((e) -> new EdcException(e.getFailureDetail()));
+
+            var httpRequest = new HttpRequest().withPath(DATA_PLANE_PATH).withBody(MAPPER.writeValueAsString(expected));
+            dataPlane.when(httpRequest, once()).respond(response().withBody(MAPPER.writeValueAsString(response)).withStatusCode(HttpStatusCode.OK_200.code()));
+
+            var future = dataPlaneClient.startAsync(flowRequest);
+
+            assertThat(future).succeedsWithin(5, SECONDS).satisfies(result -> {
+                assertThat(result).isSucceeded().extracting(DataFlowResponseMessage::getDataAddress).isNotNull();
+            });
+            dataPlane.verify(httpRequest, VerificationTimes.once());
+        }
+
+        @Test
+        void verifyReturnFatalErrorIfReceiveErrorInResponse() throws JsonProcessingException {
+            var flowRequest = createDataFlowRequest();
+            var httpRequest = new HttpRequest().withPath(DATA_PLANE_PATH);
+            dataPlane.when(httpRequest, once()).respond(withResponse("error"));
+
+            var future = dataPlaneClient.startAsync(flowRequest);
+
+            assertThat(future).succeedsWithin(5, SECONDS).satisfies(result -> {
+                assertThat(result.failed()).isTrue();
+                assertThat(result.getFailure().status()).isEqualTo(ResponseStatus.FATAL_ERROR);
+                assertThat(result.getFailureDetail()).contains("Transfer request failed with status code 400");
+            });
+        }
+
+        @Test
+        void verifyReturnFatalErrorWhenDataPlaneInstanceIsNull() {
+            TypeTransformerRegistry registry = mock();
+            var dataPlaneClient = new DataPlaneSignalingClient(testHttpClient(), registry, JSON_LD, MAPPER, null);
+
+            var future = dataPlaneClient.startAsync(createDataFlowRequest());
+
+            assertThat(future).succeedsWithin(5, SECONDS).satisfies(result -> {
+                assertThat(result.failed()).isTrue();
+                assertThat(result.getFailureDetail()).contains("No data plane found for");
+            });
+        }
+    }
+
     @Nested
     class Terminate {
 
@@ -315,6 +373,24 @@ class DataPlaneSignalingClientTest {
             assertThat(result).isFailed();
         }
 
+        @Test
+        void shouldSerializeBodyOnlyOnce() {
+            var httpRequest = new HttpRequest().withMethod("POST").withPath(DATA_PLANE_PATH + "/processId/terminate");
+            dataPlane.when(httpRequest).respond(response().withStatusCode(NO_CONTENT_204.code()));
+            TypeTransformerRegistry registry = mock();
+            when(registry.transform(any(), any())).thenReturn(Result.success(Json.createObjectBuilder()
+                    .add("@type", EDC_NAMESPACE + "DataFlowTerminateMessage").build()));
+            var dataPlaneClient = new DataPlaneSignalingClient(testHttpClient(), registry, JSON_LD, MAPPER, instance);
+
+            var first = dataPlaneClient.terminate("processId");
+            var second = dataPlaneClient.terminate("processId");
+
+            assertThat(first).isSucceeded();
+            assertThat(second).isSucceeded();
+            verify(registry, times(1)).transform(any(), any());
+            dataPlane.verify(httpRequest, VerificationTimes.exactly(2));
+        }
+
         @Test
         void verifyReturnFatalErrorIfTransformFails() {
             TypeTransformerRegistry registry = mock();
@@ -31,10 +31,12 @@ CREATE TABLE IF NOT EXISTS edc_data_plane
     source               JSON,
     destination          JSON,
     properties           JSON,
-    flow_type            VARCHAR
+    flow_type            VARCHAR,
+    checkpoint           JSON
 );
 
 COMMENT ON COLUMN edc_data_plane.trace_context IS 'Java Map serialized as JSON';
 COMMENT ON COLUMN edc_data_plane.source IS 'DataAddress serialized as JSON';
 COMMENT ON COLUMN edc_data_plane.destination IS 'DataAddress serialized as JSON';
 COMMENT ON COLUMN edc_data_plane.properties IS 'Java Map serialized as JSON';
+COMMENT ON COLUMN edc_data_plane.checkpoint IS 'TransferCheckpoint serialized as JSON';
@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.dataplane.store.sql;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.edc.connector.dataplane.spi.DataFlow;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferCheckpoint;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
 import org.eclipse.edc.connector.dataplane.store.sql.schema.DataPlaneStatements;
 import org.eclipse.edc.spi.persistence.EdcPersistenceException;
@@ -90,7 +91,10 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
                     var stream = queryExecutor.query(connection, true, this::mapDataFlow, statement.getQueryAsString(), statement.getParameters())
             ) {
                 var entries = stream.collect(Collectors.toList());
-                entries.forEach(entry -> leaseContext.withConnection(connection).acquireLease(entry.getId()));
+                entries.forEach(entry -> {
+                    leaseContext.withConnection(connection).acquireLease(entry.getId());
+                    entry.markClean();
+                });
                 return entries;
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
@@ -108,6 +112,7 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
                 }
 
                 leaseContext.withConnection(connection).acquireLease(entity.getId());
+                entity.markClean();
                 return StoreResult.success(entity);
             } catch (IllegalStateException e) {
                 return StoreResult.alreadyLeased(format("DataFlow %s is already leased", id));
@@ -121,19 +126,59 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
     public void save(DataFlow entity) {
         transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                var existing = findByIdInternal(connection, entity.getId());
-                if (existing != null) {
-                    leaseContext.by(leaseHolderName).withConnection(connection).breakLease(entity.getId());
-                    update(connection, entity);
-                } else {
-                    insert(connection, entity);
+                if (!entity.hasDirtyFields() && updateState(connection, entity)) {
+                    return;
                 }
+                upsert(connection, entity);
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
         });
     }
 
+    /**
+     * Persists the entities in a single transaction: the states of the entities without dirty fields are updated in a
+     * single JDBC batch, the other ones are saved one by one.
+     */
+    @Override
+    public void saveAll(List<DataFlow> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var stateOnly = entities.stream().filter(entity -> !entity.hasDirtyFields()).toList();
+                queryExecutor.executeBatch(connection, statements.getDeleteOwnLeaseTemplate(),
+                        stateOnly.stream().map(entity -> new Object[]{ leaseHolderName, entity.getId() }).toList());
+                var updated = queryExecutor.executeBatch(connection, statements.getUpdateStateTemplate(),
+                        stateOnly.stream().map(this::stateArguments).toList());
+
+                for (var i = 0; i < stateOnly.size(); i++) {
+                    if (updated[i] == 0) {
+                        upsert(connection, stateOnly.get(i));
+                    }
+                }
+                for (var entity : entities) {
+                    if (entity.hasDirtyFields()) {
+                        upsert(connection, entity);
+                    }
+                }
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    private void upsert(Connection connection, DataFlow entity) {
+        var existing = findByIdInternal(connection, entity.getId());
+        if (existing != null) {
+            leaseContext.by(leaseHolderName).withConnection(connection).breakLease(entity.getId());
+            update(connection, entity);
+        } else {
+            insert(connection, entity);
+        }
+    }
+
     private void insert(Connection connection, DataFlow dataFlow) {
         var sql = statements.getInsertTemplate();
         queryExecutor.execute(connection, sql,
@@ -149,10 +194,35 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
                 toJson(dataFlow.getSource()),
                 toJson(dataFlow.getDestination()),
                 toJson(dataFlow.getProperties()),
-                dataFlow.getFlowType().toString()
+                dataFlow.getFlowType().toString(),
+                toJson(dataFlow.getCheckpoint())
         );
     }
 
+    /**
+     * Persists only the state columns, without reading the data flow first: the lease held by this runtime gets
+     * deleted (the data flow lease reference is cleared by the foreign key) and the state is updated if the data flow
+     * is not leased anymore.
+     *
+     * @return true if the data flow has been updated, false if it does not exist or it's leased by someone else.
+     */
+    private boolean updateState(Connection connection, DataFlow dataFlow) {
+        queryExecutor.execute(connection, statements.getDeleteOwnLeaseTemplate(), leaseHolderName, dataFlow.getId());
+        var updated = queryExecutor.execute(connection, statements.getUpdateStateTemplate(), stateArguments(dataFlow));
+        return updated > 0;
+    }
+
+    private Object[] stateArguments(DataFlow dataFlow) {
+        return new Object[]{
+                dataFlow.getState(),
+                dataFlow.getUpdatedAt(),
+                dataFlow.getStateCount(),
+                dataFlow.getStateTimestamp(),
+                dataFlow.getErrorDetail(),
+                dataFlow.getId()
+        };
+    }
+
     private void update(Connection connection, DataFlow dataFlow) {
         var sql = statements.getUpdateTemplate();
         queryExecutor.execute(connection, sql,
@@ -167,6 +237,7 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
                 toJson(dataFlow.getDestination()),
                 toJson(dataFlow.getProperties()),
                 dataFlow.getFlowType().toString(),
+                toJson(dataFlow.getCheckpoint()),
                 dataFlow.getId());
     }
 
@@ -185,6 +256,7 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
                 .destination(fromJson(resultSet.getString(statements.getDestinationColumn()), DataAddress.class))
                 .properties(fromJson(resultSet.getString(statements.getPropertiesColumn()), getTypeRef()))
                 .flowType(FlowType.valueOf(resultSet.getString(statements.getFlowTypeColumn())))
+                .checkpoint(fromJson(resultSet.getString(statements.getCheckpointColumn()), TransferCheckpoint.class))
                 .build();
     }
 
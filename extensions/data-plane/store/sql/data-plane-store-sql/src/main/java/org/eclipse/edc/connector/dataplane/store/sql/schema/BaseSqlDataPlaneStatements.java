@@ -20,6 +20,8 @@ import org.eclipse.edc.sql.translation.SqlOperatorTranslator;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
 import static java.lang.String.format;
+import static org.eclipse.edc.sql.statement.SqlExecuteStatement.equalTo;
+import static org.eclipse.edc.sql.statement.SqlExecuteStatement.isNull;
 
 public class BaseSqlDataPlaneStatements implements DataPlaneStatements {
 
@@ -45,6 +47,7 @@ public class BaseSqlDataPlaneStatements implements DataPlaneStatements {
                 .jsonColumn(getDestinationColumn())
                 .jsonColumn(getPropertiesColumn())
                 .column(getFlowTypeColumn())
+                .jsonColumn(getCheckpointColumn())
                 .insertInto(getDataPlaneTable());
     }
 
@@ -62,9 +65,27 @@ public class BaseSqlDataPlaneStatements implements DataPlaneStatements {
                 .jsonColumn(getDestinationColumn())
                 .jsonColumn(getPropertiesColumn())
                 .column(getFlowTypeColumn())
+                .jsonColumn(getCheckpointColumn())
                 .update(getDataPlaneTable(), getIdColumn());
     }
 
+    @Override
+    public String getUpdateStateTemplate() {
+        return executeStatement()
+                .column(getStateColumn())
+                .column(getUpdatedAtColumn())
+                .column(getStateCountColumn())
+                .column(getStateTimestampColumn())
+                .column(getErrorDetailColumn())
+                .update(getDataPlaneTable(), equalTo(getIdColumn()), isNull(getLeaseIdColumn()));
+    }
+
+    @Override
+    public String getDeleteOwnLeaseTemplate() {
+        return format("DELETE FROM %s WHERE %s = ? AND %s = (SELECT %s FROM %s WHERE %s = ?)",
+                getLeaseTableName(), getLeasedByColumn(), getLeaseIdColumn(), getLeaseIdColumn(), getDataPlaneTable(), getIdColumn());
+    }
+
     @Override
     public String getSelectTemplate() {
         return "SELECT * FROM %s".formatted(getDataPlaneTable());
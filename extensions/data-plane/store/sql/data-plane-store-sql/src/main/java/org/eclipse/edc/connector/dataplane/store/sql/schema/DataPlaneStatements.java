@@ -52,10 +52,24 @@ public interface DataPlaneStatements extends StatefulEntityStatements, LeaseStat
         return "flow_type";
     }
 
+    default String getCheckpointColumn() {
+        return "checkpoint";
+    }
+
     String getInsertTemplate();
 
     String getUpdateTemplate();
 
+    /**
+     * Update of the state columns only, applied only if the data flow is not leased.
+     */
+    String getUpdateStateTemplate();
+
+    /**
+     * Deletion of the lease held by the given holder on the given data flow.
+     */
+    String getDeleteOwnLeaseTemplate();
+
     String getSelectTemplate();
 
     SqlQueryStatement createQuery(QuerySpec querySpec);
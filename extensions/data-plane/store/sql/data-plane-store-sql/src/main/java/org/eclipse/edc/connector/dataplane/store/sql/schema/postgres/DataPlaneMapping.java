@@ -26,5 +26,6 @@ public class DataPlaneMapping extends StatefulEntityMapping {
 
     public DataPlaneMapping(DataPlaneStatements statements) {
         super(statements);
+        add("flowType", statements.getFlowTypeColumn());
     }
 }
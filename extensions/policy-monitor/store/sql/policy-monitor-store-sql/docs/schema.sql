@@ -28,5 +28,13 @@ CREATE TABLE IF NOT EXISTS edc_policy_monitor
                     REFERENCES edc_lease
                     ON DELETE SET NULL,
     properties           JSON,
-    contract_id          VARCHAR
+    contract_id          VARCHAR,
+    next_check_at        BIGINT  DEFAULT 0 NOT NULL
 );
+
+-- columns added after the first release of the schema
+ALTER TABLE edc_policy_monitor ADD COLUMN IF NOT EXISTS next_check_at BIGINT DEFAULT 0 NOT NULL;
+
+COMMENT ON COLUMN edc_policy_monitor.next_check_at IS 'posix timestamp before which the entry does not need to be evaluated';
+
+CREATE INDEX IF NOT EXISTS policy_monitor_state_next_check_at_idx ON edc_policy_monitor (state, next_check_at);
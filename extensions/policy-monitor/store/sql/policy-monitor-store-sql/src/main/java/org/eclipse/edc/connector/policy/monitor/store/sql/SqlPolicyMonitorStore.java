@@ -147,7 +147,8 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
                 entry.getStateTimestamp(),
                 toJson(entry.getTraceContext()),
                 entry.getErrorDetail(),
-                entry.getContractId()
+                entry.getContractId(),
+                entry.getNextCheckAt()
         );
     }
 
@@ -161,6 +162,7 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
                 toJson(entry.getTraceContext()),
                 entry.getErrorDetail(),
                 entry.getContractId(),
+                entry.getNextCheckAt(),
                 entry.getId());
     }
 
@@ -175,6 +177,7 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
                 .traceContext(fromJson(resultSet.getString(statements.getTraceContextColumn()), getTypeRef()))
                 .errorDetail(resultSet.getString(statements.getErrorDetailColumn()))
                 .contractId(resultSet.getString(statements.getContractIdColumn()))
+                .nextCheckAt(resultSet.getLong(statements.getNextCheckAtColumn()))
                 .build();
     }
 }
@@ -33,6 +33,10 @@ public interface PolicyMonitorStatements extends StatefulEntityStatements, Lease
         return "contract_id";
     }
 
+    default String getNextCheckAtColumn() {
+        return "next_check_at";
+    }
+
     String getInsertTemplate();
 
     String getUpdateTemplate();
@@ -261,12 +261,14 @@ include(":spi:policy-monitor:policy-monitor-spi")
 include(":tests:junit-base")
 
 // modules for system tests ------------------------------------------------------------------------
+include(":system-tests:benchmarks")
 include(":system-tests:e2e-transfer-test:backend-service")
 include(":system-tests:e2e-transfer-test:control-plane")
 include(":system-tests:e2e-transfer-test:data-plane")
 include(":system-tests:e2e-transfer-test:runner")
 include(":system-tests:e2e-dataplane-tests:runtimes:data-plane")
 include(":system-tests:e2e-dataplane-tests:tests")
+include(":system-tests:load-test")
 include(":system-tests:management-api:management-api-test-runner")
 include(":system-tests:management-api:management-api-test-runtime")
 include(":system-tests:protocol-test")
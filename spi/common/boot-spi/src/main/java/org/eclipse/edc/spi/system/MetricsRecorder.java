@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.system;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Records application metrics, such as timings, counters and gauges, to be exported by a metrics backend.
+ * <p>
+ * The default implementation does not record anything. Extension modules can provide implementations that bind the
+ * metrics to a specific backend, e.g. Micrometer.
+ * <p>
+ * Tags are passed as key/value pairs, e.g. {@code recorder.increment("edc.name", 1, "key1", "value1", "key2", "value2")}.
+ */
+@ExtensionPoint
+public interface MetricsRecorder {
+
+    /**
+     * Default implementation that does not record any metric.
+     *
+     * @return a default {@link MetricsRecorder} implementation.
+     */
+    static MetricsRecorder noop() {
+        return new MetricsRecorder() {
+        };
+    }
+
+    /**
+     * Record the duration of an operation.
+     *
+     * @param name     the metric name.
+     * @param duration the duration.
+     * @param tags     the tags, as key/value pairs.
+     */
+    default void recordTime(String name, Duration duration, String... tags) {
+    }
+
+    /**
+     * Increment a counter.
+     *
+     * @param name   the metric name.
+     * @param amount the amount to add to the counter.
+     * @param tags   the tags, as key/value pairs.
+     */
+    default void increment(String name, double amount, String... tags) {
+    }
+
+    /**
+     * Register a gauge, that samples the value when the metrics get exported.
+     *
+     * @param name  the metric name.
+     * @param value the value supplier.
+     * @param tags  the tags, as key/value pairs.
+     */
+    default void gauge(String name, Supplier<Number> value, String... tags) {
+    }
+
+    /**
+     * Execute the work recording its duration, also when it fails.
+     *
+     * @param name the metric name.
+     * @param work the work.
+     * @param tags the tags, as key/value pairs.
+     * @return the work result.
+     */
+    default <T> T time(String name, Supplier<T> work, String... tags) {
+        var start = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            recordTime(name, Duration.ofNanos(System.nanoTime() - start), tags);
+        }
+    }
+}
@@ -36,10 +36,12 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
     protected Map<String, String> traceContext = new HashMap<>();
     protected String errorDetail;
     protected boolean pending = false;
+    protected boolean dirty = true;
+    protected long version;
 
     protected StatefulEntity() {
     }
-    
+
     public int getState() {
         return state;
     }
@@ -73,6 +75,44 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
         this.pending = pending;
     }
 
+    /**
+     * Whether fields other than the state ones (state, state count, state timestamp, updated at, error detail and
+     * pending) have changed since the entity was leased from the store. A newly created entity is always dirty.
+     * Stores can use this information to persist only the state columns when nothing else changed.
+     *
+     * @return true if non-state fields have changed, false otherwise.
+     */
+    public boolean hasDirtyFields() {
+        return dirty;
+    }
+
+    /**
+     * Marks the entity as being in sync with its persisted representation. Supposed to be called by stores once the
+     * entity has been loaded and leased, as only leased entities are saved back by the state machines.
+     */
+    public void markClean() {
+        dirty = false;
+    }
+
+    /**
+     * The version of the persisted representation the entity has been loaded from. Stores that use optimistic
+     * concurrency increment it at every save, and reject the save of an entity whose version is not the persisted one.
+     *
+     * @return the version.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Sets the version, supposed to be called by stores only, see {@link #getVersion()}.
+     *
+     * @param version the version.
+     */
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     /**
      * Sets the state timestamp to the clock time.
      *
@@ -98,8 +138,15 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
         setModified();
     }
 
+    /**
+     * Records that a non-state field has changed, see {@link #hasDirtyFields()}.
+     */
+    protected void markDirty() {
+        dirty = true;
+    }
+
     protected <B extends Builder<T, B>> T copy(Builder<T, B> builder) {
-        return builder
+        var copy = builder
                 .id(id)
                 .createdAt(createdAt)
                 .state(state)
@@ -110,7 +157,10 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
                 .errorDetail(errorDetail)
                 .clock(clock)
                 .pending(pending)
+                .version(version)
                 .build();
+        copy.dirty = dirty;
+        return copy;
     }
 
     /**
@@ -156,6 +206,11 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
             return self();
         }
 
+        public B version(long version) {
+            entity.version = version;
+            return self();
+        }
+
         protected T build() {
             super.build();
             if (entity.id == null) {
@@ -14,6 +14,8 @@
 
 package org.eclipse.edc.spi.query;
 
+import java.util.function.Function;
+
 /**
  * Extract the property value from an object
  */
@@ -29,4 +31,15 @@ public interface PropertyLookup {
      */
     Object getProperty(String key, Object object);
 
+    /**
+     * Prepare the extraction of the property for the key, to be reused on multiple objects. Implementations can override
+     * it to do the key-dependent work (e.g. parsing the property path) only once.
+     *
+     * @param key the key.
+     * @return a function that extracts the property value from an object, or null if the property does not exist.
+     */
+    default Function<Object, Object> compile(String key) {
+        return object -> getProperty(key, object);
+    }
+
 }
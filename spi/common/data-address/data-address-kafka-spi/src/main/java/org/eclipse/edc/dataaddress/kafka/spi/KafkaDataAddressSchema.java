@@ -66,4 +66,50 @@ public interface KafkaDataAddressSchema {
      * @see java.time.Duration#parse(CharSequence) for ISO-8601 duration format
      */
     String MAX_DURATION = EDC_NAMESPACE + "maxDuration";
+
+    /**
+     * Number of consumers used by the source, every consumer being assigned a share of the topic partitions.
+     * <p>
+     * This parameter is optional. Default value is 1.
+     */
+    String CONSUMER_COUNT = EDC_NAMESPACE + "consumerCount";
+
+    /**
+     * How the sink publishes records, either {@link #DELIVERY_MODE_ACKNOWLEDGED} or {@link #DELIVERY_MODE_FIRE_AND_FORGET}.
+     * <p>
+     * This parameter is optional. Default value is {@link #DELIVERY_MODE_ACKNOWLEDGED}.
+     */
+    String DELIVERY_MODE = EDC_NAMESPACE + "deliveryMode";
+
+    /**
+     * The transfer completes only once all the records have been flushed and acknowledged by the broker.
+     */
+    String DELIVERY_MODE_ACKNOWLEDGED = "acknowledged";
+
+    /**
+     * Records are sent asynchronously and send failures are only logged.
+     */
+    String DELIVERY_MODE_FIRE_AND_FORGET = "fire-and-forget";
+
+    /**
+     * Maximum size in bytes of a single record published by the sink. Larger parts are split in several records.
+     * <p>
+     * This parameter is optional. If not provided, every part is published as a single record.
+     */
+    String MAX_RECORD_SIZE = EDC_NAMESPACE + "maxRecordSize";
+
+    /**
+     * The batch.size producer property
+     */
+    String BATCH_SIZE = KAFKA_PROPERTIES_PREFIX + "batch.size";
+
+    /**
+     * The linger.ms producer property
+     */
+    String LINGER_MS = KAFKA_PROPERTIES_PREFIX + "linger.ms";
+
+    /**
+     * The compression.type producer property
+     */
+    String COMPRESSION_TYPE = KAFKA_PROPERTIES_PREFIX + "compression.type";
 }
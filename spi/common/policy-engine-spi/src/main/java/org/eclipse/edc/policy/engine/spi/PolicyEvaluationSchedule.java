@@ -0,0 +1,50 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.policy.engine.spi;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Instant;
+
+/**
+ * Collects the instants at which the outcome of a policy evaluation could change, e.g. because a temporal constraint
+ * starts or stops being satisfied. When put into the {@link PolicyContext} as additional data, constraint functions can
+ * report to it, allowing the caller to skip re-evaluations until the earliest reported instant.
+ */
+public class PolicyEvaluationSchedule {
+
+    private Instant nextEvaluation;
+
+    /**
+     * Report an instant at which the evaluation outcome could change. Only the earliest reported instant is kept.
+     *
+     * @param instant the instant.
+     */
+    public void reportChangeAt(Instant instant) {
+        if (nextEvaluation == null || instant.isBefore(nextEvaluation)) {
+            nextEvaluation = instant;
+        }
+    }
+
+    /**
+     * The earliest instant at which the evaluation outcome could change.
+     *
+     * @return the instant, null if no change has been reported.
+     */
+    @Nullable
+    public Instant getNextEvaluation() {
+        return nextEvaluation;
+    }
+}
@@ -66,6 +66,36 @@ public interface ContractNegotiationStore extends StateEntityStore<ContractNegot
     @NotNull
     Stream<ContractNegotiation> queryNegotiations(QuerySpec querySpec);
 
+    /**
+     * Finds all contract negotiations that are covered by a specific {@link QuerySpec}, optionally including the ones
+     * that have been moved to the archive by {@link #archive(long, int)}.
+     * <p>
+     * Stores that don't support archival ignore the {@code includeArchived} flag.
+     *
+     * @param querySpec       The query spec, e.g. paging, filtering, etc.
+     * @param includeArchived whether archived contract negotiations should be returned as well.
+     * @return a stream of ContractNegotiation, cannot be null.
+     */
+    @NotNull
+    default Stream<ContractNegotiation> queryNegotiations(QuerySpec querySpec, boolean includeArchived) {
+        return queryNegotiations(querySpec);
+    }
+
+    /**
+     * Moves up to {@code batchSize} contract negotiations that are in a final state, that are not leased and that have
+     * not been updated since {@code updatedBefore} to the archive. Archived negotiations are not returned by
+     * {@link #nextNotLeased} and by {@link #queryNegotiations(QuerySpec)} anymore, and they cannot be leased. Contract
+     * agreements are never archived.
+     * <p>
+     * Stores that don't support archival return 0.
+     *
+     * @param updatedBefore the epoch millis before which the negotiation must have been updated last.
+     * @param batchSize     the max number of negotiations to be archived.
+     * @return the number of archived negotiations.
+     */
+    default int archive(long updatedBefore, int batchSize) {
+        return 0;
+    }
 
     /**
      * Finds all contract agreement that are covered by a specific {@link QuerySpec}. If no
@@ -126,6 +126,7 @@ public class ContractNegotiation extends StatefulEntity<ContractNegotiation> {
      */
     public void addContractOffer(ContractOffer offer) {
         contractOffers.add(offer);
+        markDirty();
     }
 
     /**
@@ -153,6 +154,7 @@ public class ContractNegotiation extends StatefulEntity<ContractNegotiation> {
      */
     public void setContractAgreement(ContractAgreement agreement) {
         contractAgreement = agreement;
+        markDirty();
         setModified();
     }
 
@@ -170,10 +172,12 @@ public class ContractNegotiation extends StatefulEntity<ContractNegotiation> {
 
     public void lastSentProtocolMessage(String id) {
         protocolMessages.setLastSent(id);
+        markDirty();
     }
 
     public void protocolMessageReceived(String id) {
         protocolMessages.addReceived(id);
+        markDirty();
     }
 
     /**
@@ -407,8 +411,9 @@ public class ContractNegotiation extends StatefulEntity<ContractNegotiation> {
             throw new IllegalStateException(format("Cannot transition from state %s to %s", ContractNegotiationStates.from(state), ContractNegotiationStates.from(targetState)));
         }
 
-        if (state != targetState) {
+        if (state != targetState && protocolMessages.getLastSent() != null) {
             protocolMessages.setLastSent(null);
+            markDirty();
         }
 
         transitionTo(targetState);
@@ -422,6 +427,7 @@ public class ContractNegotiation extends StatefulEntity<ContractNegotiation> {
      */
     public void setCorrelationId(String correlationId) {
         this.correlationId = correlationId;
+        markDirty();
     }
 
     public enum Type {
@@ -0,0 +1,36 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.api.client.spi.transferprocess;
+
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The result of a data flow that has to be signaled to the Control Plane.
+ *
+ * @param request the request of the data flow.
+ * @param failed  whether the data flow failed.
+ * @param reason  the failure reason, null if the data flow completed.
+ */
+public record DataFlowResult(DataFlowStartMessage request, boolean failed, @Nullable String reason) {
+
+    public static DataFlowResult completed(DataFlowStartMessage request) {
+        return new DataFlowResult(request, false, null);
+    }
+
+    public static DataFlowResult failed(DataFlowStartMessage request, String reason) {
+        return new DataFlowResult(request, true, reason);
+    }
+}
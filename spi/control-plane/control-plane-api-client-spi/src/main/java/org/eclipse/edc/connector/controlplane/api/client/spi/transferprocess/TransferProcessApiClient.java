@@ -19,6 +19,8 @@ import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
 
+import java.util.List;
+
 /**
  * {@link TransferProcessApiClient} is an abstraction for talking with Control Plane, in this case for signaling back
  * that the transfer at Data Plane level has been completed or failed. Implementors should call the Transfer Process Manager
@@ -42,4 +44,17 @@ public interface TransferProcessApiClient {
      */
     Result<Void> failed(DataFlowStartMessage request, String reason);
 
+    /**
+     * Signal the results of multiple data flows. By default they are signaled one by one, implementors can override it
+     * to send them with fewer requests.
+     *
+     * @param results the data flow results.
+     * @return the outcome of every signal, in the same order of the results.
+     */
+    default List<Result<Void>> signal(List<DataFlowResult> results) {
+        return results.stream()
+                .map(result -> result.failed() ? failed(result.request(), result.reason()) : completed(result.request()))
+                .toList();
+    }
+
 }
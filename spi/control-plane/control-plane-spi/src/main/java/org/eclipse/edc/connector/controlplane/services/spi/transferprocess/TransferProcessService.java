@@ -132,6 +132,17 @@ public interface TransferProcessService {
     @NotNull
     ServiceResult<TransferProcess> initiateTransfer(TransferRequest request);
 
+    /**
+     * Initiate multiple transfer requests for type consumer. The failure of a request doesn't affect the others.
+     *
+     * @param requests for the transfers.
+     * @return the result for every request, in the same order.
+     */
+    @NotNull
+    default List<ServiceResult<TransferProcess>> initiateTransfers(List<TransferRequest> requests) {
+        return requests.stream().map(this::initiateTransfer).toList();
+    }
+
     /**
      * Asynchronously informs the system that the {@link DeprovisionedResource} has been provisioned
      *
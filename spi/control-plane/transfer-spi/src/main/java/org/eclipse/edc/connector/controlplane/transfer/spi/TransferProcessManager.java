@@ -20,6 +20,8 @@ import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
 import org.eclipse.edc.spi.entity.StateEntityManager;
 import org.eclipse.edc.spi.response.StatusResult;
 
+import java.util.List;
+
 /**
  * Manages data transfer processes. Currently synchronous and asynchronous data transfers are supported.
  */
@@ -31,4 +33,14 @@ public interface TransferProcessManager extends StateEntityManager {
      */
     StatusResult<TransferProcess> initiateConsumerRequest(TransferRequest transferRequest);
 
+    /**
+     * Initiates multiple data transfer processes on the consumer.
+     *
+     * @param transferRequests the transfer requests.
+     * @return the result for every request, in the same order.
+     */
+    default List<StatusResult<TransferProcess>> initiateConsumerRequests(List<TransferRequest> transferRequests) {
+        return transferRequests.stream().map(this::initiateConsumerRequest).toList();
+    }
+
 }
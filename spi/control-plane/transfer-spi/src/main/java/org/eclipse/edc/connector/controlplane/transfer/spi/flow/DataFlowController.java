@@ -23,6 +23,7 @@ import org.eclipse.edc.spi.response.StatusResult;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Handles a data flow.
@@ -49,6 +50,19 @@ public interface DataFlowController {
     @NotNull
     StatusResult<DataFlowResponse> start(TransferProcess transferProcess, Policy policy);
 
+    /**
+     * Initiate a data flow without blocking the caller. By default, it runs {@link #start} and returns a completed
+     * future. The same error handling rules of {@link #start} apply, the returned future should not complete exceptionally.
+     *
+     * @param transferProcess the transfer process
+     * @param policy          the contract agreement usage policy for the asset being transferred
+     * @return the future completed with the start result.
+     */
+    @NotNull
+    default CompletableFuture<StatusResult<DataFlowResponse>> startAsync(TransferProcess transferProcess, Policy policy) {
+        return CompletableFuture.completedFuture(start(transferProcess, policy));
+    }
+
     /**
      * Suspend a data flow.
      *
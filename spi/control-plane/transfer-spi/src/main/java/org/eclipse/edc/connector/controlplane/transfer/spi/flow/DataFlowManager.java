@@ -23,6 +23,7 @@ import org.eclipse.edc.spi.response.StatusResult;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Manages data flows and dispatches to {@link DataFlowController}s.
@@ -55,6 +56,18 @@ public interface DataFlowManager {
     @NotNull
     StatusResult<DataFlowResponse> start(TransferProcess transferProcess, Policy policy);
 
+    /**
+     * Initiates a data flow without blocking the caller.
+     *
+     * @param transferProcess the transfer process
+     * @param policy          the contract agreement usage policy for the asset being transferred
+     * @return the future completed with a succeeded StatusResult if flow has been initiated correctly, failed one otherwise.
+     */
+    @NotNull
+    default CompletableFuture<StatusResult<DataFlowResponse>> startAsync(TransferProcess transferProcess, Policy policy) {
+        return CompletableFuture.completedFuture(start(transferProcess, policy));
+    }
+
     /**
      * Terminates a data flow.
      *
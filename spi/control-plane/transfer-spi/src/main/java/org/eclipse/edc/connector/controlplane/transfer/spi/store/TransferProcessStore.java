@@ -21,6 +21,7 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
@@ -35,6 +36,16 @@ public interface TransferProcessStore extends StateEntityStore<TransferProcess>
     @Nullable
     TransferProcess findForCorrelationId(String correlationId);
 
+    /**
+     * Persists multiple entities, with the same UPSERT semantics of {@link #save(Object)}. Stores can override it to
+     * reduce the round trips to the underlying storage, e.g. inserting the new entities in a single batch.
+     *
+     * @param entities the entities.
+     */
+    default void saveAll(List<TransferProcess> entities) {
+        entities.forEach(this::save);
+    }
+
     /**
      * Deletes a transfer process.
      */
@@ -48,6 +59,35 @@ public interface TransferProcessStore extends StateEntityStore<TransferProcess>
      */
     Stream<TransferProcess> findAll(QuerySpec querySpec);
 
+    /**
+     * Returns all the transfer processes covered by a given {@link QuerySpec}, optionally including the ones that have
+     * been moved to the archive by {@link #archive(long, int)}.
+     * <p>
+     * Stores that don't support archival ignore the {@code includeArchived} flag.
+     *
+     * @param querySpec       the query spec.
+     * @param includeArchived whether archived transfer processes should be returned as well.
+     * @return the transfer processes.
+     */
+    default Stream<TransferProcess> findAll(QuerySpec querySpec, boolean includeArchived) {
+        return findAll(querySpec);
+    }
+
+    /**
+     * Moves up to {@code batchSize} transfer processes that are in a final state, that are not leased and that have
+     * not been updated since {@code updatedBefore} to the archive. Archived transfer processes are not returned by
+     * {@link #nextNotLeased} and by {@link #findAll(QuerySpec)} anymore, and they cannot be leased.
+     * <p>
+     * Stores that don't support archival return 0.
+     *
+     * @param updatedBefore the epoch millis before which the transfer process must have been updated last.
+     * @param batchSize     the max number of transfer processes to be archived.
+     * @return the number of archived transfer processes.
+     */
+    default int archive(long updatedBefore, int batchSize) {
+        return 0;
+    }
+
     /**
      * Find the entity by the passed correlation id and lease it.
      * If the entity is already leased, will return a failure.
@@ -165,22 +165,26 @@ public class TransferProcess extends StatefulEntity<TransferProcess> {
 
     public void setContentDataAddress(DataAddress dataAddress) {
         contentDataAddress = dataAddress;
+        markDirty();
     }
 
     public void transitionProvisioning(ResourceManifest manifest) {
         transition(PROVISIONING, INITIAL, PROVISIONING);
         resourceManifest = manifest;
         resourceManifest.setTransferProcessId(id);
+        markDirty();
     }
 
     public void addProvisionedResource(ProvisionedResource resource) {
         provisionedResourceSet.addResource(resource);
+        markDirty();
         setModified();
 
     }
 
     public void addDeprovisionedResource(DeprovisionedResource resource) {
         deprovisionedResources.add(resource);
+        markDirty();
         setModified();
     }
 
@@ -253,10 +257,12 @@ public class TransferProcess extends StatefulEntity<TransferProcess> {
 
     public void lastSentProtocolMessage(String id) {
         protocolMessages.setLastSent(id);
+        markDirty();
     }
 
     public void protocolMessageReceived(String id) {
         protocolMessages.addReceived(id);
+        markDirty();
     }
 
     public void transitionProvisioningRequested() {
@@ -300,6 +306,7 @@ public class TransferProcess extends StatefulEntity<TransferProcess> {
             transition(STARTED, state -> canBeStartedConsumer());
         } else {
             this.dataPlaneId = dataPlaneId;
+            markDirty();
             transition(STARTED, STARTED, STARTING, SUSPENDED, RESUMING);
         }
     }
@@ -403,6 +410,7 @@ public class TransferProcess extends StatefulEntity<TransferProcess> {
      */
     public void setCorrelationId(String correlationId) {
         this.correlationId = correlationId;
+        markDirty();
     }
 
     @JsonIgnore
@@ -446,6 +454,7 @@ public class TransferProcess extends StatefulEntity<TransferProcess> {
     @JsonIgnore
     public void updateDestination(DataAddress dataAddress) {
         this.dataDestination = dataAddress;
+        markDirty();
     }
 
     @JsonIgnore
@@ -485,7 +494,9 @@ public class TransferProcess extends StatefulEntity<TransferProcess> {
     }
 
     public Builder toBuilder() {
-        return new Builder(copy());
+        var copy = copy();
+        copy.markDirty();
+        return new Builder(copy);
     }
 
     @Override
@@ -531,8 +542,9 @@ public class TransferProcess extends StatefulEntity<TransferProcess> {
             throw new IllegalStateException(format("Cannot transition from state %s to %s", TransferProcessStates.from(state), TransferProcessStates.from(targetState)));
         }
 
-        if (state != targetState) {
+        if (state != targetState && protocolMessages.getLastSent() != null) {
             protocolMessages.setLastSent(null);
+            markDirty();
         }
 
         transitionTo(targetState);
@@ -362,4 +362,25 @@ class TransferProcessTest {
         assertThat(process.deprovisionComplete()).isFalse();
     }
 
+    @Test
+    void verifyDirtyFields() {
+        var process = TransferProcess.Builder.newInstance().id("1").type(CONSUMER).state(TransferProcessStates.PROVISIONED.code()).build();
+        assertThat(process.hasDirtyFields()).isTrue();
+
+        process.markClean();
+        process.transitionRequesting();
+        assertThat(process.hasDirtyFields()).isFalse();
+        assertThat(process.copy().hasDirtyFields()).isFalse();
+
+        process.lastSentProtocolMessage("messageId");
+        assertThat(process.hasDirtyFields()).isTrue();
+
+        process.markClean();
+        process.transitionRequested();
+        assertThat(process.hasDirtyFields()).isTrue();
+
+        process.markClean();
+        assertThat(process.toBuilder().build().hasDirtyFields()).isTrue();
+    }
+
 }
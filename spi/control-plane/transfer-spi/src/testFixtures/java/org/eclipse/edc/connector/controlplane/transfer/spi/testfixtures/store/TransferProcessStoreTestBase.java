@@ -42,6 +42,7 @@ import java.util.stream.Collectors;
 import static java.util.stream.IntStream.range;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assumptions.assumeThat;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.COMPLETED;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.INITIAL;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.PROVISIONING;
@@ -121,6 +122,70 @@ public abstract class TransferProcessStoreTestBase {
         }
     }
 
+    @Nested
+    class SaveAll {
+        @Test
+        void shouldCreateTheEntities() {
+            var processes = range(0, 5)
+                    .mapToObj(i -> TestFunctions.createTransferProcessBuilder("id" + i).privateProperties(Map.of("key", "value" + i)).build())
+                    .toList();
+
+            getTransferProcessStore().saveAll(processes);
+
+            processes.forEach(process -> assertThat(getTransferProcessStore().findById(process.getId()))
+                    .isNotNull().usingRecursiveComparison().isEqualTo(process));
+        }
+
+        @Test
+        void shouldReplaceExistingEntities() {
+            getTransferProcessStore().save(TestFunctions.createTransferProcess("id1", INITIAL));
+
+            var updated = TestFunctions.createTransferProcess("id1", PROVISIONING);
+            var created = TestFunctions.createTransferProcess("id2", INITIAL);
+            getTransferProcessStore().saveAll(List.of(updated, created));
+
+            assertThat(getTransferProcessStore().findAll(QuerySpec.none())).hasSize(2).containsExactlyInAnyOrder(updated, created);
+            assertThat(getTransferProcessStore().findById("id1")).extracting(TransferProcess::getState).isEqualTo(PROVISIONING.code());
+        }
+
+        @Test
+        void shouldDoNothing_whenEmpty() {
+            getTransferProcessStore().saveAll(List.of());
+
+            assertThat(getTransferProcessStore().findAll(QuerySpec.none())).isEmpty();
+        }
+    }
+
+    /**
+     * Stores that don't support archival skip these tests.
+     */
+    @Nested
+    class Archived {
+        @Test
+        void save_shouldFail_whenEntityHasBeenArchived() {
+            archived("id1");
+
+            assertThatThrownBy(() -> getTransferProcessStore().save(TestFunctions.createTransferProcess("id1", STARTED)))
+                    .isInstanceOf(IllegalStateException.class);
+            assertThat(getTransferProcessStore().findAll(QuerySpec.none())).isEmpty();
+        }
+
+        @Test
+        void saveAll_shouldFail_whenAnyEntityHasBeenArchived() {
+            archived("id1");
+
+            var processes = List.of(TestFunctions.createTransferProcess("id2", INITIAL), TestFunctions.createTransferProcess("id1", STARTED));
+            assertThatThrownBy(() -> getTransferProcessStore().saveAll(processes))
+                    .isInstanceOf(IllegalStateException.class);
+            assertThat(getTransferProcessStore().findAll(QuerySpec.none())).isEmpty();
+        }
+
+        private void archived(String id) {
+            getTransferProcessStore().save(TestFunctions.createTransferProcessBuilder(id).state(COMPLETED.code()).updatedAt(clock.millis() - 1000).build());
+            assumeThat(getTransferProcessStore().archive(clock.millis(), 10)).as("archival supported").isEqualTo(1);
+        }
+    }
+
     @Nested
     class NextNotLeased {
         @Test
@@ -350,6 +415,36 @@ public abstract class TransferProcessStoreTestBase {
                     });
         }
 
+        @Test
+        void shouldUpdateStateAndBreakLease_whenLeasedEntityHasNoDirtyFields() {
+            var transferProcess = TestFunctions.createTransferProcess("id1", STARTED);
+            getTransferProcessStore().save(transferProcess);
+            var leased = getTransferProcessStore().findByIdAndLease("id1").getContent();
+
+            leased.transitionCompleted();
+            getTransferProcessStore().save(leased);
+
+            assertThat(isLeasedBy("id1", CONNECTOR_NAME)).isFalse();
+            assertThat(getTransferProcessStore().findById("id1")).usingRecursiveComparison().ignoringFields("dirty").isEqualTo(leased);
+        }
+
+        @Test
+        void shouldUpdateAllFields_whenLeasedEntityHasDirtyFields() {
+            var transferProcess = TestFunctions.createTransferProcess("id1", STARTED);
+            getTransferProcessStore().save(transferProcess);
+            var leased = getTransferProcessStore().findByIdAndLease("id1").getContent();
+
+            leased.protocolMessageReceived("messageId");
+            leased.transitionCompleted();
+            getTransferProcessStore().save(leased);
+
+            assertThat(isLeasedBy("id1", CONNECTOR_NAME)).isFalse();
+            assertThat(getTransferProcessStore().findById("id1")).satisfies(actual -> {
+                assertThat(actual.getState()).isEqualTo(COMPLETED.code());
+                assertThat(actual.getProtocolMessages().isAlreadyReceived("messageId")).isTrue();
+            });
+        }
+
         @Test
         @DisplayName("Verify that the lease on a TP is cleared by an update")
         void shouldBreakLease() {
@@ -364,7 +459,7 @@ public abstract class TransferProcessStoreTestBase {
             // lease should be broken
             var notLeased = getTransferProcessStore().nextNotLeased(10, hasState(PROVISIONING.code()));
 
-            assertThat(notLeased).usingRecursiveFieldByFieldElementComparator().containsExactly(t1);
+            assertThat(notLeased).usingRecursiveFieldByFieldElementComparatorIgnoringFields("dirty").containsExactly(t1);
         }
 
         @Test
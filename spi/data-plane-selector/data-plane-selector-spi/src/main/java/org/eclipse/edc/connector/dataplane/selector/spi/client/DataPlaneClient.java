@@ -19,6 +19,8 @@ import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowResponseMessage;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Main interaction interface for an EDC runtime (=control plane) to communicate with the DPF.
  */
@@ -45,4 +47,37 @@ public interface DataPlaneClient {
      * @return success if the transfer has been terminated, failure otherwise.
      */
     StatusResult<Void> terminate(String transferProcessId);
+
+    /**
+     * Delegates data transfer to the Data Plane without blocking the caller. By default, it runs {@link #start} and
+     * returns a completed future, implementations that can communicate asynchronously with the Data Plane should
+     * override it.
+     *
+     * @param request the start message.
+     * @return the future completed with the start result.
+     */
+    default CompletableFuture<StatusResult<DataFlowResponseMessage>> startAsync(DataFlowStartMessage request) {
+        return CompletableFuture.completedFuture(start(request));
+    }
+
+    /**
+     * Suspend the transfer without blocking the caller. By default, it runs {@link #suspend} and returns a completed future.
+     *
+     * @param transferProcessId the transfer process id.
+     * @return the future completed with the suspension result.
+     */
+    default CompletableFuture<StatusResult<Void>> suspendAsync(String transferProcessId) {
+        return CompletableFuture.completedFuture(suspend(transferProcessId));
+    }
+
+    /**
+     * Terminate the transfer without blocking the caller. By default, it runs {@link #terminate} and returns a completed
+     * future.
+     *
+     * @param transferProcessId the transfer process id.
+     * @return the future completed with the termination result.
+     */
+    default CompletableFuture<StatusResult<Void>> terminateAsync(String transferProcessId) {
+        return CompletableFuture.completedFuture(terminate(transferProcessId));
+    }
 }
@@ -26,4 +26,11 @@ public interface HttpParamsDecorator {
      * Decorate params with information coming from the request and the data address. Return the param object.
      */
     HttpRequestParams.Builder decorate(DataFlowStartMessage request, HttpDataAddress address, HttpRequestParams.Builder params);
+
+    /**
+     * Discard what has been cached to decorate the params for the data address, e.g. a token that the endpoint
+     * rejected. Called before the params get decorated again.
+     */
+    default void invalidate(DataFlowStartMessage request, HttpDataAddress address) {
+    }
 }
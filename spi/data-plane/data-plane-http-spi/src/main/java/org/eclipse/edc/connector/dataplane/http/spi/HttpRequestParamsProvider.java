@@ -41,4 +41,16 @@ public interface HttpRequestParamsProvider {
      * Provide HTTP request params for HttpDataSink
      */
     HttpRequestParams provideSinkParams(DataFlowStartMessage request);
+
+    /**
+     * Invalidate the source decorators and provide HTTP request params for HttpDataSource again, e.g. after the
+     * endpoint rejected the credentials
+     */
+    HttpRequestParams refreshSourceParams(DataFlowStartMessage request);
+
+    /**
+     * Invalidate the sink decorators and provide HTTP request params for HttpDataSink again, e.g. after the endpoint
+     * rejected the credentials
+     */
+    HttpRequestParams refreshSinkParams(DataFlowStartMessage request);
 }
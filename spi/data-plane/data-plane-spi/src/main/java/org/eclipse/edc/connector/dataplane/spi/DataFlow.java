@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.dataplane.spi;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferCheckpoint;
 import org.eclipse.edc.spi.entity.StatefulEntity;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
@@ -49,6 +50,7 @@ public class DataFlow extends StatefulEntity<DataFlow> {
     private Map<String, String> properties = new HashMap<>();
 
     private FlowType flowType = FlowType.PUSH;
+    private TransferCheckpoint checkpoint;
 
     @Override
     public DataFlow copy() {
@@ -57,7 +59,8 @@ public class DataFlow extends StatefulEntity<DataFlow> {
                 .destination(destination)
                 .callbackAddress(callbackAddress)
                 .properties(properties)
-                .flowType(flowType);
+                .flowType(flowType)
+                .checkpoint(checkpoint);
 
         return copy(builder);
     }
@@ -87,6 +90,22 @@ public class DataFlow extends StatefulEntity<DataFlow> {
         return flowType;
     }
 
+    /**
+     * The progress reached by the transfer, or null if it has not been started yet.
+     *
+     * @return the checkpoint.
+     */
+    @Nullable
+    public TransferCheckpoint getCheckpoint() {
+        return checkpoint;
+    }
+
+    public void updateCheckpoint(TransferCheckpoint checkpoint) {
+        this.checkpoint = checkpoint;
+        markDirty();
+        setModified();
+    }
+
     public DataFlowStartMessage toRequest() {
         return DataFlowStartMessage.Builder.newInstance()
                 .id(getId())
@@ -121,6 +140,7 @@ public class DataFlow extends StatefulEntity<DataFlow> {
         transitionTo(TERMINATED.code());
         if (reason != null) {
             properties.put(TERMINATION_REASON, reason);
+            markDirty();
         }
     }
 
@@ -185,5 +205,10 @@ public class DataFlow extends StatefulEntity<DataFlow> {
             return this;
         }
 
+        public Builder checkpoint(TransferCheckpoint checkpoint) {
+            entity.checkpoint = checkpoint;
+            return this;
+        }
+
     }
 }
@@ -0,0 +1,39 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.spi.pipeline;
+
+/**
+ * Gets notified about the progress of a data transfer.
+ */
+@FunctionalInterface
+public interface CheckpointListener {
+
+    /**
+     * A no-op listener.
+     *
+     * @return the listener.
+     */
+    static CheckpointListener noop() {
+        return checkpoint -> { };
+    }
+
+    /**
+     * Called every time the transfer progressed. Implementations must be fast and thread-safe, as they are called from
+     * the threads that are transferring the data.
+     *
+     * @param checkpoint the current checkpoint.
+     */
+    void onCheckpoint(TransferCheckpoint checkpoint);
+}
@@ -0,0 +1,31 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.spi.pipeline;
+
+/**
+ * A {@link DataSink} that is able to continue writing data of an interrupted transfer, e.g. by appending to the
+ * destination instead of overwriting it.
+ */
+public interface ResumableDataSink extends DataSink {
+
+    /**
+     * Prepares the sink to receive the data following the passed checkpoint. Must be called before
+     * {@link #transfer(DataSource)}.
+     *
+     * @param checkpoint the checkpoint.
+     * @return successful result if the sink can continue from the checkpoint, failure otherwise.
+     */
+    StreamResult<Void> resumeFrom(TransferCheckpoint checkpoint);
+}
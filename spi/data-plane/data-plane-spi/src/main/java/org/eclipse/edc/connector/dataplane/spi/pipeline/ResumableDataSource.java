@@ -0,0 +1,40 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.spi.pipeline;
+
+/**
+ * A {@link DataSource} that is able to continue a transfer from a {@link TransferCheckpoint}, e.g. by using HTTP range
+ * requests, seeking a file or positioning a consumer on the stored offsets.
+ */
+public interface ResumableDataSource extends DataSource {
+
+    /**
+     * Positions the source right after the passed checkpoint. Must be called before {@link #openPartStream()}.
+     *
+     * @param checkpoint the checkpoint.
+     * @return successful result if the source will continue from the checkpoint, failure if it cannot resume from it.
+     */
+    StreamResult<Void> seek(TransferCheckpoint checkpoint);
+
+    /**
+     * Returns the current checkpoint with the source-specific offsets, or the passed one if the source doesn't track any.
+     *
+     * @param checkpoint the checkpoint calculated by the data plane.
+     * @return the checkpoint, enriched with the source offsets.
+     */
+    default TransferCheckpoint checkpoint(TransferCheckpoint checkpoint) {
+        return checkpoint;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.spi.pipeline;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Progress of a data transfer, persisted on the {@link org.eclipse.edc.connector.dataplane.spi.DataFlow} so that an
+ * interrupted transfer can be resumed instead of being restarted from the beginning.
+ *
+ * @param partsTransferred number of parts that have been delivered by the sink.
+ * @param bytesTransferred total number of bytes of the parts delivered by the sink.
+ * @param offsets          source-specific positions (e.g. a byte range or the partition offsets of a topic).
+ */
+public record TransferCheckpoint(long partsTransferred, long bytesTransferred, Map<String, String> offsets) {
+
+    public TransferCheckpoint {
+        offsets = offsets == null ? Map.of() : Map.copyOf(offsets);
+    }
+
+    /**
+     * The checkpoint of a transfer that has not transferred anything yet.
+     *
+     * @return the empty checkpoint.
+     */
+    public static TransferCheckpoint initial() {
+        return new TransferCheckpoint(0, 0, Map.of());
+    }
+
+    /**
+     * Tells if the checkpoint represents any progress.
+     *
+     * @return true if nothing has been transferred yet, false otherwise.
+     */
+    public boolean isInitial() {
+        return partsTransferred == 0 && bytesTransferred == 0 && offsets.isEmpty();
+    }
+
+    /**
+     * Returns a new checkpoint with the passed source-specific offset added.
+     *
+     * @param key   the offset key.
+     * @param value the offset value.
+     * @return the new checkpoint.
+     */
+    public TransferCheckpoint withOffset(String key, String value) {
+        var newOffsets = new HashMap<>(offsets);
+        newOffsets.put(key, value);
+        return new TransferCheckpoint(partsTransferred, bytesTransferred, newOffsets);
+    }
+}
@@ -17,6 +17,7 @@ package org.eclipse.edc.connector.dataplane.spi.pipeline;
 import org.eclipse.edc.connector.dataplane.spi.DataFlow;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.concurrent.CompletableFuture;
 
@@ -53,6 +54,20 @@ public interface TransferService {
      */
     CompletableFuture<StreamResult<Object>> transfer(DataFlowStartMessage request, DataSink sink);
 
+    /**
+     * Transfers data from a source to a destination, continuing from the passed checkpoint if the service is able to and
+     * reporting the progress to the listener. The default implementation ignores both and restarts the transfer from
+     * the beginning.
+     *
+     * @param request    The data flow request containing the necessary information for the transfer.
+     * @param checkpoint The checkpoint reached by a previous, interrupted, execution of the transfer, or null.
+     * @param listener   The listener that will be notified about the transfer progress.
+     * @return A CompletableFuture wrapping a StreamResult indicating the success or failure of the transfer.
+     */
+    default CompletableFuture<StreamResult<Object>> transfer(DataFlowStartMessage request, @Nullable TransferCheckpoint checkpoint, CheckpointListener listener) {
+        return transfer(request);
+    }
+
     /**
      * Terminate a data flow.
      *
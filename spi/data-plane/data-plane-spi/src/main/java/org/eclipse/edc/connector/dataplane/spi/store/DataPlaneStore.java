@@ -17,9 +17,21 @@ package org.eclipse.edc.connector.dataplane.spi.store;
 import org.eclipse.edc.connector.dataplane.spi.DataFlow;
 import org.eclipse.edc.spi.persistence.StateEntityStore;
 
+import java.util.List;
+
 /**
  * Stores states of data flow requests.
  */
 public interface DataPlaneStore extends StateEntityStore<DataFlow> {
 
+    /**
+     * Persists multiple entities, with the same UPSERT semantics of {@link #save(Object)}. Stores can override it to
+     * reduce the round trips to the underlying storage, e.g. updating the states in a single batch.
+     *
+     * @param entities the entities.
+     */
+    default void saveAll(List<DataFlow> entities) {
+        entities.forEach(this::save);
+    }
+
 }
@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.dataplane.spi.testfixtures.store;
 
 import org.eclipse.edc.connector.dataplane.spi.DataFlow;
 import org.eclipse.edc.connector.dataplane.spi.DataFlowStates;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferCheckpoint;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
 import org.eclipse.edc.spi.entity.Entity;
 import org.eclipse.edc.spi.entity.MutableEntity;
@@ -28,15 +29,19 @@ import org.junit.jupiter.api.Test;
 
 import java.net.URI;
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static java.util.stream.IntStream.range;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 import static org.eclipse.edc.connector.dataplane.spi.DataFlowStates.COMPLETED;
 import static org.eclipse.edc.connector.dataplane.spi.DataFlowStates.RECEIVED;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
 import static org.eclipse.edc.spi.result.StoreFailure.Reason.ALREADY_LEASED;
 import static org.eclipse.edc.spi.result.StoreFailure.Reason.NOT_FOUND;
 import static org.hamcrest.Matchers.hasSize;
@@ -80,6 +85,18 @@ public abstract class DataPlaneStoreTestBase {
             assertThat(result.getCreatedAt()).isGreaterThan(0);
         }
 
+        @Test
+        void shouldStoreCheckpoint() {
+            var dataFlow = createDataFlow(UUID.randomUUID().toString(), RECEIVED);
+            dataFlow.updateCheckpoint(new TransferCheckpoint(1, 1024, Map.of("key", "value")));
+            getStore().save(dataFlow);
+
+            var result = getStore().findById(dataFlow.getId());
+
+            assertThat(result).isNotNull();
+            assertThat(result.getCheckpoint()).isEqualTo(dataFlow.getCheckpoint());
+        }
+
         @Test
         void shouldUpdate_whenEntityAlreadyExist() {
             var dataFlow = createDataFlow(UUID.randomUUID().toString(), RECEIVED);
@@ -93,6 +110,78 @@ public abstract class DataPlaneStoreTestBase {
             assertThat(result).isNotNull();
             assertThat(result.getState()).isEqualTo(COMPLETED.code());
         }
+
+        @Test
+        void shouldUpdateStateAndBreakLease_whenLeasedEntityHasNoDirtyFields() {
+            var id = UUID.randomUUID().toString();
+            getStore().save(createDataFlow(id, RECEIVED));
+            var leased = getStore().findByIdAndLease(id).getContent();
+
+            leased.transitToCompleted();
+            getStore().save(leased);
+
+            assertThat(isLeasedBy(id, CONNECTOR_NAME)).isFalse();
+            assertThat(getStore().findById(id)).usingRecursiveComparison().ignoringFields("dirty").isEqualTo(leased);
+        }
+
+        @Test
+        void shouldUpdateCheckpoint_whenLeasedEntityHasDirtyFields() {
+            var id = UUID.randomUUID().toString();
+            getStore().save(createDataFlow(id, RECEIVED));
+            var leased = getStore().findByIdAndLease(id).getContent();
+
+            leased.updateCheckpoint(new TransferCheckpoint(1, 1024, Map.of("key", "value")));
+            getStore().save(leased);
+
+            var result = getStore().findById(id);
+            assertThat(result).isNotNull();
+            assertThat(result.getCheckpoint()).isEqualTo(leased.getCheckpoint());
+        }
+    }
+
+    @Nested
+    class SaveAll {
+
+        @Test
+        void shouldUpdateStatesAndBreakLeases() {
+            var ids = range(0, 3).mapToObj(i -> UUID.randomUUID().toString()).toList();
+            ids.forEach(id -> getStore().save(createDataFlow(id, RECEIVED)));
+            var leased = ids.stream().map(id -> getStore().findByIdAndLease(id).getContent()).toList();
+
+            leased.forEach(DataFlow::transitToCompleted);
+            getStore().saveAll(leased);
+
+            assertThat(ids).allSatisfy(id -> {
+                assertThat(isLeasedBy(id, CONNECTOR_NAME)).isFalse();
+                assertThat(getStore().findById(id)).extracting(StatefulEntity::getState).isEqualTo(COMPLETED.code());
+            });
+        }
+
+        @Test
+        void shouldSaveEntitiesWithDirtyFieldsAndNewEntities() {
+            var existingId = UUID.randomUUID().toString();
+            getStore().save(createDataFlow(existingId, RECEIVED));
+            var existing = getStore().findByIdAndLease(existingId).getContent();
+            existing.updateCheckpoint(new TransferCheckpoint(1, 1024, Map.of("key", "value")));
+            var created = createDataFlow(UUID.randomUUID().toString(), RECEIVED);
+
+            getStore().saveAll(List.of(existing, created));
+
+            assertThat(getStore().findById(existingId)).extracting(DataFlow::getCheckpoint).isEqualTo(existing.getCheckpoint());
+            assertThat(getStore().findById(created.getId())).isNotNull();
+        }
+
+        @Test
+        void shouldNotUpdateEntityLeasedBySomeoneElse() {
+            var id = UUID.randomUUID().toString();
+            getStore().save(createDataFlow(id, RECEIVED));
+            leaseEntity(id, "someone-else");
+            var dataFlow = getStore().findById(id);
+
+            dataFlow.transitToCompleted();
+
+            assertThatThrownBy(() -> getStore().saveAll(List.of(dataFlow))).isInstanceOf(IllegalStateException.class);
+        }
     }
 
     @Nested
@@ -142,6 +231,21 @@ public abstract class DataPlaneStoreTestBase {
             assertThat(leased).isEmpty();
         }
 
+        @Test
+        void shouldFilterByFlowTypeAndUpdatedAt() {
+            var stale = createDataFlow("stale", RECEIVED);
+            stale.setUpdatedAt(1000L);
+            getStore().save(stale);
+            var recent = createDataFlow("recent", RECEIVED);
+            recent.setUpdatedAt(3000L);
+            getStore().save(recent);
+
+            var leased = getStore().nextNotLeased(5, hasState(RECEIVED.code()),
+                    criterion("flowType", "=", FlowType.PUSH.name()), criterion("updatedAt", "<", 2000L));
+
+            assertThat(leased).hasSize(1).first().extracting(DataFlow::getId).isEqualTo("stale");
+        }
+
         @Test
         void shouldLeaseAgainAfterTimePassed() {
             var dataFlow = createDataFlow(UUID.randomUUID().toString(), RECEIVED);
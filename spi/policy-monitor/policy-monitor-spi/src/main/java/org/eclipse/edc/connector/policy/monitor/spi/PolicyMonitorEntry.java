@@ -26,10 +26,11 @@ import static org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorEntrySta
 public class PolicyMonitorEntry extends StatefulEntity<PolicyMonitorEntry> {
 
     private String contractId;
+    private long nextCheckAt;
 
     @Override
     public PolicyMonitorEntry copy() {
-        var builder = Builder.newInstance().contractId(contractId);
+        var builder = Builder.newInstance().contractId(contractId).nextCheckAt(nextCheckAt);
         return copy(builder);
     }
 
@@ -42,6 +43,18 @@ public class PolicyMonitorEntry extends StatefulEntity<PolicyMonitorEntry> {
         return contractId;
     }
 
+    /**
+     * The epoch millis until which the policy does not need to be evaluated again, 0 means "as soon as possible".
+     */
+    public long getNextCheckAt() {
+        return nextCheckAt;
+    }
+
+    public void setNextCheckAt(long nextCheckAt) {
+        this.nextCheckAt = nextCheckAt;
+        markDirty();
+    }
+
     public void transitionToStarted() {
         transitionTo(STARTED.code());
     }
@@ -70,6 +83,11 @@ public class PolicyMonitorEntry extends StatefulEntity<PolicyMonitorEntry> {
             return this;
         }
 
+        public Builder nextCheckAt(long nextCheckAt) {
+            entity.nextCheckAt = nextCheckAt;
+            return this;
+        }
+
         @Override
         public Builder self() {
             return this;
@@ -28,4 +28,11 @@ public interface PolicyMonitorManager extends StateEntityManager {
      * @param contractId the contract id
      */
     void startMonitoring(String transferProcessId, String contractId);
+
+    /**
+     * Stop to monitor a transfer process, e.g. because it reached a final state.
+     *
+     * @param transferProcessId the transfer process id
+     */
+    void stopMonitoring(String transferProcessId);
 }
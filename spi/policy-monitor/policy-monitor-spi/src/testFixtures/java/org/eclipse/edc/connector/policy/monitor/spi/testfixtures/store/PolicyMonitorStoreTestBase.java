@@ -34,6 +34,7 @@ import static org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorEntrySta
 import static org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorEntryStates.STARTED;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
 import static org.eclipse.edc.spi.result.StoreFailure.Reason.ALREADY_LEASED;
 import static org.eclipse.edc.spi.result.StoreFailure.Reason.NOT_FOUND;
 import static org.hamcrest.Matchers.hasSize;
@@ -146,6 +147,32 @@ public abstract class PolicyMonitorStoreTestBase {
             assertThat(thirdLeased).hasSize(1);
         }
 
+        @Test
+        void shouldReturnOnlyDueEntities_whenFilteringByNextCheckAt() {
+            var due = createPolicyMonitorEntry("due", STARTED);
+            due.setNextCheckAt(1000L);
+            getStore().save(due);
+            var notDue = createPolicyMonitorEntry("not-due", STARTED);
+            notDue.setNextCheckAt(3000L);
+            getStore().save(notDue);
+
+            var leased = getStore().nextNotLeased(10, hasState(STARTED.code()), criterion("nextCheckAt", "<", 2000L));
+
+            assertThat(leased).extracting(PolicyMonitorEntry::getId).containsExactly("due");
+        }
+
+        @Test
+        void shouldPersistNextCheckAt() {
+            var entry = createPolicyMonitorEntry(UUID.randomUUID().toString(), STARTED);
+            getStore().save(entry);
+
+            entry.setNextCheckAt(12345L);
+            getStore().save(entry);
+
+            assertThat(getStore().findById(entry.getId())).isNotNull()
+                    .extracting(PolicyMonitorEntry::getNextCheckAt).isEqualTo(12345L);
+        }
+
         private void delayByTenMillis(StatefulEntity<?> t) {
             try {
                 Thread.sleep(10);
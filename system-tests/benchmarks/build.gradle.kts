@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+plugins {
+    java
+    alias(libs.plugins.jmh)
+}
+
+dependencies {
+    jmh(project(":core:common:lib:policy-engine-lib"))
+    jmh(project(":core:common:lib:transform-lib"))
+    jmh(project(":core:common:lib:json-ld-lib"))
+    jmh(project(":core:common:lib:query-lib"))
+    jmh(project(":core:common:lib:util-lib"))
+    jmh(project(":core:common:token-core"))
+    jmh(project(":core:control-plane:control-plane-catalog"))
+    jmh(project(":core:control-plane:control-plane-contract"))
+    jmh(project(":core:control-plane:control-plane-core"))
+    jmh(project(":core:control-plane:control-plane-transform"))
+    jmh(project(":data-protocols:dsp:dsp-catalog:dsp-catalog-transform"))
+    jmh(project(":data-protocols:dsp:dsp-negotiation:dsp-negotiation-transform"))
+    jmh(project(":data-protocols:dsp:dsp-transfer-process:dsp-transfer-process-transform"))
+    jmh(project(":spi:common:verifiable-credentials-spi"))
+    jmh(libs.nimbus.jwt)
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
+    fork.set(1)
+    warmupIterations.set(2)
+    iterations.set(5)
+}
+
+edcBuild {
+    publish.set(false)
+}
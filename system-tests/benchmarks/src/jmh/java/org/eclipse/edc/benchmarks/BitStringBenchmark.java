@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.benchmarks;
+
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.statuslist.BitString;
+import org.eclipse.edc.spi.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures decoding and encoding of status list {@link BitString}s, as done on every revocation check of a verifiable
+ * credential. The default size is the minimum status list length mandated by the specification (16KB).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BitStringBenchmark {
+
+    @Param({ "131072", "1048576" })
+    private int bits;
+
+    private String encoded;
+    private BitString bitString;
+
+    @Setup
+    public void setUp() {
+        var random = new Random(42);
+        bitString = BitString.Builder.newInstance().size(bits).build();
+        for (var i = 0; i < bits / 100; i++) {
+            bitString.set(random.nextInt(bits), true);
+        }
+        encoded = BitString.Writer.newInstance().write(bitString).orElseThrow(failure -> new IllegalStateException(failure.getFailureDetail()));
+    }
+
+    @Benchmark
+    public Result<BitString> parse() {
+        return BitString.Parser.newInstance().parse(encoded);
+    }
+
+    @Benchmark
+    public Result<String> write() {
+        return BitString.Writer.newInstance().write(bitString);
+    }
+}
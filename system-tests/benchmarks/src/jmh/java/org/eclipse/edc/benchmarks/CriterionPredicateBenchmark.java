@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.benchmarks;
+
+import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
+import org.eclipse.edc.query.EqualOperatorPredicate;
+import org.eclipse.edc.query.LikeOperatorPredicate;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
+import org.eclipse.edc.spi.query.OperatorPredicate;
+import org.eclipse.edc.util.reflection.ReflectionUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+/**
+ * Measures the evaluation of a {@link Criterion} on a collection of entities, as done by the in-memory stores: the
+ * compiled predicate returned by {@link CriterionOperatorRegistry#toPredicate(Criterion)} against the reflective path,
+ * that parses the property path and looks up the fields on every evaluation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CriterionPredicateBenchmark {
+
+    @Param({ "owner.address.type", "'properties'.'https://w3id.org/edc/v0.0.1/ns/type'" })
+    private String property;
+
+    @Param({ "=", "like" })
+    private String operator;
+
+    private List<Entity> entities;
+    private Criterion criterion;
+    private OperatorPredicate operatorPredicate;
+    private Predicate<Entity> compiled;
+
+    @Setup
+    public void setUp() {
+        entities = IntStream.range(0, 1000)
+                .mapToObj(i -> new Entity("entity-" + i, new Owner(new Address("type-" + (i % 10))),
+                        Map.of("https://w3id.org/edc/v0.0.1/ns/type", "type-" + (i % 10))))
+                .toList();
+        var operand = "=".equals(operator) ? "type-1" : "type-%";
+        criterion = criterion(property, operator, operand);
+
+        CriterionOperatorRegistry registry = CriterionOperatorRegistryImpl.ofDefaults();
+        compiled = registry.toPredicate(criterion);
+        operatorPredicate = "=".equals(operator) ? new EqualOperatorPredicate() : new LikeOperatorPredicate();
+    }
+
+    @Benchmark
+    public long compiled() {
+        return entities.stream().filter(compiled).count();
+    }
+
+    @Benchmark
+    public long reflective() {
+        return entities.stream().filter(entity -> {
+            var value = ReflectionUtil.getFieldValue((String) criterion.getOperandLeft(), entity);
+            return value != null && operatorPredicate.test(value, criterion.getOperandRight());
+        }).count();
+    }
+
+    private record Address(String type) {
+    }
+
+    private record Owner(Address address) {
+    }
+
+    private record Entity(String id, Owner owner, Map<String, Object> properties) {
+    }
+}
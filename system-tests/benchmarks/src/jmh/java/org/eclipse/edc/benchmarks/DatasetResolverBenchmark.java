@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.benchmarks;
+
+import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
+import org.eclipse.edc.connector.controlplane.catalog.DatasetResolverImpl;
+import org.eclipse.edc.connector.controlplane.catalog.spi.DataService;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.connector.controlplane.catalog.spi.DatasetResolver;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Distribution;
+import org.eclipse.edc.connector.controlplane.contract.offer.ContractDefinitionResolverImpl;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.connector.controlplane.defaults.storage.assetindex.InMemoryAssetIndex;
+import org.eclipse.edc.connector.controlplane.defaults.storage.contractdefinition.InMemoryContractDefinitionStore;
+import org.eclipse.edc.connector.controlplane.defaults.storage.policydefinition.InMemoryPolicyDefinitionStore;
+import org.eclipse.edc.connector.controlplane.policy.spi.PolicyDefinition;
+import org.eclipse.edc.policy.engine.PolicyEngineImpl;
+import org.eclipse.edc.policy.engine.RuleBindingRegistryImpl;
+import org.eclipse.edc.policy.engine.ScopeFilter;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
+import org.eclipse.edc.spi.agent.ParticipantAgent;
+import org.eclipse.edc.spi.monitor.ConsoleMonitor;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.util.concurrency.LockManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+/**
+ * Measures {@link DatasetResolverImpl#query} over the default in-memory stores: every contract definition selects a
+ * group of assets, so each returned dataset carries one offer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DatasetResolverBenchmark {
+
+    private static final String GROUP_PROPERTY = EDC_NAMESPACE + "group";
+    private static final int GROUPS = 10;
+
+    @Param({ "100", "1000" })
+    private int assets;
+
+    private DatasetResolver datasetResolver;
+    private ParticipantAgent agent;
+    private QuerySpec firstPage;
+    private QuerySpec filtered;
+
+    @Setup
+    public void setUp() {
+        var monitor = new ConsoleMonitor();
+        var criterionOperatorRegistry = CriterionOperatorRegistryImpl.ofDefaults();
+        var assetIndex = new InMemoryAssetIndex(criterionOperatorRegistry);
+        var contractDefinitionStore = new InMemoryContractDefinitionStore(criterionOperatorRegistry);
+        var policyDefinitionStore = new InMemoryPolicyDefinitionStore(new LockManager(new ReentrantReadWriteLock()), criterionOperatorRegistry);
+        var policyEngine = new PolicyEngineImpl(new ScopeFilter(new RuleBindingRegistryImpl()));
+
+        policyDefinitionStore.create(PolicyDefinition.Builder.newInstance().id("policy").policy(Policy.Builder.newInstance().build()).build());
+        IntStream.range(0, GROUPS).forEach(group -> contractDefinitionStore.save(ContractDefinition.Builder.newInstance()
+                .id("definition-" + group)
+                .accessPolicyId("policy")
+                .contractPolicyId("policy")
+                .assetsSelectorCriterion(criterion(GROUP_PROPERTY, "=", "group-" + group))
+                .build()));
+        IntStream.range(0, assets).forEach(i -> assetIndex.create(Asset.Builder.newInstance()
+                .id("asset-" + i)
+                .property(GROUP_PROPERTY, "group-" + (i % GROUPS))
+                .dataAddress(DataAddress.Builder.newInstance().type("HttpData").build())
+                .build()));
+
+        var dataService = DataService.Builder.newInstance().id("data-service").build();
+        List<Distribution> distributions = List.of(Distribution.Builder.newInstance().format("HttpData-PULL").dataService(dataService).build());
+        var contractDefinitionResolver = new ContractDefinitionResolverImpl(monitor, contractDefinitionStore, policyEngine, policyDefinitionStore);
+        datasetResolver = new DatasetResolverImpl(contractDefinitionResolver, assetIndex, policyDefinitionStore,
+                asset -> distributions, criterionOperatorRegistry);
+
+        agent = new ParticipantAgent(Map.of(), Map.of());
+        firstPage = QuerySpec.Builder.newInstance().offset(0).limit(50).build();
+        filtered = QuerySpec.Builder.newInstance().offset(0).limit(50).filter(criterion(GROUP_PROPERTY, "=", "group-0")).build();
+    }
+
+    @Benchmark
+    public List<Dataset> queryFirstPage() {
+        return datasetResolver.query(agent, firstPage).toList();
+    }
+
+    @Benchmark
+    public List<Dataset> queryFiltered() {
+        return datasetResolver.query(agent, filtered).toList();
+    }
+}
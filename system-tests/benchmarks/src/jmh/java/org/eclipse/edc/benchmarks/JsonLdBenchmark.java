@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.benchmarks;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.jsonld.TitaniumJsonLd;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.spi.monitor.ConsoleMonitor;
+import org.eclipse.edc.spi.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VOCAB;
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_PREFIX;
+
+/**
+ * Measures {@link TitaniumJsonLd} expansion and compaction of an asset-like document with a growing number of
+ * properties.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonLdBenchmark {
+
+    @Param({ "10", "100" })
+    private int properties;
+
+    private JsonLd jsonLd;
+    private JsonObject compacted;
+    private JsonObject expanded;
+
+    @Setup
+    public void setUp() {
+        var titanium = new TitaniumJsonLd(new ConsoleMonitor());
+        titanium.registerNamespace(EDC_PREFIX, EDC_NAMESPACE);
+        jsonLd = titanium;
+
+        var propertiesBuilder = Json.createObjectBuilder();
+        IntStream.range(0, properties).forEach(i -> propertiesBuilder.add("property" + i, "value " + i));
+        compacted = Json.createObjectBuilder()
+                .add(CONTEXT, Json.createObjectBuilder().add(VOCAB, EDC_NAMESPACE))
+                .add(ID, "asset-id")
+                .add(TYPE, "Asset")
+                .add("properties", propertiesBuilder)
+                .add("dataAddress", Json.createObjectBuilder()
+                        .add(TYPE, "DataAddress")
+                        .add("type", "HttpData")
+                        .add("baseUrl", "http://provider/data"))
+                .build();
+        expanded = jsonLd.expand(compacted).orElseThrow(failure -> new IllegalStateException(failure.getFailureDetail()));
+    }
+
+    @Benchmark
+    public Result<JsonObject> expand() {
+        return jsonLd.expand(compacted);
+    }
+
+    @Benchmark
+    public Result<JsonObject> compact() {
+        return jsonLd.compact(expanded);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.benchmarks;
+
+import org.eclipse.edc.policy.engine.PolicyEngineImpl;
+import org.eclipse.edc.policy.engine.RuleBindingRegistryImpl;
+import org.eclipse.edc.policy.engine.ScopeFilter;
+import org.eclipse.edc.policy.engine.spi.PolicyContextImpl;
+import org.eclipse.edc.policy.engine.spi.PolicyEngine;
+import org.eclipse.edc.policy.model.Action;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.LiteralExpression;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.eclipse.edc.policy.engine.spi.PolicyEngine.ALL_SCOPES;
+
+/**
+ * Measures {@link PolicyEngineImpl#evaluate} for a policy with a growing number of atomic constraints, all bound to
+ * the evaluated scope.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PolicyEngineBenchmark {
+
+    private static final String SCOPE = "benchmark.scope";
+
+    @Param({ "1", "10", "50" })
+    private int constraints;
+
+    private PolicyEngine policyEngine;
+    private Policy policy;
+
+    @Setup
+    public void setUp() {
+        var bindingRegistry = new RuleBindingRegistryImpl();
+        policyEngine = new PolicyEngineImpl(new ScopeFilter(bindingRegistry));
+
+        var permission = Permission.Builder.newInstance().action(Action.Builder.newInstance().type("use").build());
+        IntStream.range(0, constraints).mapToObj(i -> "key" + i).forEach(key -> {
+            bindingRegistry.bind(key, ALL_SCOPES);
+            policyEngine.registerFunction(ALL_SCOPES, Permission.class, key, (operator, rightValue, rule, context) -> "value".equals(rightValue));
+            permission.constraint(AtomicConstraint.Builder.newInstance()
+                    .leftExpression(new LiteralExpression(key))
+                    .operator(Operator.EQ)
+                    .rightExpression(new LiteralExpression("value"))
+                    .build());
+        });
+        bindingRegistry.bind("use", ALL_SCOPES);
+
+        policy = Policy.Builder.newInstance().permission(permission.build()).build();
+    }
+
+    @Benchmark
+    public Result<Void> evaluate() {
+        return policyEngine.evaluate(SCOPE, policy, PolicyContextImpl.Builder.newInstance().build());
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.benchmarks;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.eclipse.edc.keys.spi.PublicKeyResolver;
+import org.eclipse.edc.spi.iam.ClaimToken;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.token.TokenValidationServiceImpl;
+import org.eclipse.edc.token.rules.ExpirationIssuedAtValidationRule;
+import org.eclipse.edc.token.spi.TokenValidationRule;
+import org.eclipse.edc.token.spi.TokenValidationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.time.temporal.ChronoUnit.HOURS;
+
+/**
+ * Measures {@link TokenValidationServiceImpl#validate} of an ES256-signed JWT, including public key resolution,
+ * signature verification and the expiration/issued-at rule.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TokenValidationBenchmark {
+
+    private static final String KEY_ID = "benchmark-key";
+
+    private TokenValidationService tokenValidationService;
+    private TokenRepresentation token;
+    private PublicKeyResolver publicKeyResolver;
+    private List<TokenValidationRule> rules;
+
+    @Setup
+    public void setUp() throws JOSEException {
+        var key = new ECKeyGenerator(Curve.P_256).keyID(KEY_ID).generate();
+        var publicKey = key.toPublicKey();
+        publicKeyResolver = id -> KEY_ID.equals(id) ? Result.success(publicKey) : Result.failure("Key %s not found".formatted(id));
+
+        var now = Instant.now();
+        var claims = new JWTClaimsSet.Builder()
+                .issuer("issuer")
+                .subject("subject")
+                .audience("audience")
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plus(1, HOURS)))
+                .build();
+        var jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.ES256).keyID(KEY_ID).build(), claims);
+        jwt.sign(new ECDSASigner(key));
+
+        token = TokenRepresentation.Builder.newInstance().token(jwt.serialize()).build();
+        rules = List.of(new ExpirationIssuedAtValidationRule(Clock.systemUTC(), 0));
+        tokenValidationService = new TokenValidationServiceImpl();
+    }
+
+    @Benchmark
+    public Result<ClaimToken> validate() {
+        return tokenValidationService.validate(token, publicKeyResolver, rules);
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.benchmarks;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.DataService;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Distribution;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiation;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.protocol.ContractNegotiationAck;
+import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
+import org.eclipse.edc.connector.controlplane.transfer.spi.types.protocol.TransferProcessAck;
+import org.eclipse.edc.connector.controlplane.transform.odrl.from.JsonObjectFromPolicyTransformer;
+import org.eclipse.edc.jsonld.TitaniumJsonLd;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.jsonld.util.JacksonJsonLd;
+import org.eclipse.edc.policy.model.Action;
+import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.protocol.dsp.catalog.transform.from.JsonObjectFromCatalogTransformer;
+import org.eclipse.edc.protocol.dsp.catalog.transform.from.JsonObjectFromDataServiceTransformer;
+import org.eclipse.edc.protocol.dsp.catalog.transform.from.JsonObjectFromDatasetTransformer;
+import org.eclipse.edc.protocol.dsp.catalog.transform.from.JsonObjectFromDistributionTransformer;
+import org.eclipse.edc.protocol.dsp.negotiation.transform.from.JsonObjectFromContractNegotiationTransformer;
+import org.eclipse.edc.protocol.dsp.negotiation.transform.to.JsonObjectToContractNegotiationAckTransformer;
+import org.eclipse.edc.protocol.dsp.transferprocess.transform.type.from.JsonObjectFromTransferProcessTransformer;
+import org.eclipse.edc.protocol.dsp.transferprocess.transform.type.to.JsonObjectToTransferProcessAckTransformer;
+import org.eclipse.edc.spi.agent.ParticipantIdMapper;
+import org.eclipse.edc.spi.monitor.ConsoleMonitor;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.transform.TypeTransformerRegistryImpl;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates.REQUESTED;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.STARTED;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCAT_PREFIX;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCAT_SCHEMA;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCT_PREFIX;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCT_SCHEMA;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DSPACE_PREFIX;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DSPACE_SCHEMA;
+import static org.eclipse.edc.policy.model.OdrlNamespace.ODRL_PREFIX;
+import static org.eclipse.edc.policy.model.OdrlNamespace.ODRL_SCHEMA;
+
+/**
+ * Measures the protocol (de)serialization path of the main DSP messages through the {@link TypeTransformerRegistryImpl}:
+ * object to JSON, JSON-LD compaction as sent on the wire, JSON-LD expansion as done on reception, and back to the
+ * object where a transformer for that direction exists.
+ * <p>
+ * There is no JSON-LD to {@link Catalog} transformer on the provider side, so the catalog round trip stops at the
+ * expanded document.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TypeTransformerBenchmark {
+
+    @Param({ "1", "100" })
+    private int datasets;
+
+    private TypeTransformerRegistry registry;
+    private JsonLd jsonLd;
+    private Catalog catalog;
+    private ContractNegotiation contractNegotiation;
+    private TransferProcess transferProcess;
+
+    @Setup
+    public void setUp() {
+        var jsonFactory = Json.createBuilderFactory(Map.of());
+        var mapper = JacksonJsonLd.createObjectMapper();
+        var participantIdMapper = new IdentityParticipantIdMapper();
+
+        registry = new TypeTransformerRegistryImpl();
+        registry.register(new JsonObjectFromCatalogTransformer(jsonFactory, mapper, participantIdMapper));
+        registry.register(new JsonObjectFromDatasetTransformer(jsonFactory, mapper));
+        registry.register(new JsonObjectFromDistributionTransformer(jsonFactory));
+        registry.register(new JsonObjectFromDataServiceTransformer(jsonFactory));
+        registry.register(new JsonObjectFromPolicyTransformer(jsonFactory, participantIdMapper));
+        registry.register(new JsonObjectFromContractNegotiationTransformer(jsonFactory));
+        registry.register(new JsonObjectToContractNegotiationAckTransformer());
+        registry.register(new JsonObjectFromTransferProcessTransformer(jsonFactory));
+        registry.register(new JsonObjectToTransferProcessAckTransformer());
+
+        var titanium = new TitaniumJsonLd(new ConsoleMonitor());
+        titanium.registerNamespace(DCAT_PREFIX, DCAT_SCHEMA);
+        titanium.registerNamespace(DCT_PREFIX, DCT_SCHEMA);
+        titanium.registerNamespace(ODRL_PREFIX, ODRL_SCHEMA);
+        titanium.registerNamespace(DSPACE_PREFIX, DSPACE_SCHEMA);
+        jsonLd = titanium;
+
+        var dataService = DataService.Builder.newInstance().id("data-service").endpointUrl("http://provider/protocol").build();
+        var policy = Policy.Builder.newInstance()
+                .permission(Permission.Builder.newInstance().action(Action.Builder.newInstance().type("use").build()).build())
+                .build();
+        var catalogBuilder = Catalog.Builder.newInstance().id("catalog").participantId("provider").dataService(dataService);
+        IntStream.range(0, datasets).forEach(i -> catalogBuilder.dataset(Dataset.Builder.newInstance()
+                .id("asset-" + i)
+                .offer("offer-" + i, policy)
+                .distribution(Distribution.Builder.newInstance().format("HttpData-PULL").dataService(dataService).build())
+                .property("https://w3id.org/edc/v0.0.1/ns/description", "dataset " + i)
+                .build()));
+        catalog = catalogBuilder.build();
+
+        contractNegotiation = ContractNegotiation.Builder.newInstance()
+                .id("consumer-pid")
+                .correlationId("provider-pid")
+                .counterPartyId("provider")
+                .counterPartyAddress("http://provider/protocol")
+                .protocol("dataspace-protocol-http")
+                .state(REQUESTED.code())
+                .type(ContractNegotiation.Type.CONSUMER)
+                .build();
+
+        transferProcess = TransferProcess.Builder.newInstance()
+                .id("provider-pid")
+                .correlationId("consumer-pid")
+                .type(TransferProcess.Type.PROVIDER)
+                .state(STARTED.code())
+                .build();
+    }
+
+    @Benchmark
+    public Result<JsonObject> catalogRoundTrip() {
+        return registry.transform(catalog, JsonObject.class)
+                .compose(jsonLd::compact)
+                .compose(jsonLd::expand);
+    }
+
+    @Benchmark
+    public Result<ContractNegotiationAck> contractNegotiationRoundTrip() {
+        return registry.transform(contractNegotiation, JsonObject.class)
+                .compose(jsonLd::compact)
+                .compose(jsonLd::expand)
+                .compose(json -> registry.transform(json, ContractNegotiationAck.class));
+    }
+
+    @Benchmark
+    public Result<TransferProcessAck> transferProcessRoundTrip() {
+        return registry.transform(transferProcess, JsonObject.class)
+                .compose(jsonLd::compact)
+                .compose(jsonLd::expand)
+                .compose(json -> registry.transform(json, TransferProcessAck.class));
+    }
+
+    private static class IdentityParticipantIdMapper implements ParticipantIdMapper {
+        @Override
+        public String toIri(String participantId) {
+            return participantId;
+        }
+
+        @Override
+        public String fromIri(String iriParticipantId) {
+            return iriParticipantId;
+        }
+    }
+}
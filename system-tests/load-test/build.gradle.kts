@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+plugins {
+    java
+}
+
+dependencies {
+    testImplementation(project(":spi:common:boot-spi"))
+    testImplementation(project(":spi:control-plane:contract-spi"))
+    testImplementation(project(":spi:control-plane:transfer-spi"))
+    testImplementation(project(":extensions:common:sql:sql-core"))
+    testImplementation(project(":core:common:junit"))
+    testImplementation(testFixtures(project(":extensions:common:sql:sql-core")))
+    testImplementation(testFixtures(project(":extensions:control-plane:api:management-api:management-api-test-fixtures")))
+    testImplementation(libs.jakartaJson)
+
+    testImplementation(libs.postgres)
+    testImplementation(libs.restAssured)
+    testImplementation(libs.assertj)
+    testImplementation(libs.awaitility)
+    testImplementation(libs.junit.jupiter.api)
+
+    testCompileOnly(project(":system-tests:e2e-transfer-test:backend-service"))
+    testCompileOnly(project(":system-tests:e2e-transfer-test:control-plane"))
+    testCompileOnly(project(":system-tests:e2e-transfer-test:data-plane"))
+}
+
+tasks.withType<Test> {
+    // forward the scenario parameters, e.g. -Dloadtest.consumers=20
+    System.getProperties().stringPropertyNames()
+        .filter { it.startsWith("loadtest.") }
+        .forEach { systemProperty(it, System.getProperty(it)) }
+}
+
+edcBuild {
+    publish.set(false)
+}
@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.test.load;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+/**
+ * Records the latencies of the phases of a scenario, from concurrent threads.
+ */
+public class LatencyRecorder {
+
+    private final Map<String, Queue<Long>> latencies = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    /**
+     * Execute the phase and record its latency, if it succeeds.
+     *
+     * @param phase the phase name.
+     * @param work  the phase work.
+     * @return the work result.
+     */
+    public <T> T time(String phase, Supplier<T> work) {
+        var start = System.nanoTime();
+        var result = work.get();
+        record(phase, System.nanoTime() - start);
+        return result;
+    }
+
+    public void record(String phase, long nanos) {
+        latencies.computeIfAbsent(phase, k -> new ConcurrentLinkedQueue<>()).add(nanos);
+    }
+
+    /**
+     * The statistics of every phase, in the order in which the phases were first recorded.
+     *
+     * @return the statistics by phase.
+     */
+    public Map<String, PhaseStatistics> statistics() {
+        var statistics = new LinkedHashMap<String, PhaseStatistics>();
+        synchronized (latencies) {
+            latencies.forEach((phase, samples) -> statistics.put(phase, PhaseStatistics.of(samples)));
+        }
+        return statistics;
+    }
+
+    public void reset() {
+        latencies.clear();
+    }
+}
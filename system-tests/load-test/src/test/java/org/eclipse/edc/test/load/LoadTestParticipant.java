@@ -0,0 +1,264 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.test.load;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.connector.controlplane.test.system.utils.Participant;
+import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates;
+import org.eclipse.edc.spi.EdcException;
+import org.jetbrains.annotations.NotNull;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static io.restassured.http.ContentType.JSON;
+import static jakarta.json.Json.createArrayBuilder;
+import static jakarta.json.Json.createObjectBuilder;
+import static java.io.File.separator;
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.edc.boot.BootServicesExtension.PARTICIPANT_ID;
+import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates.FINALIZED;
+import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates.TERMINATED;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.ODRL_ASSIGNER_ATTRIBUTE;
+import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.ODRL_POLICY_ATTRIBUTE;
+import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.ODRL_TARGET_ATTRIBUTE;
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_PREFIX;
+import static org.eclipse.edc.sql.testfixtures.PostgresqlEndToEndInstance.defaultDatasourceConfiguration;
+import static org.eclipse.edc.util.io.Ports.getFreePort;
+
+/**
+ * Participant of a load test: the connector runtimes configuration and the management API calls of the scenario, that
+ * poll the states with a short interval so that the measured latencies are not dominated by the polling.
+ */
+public class LoadTestParticipant extends Participant {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(20);
+
+    private final URI controlPlaneDefault = URI.create("http://localhost:" + getFreePort());
+    private final URI controlPlaneControl = URI.create("http://localhost:" + getFreePort() + "/control");
+    private final URI dataPlaneDefault = URI.create("http://localhost:" + getFreePort());
+    private final URI dataPlaneControl = URI.create("http://localhost:" + getFreePort() + "/control");
+    private final URI dataPlaneSignaling = URI.create("http://localhost:" + getFreePort() + "/signaling");
+    private final URI dataPlanePublic = URI.create("http://localhost:" + getFreePort() + "/public");
+    private final URI backendService = URI.create("http://localhost:" + getFreePort());
+    private final StatementCounter statementCounter = new StatementCounter();
+
+    protected LoadTestParticipant() {
+        super();
+    }
+
+    public URI backendService() {
+        return backendService;
+    }
+
+    public StatementCounter statementCounter() {
+        return statementCounter;
+    }
+
+    /**
+     * Build the contract offer of the first policy of a dataset, to be used to start a negotiation.
+     *
+     * @param provider data provider
+     * @param dataset  the expanded dataset
+     * @return the offer.
+     */
+    public JsonObject createOffer(Participant provider, JsonObject dataset) {
+        var policy = dataset.getJsonArray(ODRL_POLICY_ATTRIBUTE).get(0).asJsonObject();
+        return createObjectBuilder(policy)
+                .add(ODRL_ASSIGNER_ATTRIBUTE, createObjectBuilder().add(ID, provider.getId()))
+                .add(ODRL_TARGET_ATTRIBUTE, createObjectBuilder().add(ID, dataset.get(ID)))
+                .build();
+    }
+
+    /**
+     * Wait for the negotiation to be finalized.
+     *
+     * @param negotiationId the contract negotiation id
+     * @return the contract agreement id.
+     */
+    public String awaitAgreement(String negotiationId) {
+        var state = await().atMost(timeout).pollInterval(POLL_INTERVAL)
+                .until(() -> getContractNegotiationState(negotiationId), it -> FINALIZED.name().equals(it) || TERMINATED.name().equals(it));
+        if (!FINALIZED.name().equals(state)) {
+            throw new EdcException("Contract negotiation %s was terminated".formatted(negotiationId));
+        }
+        return getContractNegotiationField(negotiationId, "contractAgreementId");
+    }
+
+    /**
+     * Wait for the transfer process to complete.
+     *
+     * @param transferProcessId the transfer process id
+     */
+    public void awaitCompletion(String transferProcessId) {
+        var state = await().atMost(timeout).pollInterval(POLL_INTERVAL)
+                .until(() -> getTransferProcessState(transferProcessId), it -> TransferProcessStates.COMPLETED.name().equals(it) || TransferProcessStates.TERMINATED.name().equals(it));
+        if (!TransferProcessStates.COMPLETED.name().equals(state)) {
+            throw new EdcException("Transfer process %s was terminated".formatted(transferProcessId));
+        }
+    }
+
+    /**
+     * Address of the consumer backend service endpoint that stores the pushed data.
+     *
+     * @return the data address.
+     */
+    public JsonObject storeDataAddress() {
+        return createObjectBuilder()
+                .add(TYPE, EDC_NAMESPACE + "DataAddress")
+                .add(EDC_NAMESPACE + "type", "HttpData")
+                .add(EDC_NAMESPACE + "properties", createObjectBuilder()
+                        .add(EDC_NAMESPACE + "baseUrl", backendService + "/api/consumer/store")
+                        .build())
+                .build();
+    }
+
+    /**
+     * Properties of a data address served by the provider backend service.
+     *
+     * @return the data address properties.
+     */
+    public Map<String, Object> dataAddressProperties() {
+        return Map.of(
+                "name", "load-test",
+                "baseUrl", backendService + "/api/provider/data",
+                "type", "HttpData"
+        );
+    }
+
+    /**
+     * Register the data plane using the data plane signaling API.
+     *
+     * @param transferTypes supported transfer types
+     */
+    public void registerDataPlane(Set<String> transferTypes) {
+        var jsonObject = Json.createObjectBuilder()
+                .add(CONTEXT, createObjectBuilder().add(EDC_PREFIX, EDC_NAMESPACE))
+                .add(ID, UUID.randomUUID().toString())
+                .add(EDC_NAMESPACE + "url", dataPlaneSignaling + "/v1/dataflows")
+                .add(EDC_NAMESPACE + "allowedSourceTypes", createArrayBuilder(Set.of("HttpData")))
+                .add(EDC_NAMESPACE + "allowedDestTypes", createArrayBuilder(Set.of("HttpData")))
+                .add(EDC_NAMESPACE + "allowedTransferTypes", createArrayBuilder(transferTypes))
+                .add(EDC_NAMESPACE + "properties", createObjectBuilder().add("publicApiUrl", dataPlanePublic.toString()))
+                .build();
+
+        managementEndpoint.baseRequest()
+                .contentType(JSON)
+                .body(jsonObject.toString())
+                .when()
+                .post("/v2/dataplanes")
+                .then()
+                .statusCode(200);
+    }
+
+    public Map<String, String> controlPlaneConfiguration() {
+        return new HashMap<>() {
+            {
+                put(PARTICIPANT_ID, id);
+                put("web.http.port", String.valueOf(controlPlaneDefault.getPort()));
+                put("web.http.path", "/api");
+                put("web.http.protocol.port", String.valueOf(protocolEndpoint.getUrl().getPort()));
+                put("web.http.protocol.path", protocolEndpoint.getUrl().getPath());
+                put("web.http.management.port", String.valueOf(managementEndpoint.getUrl().getPort()));
+                put("web.http.management.path", managementEndpoint.getUrl().getPath());
+                put("web.http.control.port", String.valueOf(controlPlaneControl.getPort()));
+                put("web.http.control.path", controlPlaneControl.getPath());
+                put("edc.dsp.callback.address", protocolEndpoint.getUrl().toString());
+                put("edc.vault", resourceAbsolutePath(getName() + "-vault.properties"));
+                put("edc.keystore", resourceAbsolutePath("certs/cert.pfx"));
+                put("edc.keystore.password", "123456");
+                put("edc.receiver.http.endpoint", backendService + "/api/consumer/dataReference");
+                put("edc.transfer.proxy.token.signer.privatekey.alias", "1");
+                put("edc.transfer.proxy.token.verifier.publickey.alias", "public-key");
+                put("edc.transfer.proxy.endpoint", dataPlanePublic.toString());
+            }
+        };
+    }
+
+    public Map<String, String> controlPlanePostgresConfiguration() {
+        var baseConfiguration = controlPlaneConfiguration();
+        baseConfiguration.putAll(defaultDatasourceConfiguration(getName()));
+        return baseConfiguration;
+    }
+
+    public Map<String, String> dataPlaneConfiguration() {
+        return new HashMap<>() {
+            {
+                put("web.http.port", String.valueOf(dataPlaneDefault.getPort()));
+                put("web.http.path", "/api");
+                put("web.http.public.port", String.valueOf(dataPlanePublic.getPort()));
+                put("web.http.public.path", "/public");
+                put("web.http.control.port", String.valueOf(dataPlaneControl.getPort()));
+                put("web.http.control.path", dataPlaneControl.getPath());
+                put("web.http.signaling.port", String.valueOf(dataPlaneSignaling.getPort()));
+                put("web.http.signaling.path", dataPlaneSignaling.getPath());
+                put("edc.vault", resourceAbsolutePath(getName() + "-vault.properties"));
+                put("edc.keystore", resourceAbsolutePath("certs/cert.pfx"));
+                put("edc.keystore.password", "123456");
+                put("edc.dataplane.api.public.baseurl", dataPlanePublic + "/v2/");
+                put("edc.dataplane.token.validation.endpoint", controlPlaneControl + "/token");
+                put("edc.transfer.proxy.token.signer.privatekey.alias", "1");
+                put("edc.transfer.proxy.token.verifier.publickey.alias", "public-key");
+            }
+        };
+    }
+
+    public Map<String, String> dataPlanePostgresConfiguration() {
+        var baseConfiguration = dataPlaneConfiguration();
+        baseConfiguration.putAll(defaultDatasourceConfiguration(getName()));
+        return baseConfiguration;
+    }
+
+    public Map<String, String> backendServiceConfiguration() {
+        return new HashMap<>() {
+            {
+                put("web.http.port", String.valueOf(backendService.getPort()));
+            }
+        };
+    }
+
+    @NotNull
+    private String resourceAbsolutePath(String filename) {
+        return System.getProperty("user.dir") + separator + "build" + separator + "resources" + separator + "test" + separator + filename;
+    }
+
+    public static class Builder extends Participant.Builder<LoadTestParticipant, Builder> {
+
+        protected Builder() {
+            super(new LoadTestParticipant());
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        @Override
+        public LoadTestParticipant build() {
+            super.managementEndpoint(new Endpoint(URI.create("http://localhost:" + getFreePort() + "/api/management")));
+            super.protocolEndpoint(new Endpoint(URI.create("http://localhost:" + getFreePort() + "/protocol")));
+            super.build();
+            return participant;
+        }
+    }
+}
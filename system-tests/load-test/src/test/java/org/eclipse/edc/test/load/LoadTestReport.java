@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.test.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Result of a load test run.
+ *
+ * @param scenario       the scenario name.
+ * @param consumers      the number of concurrent consumers.
+ * @param iterations     the number of iterations run by every consumer.
+ * @param failures       the number of failed iterations.
+ * @param elapsedSeconds the duration of the run.
+ * @param throughput     the succeeded iterations per second.
+ * @param phases         the latency statistics by phase.
+ * @param statements     the SQL statement counts by participant, see {@link StatementCounter#snapshot()}.
+ */
+public record LoadTestReport(String scenario, int consumers, int iterations, int failures, double elapsedSeconds,
+                             double throughput, Map<String, PhaseStatistics> phases, Map<String, Map<String, Long>> statements) {
+
+    public int succeeded() {
+        return consumers * iterations - failures;
+    }
+
+    /**
+     * Human-readable report.
+     *
+     * @return the formatted report.
+     */
+    public String format() {
+        var builder = new StringBuilder()
+                .append("Load test '%s': %d consumers x %d iterations, %d succeeded, %d failed in %.1f s (%.2f iterations/s)%n"
+                        .formatted(scenario, consumers, iterations, succeeded(), failures, elapsedSeconds, throughput))
+                .append("%-12s %8s %10s %10s %10s%n".formatted("phase", "count", "p50 ms", "p99 ms", "max ms"));
+        phases.forEach((phase, statistics) -> builder.append("%-12s %8d %10.1f %10.1f %10.1f%n"
+                .formatted(phase, statistics.count(), statistics.p50(), statistics.p99(), statistics.max())));
+
+        statements.forEach((participant, counts) -> {
+            var total = counts.getOrDefault("TOTAL", 0L);
+            var perIteration = succeeded() == 0 ? 0 : (double) total / succeeded();
+            builder.append("%s: %d SQL statements (%.1f per iteration) %s%n".formatted(participant, total, perIteration, counts));
+        });
+        return builder.toString();
+    }
+
+    /**
+     * Write the report in JSON format, so that it can be compared between runs.
+     *
+     * @param file the target file.
+     */
+    public void write(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(file.toFile(), this);
+    }
+}
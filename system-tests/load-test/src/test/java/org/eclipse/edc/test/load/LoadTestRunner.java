@@ -0,0 +1,94 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.test.load;
+
+import org.eclipse.edc.spi.monitor.ConsoleMonitor;
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * Runs the iterations of a scenario from a number of concurrent consumers, after a sequential warm-up whose latencies
+ * and statements are discarded. A failed iteration is counted and logged, it doesn't stop the run. The report is logged
+ * at the end of the run.
+ */
+public class LoadTestRunner {
+
+    private final Monitor monitor = new ConsoleMonitor("load-test", ConsoleMonitor.Level.INFO, true);
+    private final int consumers;
+    private final int iterations;
+    private final int warmupIterations;
+
+    public LoadTestRunner(int consumers, int iterations, int warmupIterations) {
+        this.consumers = consumers;
+        this.iterations = iterations;
+        this.warmupIterations = warmupIterations;
+    }
+
+    /**
+     * Run the scenario.
+     *
+     * @param scenario  the scenario name.
+     * @param iteration a single iteration of the scenario, that records the latencies of its phases.
+     * @param counters  the statement counters, by participant.
+     * @return the report.
+     */
+    public LoadTestReport run(String scenario, Consumer<LatencyRecorder> iteration, Map<String, StatementCounter> counters) {
+        var latencies = new LatencyRecorder();
+        for (var i = 0; i < warmupIterations; i++) {
+            iteration.accept(latencies);
+        }
+        latencies.reset();
+        counters.values().forEach(StatementCounter::reset);
+
+        monitor.info("Running scenario %s: %d consumers x %d iterations".formatted(scenario, consumers, iterations));
+        var failures = new AtomicInteger();
+        var executor = Executors.newFixedThreadPool(consumers);
+        var start = System.nanoTime();
+        try {
+            var futures = IntStream.range(0, consumers)
+                    .mapToObj(consumer -> CompletableFuture.runAsync(() -> {
+                        for (var i = 0; i < iterations; i++) {
+                            try {
+                                iteration.accept(latencies);
+                            } catch (Exception | AssertionError e) {
+                                failures.incrementAndGet();
+                                monitor.warning("Iteration of consumer %d failed".formatted(consumer), e);
+                            }
+                        }
+                    }, executor))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(futures).join();
+        } finally {
+            executor.shutdownNow();
+        }
+        var elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        var statements = new TreeMap<String, Map<String, Long>>();
+        counters.forEach((participant, counter) -> statements.put(participant, counter.snapshot()));
+
+        var succeeded = consumers * iterations - failures.get();
+        var report = new LoadTestReport(scenario, consumers, iterations, failures.get(), elapsedSeconds, succeeded / elapsedSeconds,
+                latencies.statistics(), statements);
+        monitor.info(report.format());
+        return report;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.test.load;
+
+import jakarta.json.Json;
+import org.eclipse.edc.junit.annotations.LoadTest;
+import org.eclipse.edc.junit.extensions.EdcClassRuntimesExtension;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.controlplane.test.system.utils.PolicyFixtures.noConstraintPolicy;
+import static org.eclipse.edc.sql.testfixtures.PostgresqlEndToEndInstance.createDatabase;
+import static org.eclipse.edc.test.load.Runtimes.CONTROL_PLANE_MODULES;
+import static org.eclipse.edc.test.load.Runtimes.DATA_PLANE_MODULES;
+import static org.eclipse.edc.test.load.Runtimes.POSTGRES_CONTROL_PLANE_MODULES;
+import static org.eclipse.edc.test.load.Runtimes.POSTGRES_DATA_PLANE_MODULES;
+import static org.eclipse.edc.test.load.Runtimes.backendService;
+import static org.eclipse.edc.test.load.Runtimes.connector;
+
+/**
+ * Reference scenario: every consumer requests the dataset from the provider catalog, negotiates a contract for it and
+ * transfers the data with a HTTP push transfer, waiting for every phase to complete before starting the next one.
+ */
+class NegotiationTransferLoadTest {
+
+    private static final int CONSUMERS = Integer.getInteger("loadtest.consumers", 10);
+    private static final int ITERATIONS = Integer.getInteger("loadtest.iterations", 10);
+    private static final int WARMUP_ITERATIONS = Integer.getInteger("loadtest.warmup-iterations", 5);
+    private static final String TRANSFER_TYPE = "HttpData-PUSH";
+
+    private static final LoadTestParticipant CONSUMER = LoadTestParticipant.Builder.newInstance()
+            .name("consumer")
+            .id("urn:connector:consumer")
+            .build();
+    private static final LoadTestParticipant PROVIDER = LoadTestParticipant.Builder.newInstance()
+            .name("provider")
+            .id("urn:connector:provider")
+            .build();
+
+    @Nested
+    @LoadTest
+    class InMemory extends Tests {
+
+        @RegisterExtension
+        static final EdcClassRuntimesExtension RUNTIMES = new EdcClassRuntimesExtension(
+                connector("consumer-control-plane", CONSUMER, CONSUMER.controlPlaneConfiguration(), CONTROL_PLANE_MODULES),
+                backendService("consumer-backend-service", CONSUMER),
+                connector("provider-data-plane", PROVIDER, PROVIDER.dataPlaneConfiguration(), DATA_PLANE_MODULES),
+                connector("provider-control-plane", PROVIDER, PROVIDER.controlPlaneConfiguration(), CONTROL_PLANE_MODULES),
+                backendService("provider-backend-service", PROVIDER)
+        );
+
+        @Override
+        protected String scenario() {
+            return "in-memory";
+        }
+    }
+
+    @Nested
+    @LoadTest
+    class Postgres extends Tests {
+
+        @RegisterExtension
+        static final BeforeAllCallback CREATE_DATABASES = context -> {
+            createDatabase(CONSUMER.getName());
+            createDatabase(PROVIDER.getName());
+        };
+
+        @RegisterExtension
+        static final EdcClassRuntimesExtension RUNTIMES = new EdcClassRuntimesExtension(
+                connector("consumer-control-plane", CONSUMER, CONSUMER.controlPlanePostgresConfiguration(), POSTGRES_CONTROL_PLANE_MODULES),
+                backendService("consumer-backend-service", CONSUMER),
+                connector("provider-data-plane", PROVIDER, PROVIDER.dataPlanePostgresConfiguration(), POSTGRES_DATA_PLANE_MODULES),
+                connector("provider-control-plane", PROVIDER, PROVIDER.controlPlanePostgresConfiguration(), POSTGRES_CONTROL_PLANE_MODULES),
+                backendService("provider-backend-service", PROVIDER)
+        );
+
+        @Override
+        protected String scenario() {
+            return "postgres";
+        }
+    }
+
+    abstract static class Tests {
+
+        @Test
+        void negotiateAndTransfer() throws IOException {
+            PROVIDER.registerDataPlane(Set.of(TRANSFER_TYPE));
+            var assetId = UUID.randomUUID().toString();
+            PROVIDER.createAsset(assetId, Map.of("description", "description"), PROVIDER.dataAddressProperties());
+            var policyDefinitionId = PROVIDER.createPolicyDefinition(noConstraintPolicy());
+            PROVIDER.createContractDefinition(assetId, UUID.randomUUID().toString(), policyDefinitionId, policyDefinitionId);
+
+            var runner = new LoadTestRunner(CONSUMERS, ITERATIONS, WARMUP_ITERATIONS);
+            var counters = Map.of(CONSUMER.getName(), CONSUMER.statementCounter(), PROVIDER.getName(), PROVIDER.statementCounter());
+            var report = runner.run(scenario(), latencies -> {
+                var start = System.nanoTime();
+                var dataset = latencies.time("catalog", () -> CONSUMER.getDatasetForAsset(PROVIDER, assetId));
+                var agreementId = latencies.time("negotiation", () -> {
+                    var negotiationId = CONSUMER.initContractNegotiation(PROVIDER, CONSUMER.createOffer(PROVIDER, dataset));
+                    return CONSUMER.awaitAgreement(negotiationId);
+                });
+                latencies.time("transfer", () -> {
+                    var transferProcessId = CONSUMER.initiateTransfer(PROVIDER, agreementId, assetId, Json.createObjectBuilder().build(),
+                            CONSUMER.storeDataAddress(), TRANSFER_TYPE);
+                    CONSUMER.awaitCompletion(transferProcessId);
+                    return transferProcessId;
+                });
+                latencies.record("total", System.nanoTime() - start);
+            }, counters);
+
+            report.write(Path.of("build", "reports", "load-test", scenario() + ".json"));
+
+            assertThat(report.failures()).isZero();
+        }
+
+        protected abstract String scenario();
+    }
+}
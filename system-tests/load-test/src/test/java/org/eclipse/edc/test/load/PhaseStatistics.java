@@ -0,0 +1,46 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.test.load;
+
+import java.util.Collection;
+
+/**
+ * Latency statistics of a phase, in milliseconds. Percentiles are computed with the nearest-rank method.
+ *
+ * @param count the number of samples.
+ * @param p50   the median latency.
+ * @param p99   the 99th percentile latency.
+ * @param max   the maximum latency.
+ */
+public record PhaseStatistics(int count, double p50, double p99, double max) {
+
+    public static PhaseStatistics of(Collection<Long> nanos) {
+        var sorted = nanos.stream().mapToLong(Long::longValue).sorted().toArray();
+        if (sorted.length == 0) {
+            return new PhaseStatistics(0, 0, 0, 0);
+        }
+        return new PhaseStatistics(sorted.length, millis(percentile(sorted, 50)), millis(percentile(sorted, 99)),
+                millis(sorted[sorted.length - 1]));
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        var rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
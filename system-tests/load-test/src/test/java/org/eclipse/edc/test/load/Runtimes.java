@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.test.load;
+
+import org.eclipse.edc.junit.extensions.EdcRuntimeExtension;
+import org.eclipse.edc.spi.system.MetricsRecorder;
+
+import java.util.Map;
+
+public interface Runtimes {
+
+    String[] CONTROL_PLANE_MODULES = new String[]{
+            ":system-tests:e2e-transfer-test:control-plane",
+            ":extensions:control-plane:transfer:transfer-data-plane-signaling",
+            ":extensions:data-plane:data-plane-signaling:data-plane-signaling-client"
+    };
+
+    String[] POSTGRES_CONTROL_PLANE_MODULES = new String[]{
+            ":system-tests:e2e-transfer-test:control-plane",
+            ":extensions:control-plane:transfer:transfer-data-plane-signaling",
+            ":extensions:data-plane:data-plane-signaling:data-plane-signaling-client",
+            ":extensions:control-plane:store:sql:control-plane-sql",
+            ":extensions:common:sql:sql-pool:sql-pool-apache-commons",
+            ":extensions:common:transaction:transaction-local",
+            ":extensions:policy-monitor:store:sql:policy-monitor-store-sql"
+    };
+
+    String[] DATA_PLANE_MODULES = new String[]{
+            ":system-tests:e2e-transfer-test:data-plane"
+    };
+
+    String[] POSTGRES_DATA_PLANE_MODULES = new String[]{
+            ":system-tests:e2e-transfer-test:data-plane",
+            ":extensions:data-plane:store:sql:data-plane-store-sql",
+            ":extensions:common:sql:sql-pool:sql-pool-apache-commons",
+            ":extensions:common:transaction:transaction-local"
+    };
+
+    /**
+     * Connector runtime of a participant, that counts the SQL statements in the participant {@link StatementCounter}.
+     */
+    static EdcRuntimeExtension connector(String name, LoadTestParticipant participant, Map<String, String> configuration, String... modules) {
+        var runtime = new EdcRuntimeExtension(name, configuration, modules);
+        runtime.registerServiceMock(MetricsRecorder.class, participant.statementCounter());
+        return runtime;
+    }
+
+    static EdcRuntimeExtension backendService(String name, LoadTestParticipant participant) {
+        return new EdcRuntimeExtension(name, participant.backendServiceConfiguration(),
+                ":system-tests:e2e-transfer-test:backend-service"
+        );
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.test.load;
+
+import org.eclipse.edc.spi.system.MetricsRecorder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.eclipse.edc.sql.SqlQueryExecutor.OPERATION_TAG;
+import static org.eclipse.edc.sql.SqlQueryExecutor.STATEMENT_DURATION_METRIC;
+
+/**
+ * {@link MetricsRecorder} registered in the runtimes of a participant to count the SQL statements executed by the
+ * {@link org.eclipse.edc.sql.SqlQueryExecutor}, grouped by the operation tag of the metric (SELECT, INSERT, UPDATE,
+ * DELETE...).
+ */
+public class StatementCounter implements MetricsRecorder {
+
+    private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordTime(String name, Duration duration, String... tags) {
+        if (STATEMENT_DURATION_METRIC.equals(name)) {
+            counts.computeIfAbsent(operation(tags), k -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * The statements counted since the last reset.
+     *
+     * @return the counts by operation, plus the "TOTAL" count.
+     */
+    public Map<String, Long> snapshot() {
+        var snapshot = new TreeMap<String, Long>();
+        counts.forEach((type, count) -> snapshot.put(type, count.sum()));
+        snapshot.put("TOTAL", snapshot.values().stream().mapToLong(Long::longValue).sum());
+        return snapshot;
+    }
+
+    public void reset() {
+        counts.clear();
+    }
+
+    private String operation(String... tags) {
+        for (var i = 0; i < tags.length - 1; i += 2) {
+            if (OPERATION_TAG.equals(tags[i])) {
+                return tags[i + 1];
+            }
+        }
+        return "UNKNOWN";
+    }
+}